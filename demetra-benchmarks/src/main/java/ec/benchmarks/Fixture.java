@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks;
+
+import ec.tstoolkit.arima.ArimaModelBuilder;
+import ec.tstoolkit.random.XorshiftRNG;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaModelBuilder;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+
+/**
+ * Reproducible series used by the benchmarks. The series are generated from
+ * airline models (in logs) with fixed seeds; they contain a few additive
+ * outliers and, for some of them, missing values at fixed positions. Daily
+ * series (weekly periodicity) are only available as arrays of doubles, since
+ * the toolkit doesn't handle daily time series.
+ *
+ * @author agent
+ */
+public enum Fixture {
+
+    MONTHLY_SHORT(12, 120, false),
+    MONTHLY_LONG(12, 600, false),
+    MONTHLY_MISSING(12, 240, true),
+    QUARTERLY_SHORT(4, 40, false),
+    QUARTERLY_LONG(4, 200, false),
+    QUARTERLY_MISSING(4, 80, true),
+    DAILY_SHORT(7, 730, false),
+    DAILY_LONG(7, 3650, false),
+    DAILY_MISSING(7, 1460, true);
+
+    private static final int START_YEAR = 1980;
+    private static final int OUTLIER_STEP = 97, MISSING_STEP = 37;
+
+    private final int period, length;
+    private final boolean missing;
+    private volatile double[] data;
+
+    private Fixture(int period, int length, boolean missing) {
+        this.period = period;
+        this.length = length;
+        this.missing = missing;
+    }
+
+    public int getPeriod() {
+        return period;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public boolean hasMissingValues() {
+        return missing;
+    }
+
+    /**
+     * The airline model (th=-.6, bth=-.8) used to generate the series
+     *
+     * @return
+     */
+    public SarimaModel getModel() {
+        return new SarimaModelBuilder().createAirlineModel(period, -.6, -.8);
+    }
+
+    /**
+     * The data of the fixture. Missing values are identified by Double.NaN
+     *
+     * @return A new array
+     */
+    public double[] data() {
+        double[] d = data;
+        if (d == null) {
+            d = generate();
+            data = d;
+        }
+        return d.clone();
+    }
+
+    /**
+     * The fixture as a time series
+     *
+     * @return
+     * @throws UnsupportedOperationException for daily fixtures
+     */
+    public TsData series() {
+        TsFrequency freq = TsFrequency.valueOf(period);
+        if (freq == null) {
+            throw new UnsupportedOperationException("Daily fixtures are not time series");
+        }
+        return new TsData(freq, START_YEAR, 0, data(), false);
+    }
+
+    private double[] generate() {
+        ArimaModelBuilder builder = new ArimaModelBuilder();
+        builder.setRandomNumberGenerator(new XorshiftRNG(ordinal() + 1));
+        builder.setStartMean(0);
+        builder.setStartStdev(1);
+        builder.setDropCount(period);
+        double[] e = builder.generate(getModel(), length);
+        double[] d = new double[length];
+        // multiplicative series around 100
+        for (int i = 0; i < length; ++i) {
+            d[i] = 100 * Math.exp(.02 * e[i]);
+        }
+        for (int i = OUTLIER_STEP / 2; i < length; i += OUTLIER_STEP) {
+            d[i] *= 1.1;
+        }
+        if (missing) {
+            for (int i = MISSING_STEP / 2; i < length; i += MISSING_STEP) {
+                d[i] = Double.NaN;
+            }
+        }
+        return d;
+    }
+}
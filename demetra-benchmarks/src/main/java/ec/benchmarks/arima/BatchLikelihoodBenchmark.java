@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.arima;
+
+import ec.benchmarks.Fixture;
+import ec.tstoolkit.arima.estimation.BatchKalmanFilter;
+import ec.tstoolkit.arima.estimation.KalmanFilter;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.eco.Likelihood;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarmaSpecification;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exact likelihood of a panel of series following airline models with
+ * different parameters: one series at a time (KalmanFilter) or all the series
+ * in lockstep (BatchKalmanFilter). The series are the differenced log-data of
+ * the fixture, perturbed by some noise.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchLikelihoodBenchmark {
+
+    @Param({"MONTHLY_SHORT", "MONTHLY_LONG", "QUARTERLY_LONG", "DAILY_SHORT"})
+    public Fixture fixture;
+
+    @Param({"8", "64"})
+    public int panel;
+
+    private SarimaModel[] models;
+    private double[][] data;
+
+    @Setup
+    public void setup() {
+        double[] y = fixture.data();
+        int period = fixture.getPeriod();
+        for (int i = 0; i < y.length; ++i) {
+            y[i] = Math.log(y[i]);
+        }
+        // (1-B)(1-B^s)
+        int n = y.length - period - 1;
+        double[] dy = new double[n];
+        for (int i = 0; i < n; ++i) {
+            int j = i + period + 1;
+            dy[i] = y[j] - y[j - 1] - y[j - period] + y[j - period - 1];
+        }
+        SarmaSpecification spec = new SarmaSpecification(period);
+        spec.setQ(1);
+        spec.setBQ(1);
+        Random rnd = new Random(0);
+        models = new SarimaModel[panel];
+        data = new double[panel][n];
+        for (int k = 0; k < panel; ++k) {
+            models[k] = new SarimaModel(spec);
+            models[k].setTheta(1, -.2 - .6 * rnd.nextDouble());
+            models[k].setBTheta(1, -.2 - .6 * rnd.nextDouble());
+            for (int i = 0; i < n; ++i) {
+                data[k][i] = dy[i] + .01 * rnd.nextGaussian();
+            }
+        }
+    }
+
+    @Benchmark
+    public Likelihood[] single() {
+        Likelihood[] ll = new Likelihood[panel];
+        for (int k = 0; k < panel; ++k) {
+            KalmanFilter filter = new KalmanFilter(false);
+            int n = filter.initialize(models[k], data[k].length);
+            DataBlock e = new DataBlock(n);
+            filter.filter(new DataBlock(data[k]), e);
+            ll[k] = new Likelihood();
+            ll[k].set(e.ssq(), filter.getLogDeterminant(), n);
+        }
+        return ll;
+    }
+
+    @Benchmark
+    public Likelihood[] batch() {
+        return BatchKalmanFilter.likelihoods(models, data);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.arima;
+
+import ec.benchmarks.Fixture;
+import ec.tstoolkit.arima.estimation.AnsleyFilter;
+import ec.tstoolkit.arima.estimation.ConcentratedLikelihoodEstimation;
+import ec.tstoolkit.arima.estimation.IArmaFilter;
+import ec.tstoolkit.arima.estimation.KalmanFilter;
+import ec.tstoolkit.arima.estimation.LjungBoxFilter;
+import ec.tstoolkit.arima.estimation.ModifiedLjungBoxFilter;
+import ec.tstoolkit.arima.estimation.RegArimaModel;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.eco.ConcentratedLikelihood;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.utilities.IntList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Concentrated likelihood of airline models, computed by the different ARMA
+ * filters. Missing values are handled as in the reg-arima models (positions
+ * of the missing observations).
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SarimaLikelihoodBenchmark {
+
+    public enum ArmaFilter {
+        KALMAN, ANSLEY, LJUNGBOX, MODIFIED_LJUNGBOX;
+
+        IArmaFilter create() {
+            switch (this) {
+                case ANSLEY:
+                    return new AnsleyFilter();
+                case LJUNGBOX:
+                    return new LjungBoxFilter();
+                case MODIFIED_LJUNGBOX:
+                    return new ModifiedLjungBoxFilter();
+                default:
+                    return new KalmanFilter(true);
+            }
+        }
+    }
+
+    @Param({"MONTHLY_SHORT", "MONTHLY_LONG", "MONTHLY_MISSING", "QUARTERLY_SHORT", "DAILY_SHORT", "DAILY_LONG", "DAILY_MISSING"})
+    public Fixture fixture;
+
+    @Param({"KALMAN", "ANSLEY", "LJUNGBOX", "MODIFIED_LJUNGBOX"})
+    public ArmaFilter filter;
+
+    private RegArimaModel<SarimaModel> model;
+
+    @Setup
+    public void setup() {
+        double[] y = fixture.data();
+        IntList missings = new IntList();
+        for (int i = 0; i < y.length; ++i) {
+            if (Double.isNaN(y[i])) {
+                missings.add(i);
+                y[i] = i == 0 ? 0 : y[i - 1];
+            } else {
+                y[i] = Math.log(y[i]);
+            }
+        }
+        model = new RegArimaModel<>(fixture.getModel(), new DataBlock(y));
+        if (!missings.isEmpty()) {
+            model.setMissings(missings.toArray());
+        }
+    }
+
+    @Benchmark
+    public ConcentratedLikelihood likelihood() {
+        ConcentratedLikelihoodEstimation estimation = new ConcentratedLikelihoodEstimation(filter.create());
+        estimation.estimate(model);
+        return estimation.getLikelihood();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.arima;
+
+import ec.benchmarks.Fixture;
+import ec.tstoolkit.arima.ArimaModel;
+import ec.tstoolkit.eco.DefaultLikelihoodEvaluation;
+import ec.tstoolkit.eco.DiffuseConcentratedLikelihood;
+import ec.tstoolkit.ssf.FastSsfAlgorithm;
+import ec.tstoolkit.ssf.SsfAlgorithm;
+import ec.tstoolkit.ssf.SsfData;
+import ec.tstoolkit.ssf.SsfModel;
+import ec.tstoolkit.ssf.ucarima.SsfUcarima;
+import ec.tstoolkit.structural.BasicStructuralModel;
+import ec.tstoolkit.structural.Component;
+import ec.tstoolkit.structural.ModelSpecification;
+import ec.tstoolkit.ucarima.ModelDecomposer;
+import ec.tstoolkit.ucarima.SeasonalSelector;
+import ec.tstoolkit.ucarima.TrendCycleSelector;
+import ec.tstoolkit.ucarima.UcarimaModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Likelihood of the structural models (Chandrasekhar recursions, as used in
+ * the estimation of BSM) and of the canonical decomposition of the airline
+ * model of the fixture (ordinary Kalman filter on UCARIMA models), with or
+ * without the steady-state mode of the filters
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SsfEstimationBenchmark {
+
+    @Param({"MONTHLY_SHORT", "MONTHLY_LONG", "QUARTERLY_LONG", "DAILY_SHORT", "DAILY_LONG"})
+    public Fixture fixture;
+
+    @Param({"off", "on"})
+    public String steadyState;
+
+    private SsfModel<BasicStructuralModel> bsm;
+    private SsfModel<SsfUcarima> ucarima;
+
+    @Setup
+    public void setup() {
+        double[] y = fixture.data();
+        for (int i = 0; i < y.length; ++i) {
+            y[i] = Math.log(y[i]);
+        }
+        int period = fixture.getPeriod();
+        SsfData data = new SsfData(y, null);
+
+        BasicStructuralModel model = new BasicStructuralModel(new ModelSpecification(), period);
+        model.setVariance(Component.Level, .1);
+        model.setVariance(Component.Slope, .01);
+        model.setVariance(Component.Seasonal, .05);
+        model.setVariance(Component.Noise, 1);
+        bsm = new SsfModel<>(model, data, null, null);
+
+        ModelDecomposer decomposer = new ModelDecomposer();
+        decomposer.add(new TrendCycleSelector());
+        decomposer.add(new SeasonalSelector(period));
+        UcarimaModel ucm = decomposer.decompose(ArimaModel.create(fixture.getModel()));
+        ucm.setVarianceMax(-1, false);
+        ucarima = new SsfModel<>(new SsfUcarima(ucm), data, null, null);
+    }
+
+    @Benchmark
+    public DefaultLikelihoodEvaluation<DiffuseConcentratedLikelihood> bsm() {
+        FastSsfAlgorithm<BasicStructuralModel> algorithm = new FastSsfAlgorithm<>();
+        algorithm.useSteadyState("on".equals(steadyState));
+        return algorithm.evaluate(bsm);
+    }
+
+    @Benchmark
+    public DefaultLikelihoodEvaluation<DiffuseConcentratedLikelihood> ucarima() {
+        SsfAlgorithm<SsfUcarima> algorithm = new SsfAlgorithm<>();
+        algorithm.useSteadyState("on".equals(steadyState));
+        return algorithm.evaluate(ucarima);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.arima;
+
+import ec.benchmarks.Fixture;
+import ec.tstoolkit.eco.DefaultLikelihoodEvaluation;
+import ec.tstoolkit.eco.DiffuseConcentratedLikelihood;
+import ec.tstoolkit.ssf.DiffuseFilteringResults;
+import ec.tstoolkit.ssf.Filter;
+import ec.tstoolkit.ssf.SsfAlgorithm;
+import ec.tstoolkit.ssf.SsfData;
+import ec.tstoolkit.ssf.SsfModel;
+import ec.tstoolkit.ssf.arima.SsfArima;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Kalman filter (with diffuse initialization) of airline models in state
+ * space form: likelihood evaluation and full filtering (with storage of the
+ * states, as used in forecasting)
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SsfFilterBenchmark {
+
+    @Param({"MONTHLY_SHORT", "MONTHLY_LONG", "MONTHLY_MISSING", "QUARTERLY_SHORT", "DAILY_SHORT", "DAILY_LONG", "DAILY_MISSING"})
+    public Fixture fixture;
+
+    private SsfArima ssf;
+    private SsfData data;
+
+    @Setup
+    public void setup() {
+        double[] y = fixture.data();
+        for (int i = 0; i < y.length; ++i) {
+            y[i] = Math.log(y[i]);
+        }
+        ssf = new SsfArima(fixture.getModel());
+        data = new SsfData(y, null);
+    }
+
+    @Benchmark
+    public DefaultLikelihoodEvaluation<DiffuseConcentratedLikelihood> likelihood() {
+        SsfAlgorithm<SsfArima> algorithm = new SsfAlgorithm<>();
+        return algorithm.evaluate(new SsfModel<>(ssf, data, null, null));
+    }
+
+    @Benchmark
+    public DiffuseFilteringResults filter() {
+        Filter<SsfArima> filter = new Filter<>();
+        filter.setSsf(ssf);
+        DiffuseFilteringResults rslts = new DiffuseFilteringResults(true);
+        rslts.getFilteredData().setSavingA(true);
+        filter.process(data, rslts);
+        return rslts;
+    }
+}
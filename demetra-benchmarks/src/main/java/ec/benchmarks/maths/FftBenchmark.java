@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.maths;
+
+import ec.tstoolkit.maths.Complex;
+import ec.tstoolkit.maths.Fft;
+import ec.tstoolkit.maths.FftPlan;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fast Fourier transforms: previous object-based implementation (legacy),
+ * Complex adapter and primitive plans (complex and real inputs). The
+ * lengths which are not powers of 2 use Bluestein's algorithm.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FftBenchmark {
+
+    @Param({"64", "256", "1000", "1024", "4096", "16384", "65536"})
+    public int n;
+
+    private double[] xre, xim, re, im;
+    private Complex[] x, z;
+    private FftPlan plan;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(0);
+        xre = new double[n];
+        xim = new double[n];
+        x = new Complex[n];
+        for (int i = 0; i < n; ++i) {
+            xre[i] = rnd.nextGaussian();
+            xim[i] = rnd.nextGaussian();
+            x[i] = Complex.cart(xre[i], xim[i]);
+        }
+        re = new double[n];
+        im = new double[n];
+        z = new Complex[n];
+        plan = FftPlan.of(n);
+    }
+
+    @Benchmark
+    public Complex[] legacy() {
+        System.arraycopy(x, 0, z, 0, n);
+        new LegacyFft().dft(z);
+        return z;
+    }
+
+    @Benchmark
+    public Complex[] complex() {
+        System.arraycopy(x, 0, z, 0, n);
+        new Fft().transform(z);
+        return z;
+    }
+
+    @Benchmark
+    public double[] primitive() {
+        System.arraycopy(xre, 0, re, 0, n);
+        System.arraycopy(xim, 0, im, 0, n);
+        plan.transform(re, im);
+        return re;
+    }
+
+    @Benchmark
+    public double[] primitiveReal() {
+        plan.realTransform(xre, re, im);
+        return re;
+    }
+}
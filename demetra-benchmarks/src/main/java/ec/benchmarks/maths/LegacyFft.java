@@ -0,0 +1,162 @@
+/*
+ * Copyright 2013 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.maths;
+
+import ec.tstoolkit.maths.Complex;
+import ec.tstoolkit.utilities.Arrays2;
+
+/**
+ * Copy of the previous (object-based) implementation of ec.tstoolkit.maths.Fft,
+ * kept as the reference of the benchmarks
+ *
+ * @author Frank Osaer
+ */
+final class LegacyFft {
+
+    private static final double[] CosArray;
+    private static final double[] SinArray;
+
+    static {
+        CosArray = new double[30];
+        SinArray = new double[30];
+        final double twopi = Math.PI * 2;
+        double n = 2;
+        for (int i = 0; i < 30; ++i) {
+            CosArray[i] = Math.cos(twopi / n);
+            SinArray[i] = Math.sin(twopi / n);
+            n *= 2;
+        }
+    }
+
+    /**
+     * 
+     * @param data
+     */
+    public void backTransform(final Complex[] data) {
+        transform(data, true);
+    }
+
+    /**
+     * 
+     * @param data
+     */
+    public void transform(final Complex[] data)
+    {
+        transform(data, false);
+    }
+
+    /**
+     * Checks that a length can be handled by the radix-2 transform
+     * @param n The length
+     * @return True if n is a power of 2
+     */
+    public static boolean isPowerOf2(final int n) {
+        return n > 0 && (n & (n - 1)) == 0;
+    }
+
+    /**
+     * Discrete Fourier transform of data of any length:
+     * X(k) = sum(x(j)*e(2*i*pi*j*k/n)), which is the convention of the
+     * radix-2 transform. Lengths that are not powers of 2 are handled by
+     * Bluestein's algorithm (chirp-z transform), in O(n log n).
+     * @param data The data. Transformed in place
+     */
+    public void dft(final Complex[] data) {
+        final int n = data.length;
+        if (isPowerOf2(n)) {
+            transform(data, false);
+            return;
+        }
+        // w(jk) = c(j)*c(k)*conj(c(k-j)), where c(j) = e(i*pi*j*j/n)
+        Complex[] c = new Complex[n];
+        final long n2 = 2L * n;
+        for (int j = 0; j < n; ++j) {
+            // j*j mod 2n to keep the accuracy of the angles
+            long jj = ((long) j * j) % n2;
+            double a = Math.PI * jj / n;
+            c[j] = Complex.cart(Math.cos(a), Math.sin(a));
+        }
+        int m = 1;
+        while (m < 2 * n - 1) {
+            m <<= 1;
+        }
+        Complex[] a = new Complex[m], b = new Complex[m];
+        for (int j = 0; j < n; ++j) {
+            a[j] = data[j].times(c[j]);
+        }
+        for (int j = n; j < m; ++j) {
+            a[j] = Complex.ZERO;
+            b[j] = Complex.ZERO;
+        }
+        b[0] = c[0].conj();
+        for (int j = 1; j < n; ++j) {
+            b[j] = c[j].conj();
+            b[m - j] = b[j];
+        }
+        transform(a, false);
+        transform(b, false);
+        for (int j = 0; j < m; ++j) {
+            a[j] = a[j].times(b[j]);
+        }
+        transform(a, true);
+        for (int k = 0; k < n; ++k) {
+            data[k] = a[k].times(c[k]);
+        }
+    }
+
+    private void transform(final Complex[] data, final boolean back) {
+        final int n = data.length;
+        for (int i = 0, j = 0; i < n; ++i) {
+            if (j > i)
+                Arrays2.swap(data, i, j);
+            int q = n >> 1;
+            while (q >= 1 && j >= q) {
+                j -= q;
+                q >>= 1;
+            }
+            j += q;
+        }
+        // Danielson-Lanzcos routine
+        int m = 1, s = 0;
+        // external loop
+        while (m < n) {
+            int tm = m << 1;
+            Complex wm = Complex.cart(CosArray[s], back ? -SinArray[s]
+                    : SinArray[s]);
+            Complex w = Complex.ONE;
+            // internal loops
+            for (int j = 0; j < m; ++j) {
+                for (int k = j; k < n; k += tm) {
+                    int l = k + m;
+                    Complex t = w.times(data[l]);
+                    Complex u = data[k];
+                    data[k] = u.plus(t);
+                    data[l] = u.minus(t);
+                }
+                w = w.times(wm);
+            }
+            m = tm;
+            ++s;
+        }
+        if (back) {
+            final double v = 1.0 / n;
+            for (int i = 0; i < n; ++i)
+                data[i] = data[i].times(v);
+        }
+    }
+
+}
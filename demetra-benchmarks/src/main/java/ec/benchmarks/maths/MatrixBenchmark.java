@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.maths;
+
+import ec.tstoolkit.maths.matrices.Householder;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.MatrixKernels;
+import ec.tstoolkit.maths.matrices.SymmetricMatrix;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dense matrix kernels: general product, cross-products, Cholesky and QR
+ * decompositions. The "legacy" variant disables the cache-blocked kernels, the
+ * "blocked" variant uses them whatever the size of the problem.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatrixBenchmark {
+
+    @Param({"10", "50", "200", "500"})
+    public int n;
+
+    @Param({"legacy", "blocked"})
+    public String kernels;
+
+    private Matrix x, y, s, z;
+
+    @Setup
+    public void setup() {
+        MatrixKernels.setThreshold("legacy".equals(kernels) ? Long.MAX_VALUE : 0);
+        x = new Matrix(n, n);
+        x.randomize(0);
+        y = new Matrix(n, n);
+        y.randomize(1);
+        // positive definite matrix
+        s = SymmetricMatrix.XXt(x);
+        s.diagonal().add(n);
+        // regression design
+        z = new Matrix(4 * n, n);
+        z.randomize(2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MatrixKernels.setThreshold(MatrixKernels.DEFAULT_THRESHOLD);
+    }
+
+    @Benchmark
+    public Matrix product() {
+        return x.times(y);
+    }
+
+    @Benchmark
+    public Matrix xtx() {
+        return SymmetricMatrix.XtX(x);
+    }
+
+    @Benchmark
+    public Matrix xxt() {
+        return SymmetricMatrix.XXt(x);
+    }
+
+    @Benchmark
+    public Matrix cholesky() {
+        Matrix l = s.clone();
+        SymmetricMatrix.lcholesky(l);
+        return l;
+    }
+
+    @Benchmark
+    public Householder qr() {
+        Householder qr = new Householder(true);
+        qr.decompose(z);
+        return qr;
+    }
+}
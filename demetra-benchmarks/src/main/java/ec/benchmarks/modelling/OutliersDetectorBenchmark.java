@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.modelling;
+
+import ec.benchmarks.Fixture;
+import ec.tstoolkit.modelling.DefaultTransformationType;
+import ec.tstoolkit.modelling.arima.ModelDescription;
+import ec.tstoolkit.modelling.arima.ModelEstimation;
+import ec.tstoolkit.modelling.arima.ModellingContext;
+import ec.tstoolkit.modelling.arima.RegArimaEstimator;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.estimation.SarimaMapping;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Automatic detection of outliers (TRAMO and X13 implementations) on an
+ * airline model. The initial estimation of the model is done before each
+ * invocation, since the detection modifies the modelling context.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutliersDetectorBenchmark {
+
+    @Param({"MONTHLY_SHORT", "MONTHLY_LONG", "MONTHLY_MISSING", "QUARTERLY_SHORT", "QUARTERLY_LONG", "QUARTERLY_MISSING"})
+    public Fixture fixture;
+
+    private TsData s;
+    private SarimaModel airline;
+    private ModellingContext context;
+
+    @Setup
+    public void setup() {
+        s = fixture.series();
+        airline = fixture.getModel();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareContext() {
+        ModelDescription desc = new ModelDescription(s, null);
+        desc.setTransformation(DefaultTransformationType.Log);
+        desc.setAirline(true);
+        ModelEstimation est = new ModelEstimation(desc.buildRegArima());
+        est.compute(new RegArimaEstimator(new SarimaMapping(airline.getSpecification(), true)), 2);
+        context = new ModellingContext();
+        context.description = desc;
+        context.estimation = est;
+    }
+
+    @Benchmark
+    public ModellingContext tramo() {
+        ec.tstoolkit.modelling.arima.tramo.OutliersDetector outliers = new ec.tstoolkit.modelling.arima.tramo.OutliersDetector();
+        outliers.setDefault();
+        outliers.process(context);
+        return context;
+    }
+
+    @Benchmark
+    public ModellingContext x13() {
+        ec.tstoolkit.modelling.arima.x13.OutliersDetector outliers = new ec.tstoolkit.modelling.arima.x13.OutliersDetector();
+        outliers.setDefault();
+        outliers.process(context);
+        return context;
+    }
+}
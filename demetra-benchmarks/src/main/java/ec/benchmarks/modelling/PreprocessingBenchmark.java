@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.modelling;
+
+import ec.benchmarks.Fixture;
+import ec.tstoolkit.modelling.arima.IPreprocessor;
+import ec.tstoolkit.modelling.arima.PreprocessingModel;
+import ec.tstoolkit.modelling.arima.tramo.TramoSpecification;
+import ec.tstoolkit.modelling.arima.x13.RegArimaSpecification;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Automatic pre-processing (TRAMO and X13 reg-arima), from the most usual
+ * pre-defined specifications
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PreprocessingBenchmark {
+
+    @Param({"MONTHLY_SHORT", "MONTHLY_LONG", "MONTHLY_MISSING", "QUARTERLY_SHORT", "QUARTERLY_LONG", "QUARTERLY_MISSING"})
+    public Fixture fixture;
+
+    private TsData s;
+    private IPreprocessor tr5, trfull, rg4, rg5;
+
+    @Setup
+    public void setup() {
+        s = fixture.series();
+        tr5 = TramoSpecification.TR5.build();
+        trfull = TramoSpecification.TRfull.build();
+        rg4 = RegArimaSpecification.RG4.build();
+        rg5 = RegArimaSpecification.RG5.build();
+    }
+
+    @Benchmark
+    public PreprocessingModel tramoTR5() {
+        return tr5.process(s, null);
+    }
+
+    @Benchmark
+    public PreprocessingModel tramoTRfull() {
+        return trfull.process(s, null);
+    }
+
+    @Benchmark
+    public PreprocessingModel regArimaRG4() {
+        return rg4.process(s, null);
+    }
+
+    @Benchmark
+    public PreprocessingModel regArimaRG5() {
+        return rg5.process(s, null);
+    }
+}
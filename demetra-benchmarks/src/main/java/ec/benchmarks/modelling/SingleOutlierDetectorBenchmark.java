@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.modelling;
+
+import ec.benchmarks.Fixture;
+import ec.tstoolkit.arima.estimation.AnsleyFilter;
+import ec.tstoolkit.arima.estimation.RegArimaModel;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.modelling.IRobustStandardDeviationComputer;
+import ec.tstoolkit.modelling.arima.ExactSingleOutlierDetector;
+import ec.tstoolkit.modelling.arima.IResidualsComputer;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.timeseries.regression.AdditiveOutlierFactory;
+import ec.tstoolkit.timeseries.regression.LevelShiftFactory;
+import ec.tstoolkit.timeseries.regression.TransitoryChangeFactory;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One pass of the exact detection of outliers (AO, LS, TC) on the airline
+ * model of the fixture, by filtering the outliers at each position ("exact")
+ * or by shifting the response of the filter once it is past its transient
+ * ("shifted"). The daily fixtures are handled as if they were monthly series.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SingleOutlierDetectorBenchmark {
+
+    @Param({"MONTHLY_SHORT", "MONTHLY_LONG", "DAILY_SHORT", "DAILY_LONG"})
+    public Fixture fixture;
+
+    @Param({"exact", "shifted"})
+    public String scan;
+
+    private RegArimaModel<SarimaModel> regarima;
+    private ExactSingleOutlierDetector<SarimaModel> sod;
+
+    @Setup
+    public void setup() {
+        double[] y = fixture.data();
+        regarima = new RegArimaModel<>(fixture.getModel(), new DataBlock(y));
+        sod = new ExactSingleOutlierDetector<>(IRobustStandardDeviationComputer.mad(false),
+                IResidualsComputer.mlComputer(), new AnsleyFilter());
+        sod.addOutlierFactory(new AdditiveOutlierFactory());
+        sod.addOutlierFactory(new LevelShiftFactory());
+        sod.addOutlierFactory(new TransitoryChangeFactory());
+        sod.setShiftInvariantScan("shifted".equals(scan));
+        sod.prepare(new TsDomain(TsFrequency.Monthly, 1980, 0, y.length), null);
+    }
+
+    @Benchmark
+    public double scan() {
+        sod.process(regarima);
+        return sod.getMaxTStat();
+    }
+}
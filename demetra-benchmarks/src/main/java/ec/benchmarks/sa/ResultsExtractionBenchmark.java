@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.sa;
+
+import ec.benchmarks.Fixture;
+import ec.satoolkit.algorithm.implementation.TramoSeatsProcessingFactory;
+import ec.satoolkit.algorithm.implementation.X13ProcessingFactory;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.satoolkit.x13.X13Specification;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.ResultsAccessor;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Extraction of all the (non-series) items of the results of a document, as
+ * done by the matrix outputs: previous search through the nodes of the
+ * composite results (legacy) and compiled accessors.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResultsExtractionBenchmark {
+
+    @Param({"TRAMOSEATS", "X13"})
+    public String method;
+
+    private CompositeResults rslts;
+    private CompositeResults.Node[] nodes;
+    private String[] ids;
+    private ResultsAccessor[] accessors;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        if (method.equals("X13")) {
+            rslts = X13ProcessingFactory.process(Fixture.MONTHLY_LONG.series(), X13Specification.RSA5);
+        } else {
+            rslts = TramoSeatsProcessingFactory.process(Fixture.MONTHLY_LONG.series(), TramoSeatsSpecification.RSA5);
+        }
+        // the nodes are not exposed by the composite results
+        Field field = CompositeResults.class.getDeclaredField("nodes");
+        field.setAccessible(true);
+        nodes = ((Map<String, CompositeResults.Node>) field.get(rslts)).values().toArray(new CompositeResults.Node[0]);
+        // items of the matrix outputs (the series are much more expensive
+        // to compute than to find)
+        ids = rslts.getDictionary().entrySet().stream()
+                .filter(entry -> !InformationSet.hasWildCards(entry.getKey()) && entry.getValue() != TsData.class)
+                .map(entry -> entry.getKey())
+                .toArray(String[]::new);
+        accessors = new ResultsAccessor[ids.length];
+        for (int i = 0; i < ids.length; ++i) {
+            accessors[i] = ResultsAccessor.of(ids[i]);
+        }
+    }
+
+    @Benchmark
+    public int legacy() {
+        int n = 0;
+        for (String id : ids) {
+            if (search(id, Object.class) != null) {
+                ++n;
+            }
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int compiled() {
+        int n = 0;
+        for (ResultsAccessor accessor : accessors) {
+            if (accessor.getData(rslts, Object.class) != null) {
+                ++n;
+            }
+        }
+        return n;
+    }
+
+    // previous implementation of CompositeResults.getData
+    private <T> T search(String id, Class<T> tclass) {
+        for (CompositeResults.Node node : nodes) {
+            if (node.results != null) {
+                String cid = null;
+                if (node.prefix != null) {
+                    if (InformationSet.isPrefix(id, node.prefix)) {
+                        cid = InformationSet.removePrefix(id);
+                    }
+                } else {
+                    cid = id;
+                }
+                if (cid != null && node.results.contains(cid)) {
+                    return node.results.getData(cid, tclass);
+                }
+            }
+        }
+        for (CompositeResults.Node node : nodes) {
+            if (node.results != null) {
+                String cid;
+                if (node.prefix != null && InformationSet.isPrefix(id, node.prefix)) {
+                    cid = InformationSet.removePrefix(id);
+                } else {
+                    cid = id;
+                }
+                if (cid != null && node.results.contains(cid)) {
+                    return node.results.getData(cid, tclass);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.sa;
+
+import ec.benchmarks.Fixture;
+import ec.satoolkit.algorithm.implementation.TramoSeatsProcessingFactory;
+import ec.satoolkit.algorithm.implementation.X13ProcessingFactory;
+import ec.satoolkit.seats.SeatsResults;
+import ec.satoolkit.seats.SeatsSpecification;
+import ec.satoolkit.tramoseats.SeatsDecomposer;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.satoolkit.x11.X11Results;
+import ec.satoolkit.x11.X11Specification;
+import ec.satoolkit.x13.X11Decomposer;
+import ec.satoolkit.x13.X13Specification;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Seasonal adjustment: decompositions alone (X11 kernel, SEATS kernel) and
+ * complete processing (X13 and TRAMO-SEATS with RSA5). The decompositions
+ * alone are only done on the complete series.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SaBenchmark {
+
+    @Param({"MONTHLY_SHORT", "MONTHLY_LONG", "MONTHLY_MISSING", "QUARTERLY_SHORT", "QUARTERLY_LONG", "QUARTERLY_MISSING"})
+    public Fixture fixture;
+
+    private TsData s, sc;
+    private X11Specification x11;
+    private SeatsSpecification seats;
+
+    @Setup
+    public void setup() {
+        s = fixture.series();
+        // decompositions need complete series: missing values are replaced
+        // by the previous observations
+        double[] d = s.internalStorage().clone();
+        for (int i = 1; i < d.length; ++i) {
+            if (Double.isNaN(d[i])) {
+                d[i] = d[i - 1];
+            }
+        }
+        sc = new TsData(s.getStart(), d, false);
+        x11 = new X11Specification();
+        seats = new SeatsSpecification();
+        seats.setLog(true);
+    }
+
+    @Benchmark
+    public X11Results x11() {
+        X11Decomposer decomposer = new X11Decomposer(x11);
+        decomposer.decompose(sc);
+        return decomposer.getDecomposition();
+    }
+
+    @Benchmark
+    public SeatsResults seats() {
+        SeatsDecomposer decomposer = new SeatsDecomposer(seats);
+        decomposer.decompose(sc.log());
+        return decomposer.getDecomposition();
+    }
+
+    @Benchmark
+    public CompositeResults x13() {
+        return X13ProcessingFactory.process(s, X13Specification.RSA5);
+    }
+
+    @Benchmark
+    public CompositeResults tramoSeats() {
+        return TramoSeatsProcessingFactory.process(s, TramoSeatsSpecification.RSA5);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.sdmx;
+
+import ec.tss.tsproviders.sdmx.engine.CunningPlanFactory;
+import ec.tss.tsproviders.sdmx.engine.StreamingFactory;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+/**
+ * Reading of large (synthetic) compact and generic SDMX messages with the
+ * DOM-based factories and with the streaming factory. The messages contain
+ * the given number of monthly series of 20 years. The peak heap usage of
+ * each iteration is printed at the end of the iteration.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SdmxBenchmark {
+
+    @Param({"1000", "10000"})
+    public int series;
+
+    @Param({"COMPACT", "GENERIC"})
+    public SdmxSource.Type type;
+
+    @Param({"DOM", "STREAMING"})
+    public String parser;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("sdmx", ".xml");
+        write(file, type, series);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeak() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPeak() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.println(String.format(Locale.ROOT, "peak heap: %.1f MB (file: %.1f MB)",
+                peak / 1e6, file.toFile().length() / 1e6));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public SdmxSource read() throws Exception {
+        File input = file.toFile();
+        if ("DOM".equals(parser)) {
+            // the former implementation of CunningPlanFactory
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            Document doc = factory.newDocumentBuilder().parse(input);
+            doc.getDocumentElement().normalize();
+            CunningPlanFactory cunning = new CunningPlanFactory();
+            return cunning.find(doc).create(doc);
+        } else {
+            return new StreamingFactory().create(input);
+        }
+    }
+
+    static void write(Path file, SdmxSource.Type type, int n) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            if (type == SdmxSource.Type.COMPACT) {
+                writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                        + "<CompactData xmlns=\"http://www.SDMX.org/resources/SDMXML/schemas/v2_0/message\" "
+                        + "xmlns:c=\"urn:sdmx:org.sdmx.infomodel.keyfamily.KeyFamily=BENCH:compact\">\n<DataSet>\n");
+            } else {
+                writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                        + "<GenericData xmlns=\"http://www.SDMX.org/resources/SDMXML/schemas/v2_0/message\" "
+                        + "xmlns:g=\"http://www.SDMX.org/resources/SDMXML/schemas/v2_0/generic\">\n<DataSet>\n"
+                        + "<g:KeyFamilyRef>BENCH</g:KeyFamilyRef>\n");
+            }
+            for (int i = 0; i < n; ++i) {
+                String country = "C" + (i % 50), item = "I" + (i / 50);
+                if (type == SdmxSource.Type.COMPACT) {
+                    writer.write("<c:Series FREQ=\"M\" TIME_FORMAT=\"P1M\" COUNTRY=\"" + country + "\" ITEM=\"" + item + "\">\n");
+                } else {
+                    writer.write("<g:Series><g:SeriesKey><g:Value concept=\"FREQ\" value=\"M\"/>"
+                            + "<g:Value concept=\"COUNTRY\" value=\"" + country + "\"/>"
+                            + "<g:Value concept=\"ITEM\" value=\"" + item + "\"/></g:SeriesKey>"
+                            + "<g:Attributes><g:Value concept=\"TIME_FORMAT\" value=\"P1M\"/></g:Attributes>\n");
+                }
+                double value = 100 + i % 97;
+                for (int year = 2000; year < 2020; ++year) {
+                    for (int month = 1; month <= 12; ++month) {
+                        value *= 1 + ((year * 12 + month + i) % 7 - 3) / 1000.0;
+                        String period = String.format(Locale.ROOT, "%d-%02d", year, month), obs = String.format(Locale.ROOT, "%.3f", value);
+                        if (type == SdmxSource.Type.COMPACT) {
+                            writer.write("<c:Obs TIME_PERIOD=\"" + period + "\" OBS_VALUE=\"" + obs + "\"/>\n");
+                        } else {
+                            writer.write("<g:Obs><g:Time>" + period + "</g:Time><g:ObsValue value=\"" + obs + "\"/></g:Obs>\n");
+                        }
+                    }
+                }
+                writer.write(type == SdmxSource.Type.COMPACT ? "</c:Series>\n" : "</g:Series>\n");
+            }
+            writer.write(type == SdmxSource.Type.COMPACT ? "</DataSet>\n</CompactData>\n" : "</DataSet>\n</GenericData>\n");
+        }
+    }
+}
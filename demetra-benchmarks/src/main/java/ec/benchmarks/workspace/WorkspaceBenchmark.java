@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarks.workspace;
+
+import ec.benchmarks.Fixture;
+import ec.demetra.workspace.WorkspaceFamily;
+import ec.demetra.workspace.WorkspaceItem;
+import ec.demetra.workspace.file.FileFormat;
+import ec.demetra.workspace.file.FileWorkspace;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.satoolkit.x13.X13Specification;
+import ec.tss.TsFactory;
+import ec.tss.sa.SaItem;
+import ec.tss.sa.SaManager;
+import ec.tss.sa.SaProcessing;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tss.sa.processors.X13Processor;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Saving and loading of a large (synthetic) multi-processing in the generic
+ * (xml) and in the binary formats of the file workspaces. The processing
+ * contains the given number of items (specifications and data, without
+ * results), with monthly and quarterly series of 10 to 50 years.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorkspaceBenchmark {
+
+    private static final WorkspaceItem ITEM = WorkspaceItem.builder()
+            .family(WorkspaceFamily.SA_MULTI)
+            .id("SAProcessing-1")
+            .label("SAProcessing-1")
+            .build();
+
+    private static final Fixture[] SERIES = {Fixture.MONTHLY_SHORT, Fixture.MONTHLY_LONG, Fixture.MONTHLY_MISSING,
+        Fixture.QUARTERLY_SHORT, Fixture.QUARTERLY_LONG, Fixture.QUARTERLY_MISSING};
+
+    @Param({"1000", "10000"})
+    public int items;
+
+    @Param({"GENERIC", "BINARY"})
+    public FileFormat format;
+
+    private SaProcessing processing;
+    private Path folder, file;
+    private int count;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        SaManager.instance.add(new TramoSeatsProcessor());
+        SaManager.instance.add(new X13Processor());
+        processing = create(items);
+        folder = Files.createTempDirectory("ws");
+        file = folder.resolve("load" + extension());
+        try (FileWorkspace ws = FileWorkspace.create(file, format)) {
+            ws.store(ITEM, processing);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clean() throws IOException {
+        for (int i = 0; i < count; ++i) {
+            delete(folder.resolve("save" + i + extension()));
+            delete(folder.resolve("save" + i));
+        }
+        count = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        delete(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        Path target = folder.resolve("save" + (count++) + extension());
+        try (FileWorkspace ws = FileWorkspace.create(target, format)) {
+            ws.store(ITEM, processing);
+        }
+    }
+
+    @Benchmark
+    public Object load() throws IOException {
+        try (FileWorkspace ws = FileWorkspace.open(file, format)) {
+            return ws.load(ITEM);
+        }
+    }
+
+    private String extension() {
+        return format == FileFormat.BINARY ? ".bin" : ".xml";
+    }
+
+    private static SaProcessing create(int n) {
+        SaProcessing result = new SaProcessing();
+        for (int i = 0; i < n; ++i) {
+            Fixture fixture = SERIES[i % SERIES.length];
+            double[] data = fixture.data();
+            double scale = 1 + (i % 97) / 100.0;
+            for (int j = 0; j < data.length; ++j) {
+                data[j] *= scale;
+            }
+            // 10 to 50 years
+            int nyears = 10 + (i % 41);
+            int len = Math.min(data.length, nyears * fixture.getPeriod());
+            TsData s = new TsData(TsFrequency.valueOf(fixture.getPeriod()), 1960 + (i % 20), 0, data, false).drop(0, data.length - len);
+            result.add(new SaItem(i % 2 == 0 ? TramoSeatsSpecification.RSA5 : X13Specification.RSA5,
+                    TsFactory.instance.createTs("s" + i, null, s)));
+        }
+        return result;
+    }
+
+    private static void delete(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path cur : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(cur);
+            }
+        }
+    }
+}
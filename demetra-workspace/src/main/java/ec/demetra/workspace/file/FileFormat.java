@@ -31,6 +31,13 @@ public enum FileFormat {
     /**
      * Represents the format of Demetra+
      */
-    LEGACY;
+    LEGACY,
+    /**
+     * Represents the binary format: same layout as the default format, with
+     * the information sets stored in their binary form
+     *
+     * @since 2.2.0
+     */
+    BINARY;
 
 }
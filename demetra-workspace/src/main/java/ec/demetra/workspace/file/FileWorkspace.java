@@ -46,6 +46,19 @@ public interface FileWorkspace extends Workspace {
     @Nonnull
     Path getFile(@Nonnull WorkspaceItem item) throws IOException;
 
+    /**
+     * Gets the folder of the data that can be rebuilt from the content of the
+     * workspace (stored results...). The folder is not necessarily created.
+     *
+     * @return
+     * @throws IOException
+     * @since 2.2.0
+     */
+    @Nonnull
+    default Path getCacheFolder() throws IOException {
+        return FileWorkspaceImpl.resolveCacheFolder(getRootFolder());
+    }
+
     @Nonnull
     static FileWorkspace create(@Nonnull Path file, @Nonnull FileFormat format) throws IOException {
         return FileWorkspaceImpl.create(file, format, IoUtil.supplierOfServiceLoader(FamilyHandler.class));
@@ -65,4 +78,30 @@ public interface FileWorkspace extends Workspace {
     static Optional<FileFormat> probeFormat(@Nonnull Path file) throws IOException {
         return FileWorkspaceImpl.probeFormat(file);
     }
+
+    /**
+     * Creates a copy of a workspace in a given format (for instance, to convert
+     * a generic workspace into a binary one or the reverse). The items are
+     * read and written by the handlers of each format.
+     *
+     * @param source The workspace to copy
+     * @param file The index file of the new workspace. Must not exist
+     * @param format The format of the new workspace
+     * @return The new workspace, that must be closed by the caller
+     * @throws IOException
+     * @since 2.2.0
+     */
+    @Nonnull
+    static FileWorkspace copy(@Nonnull FileWorkspace source, @Nonnull Path file, @Nonnull FileFormat format) throws IOException {
+        FileWorkspace result = create(file, format);
+        try {
+            result.setName(source.getName());
+            for (WorkspaceItem item : source.getItems()) {
+                result.store(item, source.load(item));
+            }
+            return result;
+        } catch (IOException ex) {
+            throw IoUtil.ensureClosed(ex, result);
+        }
+    }
 }
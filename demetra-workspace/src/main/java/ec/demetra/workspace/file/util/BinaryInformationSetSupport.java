@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ * 
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ * 
+ * http://ec.europa.eu/idabc/eupl
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.demetra.workspace.file.util;
+
+import ec.tss.information.BinaryInformationSet;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.information.InformationSetSerializable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+/**
+ * Same as InformationSetSupport but using the binary form of the information
+ * sets (see BinaryInformationSet).
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public final class BinaryInformationSetSupport implements FileSupport {
+
+    @Nonnull
+    public static FileSupport of(@Nonnull Supplier<? extends InformationSetSerializable> factory, @Nonnull String repository) {
+        return new BinaryInformationSetSupport(factory, repository);
+    }
+
+    private final String repository;
+    private final Supplier<? extends InformationSetSerializable> factory;
+    private final Class<? extends InformationSetSerializable> type;
+
+    private BinaryInformationSetSupport(Supplier<? extends InformationSetSerializable> factory, String repository) {
+        this.repository = Objects.requireNonNull(repository);
+        this.factory = Objects.requireNonNull(factory);
+        this.type = factory.get().getClass();
+    }
+
+    @Override
+    public Path resolveFile(Path root, String fileName) {
+        return root.resolve(repository).resolve(binaryFileName(fileName));
+    }
+
+    @Override
+    public Object read(Path root, String fileName) throws IOException {
+        return readItem(resolveFile(root, fileName), factory);
+    }
+
+    @Override
+    public void write(Path root, String fileName, Object value) throws IOException {
+        writeItem(resolveFile(root, fileName), type, value);
+    }
+
+    static Object readItem(Path file, Supplier<? extends InformationSetSerializable> factory) throws IOException {
+        InformationSetSerializable result = factory.get();
+        if (!result.read(readInfo(file))) {
+            throw new IOException("Cannot read information set");
+        }
+        return result;
+    }
+
+    static void writeItem(Path file, Class<? extends InformationSetSerializable> type, Object value) throws IOException {
+        InformationSet info = type.cast(value).write(false);
+        if (info == null) {
+            throw new IOException("Cannot write information set");
+        }
+        Files.createDirectories(file.getParent());
+        writeInfo(file, info);
+    }
+
+    static String binaryFileName(String fileName) {
+        return ec.tstoolkit.utilities.Paths.changeExtension(fileName, "bin");
+    }
+
+    static InformationSet readInfo(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            return BinaryInformationSet.read(stream);
+        }
+    }
+
+    static void writeInfo(Path file, InformationSet info) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(file)) {
+            BinaryInformationSet.write(stream, info);
+        }
+    }
+}
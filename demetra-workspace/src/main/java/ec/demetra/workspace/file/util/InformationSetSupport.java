@@ -82,7 +82,17 @@ public final class InformationSetSupport implements FileSupport {
         marshalItem(file, itemToXml(type.cast(value)));
     }
 
-    private static String xmlFileName(String fileName) {
+    static InformationSet readInfo(Path file) throws IOException, JAXBException {
+        return unmarshalItem(file).create();
+    }
+
+    static void writeInfo(Path file, InformationSet info) throws IOException, JAXBException {
+        XmlInformationSet xml = new XmlInformationSet();
+        xml.copy(info);
+        marshalItem(file, xml);
+    }
+
+    static String xmlFileName(String fileName) {
         return ec.tstoolkit.utilities.Paths.changeExtension(fileName, "xml");
     }
 
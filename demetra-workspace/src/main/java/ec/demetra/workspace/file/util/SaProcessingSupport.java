@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.demetra.workspace.file.util;
+
+import ec.demetra.workspace.file.FileFormat;
+import ec.tss.information.BinaryInformationSet;
+import ec.tss.sa.SaProcessing;
+import ec.tstoolkit.information.Information;
+import ec.tstoolkit.information.InformationSet;
+import internal.workspace.file.FileWorkspaceImpl;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.xml.bind.JAXBException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Support of multi-processings whose items are loaded on demand (see
+ * SaProcessing.read(InformationSet, Function)).
+ * <p>
+ * The processing itself is stored as usual (xml or binary file). Its headers
+ * and the binary form of its items are copied in an index file of the cache
+ * folder, so that opening a processing only reads the headers. The index file
+ * is ignored when it doesn't correspond to the stored processing (older
+ * workspaces, modifications by other tools...); the processing is then
+ * completely read, until it is saved again. An item that can't be read from
+ * the index is read from the processing file.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public final class SaProcessingSupport implements FileSupport {
+
+    @Nonnull
+    public static FileSupport of(@Nonnull String repository, @Nonnull FileFormat format) {
+        return new SaProcessingSupport(repository, format);
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaProcessingSupport.class);
+    private static final int MAGIC = 0x4A445358, VERSION = 2;
+
+    private final String repository;
+    private final FileFormat format;
+
+    private SaProcessingSupport(String repository, FileFormat format) {
+        this.repository = Objects.requireNonNull(repository);
+        this.format = Objects.requireNonNull(format);
+        if (format != FileFormat.GENERIC && format != FileFormat.BINARY) {
+            throw new IllegalArgumentException(format.name());
+        }
+    }
+
+    @Override
+    public Path resolveFile(Path root, String fileName) {
+        return root.resolve(repository).resolve(format == FileFormat.BINARY
+                ? BinaryInformationSetSupport.binaryFileName(fileName)
+                : InformationSetSupport.xmlFileName(fileName));
+    }
+
+    private Path resolveIndex(Path root, String fileName) {
+        return FileWorkspaceImpl.resolveCacheFolder(root).resolve(repository).resolve(ec.tstoolkit.utilities.Paths.changeExtension(fileName, "idx"));
+    }
+
+    @Override
+    public Object read(Path root, String fileName) throws IOException {
+        Path file = resolveFile(root, fileName);
+        Path index = resolveIndex(root, fileName);
+        SaProcessing result = new SaProcessing();
+        Index idx = Files.exists(index) ? readIndex(index, file) : null;
+        if (idx != null) {
+            if (!result.read(idx.headers, name -> load(idx, file, name))) {
+                throw new IOException("Cannot read information set");
+            }
+        } else {
+            InformationSet info = readInfo(file);
+            if (!result.read(info)) {
+                throw new IOException("Cannot read information set");
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void write(Path root, String fileName, Object value) throws IOException {
+        InformationSet info = ((SaProcessing) value).write(false);
+        if (info == null) {
+            throw new IOException("Cannot write information set");
+        }
+        Path file = resolveFile(root, fileName);
+        Files.createDirectories(file.getParent());
+        writeInfo(file, info);
+        writeIndex(resolveIndex(root, fileName), file, info);
+    }
+
+    private InformationSet load(Index idx, Path file, String name) {
+        InformationSet item = idx.load(name);
+        if (item != null) {
+            return item;
+        }
+        // fallback: the processing file, read once
+        synchronized (idx) {
+            if (idx.info == null && !idx.failed) {
+                try {
+                    if (idx.matches(file)) {
+                        idx.info = readInfo(file);
+                    }
+                } catch (IOException | RuntimeException ex) {
+                    LOGGER.warn("Cannot read " + file, ex);
+                }
+                idx.failed = idx.info == null;
+            }
+            return idx.info == null ? null : idx.info.getSubSet(name);
+        }
+    }
+
+    private InformationSet readInfo(Path file) throws IOException {
+        if (format == FileFormat.BINARY) {
+            return BinaryInformationSetSupport.readInfo(file);
+        }
+        try {
+            return InformationSetSupport.readInfo(file);
+        } catch (JAXBException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private void writeInfo(Path file, InformationSet info) throws IOException {
+        if (format == FileFormat.BINARY) {
+            BinaryInformationSetSupport.writeInfo(file, info);
+        } else {
+            try {
+                InformationSetSupport.writeInfo(file, info);
+            } catch (JAXBException ex) {
+                throw new IOException(ex);
+            }
+        }
+    }
+
+    // index file: magic, version, size and time of the processing file, headers,
+    // table of the items (name, offset, length) and binary form of the items
+    private static void writeIndex(Path index, Path file, InformationSet info) {
+        try {
+            List<String> names = new ArrayList<>();
+            List<byte[]> items = new ArrayList<>();
+            for (Information<InformationSet> item : info.select(InformationSet.class)) {
+                names.add(item.name);
+                items.add(BinaryInformationSet.toBytes(item.value));
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream prefix = new DataOutputStream(bytes);
+            prefix.writeInt(MAGIC);
+            prefix.writeInt(VERSION);
+            prefix.writeLong(Files.size(file));
+            prefix.writeLong(Files.getLastModifiedTime(file).toMillis());
+            byte[] headers = BinaryInformationSet.toBytes(SaProcessing.headers(info));
+            prefix.writeInt(headers.length);
+            prefix.write(headers);
+            // offsets are relative to the end of the table
+            ByteArrayOutputStream tbytes = new ByteArrayOutputStream();
+            DataOutputStream table = new DataOutputStream(tbytes);
+            table.writeInt(names.size());
+            long offset = 0;
+            for (int i = 0; i < names.size(); ++i) {
+                table.writeUTF(names.get(i));
+                table.writeLong(offset);
+                table.writeInt(items.get(i).length);
+                offset += items.get(i).length;
+            }
+            prefix.writeInt(table.size());
+            tbytes.writeTo(prefix);
+            Files.createDirectories(index.getParent());
+            try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(index))) {
+                bytes.writeTo(stream);
+                for (byte[] item : items) {
+                    stream.write(item);
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn("Cannot write index " + index, ex);
+            try {
+                Files.deleteIfExists(index);
+            } catch (IOException other) {
+                ex.addSuppressed(other);
+            }
+        }
+    }
+
+    private static Index readIndex(Path index, Path file) {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(index))) {
+            DataInputStream in = new DataInputStream(stream);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            long size = in.readLong(), time = in.readLong();
+            if (size != Files.size(file) || time != Files.getLastModifiedTime(file).toMillis()) {
+                return null;
+            }
+            byte[] headers = new byte[in.readInt()];
+            in.readFully(headers);
+            int tableLength = in.readInt();
+            long start = 4 + 4 + 8 + 8 + 4 + headers.length + 4 + tableLength;
+            int n = in.readInt();
+            Map<String, long[]> table = new HashMap<>(2 * n);
+            for (int i = 0; i < n; ++i) {
+                String name = in.readUTF();
+                long offset = start + in.readLong();
+                table.put(name, new long[]{offset, in.readInt()});
+            }
+            return new Index(index, size, time, BinaryInformationSet.fromBytes(headers), table);
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn("Invalid index " + index, ex);
+            return null;
+        }
+    }
+
+    private static final class Index {
+
+        private final Path file;
+        private final long size, time;
+        private final InformationSet headers;
+        private final Map<String, long[]> table;
+        // complete processing, read when an item is missing in the index
+        private InformationSet info;
+        private boolean failed;
+
+        Index(Path file, long size, long time, InformationSet headers, Map<String, long[]> table) {
+            this.file = file;
+            this.size = size;
+            this.time = time;
+            this.headers = headers;
+            this.table = table;
+        }
+
+        // the processing file is still the one of the index
+        boolean matches(Path processing) throws IOException {
+            return Files.size(processing) == size && Files.getLastModifiedTime(processing).toMillis() == time;
+        }
+
+        InformationSet load(String name) {
+            long[] pos = table.get(name);
+            if (pos == null) {
+                return null;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) pos[1]);
+                long offset = pos[0];
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, offset + buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of file");
+                    }
+                }
+                return BinaryInformationSet.fromBytes(buffer.array());
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.warn("Cannot load " + name + " from " + file, ex);
+                return null;
+            }
+        }
+    }
+}
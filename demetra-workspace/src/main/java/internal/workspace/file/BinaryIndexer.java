@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ * 
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ * 
+ * http://ec.europa.eu/idabc/eupl
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package internal.workspace.file;
+
+import ec.demetra.workspace.WorkspaceFamily;
+import ec.tss.information.BinaryInformationSet;
+import ec.tstoolkit.information.Information;
+import ec.tstoolkit.information.InformationSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Index of the binary format: an information set (see BinaryInformationSet)
+ * that contains all the items of the workspace.
+ *
+ * @author agent
+ */
+final class BinaryIndexer implements Indexer {
+
+    static final String FORMAT = "format", WORKSPACE = "workspace", NAME = "name", ITEMS = "items",
+            FAMILY = "family", FILE = "file", LABEL = "label", READONLY = "readOnly", COMMENTS = "comments";
+
+    static boolean isValid(Path file) throws IOException {
+        if (!BinaryInformationSet.isBinary(file)) {
+            return false;
+        }
+        try {
+            return WORKSPACE.equals(readIndex(file).get(FORMAT, String.class));
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private final Path file;
+
+    BinaryIndexer(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void checkId(Index.Key key) throws IOException {
+        // do nothing
+    }
+
+    @Override
+    public Index loadIndex() throws IOException {
+        return infoToIndex(readIndex(file));
+    }
+
+    @Override
+    public void storeIndex(Index index) throws IOException {
+        writeIndex(file, indexToInfo(index));
+    }
+
+    @Override
+    public void close() throws IOException {
+        // do nothing
+    }
+
+    private static Index infoToIndex(InformationSet info) throws IOException {
+        if (!WORKSPACE.equals(info.get(FORMAT, String.class))) {
+            throw new IOException("Invalid workspace index");
+        }
+        String name = info.get(NAME, String.class);
+        Index.Builder result = Index.builder().name(name != null ? name : "");
+        InformationSet items = info.getSubSet(ITEMS);
+        if (items != null) {
+            for (Information<InformationSet> item : items.select(InformationSet.class)) {
+                result.item(getIndexKey(item.value), getIndexValue(item.value));
+            }
+        }
+        return result.build();
+    }
+
+    private static Index.Key getIndexKey(InformationSet info) throws IOException {
+        String family = info.get(FAMILY, String.class), file = info.get(FILE, String.class);
+        if (family == null || file == null) {
+            throw new IOException("Invalid workspace item");
+        }
+        return new Index.Key(WorkspaceFamily.parse(family), file);
+    }
+
+    private static Index.Value getIndexValue(InformationSet info) {
+        Boolean readOnly = info.get(READONLY, Boolean.class);
+        return new Index.Value(info.get(LABEL, String.class), readOnly != null && readOnly, info.get(COMMENTS, String.class));
+    }
+
+    private static InformationSet indexToInfo(Index index) {
+        InformationSet result = new InformationSet();
+        result.set(FORMAT, WORKSPACE);
+        result.set(NAME, index.getName());
+        InformationSet items = result.subSet(ITEMS);
+        int i = 0;
+        for (Map.Entry<Index.Key, Index.Value> o : index.getItems().entrySet()) {
+            InformationSet item = items.subSet("item" + (i++));
+            item.set(FAMILY, o.getKey().getFamily().toString());
+            item.set(FILE, o.getKey().getId());
+            if (o.getValue().getLabel() != null) {
+                item.set(LABEL, o.getValue().getLabel());
+            }
+            item.set(READONLY, o.getValue().isReadOnly());
+            if (o.getValue().getComments() != null) {
+                item.set(COMMENTS, o.getValue().getComments());
+            }
+        }
+        return result;
+    }
+
+    private static InformationSet readIndex(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            return BinaryInformationSet.read(stream);
+        }
+    }
+
+    private static void writeIndex(Path file, InformationSet info) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(file)) {
+            BinaryInformationSet.write(stream, info);
+        }
+    }
+}
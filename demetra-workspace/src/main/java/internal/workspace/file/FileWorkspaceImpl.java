@@ -45,6 +45,9 @@ public final class FileWorkspaceImpl implements FileWorkspace {
 
     @Nonnull
     public static Optional<FileFormat> probeFormat(@Nonnull Path file) throws IOException {
+        if (BinaryIndexer.isValid(file)) {
+            return Optional.of(FileFormat.BINARY);
+        }
         if (GenericIndexer.isValid(file)) {
             return Optional.of(FileFormat.GENERIC);
         }
@@ -102,6 +105,8 @@ public final class FileWorkspaceImpl implements FileWorkspace {
         }
     }
 
+    private static final String CACHE_FOLDER = "Cache";
+
     private final Path indexFile;
     private final FileFormat fileFormat;
     private final Path rootFolder;
@@ -210,6 +215,11 @@ public final class FileWorkspaceImpl implements FileWorkspace {
         return new Index.Value(item.getLabel(), item.isReadOnly(), item.getComments());
     }
 
+    @Nonnull
+    public static Path resolveCacheFolder(@Nonnull Path rootFolder) {
+        return rootFolder.resolve(CACHE_FOLDER);
+    }
+
     static Path getRootFolder(Path indexFile) throws IOException {
         Path parent = indexFile.toAbsolutePath().getParent();
         if (parent == null) {
@@ -224,6 +234,8 @@ public final class FileWorkspaceImpl implements FileWorkspace {
                 return new GenericIndexer(file, rootFolder);
             case LEGACY:
                 return new LegacyIndexer(file);
+            case BINARY:
+                return new BinaryIndexer(file);
             default:
                 throw new RuntimeException();
         }
@@ -33,7 +33,7 @@ import ec.demetra.workspace.file.util.InformationSetSupport;
 import ec.satoolkit.tramoseats.TramoSeatsSpecification;
 import ec.satoolkit.x13.X13Specification;
 import ec.tss.modelling.documents.TramoDocument;
-import ec.tss.sa.SaProcessing;
+import ec.demetra.workspace.file.util.SaProcessingSupport;
 import ec.tss.sa.documents.X13Document;
 import ec.tstoolkit.modelling.arima.tramo.TramoSpecification;
 import ec.tstoolkit.modelling.arima.x13.RegArimaSpecification;
@@ -68,7 +68,7 @@ public final class GenericHandlers {
     public static final class SaMulti implements FamilyHandler {
 
         @lombok.experimental.Delegate
-        private final FamilyHandler delegate = informationSet(SA_MULTI, SaProcessing::new, "SAProcessing");
+        private final FamilyHandler delegate = SaProcessingSupport.of("SAProcessing", FileFormat.GENERIC).asHandler(SA_MULTI, FileFormat.GENERIC);
     }
 
     @ServiceProvider(service = FamilyHandler.class)
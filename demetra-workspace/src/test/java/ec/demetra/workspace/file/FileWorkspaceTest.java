@@ -79,6 +79,7 @@ public class FileWorkspaceTest {
             assertThat(ws.getFileFormat()).isEqualTo(FileFormat.GENERIC);
             assertThat(ws.getFile()).isEqualTo(GENERIC_INDEX);
             assertThat(ws.getRootFolder()).isEqualTo(GENERIC_ROOT);
+            assertThat(ws.getCacheFolder()).isEqualTo(GENERIC_ROOT.resolve("Cache"));
         }
         try (FileWorkspace ws = FileWorkspace.open(LEGACY_INDEX)) {
             assertThat(ws.getFileFormat()).isEqualTo(FileFormat.LEGACY);
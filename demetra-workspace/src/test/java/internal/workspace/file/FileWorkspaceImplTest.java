@@ -26,6 +26,7 @@ import ec.satoolkit.tramoseats.TramoSeatsSpecification;
 import ec.satoolkit.x13.X13Specification;
 import ec.tss.modelling.documents.RegArimaDocument;
 import ec.tss.modelling.documents.TramoDocument;
+import ec.tss.sa.SaItem;
 import ec.tss.sa.SaProcessing;
 import ec.tss.sa.documents.TramoSeatsDocument;
 import ec.tss.sa.documents.X13Document;
@@ -33,6 +34,7 @@ import ec.tstoolkit.modelling.arima.tramo.TramoSpecification;
 import ec.tstoolkit.modelling.arima.x13.RegArimaSpecification;
 import ec.tstoolkit.timeseries.calendars.GregorianCalendarManager;
 import ec.tstoolkit.timeseries.regression.TsVariables;
+import ec.tstoolkit.timeseries.simplets.TsData;
 import internal.io.IoUtil;
 import static internal.test.TestResources.GENERIC_INDEX;
 import static internal.test.TestResources.GENERIC_ITEMS;
@@ -58,12 +60,18 @@ import static internal.test.TestResources.LEGACY_SA_SPEC_TRAMOSEATS;
 import static internal.test.TestResources.LEGACY_SA_SPEC_X13;
 import static internal.test.TestResources.LEGACY_UTIL_CAL;
 import static internal.test.TestResources.LEGACY_UTIL_VAR;
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.Test;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -269,6 +277,119 @@ public class FileWorkspaceImplTest {
         }
     }
 
+    @Test
+    public void testBinary() throws IOException {
+        Path binary = JIM_FS.getPath("/binary_ws.bin");
+        Path generic = JIM_FS.getPath("/generic_ws.xml");
+
+        try (FileWorkspace source = openGenericUsingServiceLoader(GENERIC_INDEX)) {
+            FileWorkspace.copy(source, binary, FileFormat.BINARY).close();
+        }
+        assertThat(FileWorkspaceImpl.probeFormat(binary)).contains(FileFormat.BINARY);
+        try (FileWorkspace ws = FileWorkspace.open(binary)) {
+            assertThat(ws.getName()).isEqualTo("my_workspace");
+            assertThat(ws.getFileFormat()).isEqualTo(FileFormat.BINARY);
+            assertThat(ws.getItems()).containsExactlyInAnyOrder(GENERIC_ITEMS.toArray(new WorkspaceItem[0]));
+            assertThat(ws.getFile(GENERIC_SA_MULTI)).exists().hasFileName("SAProcessing-1.bin");
+            assertThat(((SaProcessing) ws.load(GENERIC_SA_MULTI)).size()).isEqualTo(15);
+            assertThat(ws.load(GENERIC_SA_SPEC_TRAMOSEATS)).isInstanceOf(TramoSeatsSpecification.class);
+            assertThat(ws.load(GENERIC_UTIL_CAL)).isInstanceOf(GregorianCalendarManager.class);
+
+            FileWorkspace.copy(ws, generic, FileFormat.GENERIC).close();
+        }
+        assertThat(FileWorkspaceImpl.probeFormat(generic)).contains(FileFormat.GENERIC);
+        try (FileWorkspace ws = FileWorkspace.open(generic)) {
+            assertThat(ws.getItems()).containsExactlyInAnyOrder(GENERIC_ITEMS.toArray(new WorkspaceItem[0]));
+            assertThat(((SaProcessing) ws.load(GENERIC_SA_MULTI)).size()).isEqualTo(15);
+        }
+    }
+
+    @Test
+    public void testLazySaProcessing() throws IOException {
+        Path copyOfGeneric = newGenericSample();
+
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            // no index: complete reading
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            assertThat(processing.get(0).isLoaded()).isTrue();
+            ws.store(GENERIC_SA_MULTI, processing);
+            assertThat(ws.getCacheFolder().resolve("SAProcessing").resolve("SAProcessing-1.idx")).exists();
+        }
+
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            assertThat(processing.size()).isEqualTo(15);
+            assertThat(processing).noneMatch(SaItem::isLoaded);
+            assertThat(processing.get(0).getTs()).isNotNull();
+            assertThat(processing.get(0).isLoaded()).isTrue();
+            assertThat(processing.get(1).isLoaded()).isFalse();
+        }
+    }
+
+    @Test
+    public void testLazySaProcessingNames() throws IOException {
+        Path copyOfGeneric = newGenericSample();
+        List<String> names;
+
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            names = processing.stream().map(SaItem::getName).collect(Collectors.toList());
+            assertThat(names).anyMatch(o -> o.endsWith(" [frozen]"));
+            ws.store(GENERIC_SA_MULTI, processing);
+        }
+
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            assertThat(processing).noneMatch(SaItem::isLoaded);
+            assertThat(processing.stream().map(SaItem::getName).collect(Collectors.toList())).isEqualTo(names);
+            assertThat(processing).noneMatch(SaItem::isLoaded);
+        }
+    }
+
+    @Test
+    public void testLazySaProcessingWithInvalidIndex() throws IOException {
+        Path copyOfGeneric = newGenericSample();
+        List<TsData> data;
+
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            data = processing.stream().map(SaItem::getTsData).collect(Collectors.toList());
+            ws.store(GENERIC_SA_MULTI, processing);
+        }
+        Path index = truncateIndexItems(copyOfGeneric);
+
+        // the items are read from the processing file
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            assertThat(processing).noneMatch(SaItem::isLoaded);
+            assertThat(processing.get(0).getTsData()).isEqualTo(data.get(0));
+            assertThat(processing.get(0).isLoaded()).isTrue();
+            ws.store(GENERIC_SA_MULTI, processing);
+        }
+        assertThat(index).exists();
+
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            assertThat(processing.stream().map(SaItem::getTsData).collect(Collectors.toList())).isEqualTo(data);
+        }
+
+        // the items are neither in the index nor in the processing file: the
+        // processing can't be saved and the stored content is kept
+        truncateIndexItems(copyOfGeneric);
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            Path file = ws.getFile(GENERIC_SA_MULTI);
+            byte[] content = Files.readAllBytes(file);
+            // modification of the processing file by another tool
+            Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+            assertThat(processing.get(0).getTs()).isNotNull();
+            assertThat(processing.get(0).isLoaded()).isFalse();
+            assertThat(processing.get(0).isLocked()).isTrue();
+            assertThatThrownBy(() -> ws.store(GENERIC_SA_MULTI, processing)).isInstanceOf(IOException.class);
+            assertThat(Files.readAllBytes(file)).isEqualTo(content);
+        }
+    }
+
     @Test
     public void testGetRootFolder() throws IOException {
         assertThat(FileWorkspaceImpl.getRootFolder(JIM_FS.getPath("/workspace.xml")))
@@ -294,6 +415,26 @@ public class FileWorkspaceImplTest {
         return result;
     }
 
+    // removes the items of the index of GENERIC_SA_MULTI, keeping its headers
+    private static Path truncateIndexItems(Path workspace) throws IOException {
+        Path index = FileWorkspaceImpl.getRootFolder(workspace).resolve("Cache").resolve("SAProcessing").resolve("SAProcessing-1.idx");
+        long start;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(index))) {
+            in.readInt();
+            in.readInt();
+            in.readLong();
+            in.readLong();
+            int headers = in.readInt();
+            in.skipBytes(headers);
+            int table = in.readInt();
+            start = 4 + 4 + 8 + 8 + 4 + headers + 4 + table;
+        }
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.WRITE)) {
+            channel.truncate(start);
+        }
+        return index;
+    }
+
     private static Iterable<FamilyHandler> getHandlersButThrowUnexpected() {
         throw new RuntimeException("boom");
     }
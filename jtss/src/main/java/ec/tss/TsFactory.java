@@ -28,9 +28,8 @@ import ec.tstoolkit.design.Internal;
 import ec.tstoolkit.design.NewObject;
 import ec.tstoolkit.design.Singleton;
 import ec.tstoolkit.timeseries.simplets.TsData;
-import java.lang.ref.WeakReference;
+import java.lang.ref.ReferenceQueue;
 import java.util.*;
-import java.util.Map.Entry;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.stream.Collector;
@@ -124,13 +123,13 @@ public class TsFactory {
 
         @Override
         public void run() {
-            while (true) {
-                if (isClosing()) {
+            while (!isClosing()) {
+                try {
+                    // blocks until a series or a collection has been collected
+                    TsRegistry.expunge(m_queue, 0);
+                } catch (InterruptedException ex) {
                     return;
                 }
-                cleanTS();
-                cleanTSCollection();
-                LockSupport.parkNanos(10000000000l);
             }
         }
     }
@@ -146,9 +145,10 @@ public class TsFactory {
     }
 
     private final HashMap<String, ITsProvider> m_providers = new HashMap<>();
-    private final HashMap<TsMoniker, WeakReference<TsCollection>> m_collections = new HashMap<>();
-    private final HashMap<TsMoniker, WeakReference<Ts.Master>> m_ts = new HashMap<>();
-    private boolean m_close;
+    private final ReferenceQueue<Object> m_queue = new ReferenceQueue<>();
+    private final TsRegistry<TsCollection> m_collections = new TsRegistry<>(m_queue);
+    private final TsRegistry<Ts.Master> m_ts = new TsRegistry<>(m_queue);
+    private volatile boolean m_close;
     private final long m_threadID;
     private boolean m_useSynchronousNotifications = true;
     NotificationsQueue notifications = new NotificationsQueue();
@@ -203,35 +203,6 @@ public class TsFactory {
         notifications.addObserver(obs);
     }
 
-    private void cleanTS() {
-        synchronized (m_ts) {
-            HashMap<TsMoniker, WeakReference<Ts.Master>> tmp = new HashMap<>();
-            int n = 0;
-            for (Entry<TsMoniker, WeakReference<Ts.Master>> r : m_ts.entrySet()) {
-                if (r.getValue().get() != null) {
-                    tmp.put(r.getKey(), r.getValue());
-                } else {
-                    ++n;
-                }
-            }
-            m_ts.clear();
-            m_ts.putAll(tmp);
-        }
-    }
-
-    private void cleanTSCollection() {
-        synchronized (m_collections) {
-            HashMap<TsMoniker, WeakReference<TsCollection>> tmp = new HashMap<>();
-            m_collections.forEach((k, v) -> {
-                if (v.get() != null) {
-                    tmp.put(k, v);
-                }
-            });
-            m_collections.clear();
-            m_collections.putAll(tmp);
-        }
-    }
-
     /**
      *
      */
@@ -245,8 +216,8 @@ public class TsFactory {
      */
     public void clearCache() {
         m_providers.forEach((k, v) -> v.clearCache());
-        cleanTSCollection();
-        cleanTS();
+        m_collections.clean();
+        m_ts.clean();
     }
 
     /**
@@ -269,27 +240,16 @@ public class TsFactory {
     @Nonnull
     @NewObject
     public Ts createTs(@Nullable String name) {
-        synchronized (m_ts) {
-            Ts.Master ts = new Ts.Master(tsCallback, name);
-            m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-            return ts;
-        }
+        // new moniker: no concurrent creation
+        Ts.Master ts = new Ts.Master(tsCallback, name);
+        m_ts.put(ts.getMoniker(), ts);
+        return ts;
     }
 
     Ts createTs(TsInformation info) {
-        synchronized (m_ts) {
-            Ts.Master ts = null;
-            WeakReference<Ts.Master> wref = m_ts.get(info.moniker);
-            if (wref != null) {
-                ts = wref.get();
-            }
-            if (ts == null) {
-                ts = new Ts.Master(tsCallback, info.name, info.moniker);
-            }
-            ts.update(info);
-            m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-            return ts;
-        }
+        Ts.Master ts = m_ts.getOrCreate(info.moniker, m -> new Ts.Master(tsCallback, info.name, m));
+        ts.update(info);
+        return ts;
     }
 
     /**
@@ -318,29 +278,18 @@ public class TsFactory {
      */
     @Nonnull
     public Ts createTs(@Nullable String name, @Nullable TsMoniker moniker, @Nullable MetaData md, @Nullable TsData d) {
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = null;
-            if (moniker != null) {
-                wref = m_ts.get(moniker);
-            }
-            if (wref != null) {
-                Ts.Master ts = wref.get();
-                if (ts != null) {
-                    return ts.rename(name);
-                } else {
-                    ts = new Ts.Master(tsCallback, name, moniker, md, d);
-                    m_ts.put(moniker, new WeakReference<>(ts));
-                    return ts;
-                }
-            } else {
-                if (moniker == null) {
-                    moniker = new TsMoniker();
-                }
-                Ts.Master ts = new Ts.Master(tsCallback, name, moniker, md, d);
-                m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-                return ts;
-            }
+        if (moniker == null) {
+            Ts.Master ts = new Ts.Master(tsCallback, name, new TsMoniker(), md, d);
+            m_ts.put(ts.getMoniker(), ts);
+            return ts;
+        }
+        Ts.Master ts = m_ts.get(moniker);
+        if (ts != null) {
+            return ts.rename(name);
         }
+        Ts.Master nts = new Ts.Master(tsCallback, name, moniker, md, d);
+        ts = m_ts.putIfAbsent(moniker, nts);
+        return ts == nts ? ts : ts.rename(name);
     }
 
     /**
@@ -354,23 +303,26 @@ public class TsFactory {
      */
     @Nonnull
     public Ts createTs(@Nullable String name, @Nonnull TsMoniker moniker, @Nonnull TsInformationType type) {
-        synchronized (m_ts) {
-            Ts.Master result = (Ts.Master) getTs(moniker);
-            if (result == null) {
-                if (type != TsInformationType.None) {
-                    TsInformation info = new TsInformation(name, moniker, type);
-                    fill(info);
-                    result = new Ts.Master(tsCallback, name != null ? name : info.name, moniker);
-                    result.update(info);
-                } else {
-                    result = new Ts.Master(tsCallback, name, moniker);
-                }
-                m_ts.put(moniker, new WeakReference<>(result));
+        Objects.requireNonNull(moniker);
+        Ts.Master result = m_ts.get(moniker);
+        if (result == null) {
+            Ts.Master nresult;
+            // the provider is called outside the locks of the registry
+            if (type != TsInformationType.None) {
+                TsInformation info = new TsInformation(name, moniker, type);
+                fill(info);
+                nresult = new Ts.Master(tsCallback, name != null ? name : info.name, moniker);
+                nresult.update(info);
             } else {
-                result.load(type);
+                nresult = new Ts.Master(tsCallback, name, moniker);
+            }
+            result = m_ts.putIfAbsent(moniker, nresult);
+            if (result == nresult) {
+                return result;
             }
-            return result;
         }
+        result.load(type);
+        return result;
     }
 
     private boolean fill(TsInformation info) {
@@ -408,12 +360,9 @@ public class TsFactory {
     @Nonnull
     @NewObject
     public TsCollection createTsCollection(@Nullable String name) {
-        synchronized (m_collections) {
-            TsCollection coll = new TsCollection(tsCollectionCallback, name);
-            m_collections.put(coll.getMoniker(),
-                    new WeakReference<>(coll));
-            return coll;
-        }
+        TsCollection coll = new TsCollection(tsCollectionCallback, name);
+        m_collections.put(coll.getMoniker(), coll);
+        return coll;
     }
 
     /**
@@ -429,28 +378,12 @@ public class TsFactory {
     @Nonnull
     public TsCollection createTsCollection(@Nullable String name, @Nullable TsMoniker moniker, @Nullable MetaData md,
             @Nullable Iterable<Ts> ts) {
-        synchronized (m_collections) {
-            if (moniker == null) {
-                TsCollection c = new TsCollection(tsCollectionCallback, name, new TsMoniker(), md, ts);
-                m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                return c;
-            } else {
-                WeakReference<TsCollection> wref = m_collections.get(moniker);
-                if (wref != null) {
-                    TsCollection c = wref.get();
-                    if (c != null) {
-                        return c;
-                    } else {
-                        c = new TsCollection(tsCollectionCallback, name, moniker, md, ts);
-                        m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                        return c;
-                    }
-                } else {
-                    TsCollection c = new TsCollection(tsCollectionCallback, name, moniker, md, ts);
-                    m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                    return c;
-                }
-            }
+        if (moniker == null) {
+            TsCollection c = new TsCollection(tsCollectionCallback, name, new TsMoniker(), md, ts);
+            m_collections.put(c.getMoniker(), c);
+            return c;
+        } else {
+            return m_collections.getOrCreate(moniker, m -> new TsCollection(tsCollectionCallback, name, m, md, ts));
         }
     }
 
@@ -466,27 +399,32 @@ public class TsFactory {
     @Nonnull
     public TsCollection createTsCollection(@Nullable String name, @Nonnull TsMoniker moniker,
             @Nonnull TsInformationType type) {
+        Objects.requireNonNull(moniker);
         // Search collection
-        synchronized (m_collections) {
-            TsCollection result = getTsCollection(moniker);
-            if (result == null) {
-                result = new TsCollection(tsCollectionCallback, name, moniker);
-                if (type != TsInformationType.None) {
-                    TsCollectionInformation info = new TsCollectionInformation(moniker, type);
-                    fill(info);
-                    // set data
-                    List<Ts> updated = result.update(info);
+        TsCollection result = m_collections.get(moniker);
+        if (result == null) {
+            TsCollection nresult = new TsCollection(tsCollectionCallback, name, moniker);
+            List<Ts> updated = null;
+            // the provider is called outside the locks of the registry
+            if (type != TsInformationType.None) {
+                TsCollectionInformation info = new TsCollectionInformation(moniker, type);
+                fill(info);
+                // set data
+                updated = nresult.update(info);
+            }
+            // add collection
+            result = m_collections.putIfAbsent(moniker, nresult);
+            if (result == nresult) {
+                if (updated != null) {
                     for (Ts s : updated) {
                         notify(s, type, result);
                     }
                 }
-                // add collection
-                m_collections.put(moniker, new WeakReference<>(result));
-            } else {
-                result.load(type);
+                return result;
             }
-            return result;
         }
+        result.load(type);
+        return result;
     }
 
     private boolean fill(TsCollectionInformation info) {
@@ -554,19 +492,7 @@ public class TsFactory {
      */
     @Nullable
     public Ts getTs(@Nullable TsMoniker moniker) {
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = m_ts.get(moniker);
-            if (wref != null) {
-                Ts ts = wref.get();
-                if (ts == null) {
-                    m_ts.remove(moniker);
-                }
-                // cleanTS();
-                return ts;
-            } else {
-                return null;
-            }
-        }
+        return m_ts.get(moniker);
     }
 
     /**
@@ -578,19 +504,7 @@ public class TsFactory {
      */
     @Nullable
     public TsCollection getTsCollection(@Nullable TsMoniker moniker) {
-        synchronized (m_collections) {
-            WeakReference<TsCollection> wref = m_collections.get(moniker);
-            if (wref != null) {
-                TsCollection collection = wref.get();
-                if (collection == null) {
-                    m_collections.remove(moniker);
-                }
-                // cleanTSCollection();
-                return collection;
-            } else {
-                return null;
-            }
-        }
+        return m_collections.get(moniker);
     }
 
     /**
@@ -611,13 +525,7 @@ public class TsFactory {
         if (m_close) {
             return false;
         }
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = m_ts.get(moniker);
-            if (wref == null) {
-                return false;
-            }
-            return wref.get() != null;
-        }
+        return m_ts.isAlive(moniker);
     }
 
     /**
@@ -630,13 +538,47 @@ public class TsFactory {
         if (m_close) {
             return false;
         }
-        synchronized (m_collections) {
-            WeakReference<TsCollection> wref = m_collections.get(moniker);
-            if (wref == null) {
-                return false;
-            }
-            return wref.get() != null;
-        }
+        return m_collections.isAlive(moniker);
+    }
+
+    /**
+     * Number of time series currently registered in the factory. Some of them
+     * may have been garbage-collected but not yet removed.
+     *
+     * @return
+     */
+    public int getTsCount() {
+        return m_ts.size();
+    }
+
+    /**
+     * Number of collections currently registered in the factory. Some of them
+     * may have been garbage-collected but not yet removed.
+     *
+     * @return
+     */
+    public int getTsCollectionCount() {
+        return m_collections.size();
+    }
+
+    /**
+     * Number of garbage-collected time series and collections that have been
+     * removed from the factory.
+     *
+     * @return
+     */
+    public long getEvictionCount() {
+        return m_ts.getEvictionCount() + m_collections.getEvictionCount();
+    }
+
+    /**
+     * Total time spent by the threads waiting for the locks of the factory
+     * (creations, loads and updates of a given moniker are serialized).
+     *
+     * @return The waiting time, in nanoseconds
+     */
+    public long getLockWaitTime() {
+        return m_ts.getLockWaitTime() + m_collections.getLockWaitTime();
     }
 
     /**
@@ -777,11 +719,9 @@ public class TsFactory {
         if (provider == null) {
             return false;
         }
-        synchronized (m_ts) {
-            return provider.getAsyncMode() == TsAsyncMode.None
-                    ? doLoad(s.getMaster(), type)
-                    : provider.queryTs(s.getMoniker(), type);
-        }
+        return provider.getAsyncMode() == TsAsyncMode.None
+                ? doLoad(s.getMaster(), type)
+                : provider.queryTs(s.getMoniker(), type);
     }
 
     /**
@@ -807,11 +747,9 @@ public class TsFactory {
             }
             return true;
         }
-        synchronized (m_collections) {
-            return provider.getAsyncMode() == TsAsyncMode.None
-                    ? doLoad(c, type)
-                    : provider.queryTsCollection(c.getMoniker(), type);
-        }
+        return provider.getAsyncMode() == TsAsyncMode.None
+                ? doLoad(c, type)
+                : provider.queryTsCollection(c.getMoniker(), type);
     }
 
     /**
@@ -877,16 +815,14 @@ public class TsFactory {
      * @param info
      */
     public void update(@Nonnull TsCollectionInformation info) {
-        synchronized (m_collections) {
-            TsCollection c = getTsCollection(info.moniker);
-            if (c != null) {
-                List<Ts> updated = c.update(info);
-                notify(c, info.type, null);
-                updated.forEach(s -> notify(s, info.type, c));
-            } else {
-                // the collection has been destroyed, but the series could be alive...
-                info.items.forEach(sinfo -> update(sinfo));
-            }
+        TsCollection c = m_collections.get(info.moniker);
+        if (c != null) {
+            List<Ts> updated = c.update(info);
+            notify(c, info.type, null);
+            updated.forEach(s -> notify(s, info.type, c));
+        } else {
+            // the collection has been destroyed, but the series could be alive...
+            info.items.forEach(sinfo -> update(sinfo));
         }
     }
 
@@ -896,12 +832,9 @@ public class TsFactory {
      * @param info
      */
     public void update(@Nonnull TsInformation info) {
-        synchronized (m_ts) {
-            Ts.Master s = (Ts.Master) getTs(info.moniker);
-            if (s == null) // the series has been destroyed
-            {
-                return;
-            }
+        Ts.Master s = m_ts.get(info.moniker);
+        if (s != null) // otherwise, the series has been destroyed
+        {
             s.update(info);
             notify(s, info.type, null);
         }
@@ -944,23 +877,13 @@ public class TsFactory {
         }
 
         private TsCollection[] lookupTsCollection(IDataSourceProvider p, DataSource dataSource) {
-            synchronized (m_collections) {
-                return m_collections.entrySet().stream()
-                        .filter(o -> isRelatedTo(p, dataSource, o.getKey()))
-                        .map(o -> o.getValue().get())
-                        .filter(Objects::nonNull)
-                        .toArray(TsCollection[]::new);
-            }
+            return m_collections.select(o -> isRelatedTo(p, dataSource, o))
+                    .toArray(TsCollection[]::new);
         }
 
         private Ts.Master[] lookupTs(IDataSourceProvider p, DataSource dataSource) {
-            synchronized (m_collections) {
-                return m_ts.entrySet().stream()
-                        .filter(o -> isRelatedTo(p, dataSource, o.getKey()))
-                        .map(o -> o.getValue().get())
-                        .filter(Objects::nonNull)
-                        .toArray(Ts.Master[]::new);
-            }
+            return m_ts.select(o -> isRelatedTo(p, dataSource, o))
+                    .toArray(Ts.Master[]::new);
         }
 
         private boolean isRelatedTo(IDataSourceProvider p, DataSource dataSource, TsMoniker moniker) {
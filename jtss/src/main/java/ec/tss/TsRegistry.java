@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Weak registry of the objects (time series or collections) created by the
+ * factory, indexed by their monikers. The lookups don't lock; the
+ * registrations of a given moniker are serialized by means of a striped lock,
+ * which is only held during the registration itself (the lookup and the
+ * insertion). No foreign code (providers, observers...) is called while a lock
+ * is held, so that the locks are never nested. Collected objects are removed
+ * when their references are enqueued (see
+ * {@link #expunge(ReferenceQueue, long)}).
+ *
+ * @author agent
+ * @param <T>
+ */
+final class TsRegistry<T> {
+
+    private static final int STRIPES = 64;
+
+    static final class Entry<T> extends WeakReference<T> {
+
+        final TsRegistry<T> owner;
+        final TsMoniker moniker;
+
+        private Entry(TsRegistry<T> owner, TsMoniker moniker, T referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.owner = owner;
+            this.moniker = moniker;
+        }
+    }
+
+    private final ConcurrentHashMap<TsMoniker, Entry<T>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final ReferenceQueue<Object> queue;
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+
+    TsRegistry(ReferenceQueue<Object> queue) {
+        this.queue = queue;
+        for (int i = 0; i < STRIPES; ++i) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Removes the entries of the collected objects. The method blocks until
+     * at least one reference has been enqueued or until the time-out expires.
+     *
+     * @param queue The queue shared by the registries
+     * @param timeout Time-out in milliseconds (0 for an indefinite wait)
+     * @return The number of removed entries
+     * @throws InterruptedException
+     */
+    static int expunge(ReferenceQueue<Object> queue, long timeout) throws InterruptedException {
+        int n = 0;
+        Reference<?> ref = queue.remove(timeout);
+        while (ref != null) {
+            if (ref instanceof Entry && ((Entry<?>) ref).owner.evict((Entry<?>) ref)) {
+                ++n;
+            }
+            ref = queue.poll();
+        }
+        return n;
+    }
+
+    /**
+     * Gets the object identified by a moniker
+     *
+     * @param moniker The moniker. May be null
+     * @return The object if it is still alive, null otherwise
+     */
+    T get(TsMoniker moniker) {
+        if (moniker == null) {
+            return null;
+        }
+        Entry<T> entry = map.get(moniker);
+        return entry == null ? null : entry.get();
+    }
+
+    boolean isAlive(TsMoniker moniker) {
+        return get(moniker) != null;
+    }
+
+    /**
+     * Registers an object. The previous registration, if any, is replaced
+     *
+     * @param moniker
+     * @param obj
+     */
+    void put(TsMoniker moniker, T obj) {
+        map.put(moniker, new Entry<>(this, moniker, obj, queue));
+    }
+
+    /**
+     * Gets an existing object or creates (and registers) a new one. The
+     * creation of a given moniker is atomic: concurrent calls with the same
+     * moniker return the same object. The factory is called while the lock of
+     * the moniker is held: it should only create the object.
+     *
+     * @param moniker The moniker
+     * @param factory The creator of the object
+     * @return
+     */
+    T getOrCreate(TsMoniker moniker, Function<TsMoniker, T> factory) {
+        T obj = get(moniker);
+        if (obj != null) {
+            return obj;
+        }
+        return locked(moniker, () -> {
+            T cur = get(moniker);
+            if (cur == null) {
+                cur = factory.apply(moniker);
+                put(moniker, cur);
+            }
+            return cur;
+        });
+    }
+
+    /**
+     * Registers an object, unless the moniker is already used by an alive
+     * object
+     *
+     * @param moniker The moniker
+     * @param obj The new object
+     * @return The registered object: the given one or the existing one
+     */
+    T putIfAbsent(TsMoniker moniker, T obj) {
+        T cur = get(moniker);
+        if (cur != null) {
+            return cur;
+        }
+        return locked(moniker, () -> {
+            T tmp = get(moniker);
+            if (tmp == null) {
+                put(moniker, obj);
+                return obj;
+            } else {
+                return tmp;
+            }
+        });
+    }
+
+    // the actions must not call foreign code
+    private <R> R locked(TsMoniker moniker, Supplier<R> action) {
+        ReentrantLock lock = locks[(Objects.hashCode(moniker) & 0x7fffffff) % STRIPES];
+        if (!lock.tryLock()) {
+            long start = System.nanoTime();
+            lock.lock();
+            waitTime.add(System.nanoTime() - start);
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the alive objects whose monikers satisfy a given condition
+     *
+     * @param condition
+     * @return
+     */
+    Stream<T> select(Predicate<TsMoniker> condition) {
+        return map.values().stream()
+                .filter(o -> condition.test(o.moniker))
+                .map(Entry::get)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Removes the entries of the collected objects (full scan)
+     *
+     * @return The number of removed entries
+     */
+    int clean() {
+        int n = 0;
+        for (Entry<T> entry : map.values()) {
+            if (entry.get() == null && evict(entry)) {
+                ++n;
+            }
+        }
+        return n;
+    }
+
+    private boolean evict(Entry<?> entry) {
+        // the moniker may have been re-registered in the meantime
+        if (map.remove(entry.moniker, entry)) {
+            evictions.increment();
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Number of registered objects. Some of them may have been collected
+     * but not yet removed.
+     *
+     * @return
+     */
+    int size() {
+        return map.size();
+    }
+
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Total time spent waiting for the locks (in nanoseconds)
+     *
+     * @return
+     */
+    long getLockWaitTime() {
+        return waitTime.sum();
+    }
+}
@@ -31,12 +31,23 @@ import ec.tstoolkit.maths.Complex;
 import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
 import ec.tstoolkit.utilities.NamedObject;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -390,6 +401,215 @@ public class CsvInformationFormatter {
         format(writer, items, names.size(), rowheaders);
     }
 
+    /**
+     * Creates a writer that formats the results one by one, as soon as they
+     * are available. The requested items are extracted and spooled in a
+     * temporary file, so that the results can be released immediately; the
+     * matrix, identical to the one produced by formatResults, is written at
+     * the end (see writeTo), because the column headers depend on all the
+     * records. No file is kept open between the calls; the matrix writer must
+     * be closed to remove the temporary file.
+     *
+     * @param names The requested items
+     * @param shortname
+     * @return
+     * @throws IOException
+     */
+    public ResultsMatrixWriter createResultsWriter(List<String> names, boolean shortname) throws IOException {
+        return new ResultsMatrixWriter(names, shortname);
+    }
+
+    public final class ResultsMatrixWriter implements Closeable {
+
+        // all the formatters return empty strings beyond this item
+        private static final int MAX_ITEM = 8;
+
+        private final List<String> names;
+        private final boolean shortname;
+        private final List<LinkedHashMap<String, Integer>> wnames = new ArrayList<>();
+        private final File spool;
+        private boolean closed;
+        private int nrows;
+
+        private ResultsMatrixWriter(List<String> names, boolean shortname) throws IOException {
+            this.names = new ArrayList<>(names);
+            this.shortname = shortname;
+            for (int i = 0; i < names.size(); ++i) {
+                wnames.add(new LinkedHashMap<>());
+            }
+            spool = File.createTempFile("csvmatrix", ".tmp");
+            spool.deleteOnExit();
+        }
+
+        /**
+         * Adds a new record. The results are not referenced by the writer
+         *
+         * @param name The row header
+         * @param record The results. May be null
+         * @throws IOException
+         */
+        public void add(String name, IProcResults record) throws IOException {
+            if (closed) {
+                throw new IllegalStateException("Closed writer");
+            }
+            // the record is appended only when it is complete
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            add(new DataOutputStream(bytes), name, record);
+            try (OutputStream out = new FileOutputStream(spool, true)) {
+                bytes.writeTo(out);
+            }
+            ++nrows;
+        }
+
+        private void add(DataOutputStream out, String name, IProcResults record) throws IOException {
+            writeString(out, name);
+            for (int i = 0; i < names.size(); ++i) {
+                MatrixItem m = new MatrixItem();
+                m.fill(names.get(i), record, shortname);
+                LinkedHashMap<String, Integer> map = wnames.get(i);
+                // the first occurrence of an item is used (see MatrixItem.search)
+                Set<String> keys = new HashSet<>();
+                List<Integer> cells = new ArrayList<>();
+                for (int j = 0; j < m.items.length; ++j) {
+                    Integer l = map.get(m.items[j]);
+                    if (l == null || l < m.length) {
+                        map.put(m.items[j], m.length);
+                    }
+                    if (keys.add(m.items[j]) && m.results[j] != null) {
+                        cells.add(j);
+                    }
+                }
+                out.writeInt(cells.size());
+                for (int j : cells) {
+                    Object obj = m.results[j];
+                    int nmax = Math.max(m.length, MAX_ITEM);
+                    String[] s = new String[nmax + 1];
+                    int last = 0;
+                    for (int k = 0; k <= nmax; ++k) {
+                        s[k] = format(obj, k);
+                        if (k > 0 && s[k] != null && !s[k].isEmpty()) {
+                            last = k;
+                        }
+                    }
+                    writeString(out, m.items[j]);
+                    out.writeInt(last + 1);
+                    for (int k = 0; k <= last; ++k) {
+                        writeString(out, s[k]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Writes the matrix of the records added so far. The writer is not
+         * closed
+         *
+         * @param writer The output
+         * @throws IOException
+         */
+        public void writeTo(Writer writer) throws IOException {
+            if (closed) {
+                throw new IllegalStateException("Closed writer");
+            }
+            writer.write(comma);
+            writeColumnsHeaders(writer, wnames, names.size());
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(spool)))) {
+                for (int i = 0; i < nrows; ++i) {
+                    String rh = readString(in);
+                    if (rh != null) {
+                        writeHeader(writer, rh);
+                    }
+                    writer.write(comma);
+                    List<Map<String, String[]>> row = new ArrayList<>(names.size());
+                    for (int j = 0; j < names.size(); ++j) {
+                        int ncells = in.readInt();
+                        Map<String, String[]> cells = new HashMap<>();
+                        for (int k = 0; k < ncells; ++k) {
+                            String key = readString(in);
+                            String[] s = new String[in.readInt()];
+                            for (int l = 0; l < s.length; ++l) {
+                                s[l] = readString(in);
+                            }
+                            cells.put(key, s);
+                        }
+                        row.add(cells);
+                    }
+                    writeLine(writer, row);
+                }
+            }
+        }
+
+        /**
+         * Removes the spooled records. The writer can't be used afterwards
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                spool.delete();
+            }
+        }
+
+        private void writeLine(Writer writer, List<Map<String, String[]>> row) throws IOException {
+            for (int k = 0; k < row.size();) {
+                Map<String, String[]> cells = row.get(k);
+                LinkedHashMap<String, Integer> map = wnames.get(k);
+                int nmax = map.size();
+                int i = 0;
+                for (Entry<String, Integer> ccur : map.entrySet()) {
+                    int n = ccur.getValue();
+                    String[] s = cells.get(ccur.getKey());
+                    if (s != null) {
+                        if (n == 1) {
+                            write(writer, s[0]);
+                        } else {
+                            for (int j = 1; j <= n; ++j) {
+                                if (j < s.length) {
+                                    write(writer, s[j]);
+                                }
+                                if (j < n) {
+                                    writer.write(comma);
+                                }
+                            }
+                        }
+                    } else {
+                        for (int j = 1; j < n; ++j) {
+                            writer.write(comma);
+                        }
+                    }
+                    if (++i < nmax) {
+                        writer.write(comma);
+                    }
+                }
+                if (++k < row.size()) {
+                    writer.write(comma);
+                } else {
+                    writer.write(NEWLINE);
+                }
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        if (n < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[n];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
     private String format(Object obj, int item) {
 
         try {
@@ -0,0 +1,793 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.information;
+
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.TsMoniker;
+import ec.tstoolkit.MetaData;
+import ec.tstoolkit.Parameter;
+import ec.tstoolkit.ParameterType;
+import ec.tstoolkit.algorithm.AlgorithmDescriptor;
+import ec.tstoolkit.algorithm.ProcDiagnostic;
+import ec.tstoolkit.algorithm.ProcQuality;
+import ec.tstoolkit.information.Information;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.information.ParameterInfo;
+import ec.tstoolkit.information.RegressionItem;
+import ec.tstoolkit.information.StatisticalTest;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.PeriodSelectorType;
+import ec.tstoolkit.timeseries.TsPeriodSelector;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of information sets, used as an alternative to their
+ * xml form (see XmlInformationSet). The supported values are the ones of the
+ * xml form (enums are also written as strings), completed with periods,
+ * parameter infos and diagnostics. Other values are skipped.
+ * <p>
+ * The stream starts with a header (magic number and version of the format).
+ * All the sets and arrays are prefixed by their length, arrays of doubles are
+ * written in bulk and the short strings (names of the items, enums...) are
+ * written once and then referenced by their position in a dictionary that
+ * is built along the stream.
+ *
+ * @author agent
+ */
+public final class BinaryInformationSet {
+
+    /**
+     * Magic number of the binary streams ("JDIS")
+     */
+    public static final int MAGIC = 0x4A444953;
+    /**
+     * Current version of the format
+     */
+    public static final int VERSION = 1;
+
+    private static final byte SUBSET = 1, BOOLEAN = 2, INTEGER = 3, DOUBLE = 4, STRING = 5,
+            BOOLEANS = 6, INTEGERS = 7, DOUBLES = 8, STRINGS = 9, TSDATA = 10, PERIOD = 11,
+            ALGORITHM = 12, SPAN = 13, PARAMETER = 14, PARAMETERS = 15, MONIKER = 16, TS = 17,
+            TSCOLLECTION = 18, REGITEM = 19, TEST = 20, MATRIX = 21, PARAMETERINFO = 22,
+            DIAGNOSTIC = 23, QUALITY = 24, UNSUPPORTED = 0;
+
+    // strings that are put in the dictionary (length in bytes)
+    private static final int MAX_SHARED = 64;
+    // null, literal, reference
+    private static final int NULL = 0, LITERAL = 1, REF = 2;
+
+    private BinaryInformationSet() {
+    }
+
+    /**
+     * Checks that a value can be written in the binary form
+     *
+     * @param value The value
+     * @return
+     */
+    public static boolean isSupported(Object value) {
+        return tag(value) != UNSUPPORTED;
+    }
+
+    /**
+     * Checks that a file starts with the header of the binary form
+     *
+     * @param file The file
+     * @return False if the file doesn't exist or is not a binary information
+     * set
+     */
+    public static boolean isBinary(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            return in.readInt() == MAGIC;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes an information set (header included). The stream is flushed but
+     * not closed
+     *
+     * @param stream The output stream
+     * @param info The information set
+     * @throws IOException
+     */
+    public static void write(OutputStream stream, InformationSet info) throws IOException {
+        Writer writer = new Writer(stream);
+        writer.header();
+        writer.writeSet(info);
+        writer.out.flush();
+    }
+
+    /**
+     * Reads an information set (header included). The stream is not closed
+     *
+     * @param stream The input stream
+     * @return The information set
+     * @throws IOException The stream is not a valid binary information set
+     */
+    public static InformationSet read(InputStream stream) throws IOException {
+        Reader reader = new Reader(stream);
+        reader.header();
+        return reader.readSet();
+    }
+
+    /**
+     * Writes a series (header included). The stream is flushed but not closed
+     *
+     * @param stream The output stream
+     * @param s The series
+     * @throws IOException
+     */
+    public static void writeTsData(OutputStream stream, TsData s) throws IOException {
+        Writer writer = new Writer(stream);
+        writer.header();
+        writer.writeTsData(s);
+        writer.out.flush();
+    }
+
+    /**
+     * Reads a series (header included). The stream is not closed
+     *
+     * @param stream The input stream
+     * @return The series
+     * @throws IOException
+     */
+    public static TsData readTsData(InputStream stream) throws IOException {
+        Reader reader = new Reader(stream);
+        reader.header();
+        return reader.readTsData();
+    }
+
+    public static byte[] toBytes(InformationSet info) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16384);
+        try {
+            write(bytes, info);
+        } catch (IOException ex) {
+            // can't happen with an in-memory stream
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static InformationSet fromBytes(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    private static byte tag(Object value) {
+        if (value instanceof InformationSet) {
+            return SUBSET;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        } else if (value instanceof Integer) {
+            return INTEGER;
+        } else if (value instanceof String) {
+            return STRING;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof TsData) {
+            return TSDATA;
+        } else if (value instanceof double[]) {
+            return DOUBLES;
+        } else if (value instanceof String[]) {
+            return STRINGS;
+        } else if (value instanceof int[]) {
+            return INTEGERS;
+        } else if (value instanceof boolean[]) {
+            return BOOLEANS;
+        } else if (value instanceof Parameter) {
+            return PARAMETER;
+        } else if (value instanceof Parameter[]) {
+            return PARAMETERS;
+        } else if (value instanceof TsPeriod) {
+            return PERIOD;
+        } else if (value instanceof AlgorithmDescriptor) {
+            return ALGORITHM;
+        } else if (value instanceof TsPeriodSelector) {
+            return SPAN;
+        } else if (value instanceof TsMoniker) {
+            return MONIKER;
+        } else if (value instanceof TsInformation) {
+            return TS;
+        } else if (value instanceof TsCollectionInformation) {
+            return TSCOLLECTION;
+        } else if (value instanceof RegressionItem) {
+            return REGITEM;
+        } else if (value instanceof StatisticalTest) {
+            return TEST;
+        } else if (value instanceof Matrix) {
+            return MATRIX;
+        } else if (value instanceof ParameterInfo) {
+            return PARAMETERINFO;
+        } else if (value instanceof ProcDiagnostic) {
+            return DIAGNOSTIC;
+        } else if (value instanceof ProcQuality) {
+            return QUALITY;
+        } else if (value != null && value.getClass().isEnum()) {
+            // as in the xml form
+            return STRING;
+        } else {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private byte[] buffer = new byte[1024];
+
+        private Writer(OutputStream stream) {
+            out = new DataOutputStream(stream instanceof BufferedOutputStream || stream instanceof ByteArrayOutputStream
+                    ? stream : new BufferedOutputStream(stream, 16384));
+        }
+
+        private void header() throws IOException {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+        }
+
+        private void writeSet(InformationSet info) throws IOException {
+            List<Information<?>> items = info.items();
+            int n = 0;
+            for (Information<?> item : items) {
+                if (tag(item.value) != UNSUPPORTED) {
+                    ++n;
+                }
+            }
+            writeSize(n);
+            for (Information<?> item : items) {
+                byte tag = tag(item.value);
+                if (tag != UNSUPPORTED) {
+                    out.writeByte(tag);
+                    writeString(item.name);
+                    write(tag, item.value);
+                }
+            }
+        }
+
+        private void write(byte tag, Object value) throws IOException {
+            switch (tag) {
+                case SUBSET:
+                    writeSet((InformationSet) value);
+                    break;
+                case BOOLEAN:
+                    out.writeBoolean((Boolean) value);
+                    break;
+                case INTEGER:
+                    out.writeInt((Integer) value);
+                    break;
+                case DOUBLE:
+                    out.writeDouble((Double) value);
+                    break;
+                case STRING:
+                    writeString(value.toString());
+                    break;
+                case BOOLEANS: {
+                    boolean[] b = (boolean[]) value;
+                    writeSize(b.length);
+                    for (int i = 0; i < b.length; ++i) {
+                        out.writeBoolean(b[i]);
+                    }
+                    break;
+                }
+                case INTEGERS: {
+                    int[] v = (int[]) value;
+                    writeSize(v.length);
+                    ByteBuffer bb = buffer(4 * v.length);
+                    bb.asIntBuffer().put(v);
+                    out.write(buffer, 0, 4 * v.length);
+                    break;
+                }
+                case DOUBLES: {
+                    double[] d = (double[]) value;
+                    writeSize(d.length);
+                    writeDoubles(d, d.length);
+                    break;
+                }
+                case STRINGS: {
+                    String[] s = (String[]) value;
+                    writeSize(s.length);
+                    for (int i = 0; i < s.length; ++i) {
+                        writeString(s[i]);
+                    }
+                    break;
+                }
+                case TSDATA:
+                    writeTsData((TsData) value);
+                    break;
+                case PERIOD:
+                    writePeriod((TsPeriod) value);
+                    break;
+                case ALGORITHM: {
+                    AlgorithmDescriptor desc = (AlgorithmDescriptor) value;
+                    writeString(desc.family);
+                    writeString(desc.name);
+                    writeString(desc.version);
+                    break;
+                }
+                case SPAN:
+                    writeSpan((TsPeriodSelector) value);
+                    break;
+                case PARAMETER:
+                    writeParameter((Parameter) value);
+                    break;
+                case PARAMETERS: {
+                    Parameter[] p = (Parameter[]) value;
+                    writeSize(p.length);
+                    for (int i = 0; i < p.length; ++i) {
+                        out.writeBoolean(p[i] != null);
+                        if (p[i] != null) {
+                            writeParameter(p[i]);
+                        }
+                    }
+                    break;
+                }
+                case MONIKER:
+                    writeMoniker((TsMoniker) value);
+                    break;
+                case TS:
+                    writeTs((TsInformation) value);
+                    break;
+                case TSCOLLECTION: {
+                    TsCollectionInformation info = (TsCollectionInformation) value;
+                    writeString(info.name);
+                    writeMoniker(info.moniker);
+                    writeString(info.type == null ? null : info.type.name());
+                    writeMetaData(info.metaData);
+                    writeString(info.invalidDataCause);
+                    writeSize(info.items.size());
+                    for (TsInformation ts : info.items) {
+                        writeTs(ts);
+                    }
+                    break;
+                }
+                case REGITEM: {
+                    RegressionItem item = (RegressionItem) value;
+                    writeString(item.description);
+                    out.writeDouble(item.coefficient);
+                    out.writeDouble(item.stdError);
+                    out.writeDouble(item.pValue);
+                    break;
+                }
+                case TEST: {
+                    StatisticalTest test = (StatisticalTest) value;
+                    writeString(test.description);
+                    out.writeDouble(test.value);
+                    out.writeDouble(test.pvalue);
+                    break;
+                }
+                case MATRIX: {
+                    Matrix m = (Matrix) value;
+                    writeSize(m.getRowsCount());
+                    writeSize(m.getColumnsCount());
+                    writeDoubles(m.internalStorage(), m.getRowsCount() * m.getColumnsCount());
+                    break;
+                }
+                case PARAMETERINFO: {
+                    ParameterInfo p = (ParameterInfo) value;
+                    out.writeDouble(p.value);
+                    out.writeDouble(p.stde);
+                    out.writeDouble(p.pvalue);
+                    writeString(p.type.name());
+                    writeString(p.description);
+                    break;
+                }
+                case DIAGNOSTIC: {
+                    ProcDiagnostic diag = (ProcDiagnostic) value;
+                    out.writeDouble(diag.value);
+                    writeString(diag.quality.name());
+                    break;
+                }
+                case QUALITY:
+                    writeString(((ProcQuality) value).name());
+                    break;
+            }
+        }
+
+        private void writeTsData(TsData s) throws IOException {
+            writePeriod(s.getStart());
+            int n = s.getLength();
+            writeSize(n);
+            writeDoubles(s.internalStorage(), n);
+        }
+
+        private void writePeriod(TsPeriod p) throws IOException {
+            writeSize(p.getFrequency().intValue());
+            out.writeInt(p.getYear());
+            writeSize(p.getPosition());
+        }
+
+        private void writeSpan(TsPeriodSelector sel) throws IOException {
+            writeString(sel.getType().name());
+            writeDay(sel.getD0());
+            writeDay(sel.getD1());
+            out.writeInt(sel.getN0());
+            out.writeInt(sel.getN1());
+        }
+
+        private void writeDay(Day day) throws IOException {
+            out.writeBoolean(day != null);
+            if (day != null) {
+                out.writeInt(day.getId());
+            }
+        }
+
+        private void writeParameter(Parameter p) throws IOException {
+            out.writeDouble(p.getValue());
+            out.writeDouble(p.getStde());
+            writeString(p.getType().name());
+        }
+
+        private void writeMoniker(TsMoniker moniker) throws IOException {
+            out.writeBoolean(moniker != null);
+            if (moniker != null) {
+                writeString(moniker.getSource());
+                writeString(moniker.getId());
+            }
+        }
+
+        private void writeTs(TsInformation ts) throws IOException {
+            writeString(ts.name);
+            writeMoniker(ts.moniker);
+            writeString(ts.type == null ? null : ts.type.name());
+            writeMetaData(ts.metaData);
+            writeString(ts.invalidDataCause);
+            out.writeBoolean(ts.data != null);
+            if (ts.data != null) {
+                writeTsData(ts.data);
+            }
+        }
+
+        private void writeMetaData(MetaData md) throws IOException {
+            // size + 1, 0 for missing meta-data
+            writeSize(md == null ? 0 : md.size() + 1);
+            if (md != null) {
+                for (Map.Entry<String, String> entry : md.entrySet()) {
+                    writeString(entry.getKey());
+                    writeString(entry.getValue());
+                }
+            }
+        }
+
+        private void writeDoubles(double[] d, int n) throws IOException {
+            ByteBuffer bb = buffer(8 * n);
+            bb.asDoubleBuffer().put(d, 0, n);
+            out.write(buffer, 0, 8 * n);
+        }
+
+        private void writeString(String s) throws IOException {
+            if (s == null) {
+                writeSize(NULL);
+                return;
+            }
+            Integer pos = dictionary.get(s);
+            if (pos != null) {
+                writeSize(REF + pos);
+                return;
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeSize(LITERAL);
+            writeSize(bytes.length);
+            out.write(bytes);
+            if (bytes.length <= MAX_SHARED) {
+                dictionary.put(s, dictionary.size());
+            }
+        }
+
+        // unsigned variable-length integer (7 bits by byte)
+        private void writeSize(int n) throws IOException {
+            while ((n & ~0x7f) != 0) {
+                out.writeByte((n & 0x7f) | 0x80);
+                n >>>= 7;
+            }
+            out.writeByte(n);
+        }
+
+        private ByteBuffer buffer(int n) {
+            if (buffer.length < n) {
+                buffer = new byte[Math.max(n, 2 * buffer.length)];
+            }
+            return ByteBuffer.wrap(buffer);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final List<String> dictionary = new ArrayList<>();
+        private byte[] buffer = new byte[1024];
+
+        private Reader(InputStream stream) {
+            in = new DataInputStream(stream instanceof BufferedInputStream || stream instanceof ByteArrayInputStream
+                    ? stream : new BufferedInputStream(stream, 16384));
+        }
+
+        private void header() throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Invalid binary information set");
+            }
+            int version = in.readUnsignedByte();
+            if (version > VERSION) {
+                throw new IOException("Unsupported version of binary information set: " + version);
+            }
+        }
+
+        private InformationSet readSet() throws IOException {
+            InformationSet info = new InformationSet();
+            int n = readSize();
+            for (int i = 0; i < n; ++i) {
+                byte tag = in.readByte();
+                String name = readString();
+                info.add(name, read(tag));
+            }
+            return info;
+        }
+
+        private Object read(byte tag) throws IOException {
+            switch (tag) {
+                case SUBSET:
+                    return readSet();
+                case BOOLEAN:
+                    return in.readBoolean();
+                case INTEGER:
+                    return in.readInt();
+                case DOUBLE:
+                    return in.readDouble();
+                case STRING:
+                    return readString();
+                case BOOLEANS: {
+                    boolean[] b = new boolean[readSize()];
+                    for (int i = 0; i < b.length; ++i) {
+                        b[i] = in.readBoolean();
+                    }
+                    return b;
+                }
+                case INTEGERS: {
+                    int[] v = new int[readSize()];
+                    fill(4 * v.length).asIntBuffer().get(v);
+                    return v;
+                }
+                case DOUBLES:
+                    return readDoubles(readSize());
+                case STRINGS: {
+                    String[] s = new String[readSize()];
+                    for (int i = 0; i < s.length; ++i) {
+                        s[i] = readString();
+                    }
+                    return s;
+                }
+                case TSDATA:
+                    return readTsData();
+                case PERIOD:
+                    return readPeriod();
+                case ALGORITHM: {
+                    String family = readString(), name = readString(), version = readString();
+                    return new AlgorithmDescriptor(family, name, version);
+                }
+                case SPAN:
+                    return readSpan();
+                case PARAMETER:
+                    return readParameter();
+                case PARAMETERS: {
+                    Parameter[] p = new Parameter[readSize()];
+                    for (int i = 0; i < p.length; ++i) {
+                        if (in.readBoolean()) {
+                            p[i] = readParameter();
+                        }
+                    }
+                    return p;
+                }
+                case MONIKER:
+                    return readMoniker();
+                case TS:
+                    return readTs();
+                case TSCOLLECTION: {
+                    TsCollectionInformation info = new TsCollectionInformation();
+                    info.name = readString();
+                    info.moniker = readMoniker();
+                    info.type = readType();
+                    info.metaData = readMetaData();
+                    info.invalidDataCause = readString();
+                    int n = readSize();
+                    for (int i = 0; i < n; ++i) {
+                        info.items.add(readTs());
+                    }
+                    return info;
+                }
+                case REGITEM: {
+                    String desc = readString();
+                    double coeff = in.readDouble(), stde = in.readDouble(), pval = in.readDouble();
+                    return new RegressionItem(desc, coeff, stde, pval);
+                }
+                case TEST: {
+                    String desc = readString();
+                    double val = in.readDouble(), pval = in.readDouble();
+                    return new StatisticalTest(desc, val, pval);
+                }
+                case MATRIX: {
+                    int nrows = readSize(), ncols = readSize();
+                    return new Matrix(readDoubles(nrows * ncols), nrows, ncols);
+                }
+                case PARAMETERINFO: {
+                    double val = in.readDouble(), stde = in.readDouble(), pval = in.readDouble();
+                    Parameter p = new Parameter(val, ParameterType.valueOf(readString()));
+                    p.setStde(stde);
+                    return new ParameterInfo(p, pval, readString());
+                }
+                case DIAGNOSTIC: {
+                    double val = in.readDouble();
+                    return new ProcDiagnostic(val, ProcQuality.valueOf(readString()));
+                }
+                case QUALITY:
+                    return ProcQuality.valueOf(readString());
+                default:
+                    throw new IOException("Invalid binary information set (tag " + tag + ")");
+            }
+        }
+
+        private TsData readTsData() throws IOException {
+            TsPeriod start = readPeriod();
+            return new TsData(start, readDoubles(readSize()), false);
+        }
+
+        private TsPeriod readPeriod() throws IOException {
+            TsFrequency freq = TsFrequency.valueOf(readSize());
+            int year = in.readInt();
+            return new TsPeriod(freq, year, readSize());
+        }
+
+        private TsPeriodSelector readSpan() throws IOException {
+            TsPeriodSelector sel = new TsPeriodSelector();
+            sel.setType(PeriodSelectorType.valueOf(readString()));
+            sel.setD0(readDay());
+            sel.setD1(readDay());
+            sel.setN0(in.readInt());
+            sel.setN1(in.readInt());
+            return sel;
+        }
+
+        private Day readDay() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            return Day.BEG.plus(in.readInt() - Day.BEG.getId());
+        }
+
+        private Parameter readParameter() throws IOException {
+            double val = in.readDouble(), stde = in.readDouble();
+            Parameter p = new Parameter(val, ParameterType.valueOf(readString()));
+            p.setStde(stde);
+            return p;
+        }
+
+        private TsMoniker readMoniker() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            String source = readString(), id = readString();
+            return TsMoniker.create(source, id);
+        }
+
+        private TsInformation readTs() throws IOException {
+            TsInformation ts = new TsInformation();
+            ts.name = readString();
+            ts.moniker = readMoniker();
+            ts.type = readType();
+            ts.metaData = readMetaData();
+            ts.invalidDataCause = readString();
+            if (in.readBoolean()) {
+                ts.data = readTsData();
+            }
+            return ts;
+        }
+
+        private TsInformationType readType() throws IOException {
+            String type = readString();
+            return type == null ? null : TsInformationType.valueOf(type);
+        }
+
+        private MetaData readMetaData() throws IOException {
+            int n = readSize();
+            if (n == 0) {
+                return null;
+            }
+            MetaData md = new MetaData();
+            for (int i = 1; i < n; ++i) {
+                String key = readString();
+                md.put(key, readString());
+            }
+            return md;
+        }
+
+        private double[] readDoubles(int n) throws IOException {
+            double[] d = new double[n];
+            fill(8 * n).asDoubleBuffer().get(d);
+            return d;
+        }
+
+        private String readString() throws IOException {
+            int code = readSize();
+            if (code == NULL) {
+                return null;
+            } else if (code == LITERAL) {
+                int n = readSize();
+                fill(n);
+                String s = new String(buffer, 0, n, StandardCharsets.UTF_8);
+                if (n <= MAX_SHARED) {
+                    dictionary.add(s);
+                }
+                return s;
+            } else {
+                int pos = code - REF;
+                if (pos >= dictionary.size()) {
+                    throw new IOException("Invalid binary information set (string " + pos + ")");
+                }
+                return dictionary.get(pos);
+            }
+        }
+
+        private int readSize() throws IOException {
+            int n = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = in.readUnsignedByte();
+                n |= (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    if (n < 0) {
+                        break;
+                    }
+                    return n;
+                }
+            }
+            throw new IOException("Invalid binary information set (size)");
+        }
+
+        private ByteBuffer fill(int n) throws IOException {
+            if (buffer.length < n) {
+                buffer = new byte[Math.max(n, 2 * buffer.length)];
+            }
+            in.readFully(buffer, 0, n);
+            return ByteBuffer.wrap(buffer, 0, n);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import ec.tstoolkit.information.InformationSet;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Results store that keeps one (binary) file by entry in a given folder. The
+ * total size of the files is bounded: the least recently used entries are
+ * removed when the limit is exceeded. The order of use is kept between
+ * sessions through the modification times of the files.
+ * <p>
+ * File workspaces provide a dedicated folder (see
+ * FileWorkspace.getCacheFolder):
+ * <pre>
+ * SaManager.instance.setResultsStore(new FileSaResultsStore(ws.getCacheFolder().resolve("SAResults"), 256 &lt;&lt; 20));
+ * </pre>
+ *
+ * @author agent
+ */
+public class FileSaResultsStore implements ISaResultsStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSaResultsStore.class);
+    private static final String EXT = ".sar", TMP = ".tmp";
+
+    private final Path folder_;
+    private final long maxSize_;
+    // key -> size of the file, in access order
+    private final LinkedHashMap<String, Long> entries_ = new LinkedHashMap<>(16, .75f, true);
+    private long size_;
+
+    /**
+     * Creates a new store. The existing entries of the folder are re-used
+     *
+     * @param folder The folder of the store. Created if it doesn't exist
+     * @param maxSize The maximum size (in bytes) of the store
+     * @throws IOException
+     */
+    public FileSaResultsStore(Path folder, long maxSize) throws IOException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid size: " + maxSize);
+        }
+        folder_ = folder;
+        maxSize_ = maxSize;
+        Files.createDirectories(folder);
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, "*" + EXT)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        // least recently used first
+        Map<Path, FileTime> times = new HashMap<>();
+        for (Path file : files) {
+            times.put(file, Files.getLastModifiedTime(file));
+        }
+        files.sort((f0, f1) -> times.get(f0).compareTo(times.get(f1)));
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long size = Files.size(file);
+            entries_.put(name.substring(0, name.length() - EXT.length()), size);
+            size_ += size;
+        }
+        evict();
+    }
+
+    public Path getFolder() {
+        return folder_;
+    }
+
+    public long getMaxSize() {
+        return maxSize_;
+    }
+
+    /**
+     * Current size of the store
+     *
+     * @return The total size of the entries, in bytes
+     */
+    public synchronized long getSize() {
+        return size_;
+    }
+
+    /**
+     * Number of entries in the store
+     *
+     * @return
+     */
+    public synchronized int getCount() {
+        return entries_.size();
+    }
+
+    @Override
+    public InformationSet load(String key) {
+        synchronized (this) {
+            if (entries_.get(key) == null) {
+                return null;
+            }
+        }
+        Path file = file(key);
+        try {
+            InformationSet info = SaResultsSnapshot.decode(Files.readAllBytes(file));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return info;
+        } catch (IOException ex) {
+            LOGGER.warn("Invalid entry in the results store: " + file, ex);
+            remove(key);
+            return null;
+        }
+    }
+
+    @Override
+    public void store(String key, InformationSet results) {
+        Path file = file(key);
+        try {
+            byte[] bytes = SaResultsSnapshot.encode(results);
+            Path tmp = Files.createTempFile(folder_, key, TMP);
+            try {
+                Files.write(tmp, bytes);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            synchronized (this) {
+                Long old = entries_.put(key, (long) bytes.length);
+                if (old != null) {
+                    size_ -= old;
+                }
+                size_ += bytes.length;
+                evict();
+            }
+        } catch (IOException ex) {
+            LOGGER.warn("Results not stored: " + file, ex);
+        }
+    }
+
+    @Override
+    public void clear() {
+        List<String> keys;
+        synchronized (this) {
+            keys = new ArrayList<>(entries_.keySet());
+        }
+        for (String key : keys) {
+            remove(key);
+        }
+    }
+
+    private void remove(String key) {
+        synchronized (this) {
+            Long size = entries_.remove(key);
+            if (size == null) {
+                return;
+            }
+            size_ -= size;
+        }
+        delete(key);
+    }
+
+    // should be called in a synchronized block
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iter = entries_.entrySet().iterator();
+        while (size_ > maxSize_ && iter.hasNext()) {
+            Map.Entry<String, Long> entry = iter.next();
+            iter.remove();
+            size_ -= entry.getValue();
+            delete(entry.getKey());
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            Files.deleteIfExists(file(key));
+        } catch (IOException ex) {
+            LOGGER.warn("Entry of the results store not removed: " + key, ex);
+        }
+    }
+
+    private Path file(String key) {
+        return folder_.resolve(key + EXT);
+    }
+}
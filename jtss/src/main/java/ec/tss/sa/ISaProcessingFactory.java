@@ -59,6 +59,20 @@ public interface ISaProcessingFactory<S extends ISaSpecification> extends
     /// <returns></returns>
     boolean updatePointSpecification(SaItem item);
 
+    /**
+     * Creates the specification used to process a refreshed item, starting
+     * from the estimates of a previous processing (warm start). The returned
+     * specification is only used for the processing and should never replace
+     * the estimation specification of the item
+     *
+     * @param espec The estimation specification of the item
+     * @param previous The point specification of the previous processing
+     * @return The specification to be processed. espec by default
+     */
+    default ISaSpecification createWarmStartSpecification(ISaSpecification espec, ISaSpecification previous) {
+        return espec;
+    }
+
         /// <summary>
     /// Updates the descriptor with a new estimation
     /// </summary>
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import ec.tstoolkit.information.InformationSet;
+
+/**
+ * Persistent store of the results of SaItems. The entries are identified by
+ * a fingerprint of the estimation specification and of the data (see
+ * SaItem.process), so that unchanged series can be served without any
+ * re-estimation. Implementations must be thread-safe.
+ *
+ * @author agent
+ */
+public interface ISaResultsStore {
+
+    /**
+     * Retrieves stored results
+     *
+     * @param key The fingerprint of the processing
+     * @return The stored results or null if they are not available
+     */
+    InformationSet load(String key);
+
+    /**
+     * Stores the results of a processing. The store may discard entries at
+     * any time
+     *
+     * @param key The fingerprint of the processing
+     * @param results The results
+     */
+    void store(String key, InformationSet results);
+
+    /**
+     * Removes all the entries of the store
+     */
+    void clear();
+}
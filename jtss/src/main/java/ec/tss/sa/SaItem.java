@@ -38,7 +38,11 @@ import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.utilities.Arrays2;
 import ec.tstoolkit.utilities.NameManager;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  *
@@ -46,10 +50,16 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class SaItem {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaItem.class);
+
     public static final String DOMAIN_SPEC = "domainspec", ESTIMATION_SPEC = "estimationspec", POINT_SPEC = "pointspec",
             TS = "ts", QUALITY = "quality", PRIORITY = "priority", POLICY = "policy", METADATA = "metadata", NAME = "name", COMMENT = "comment";
     public static final String DIAGNOSTICS = "diagnostics";
     private static final String DIAGNOSTICS_INTERNAL = "__diagnostics";
+    // header of the lazy items: the series is frozen
+    private static final String FROZEN = "frozen";
+    // header of the lazy items: length of the series, when it is stored
+    private static final String LENGTH = "length";
 
     public static enum Status {
 
@@ -72,8 +82,13 @@ public class SaItem {
     private boolean dirty_ = true;
     private Ts ts_;
     private ISaSpecification pspec_, espec_, dspec_;
+    // point specification of the previous processing, used as starting point
+    // of the estimation (warm start). Never saved
+    private ISaSpecification wspec_;
     private boolean cacheResults_ = true;
     private volatile CompositeResults rslts_;
+    // the results have been restored from the results store
+    private boolean restored_;
     private EstimationPolicyType estimation_ = EstimationPolicyType.None;
     private Status status_ = Status.Unprocessed;
     private int priority_ = -1;
@@ -83,19 +98,37 @@ public class SaItem {
     private MetaData metaData_;
     private String name = "";
     private boolean locked_;
+    // lazy items: source of the content (series, specifications, meta-data),
+    // null once the content has been read
+    private volatile Supplier<InformationSet> source_;
+    private String tsName_;
+    private TsMoniker moniker_;
+    private boolean frozen_;
+    private int length_;
+    // the content of the lazy item couldn't be read. The item is kept unloaded
+    // and can't be saved
+    private boolean unavailable_;
 
     public SaItem makeCopy() {
         synchronized (id_) {
             SaItem n = new SaItem();
+            n.source_ = source_;
+            n.tsName_ = tsName_;
+            n.moniker_ = moniker_;
+            n.frozen_ = frozen_;
+            n.length_ = length_;
+            n.unavailable_ = unavailable_;
             n.dspec_ = dspec_;
             n.espec_ = espec_;
             n.pspec_ = pspec_;
+            n.wspec_ = wspec_;
             n.estimation_ = estimation_;
             n.locked_ = locked_;
             n.qsummary_ = qsummary_;
             n.priority_ = priority_;
             n.quality_ = quality_;
             n.rslts_ = rslts_;
+            n.restored_ = restored_;
             n.status_ = status_;
             n.ts_ = ts_;
             n.warnings_ = warnings_;
@@ -127,6 +160,10 @@ public class SaItem {
     }
 
     public SaItem newSpecification(Ts s, ISaSpecification espec, EstimationPolicyType policy) {
+        load();
+        if (source_ != null) {
+            throw new IllegalStateException("Content of the SaItem not available: " + tsName_);
+        }
         SaItem nitem = new SaItem();
         nitem.name = name;
         nitem.dspec_ = dspec_;
@@ -134,6 +171,9 @@ public class SaItem {
         if (espec != null) {
             nitem.espec_ = espec;
             nitem.estimation_ = policy;
+            if (SaManager.instance.isWarmStart() && isWarmStartPolicy(policy)) {
+                nitem.wspec_ = pspec_;
+            }
         } else {
             nitem.estimation_ = EstimationPolicyType.Complete;
         }
@@ -143,9 +183,21 @@ public class SaItem {
     }
 
     public SaItem newSpecification(ISaSpecification espec, EstimationPolicyType policy) {
+        load();
         return newSpecification(ts_, espec, policy);
     }
 
+    private static boolean isWarmStartPolicy(EstimationPolicyType policy) {
+        switch (policy) {
+            case FreeParameters:
+            case LastOutliers:
+            case Outliers:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
@@ -158,15 +210,18 @@ public class SaItem {
     }
 
     public MetaData getMetaData() {
+        load();
         return metaData_;
     }
 
     public void setMetaData(MetaData md) {
+        load();
         metaData_ = md;
         dirty_ = true;
     }
 
     public String getComment() {
+        load();
         if (metaData_ != null && metaData_.containsKey(COMMENT)) {
             return metaData_.get(COMMENT);
         }
@@ -174,6 +229,7 @@ public class SaItem {
     }
 
     public void setComment(String comment) {
+        load();
         if (metaData_ == null) {
             metaData_ = new MetaData();
         }
@@ -187,6 +243,11 @@ public class SaItem {
     }
 
     public String getName() {
+        if (source_ != null) {
+            String n = !name.isEmpty() ? name : Strings.nullToEmpty(tsName_);
+            // same as Ts.getName
+            return frozen_ ? n + " [frozen]" : n;
+        }
         return !name.isEmpty()
                 ? (ts_ != null && ts_.isFrozen() ? name + " [frozen]" : name)
                 : (ts_ != null ? ts_.getName() : "");
@@ -258,11 +319,14 @@ public class SaItem {
     }
 
     public Ts getTs() {
-
+        load();
         return ts_;
     }
 
     public TsMoniker getMoniker() {
+        if (source_ != null) {
+            return moniker_;
+        }
         return ts_.getMoniker();
     }
 
@@ -288,11 +352,13 @@ public class SaItem {
     }
 
     public ISaSpecification getEstimationSpecification() {
+        load();
         return espec_ != null ? espec_ : dspec_;
     }
 
     @Deprecated
     public ISaSpecification getActiveSpecification() {
+        load();
         synchronized (id_) {
             if (pspec_ == null) {
                 return getEstimationSpecification();
@@ -310,12 +376,18 @@ public class SaItem {
     }
 
     public ISaSpecification getPointSpecification() {
+        load();
         synchronized (id_) {
+            if (pspec_ == null && restored_) {
+                // the point specification is derived from the complete results
+                process(true);
+            }
             return pspec_;
         }
     }
 
     public void setPointSpecification(ISaSpecification pspec) {
+        load();
         pspec_ = pspec;
     }
 
@@ -334,6 +406,7 @@ public class SaItem {
     /// Reference time series
     /// </summary>
     public TsData getTsData() {
+        load();
 //        if (ts_.hasData() == TsStatus.Undefined) {
 //            ts_.load(TsInformationType.Data);
 //        }
@@ -342,6 +415,7 @@ public class SaItem {
 
     public void compress() {
         rslts_ = null;
+        restored_ = false;
     }
 
     private void update() {
@@ -361,9 +435,31 @@ public class SaItem {
         }
     }
 
+    /**
+     * Gets the results of the processing. When a results store is defined
+     * (see SaManager.setResultsStore), the results of an unchanged
+     * processing may be restored from the store. Such results only contain
+     * the selected outputs (see SaManager.getStoredItems), the diagnostics
+     * and the quality.
+     *
+     * @return The results or null if the processing failed
+     */
     public CompositeResults process() {
+        return process(false);
+    }
+
+    /**
+     * Gets the results of the processing
+     *
+     * @param complete True if the results must contain all the objects of the
+     * processing (the item is re-processed if its results have been restored
+     * from the results store)
+     * @return The results or null if the processing failed
+     */
+    public CompositeResults process(boolean complete) {
+        load();
         synchronized (id_) {
-            if (rslts_ != null || status_.isError()) {
+            if ((rslts_ != null && !(complete && restored_)) || status_.isError()) {
                 return rslts_;
             }
             if (status_ == Status.Pending) {
@@ -386,14 +482,81 @@ public class SaItem {
             return null;
         }
 
-        CompositeResults rslts = SaManager.instance.process(getEstimationSpecification(), ts_.getTsData());
+        ISaSpecification spec = getEstimationSpecification();
+        if (wspec_ != null) {
+            spec = SaManager.instance.createWarmStartSpecification(spec, wspec_);
+        }
+        TsData data = ts_.getTsData();
+        ISaResultsStore store = SaManager.instance.getResultsStore();
+        List<String> items = null;
+        String key = null;
+        if (store != null) {
+            items = SaManager.instance.getStoredItems();
+            // null if the version of the software is unknown
+            key = SaResultsSnapshot.key(spec, data, items);
+        }
+        if (key != null) {
+            InformationSet snapshot = complete ? null : store.load(key);
+            if (snapshot != null) {
+                synchronized (id_) {
+                    restore(snapshot);
+                    CompositeResults rslts = rslts_;
+                    if (!cacheResults_) {
+                        rslts_ = null;
+                    }
+                    return rslts;
+                }
+            }
+        }
+        CompositeResults rslts = SaManager.instance.process(spec, data);
+        InformationSet snapshot = null;
         synchronized (id_) {
             rslts_ = rslts;
+            restored_ = false;
             update();
+            if (key != null && status_ == Status.Valid) {
+                snapshot = SaResultsSnapshot.create(rslts, items, ProcDiagnostic.summary(qsummary_), warnings_, qsummary_);
+            }
             if (!cacheResults_) {
                 rslts_ = null;
             }
-            return rslts;
+        }
+        if (snapshot != null) {
+            store.store(key, snapshot);
+        }
+        return rslts;
+    }
+
+    private void restore(InformationSet snapshot) {
+        CompositeResults rslts = new CompositeResults();
+        InformationSet results = snapshot.getSubSet(SaResultsSnapshot.RESULTS);
+        if (results != null) {
+            rslts.put(SaResultsSnapshot.RESULTS, new ProxyResults(results, null), null);
+        }
+        qsummary_ = snapshot.getSubSet(SaResultsSnapshot.DIAGNOSTICS);
+        if (qsummary_ == null) {
+            qsummary_ = new InformationSet();
+        }
+        String[] warnings = snapshot.get(SaResultsSnapshot.WARNINGS, String[].class);
+        warnings_ = warnings == null ? Arrays2.EMPTY_STRING_ARRAY : warnings;
+        if (quality_ != ProcQuality.Accepted) {
+            quality_ = ProcQuality.valueOf(snapshot.get(SaResultsSnapshot.QUALITY, String.class));
+        }
+        rslts.put(DIAGNOSTICS_INTERNAL, new ProxyResults(qsummary_, null), DIAGNOSTICS);
+        rslts_ = rslts;
+        restored_ = true;
+        status_ = Status.Valid;
+    }
+
+    /**
+     * Checks that the current results have been restored from the results
+     * store
+     *
+     * @return
+     */
+    public boolean isRestored() {
+        synchronized (id_) {
+            return restored_;
         }
     }
 //
@@ -406,8 +569,14 @@ public class SaItem {
         return dirty_;
     }
 
+    /**
+     * Checks that the item can't be modified. The lazy items whose content
+     * can't be read are always locked
+     *
+     * @return
+     */
     public boolean isLocked() {
-        return locked_;
+        return locked_ || unavailable_;
     }
 
     public void setLocked(boolean value) {
@@ -431,14 +600,14 @@ public class SaItem {
         } else {
             doc.getMetaData().clear();
         }
-        return doc.unsafeFill(getTs(), getEstimationSpecification(), process());
+        return doc.unsafeFill(getTs(), getEstimationSpecification(), process(true));
     }
 
     public SaDocument<ISaSpecification> toDocument() {
         ISaSpecification xspec = getEstimationSpecification();
         ISaProcessingFactory processor = (ISaProcessingFactory) SaManager.instance.find(xspec);
         SaDocument<ISaSpecification> doc = processor.createDocument();
-        if (doc.unsafeFill(getTs(), xspec, process())) {
+        if (doc.unsafeFill(getTs(), xspec, process(true))) {
             if (!MetaData.isNullOrEmpty(metaData_)) {
                 doc.getMetaData().copy(metaData_);
             } else {
@@ -453,6 +622,7 @@ public class SaItem {
     public void unsafeFill(CompositeResults rslts) {
         synchronized (id_) {
             rslts_ = rslts;
+            restored_ = false;
             update();
             if (!cacheResults_) {
                 rslts_ = null;
@@ -460,12 +630,126 @@ public class SaItem {
         }
     }
 
+    /**
+     * Checks that the content of the item (series, specifications, meta-data)
+     * is available. The content of lazy items (see SaProcessing.read) is read
+     * when it is used for the first time
+     *
+     * @return
+     */
+    public boolean isLoaded() {
+        return source_ == null;
+    }
+
+    /**
+     * Length of the series, as far as it is known without reading the content
+     * of the item or requesting the series to its provider. The length of the
+     * lazy items is read in their header
+     *
+     * @return The length of the series, 0 if it is unknown
+     */
+    int getLengthHint() {
+        if (source_ != null) {
+            return length_;
+        }
+        Ts ts = ts_;
+        if (ts == null || ts.hasData() != TsStatus.Valid) {
+            return 0;
+        }
+        TsData s = ts.getTsData();
+        return s == null ? 0 : s.getLength();
+    }
+
+    private void load() {
+        if (source_ == null) {
+            return;
+        }
+        synchronized (id_) {
+            Supplier<InformationSet> source = source_;
+            if (source == null || unavailable_) {
+                return;
+            }
+            InformationSet info = null;
+            try {
+                info = source.get();
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Unexpected exception while loading " + tsName_, ex);
+            }
+            if (info != null && readContent(info)) {
+                tsName_ = null;
+                moniker_ = null;
+                source_ = null;
+            } else {
+                LOGGER.warn("Content of the SaItem not available: " + tsName_);
+                // the item stays unloaded, so that it is never saved with a
+                // partial content. It behaves like a series without data
+                unavailable_ = true;
+                ts_ = TsFactory.instance.createTs(tsName_, moniker_, null, null);
+            }
+        }
+    }
+
     boolean read(InformationSet info, NameManager<ISaSpecification> defaults, HashMap<String, String> equivalence) {
+        return info.get(TS, TsInformation.class) != null && readHeader(info, defaults, equivalence) && readContent(info);
+    }
+
+    /**
+     * Reads the header of a lazy item. The content will be read from the
+     * given source when it is needed
+     */
+    boolean read(InformationSet header, NameManager<ISaSpecification> defaults, HashMap<String, String> equivalence, Supplier<InformationSet> source) {
+        TsInformation tsinfo = header.get(TS, TsInformation.class);
+        if (tsinfo == null || !readHeader(header, defaults, equivalence)) {
+            return false;
+        }
+        tsName_ = tsinfo.name;
+        moniker_ = tsinfo.moniker;
+        Boolean frozen = header.get(FROZEN, Boolean.class);
+        frozen_ = frozen != null && frozen;
+        Integer length = header.get(LENGTH, Integer.class);
+        length_ = length != null ? length : 0;
+        source_ = source;
+        return true;
+    }
+
+    /**
+     * Creates the header of an item (see the lazy items in SaProcessing): its
+     * serialized form without the data of the series and without the
+     * specifications that are specific to the item
+     *
+     * @param info The serialized form of the item
+     * @return A new information set
+     */
+    static InformationSet header(InformationSet info) {
+        InformationSet header = new InformationSet();
         TsInformation tsinfo = info.get(TS, TsInformation.class);
-        if (tsinfo == null) {
+        if (tsinfo != null) {
+            header.set(TS, new TsInformation(tsinfo.name, tsinfo.moniker, TsInformationType.None));
+            if (isFrozen(tsinfo)) {
+                header.set(FROZEN, true);
+            }
+            if (tsinfo.data != null) {
+                header.set(LENGTH, tsinfo.data.getLength());
+            }
+        }
+        for (String key : new String[]{NAME, DOMAIN_SPEC, PRIORITY, QUALITY, POLICY}) {
+            Object value = info.get(key, Object.class);
+            if (value != null) {
+                header.set(key, value);
+            }
+        }
+        return header;
+    }
+
+    // same as Ts.isFrozen
+    private static boolean isFrozen(TsInformation tsinfo) {
+        if (tsinfo.moniker == null || tsinfo.moniker.getSource() != null || tsinfo.metaData == null) {
             return false;
         }
-        ts_ = TsFactory.instance.createTs(tsinfo.name, tsinfo.moniker, tsinfo.metaData, tsinfo.data);
+        return tsinfo.metaData.containsKey(MetaData.SOURCE) || tsinfo.metaData.containsKey(Ts.SOURCE_OLD);
+    }
+
+    private boolean readHeader(InformationSet info, NameManager<ISaSpecification> defaults, HashMap<String, String> equivalence) {
         String dname = info.get(DOMAIN_SPEC, String.class);
         if (dname == null) {
             return false;
@@ -481,14 +765,6 @@ public class SaItem {
                 return false;
             }
         }
-        InformationSet pspec = info.getSubSet(POINT_SPEC);
-        if (pspec != null) {
-            pspec_ = SaManager.instance.createSpecification(pspec);
-        }
-        InformationSet espec = info.getSubSet(ESTIMATION_SPEC);
-        if (espec != null) {
-            espec_ = SaManager.instance.createSpecification(espec);
-        }
         Integer p = info.get(PRIORITY, Integer.class);
         if (p != null) {
             priority_ = p;
@@ -501,16 +777,40 @@ public class SaItem {
         if (e != null) {
             estimation_ = EstimationPolicyType.valueOf(e);
         }
+        setName(info.get(NAME, String.class));
+        return true;
+    }
+
+    private boolean readContent(InformationSet info) {
+        TsInformation tsinfo = info.get(TS, TsInformation.class);
+        if (tsinfo == null) {
+            return false;
+        }
+        // the moniker of the header is kept (anonymous series)
+        TsMoniker moniker = moniker_ != null ? moniker_ : tsinfo.moniker;
+        ts_ = TsFactory.instance.createTs(tsinfo.name, moniker, tsinfo.metaData, tsinfo.data);
+        InformationSet pspec = info.getSubSet(POINT_SPEC);
+        if (pspec != null) {
+            pspec_ = SaManager.instance.createSpecification(pspec);
+        }
+        InformationSet espec = info.getSubSet(ESTIMATION_SPEC);
+        if (espec != null) {
+            espec_ = SaManager.instance.createSpecification(espec);
+        }
         InformationSet md = info.getSubSet(METADATA);
         if (md != null) {
             metaData_ = new MetaData();
             InformationSetHelper.fillMetaData(md, metaData_);
         }
-        setName(info.get(NAME, String.class));
         return true;
     }
 
     boolean write(InformationSet info, NameManager<ISaSpecification> defaults, boolean verbose) {
+        load();
+        if (source_ != null) {
+            // never replace the stored content by a partial one
+            return false;
+        }
         if (!name.isEmpty()) {
             info.set(NAME, name);
         }
@@ -21,6 +21,7 @@ import ec.satoolkit.ISaSpecification;
 import ec.tss.sa.diagnostics.MDiagnosticsFactory;
 import ec.tss.sa.diagnostics.ResidualsDiagnosticsFactory;
 import ec.tss.sa.documents.SaDocument;
+import ec.tss.sa.output.BasicConfiguration;
 import ec.tstoolkit.algorithm.*;
 import ec.tstoolkit.design.Singleton;
 import ec.tstoolkit.information.Information;
@@ -29,6 +30,9 @@ import ec.tstoolkit.modelling.ModellingDictionary;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
 import ec.tstoolkit.utilities.Jdk6;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -40,9 +44,78 @@ public final class SaManager extends AlgorithmManager<ISaSpecification, TsData,
 
     public static final SaManager instance = new SaManager();
 
+    private volatile boolean warmStart_;
+    private volatile ISaResultsStore resultsStore_;
+    private volatile List<String> storedItems_;
+
     private SaManager() {
     }
 
+    /**
+     * Checks that the refreshing policies that keep the arima orders
+     * (FreeParameters, LastOutliers, Outliers) re-estimate the models starting
+     * from the previous estimates. The initial values are only used for the
+     * processing; they are never stored in the estimation specifications.
+     * False by default
+     *
+     * @return
+     */
+    public boolean isWarmStart() {
+        return warmStart_;
+    }
+
+    public void setWarmStart(boolean warmStart) {
+        warmStart_ = warmStart;
+    }
+
+    /**
+     * Persistent store of the results of the SaItems. Null by default (no
+     * persistence). The store is not used when the version of the software
+     * is unknown (classes outside of packaged jars), unless it is given by
+     * the system property "ec.tss.sa.results.version"
+     *
+     * @return
+     */
+    public ISaResultsStore getResultsStore() {
+        return resultsStore_;
+    }
+
+    public void setResultsStore(ISaResultsStore store) {
+        resultsStore_ = store;
+    }
+
+    /**
+     * Outputs of the processing that are kept in the results store. By
+     * default, the series and the main details of the batch outputs (see
+     * BasicConfiguration)
+     *
+     * @return
+     */
+    public List<String> getStoredItems() {
+        List<String> items = storedItems_;
+        if (items != null) {
+            return items;
+        }
+        items = new ArrayList<>();
+        for (String item : BasicConfiguration.allSaSeries(true)) {
+            if (!InformationSet.hasWildCards(item)) {
+                items.add(item);
+            }
+        }
+        items.addAll(Arrays.asList(BasicConfiguration.allDetails));
+        return items;
+    }
+
+    /**
+     * Changes the outputs kept in the results store
+     *
+     * @param items The identifiers of the outputs. Null to restore the
+     * default selection
+     */
+    public void setStoredItems(List<String> items) {
+        storedItems_ = items == null ? null : Collections.unmodifiableList(new ArrayList<>(items));
+    }
+
     public <S extends ISaSpecification> void add(ISaProcessingFactory<S> fac) {
         super.addProcessor(fac);
     }
@@ -75,6 +148,15 @@ public final class SaManager extends AlgorithmManager<ISaSpecification, TsData,
         }
     }
 
+    public ISaSpecification createWarmStartSpecification(ISaSpecification espec, ISaSpecification previous) {
+        ISaProcessingFactory proc = (ISaProcessingFactory) find(espec);
+        if (proc == null) {
+            return espec;
+        } else {
+            return proc.createWarmStartSpecification(espec, previous);
+        }
+    }
+
     public ISaSpecification createSpecification(InformationSet info) {
         AlgorithmDescriptor desc = info.get(ISaSpecification.ALGORITHM, AlgorithmDescriptor.class);
         ISaProcessingFactory proc = getProcessor(desc);
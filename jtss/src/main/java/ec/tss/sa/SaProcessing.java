@@ -24,6 +24,7 @@ import ec.tstoolkit.IDocumented;
 import ec.tstoolkit.MetaData;
 import ec.tstoolkit.algorithm.AlgorithmDescriptor;
 import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.IProcessingExecutor;
 import ec.tstoolkit.information.Information;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.information.InformationSetHelper;
@@ -38,6 +39,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  *
@@ -46,6 +48,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 public final class SaProcessing extends ForwardingList<SaItem> implements IDocumented, InformationSetSerializable {
 
     public static final String METADATA = "metadata", DOMAIN_SPECS = "domainspecs", TIMESTAMP = "TimeStamp", OWNER = "Owner";
+    private static final String ITEM = "sa";
     private static final AtomicInteger g_id = new AtomicInteger(0);
     private final int m_id;
     private final AtomicInteger m_key = new AtomicInteger(0);
@@ -322,6 +325,28 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
         return false;
     }
 
+    /**
+     * Processes all the unprocessed items of this processing on the given
+     * executor. Items are scheduled by decreasing priority, then by decreasing
+     * length of the series.
+     *
+     * @param executor The executor. If null, the executor of the active
+     * processing context is used
+     * @param listener Listener notified of each processed item and of the end
+     * of the batch. May be null. Item notifications come from the worker
+     * threads
+     * @return True if all the items have been processed
+     * @see SaProcessingMonitor
+     */
+    public boolean processAll(IProcessingExecutor executor, SaEventListener listener) {
+        SaProcessingMonitor monitor = new SaProcessingMonitor(executor);
+        monitor.setProcessing(this);
+        if (listener != null) {
+            monitor.addSaEventListener(listener);
+        }
+        return monitor.process();
+    }
+
     public int getProcessedCount() {
         int n = 0;
         for (SaItem item : items_) {
@@ -391,6 +416,13 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
         return p;
     }
 
+    /**
+     * Serializes the processing
+     *
+     * @param verbose
+     * @return The serialized form of the processing or null if the content of
+     * some lazy item can't be read (see SaItem.isLoaded)
+     */
     @Override
     public InformationSet write(boolean verbose) {
         InformationSet info = new InformationSet();
@@ -402,7 +434,10 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
         NameManager<ISaSpecification> dic = new NameManager(ISaSpecification.class, "spec", null);
         int idx = 1;
         for (SaItem item : items_) {
-            item.write(info.subSet("sa" + (idx++)), dic, verbose);
+            if (!item.write(info.subSet(ITEM + (idx++)), dic, verbose)) {
+                // the content of a lazy item is not available
+                return null;
+            }
         }
         // write the default specifications
         InformationSet defspec = info.subSet(DOMAIN_SPECS);
@@ -414,6 +449,22 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
 
     @Override
     public boolean read(InformationSet info) {
+        return read(info, null);
+    }
+
+    /**
+     * Reads a processing whose items are only loaded when they are used (see
+     * SaItem.isLoaded). Opening a large processing is then limited to the
+     * reading of the (small) headers of its items
+     *
+     * @param info The serialized form of the processing, where the items are
+     * replaced by their headers (see headers)
+     * @param loader Provides the complete serialized form of an item,
+     * identified by its name in the headers. Should return null if the item
+     * can't be read. The loader may be called from any thread
+     * @return
+     */
+    public boolean read(InformationSet info, Function<String, InformationSet> loader) {
         InformationSet mset = info.getSubSet(METADATA);
         if (mset != null) {
             InformationSetHelper.fillMetaData(mset, metadata_);
@@ -438,10 +489,12 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
                 }
             }
         }
-        List<Information<InformationSet>> sas = info.select("sa*", InformationSet.class);
+        List<Information<InformationSet>> sas = info.select(ITEM + "*", InformationSet.class);
         for (Information<InformationSet> sa : sas) {
             SaItem cur = new SaItem();
-            if (sa.value != null && cur.read(sa.value, dic, equivalence)) {
+            String name = sa.name;
+            if (sa.value != null && (loader == null ? cur.read(sa.value, dic, equivalence)
+                    : cur.read(sa.value, dic, equivalence, () -> loader.apply(name)))) {
                 cur.setKey(nextKey());
                 items_.add(cur);
             } else {
@@ -451,6 +504,26 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
         return true;
     }
 
+    /**
+     * Creates the headers of a serialized processing: the items are replaced
+     * by their names, the identifiers of their series and their domain
+     * specifications (see read(InformationSet, Function))
+     *
+     * @param info The serialized form of the processing (see write)
+     * @return A new information set
+     */
+    public static InformationSet headers(InformationSet info) {
+        InformationSet headers = new InformationSet();
+        for (Information<?> item : info.items()) {
+            if (item.value instanceof InformationSet && item.name.startsWith(ITEM)) {
+                headers.set(item.name, SaItem.header((InformationSet) item.value));
+            } else {
+                headers.set(item.name, item.value);
+            }
+        }
+        return headers;
+    }
+
     public Map<Integer, List<AlgorithmDescriptor>> methods() {
         Map<Integer, List<AlgorithmDescriptor>> rslt = new HashMap<>();
         for (SaItem item : items_) {
@@ -474,7 +547,7 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
         Map<Integer, Map<AlgorithmDescriptor, RegArimaReport>> reports = new HashMap<>();
         for (SaItem item : items_) {
             if (item.isProcessed()) {
-                CompositeResults rslt = item.process();
+                CompositeResults rslt = item.process(true);
                 if (rslt != null) {
                     int freq = item.getTs().getTsData().getFrequency().intValue();
                     Map<AlgorithmDescriptor, RegArimaReport> cur = reports.get(freq);
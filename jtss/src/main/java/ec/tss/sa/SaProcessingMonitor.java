@@ -18,17 +18,38 @@
 
 package ec.tss.sa;
 
+import ec.tstoolkit.algorithm.IProcessingExecutor;
+import ec.tstoolkit.algorithm.ProcessingContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.event.EventListenerList;
 
 /**
+ * Batch processing of all the items of a SaProcessing. The items are
+ * dispatched on a processing executor (by default, the executor of the active
+ * processing context), by decreasing priority and, for a given priority, by
+ * decreasing length of the series, so that the longest estimations are
+ * started first. The lengths are taken from the items as they are (the
+ * headers of the lazy items); no series is loaded to sort the items.
+ * Listeners are notified of each processed item (from the worker threads) and
+ * of the completion of the batch.
  *
  * @author Kristof Bayens
  */
 public class SaProcessingMonitor {
     private SaProcessing processing_;
     private SaItem[] items_;
-    private boolean closing_, stop_;
-    private Thread hRun_;
+    private volatile boolean closing_, stop_;
+    private volatile Thread hRun_;
+    private IProcessingExecutor executor_;
+    private long timeout_;
+    private final AtomicInteger processed_ = new AtomicInteger(), skipped_ = new AtomicInteger();
 
     protected EventListenerList list = new EventListenerList();
 
@@ -44,6 +65,10 @@ public class SaProcessingMonitor {
         
     }
 
+    public SaProcessingMonitor(IProcessingExecutor executor) {
+        executor_ = executor;
+    }
+
     public SaProcessing getProcessing() {
         return processing_;
     }
@@ -53,22 +78,178 @@ public class SaProcessingMonitor {
         processing_ = value;
     }
 
+    public IProcessingExecutor getExecutor() {
+        return executor_ != null ? executor_ : ProcessingContext.getActiveContext().getExecutor();
+    }
+
+    public void setExecutor(IProcessingExecutor executor) {
+        executor_ = executor;
+    }
+
+    /**
+     * Maximum duration of the batch. Items that are not started when the
+     * timeout is reached are skipped (they stay unprocessed). Running
+     * estimations are not interrupted.
+     *
+     * @param timeout The timeout. 0 (default) for no limit
+     * @param unit The unit of the timeout
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        timeout_ = unit.toMillis(timeout);
+    }
+
     public boolean isRunning() {
         return hRun_ != null;
     }
 
-    public void start() {
+    /**
+     * Number of items processed in the current (or last) batch
+     * @return 
+     */
+    public int getProcessedCount() {
+        return processed_.get();
+    }
 
+    /**
+     * Number of items skipped because of a cancellation or of the timeout
+     * @return 
+     */
+    public int getSkippedCount() {
+        return skipped_.get();
     }
 
-    public void stop() {
+    /**
+     * Number of items considered in the current (or last) batch
+     * @return 
+     */
+    public int getItemsCount() {
+        SaItem[] items = items_;
+        return items == null ? 0 : items.length;
+    }
+
+    /**
+     * Starts the batch in a background thread
+     */
+    public synchronized void start() {
+        if (hRun_ != null || processing_ == null) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                process();
+            } finally {
+                hRun_ = null;
+            }
+        }, "SaProcessingMonitor-" + processing_.getDocumentId());
+        thread.setDaemon(true);
+        hRun_ = thread;
+        thread.start();
+    }
 
+    /**
+     * Requests the cancellation of the batch. Items that are not yet started
+     * are skipped.
+     */
+    public void stop() {
+        stop_ = true;
     }
 
     public void close() {
         closing_ = true;
-        if (hRun_ != null && hRun_.isAlive()) {
-            hRun_.interrupt();
+        stop_ = true;
+        Thread thread = hRun_;
+        if (thread != null && thread.isAlive()) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Processes the items of the processing in the calling thread
+     *
+     * @return True if all the items have been considered (no cancellation,
+     * no timeout), false otherwise
+     */
+    public boolean process() {
+        SaProcessing processing = processing_;
+        if (processing == null || closing_) {
+            return false;
+        }
+        stop_ = false;
+        processed_.set(0);
+        skipped_.set(0);
+        items_ = sort(processing);
+        long deadline = timeout_ > 0 ? System.currentTimeMillis() + timeout_ : Long.MAX_VALUE;
+        List<Callable<SaItem.Status>> tasks = new ArrayList<>(items_.length);
+        for (final SaItem item : items_) {
+            tasks.add(() -> {
+                if (stop_ || System.currentTimeMillis() > deadline) {
+                    skipped_.incrementAndGet();
+                    return item.getStatus();
+                }
+                try {
+                    item.process();
+                } finally {
+                    processed_.incrementAndGet();
+                    fireProcessed(item);
+                }
+                return item.getStatus();
+            });
+        }
+        try {
+            getExecutor().invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            stop_ = true;
+        } catch (ExecutionException ex) {
+            // failures of single items are reflected in their status
+        }
+        fireCompleted(processing);
+        return skipped_.get() == 0 && !stop_;
+    }
+
+    private static SaItem[] sort(SaProcessing processing) {
+        List<SaItem> items = new ArrayList<>(processing.size());
+        for (SaItem item : processing) {
+            if (!item.isProcessed()) {
+                items.add(item);
+            }
+        }
+        SaItem[] all = items.toArray(new SaItem[items.size()]);
+        final int[] lengths = new int[all.length];
+        for (int i = 0; i < all.length; ++i) {
+            // the lazy items are not loaded here (see SaItem.getLengthHint)
+            lengths[i] = all[i].getLengthHint();
+        }
+        Integer[] idx = new Integer[all.length];
+        for (int i = 0; i < idx.length; ++i) {
+            idx[i] = i;
+        }
+        Arrays.sort(idx, Comparator.<Integer>comparingInt(i -> all[i].getPriority()).reversed()
+                .thenComparing(Comparator.<Integer>comparingInt(i -> lengths[i]).reversed()));
+        SaItem[] sorted = new SaItem[all.length];
+        for (int i = 0; i < idx.length; ++i) {
+            sorted[i] = all[idx[i]];
+        }
+        return sorted;
+    }
+
+    private void fireProcessed(SaItem item) {
+        SaEventListener[] listeners = list.getListeners(SaEventListener.class);
+        if (listeners.length > 0) {
+            SaItemEvent evt = new SaItemEvent(item);
+            for (SaEventListener listener : listeners) {
+                listener.Processed(evt);
+            }
+        }
+    }
+
+    private void fireCompleted(SaProcessing processing) {
+        SaEventListener[] listeners = list.getListeners(SaEventListener.class);
+        if (listeners.length > 0) {
+            SaProcessingEvent evt = new SaProcessingEvent(processing);
+            for (SaEventListener listener : listeners) {
+                listener.Completed(evt);
+            }
         }
     }
 }
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import ec.satoolkit.ISaSpecification;
+import ec.tss.information.BinaryInformationSet;
+import ec.tstoolkit.Parameter;
+import ec.tstoolkit.algorithm.AlgorithmDescriptor;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.IProcessingFactory;
+import ec.tstoolkit.algorithm.ProcQuality;
+import ec.tstoolkit.algorithm.ProcessingContext;
+import ec.tstoolkit.information.Information;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.timeseries.calendars.ChainedGregorianCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.CompositeGregorianCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.DefaultGregorianCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.EasterRelatedDay;
+import ec.tstoolkit.timeseries.calendars.FixedDay;
+import ec.tstoolkit.timeseries.calendars.FixedWeekDay;
+import ec.tstoolkit.timeseries.calendars.GregorianCalendarManager;
+import ec.tstoolkit.timeseries.calendars.IGregorianCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.ISpecialDay;
+import ec.tstoolkit.timeseries.calendars.NationalCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.SpecialCalendarDay;
+import ec.tstoolkit.timeseries.calendars.SpecialDayEvent;
+import ec.tstoolkit.timeseries.regression.ITsVariable;
+import ec.tstoolkit.timeseries.regression.TsVariable;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.utilities.WeightedItem;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Snapshots of the results of SaItems, as stored in the results stores: the
+ * selected outputs of the processing, the quality, the warnings and the
+ * diagnostics. The snapshots are stored in their binary form (see
+ * BinaryInformationSet). Contains also the computation of their keys.
+ *
+ * @author agent
+ */
+final class SaResultsSnapshot {
+
+    static final String QUALITY = "quality", WARNINGS = "warnings", DIAGNOSTICS = "diagnostics", RESULTS = "results";
+
+    /**
+     * Version of the keys and of the snapshots. Must be incremented when their
+     * content or the numerical results of the processing change
+     */
+    static final int VERSION = 1;
+
+    /**
+     * System property that gives the version of the software when the
+     * implementation versions are not available (classes outside of packaged
+     * jars, as in development builds)
+     */
+    static final String VERSION_PROPERTY = "ec.tss.sa.results.version";
+
+    private SaResultsSnapshot() {
+    }
+
+    /**
+     * Fingerprint of a processing: SHA-256 of the specification, of the data,
+     * of the selected outputs, of the context items (calendars, user-defined
+     * variables) referred to by the specification and of the versions of the
+     * algorithm and of the software. Values that can't be stored in the binary
+     * form are identified by their class and by their string representation
+     *
+     * @param spec The estimation specification
+     * @param data The series
+     * @param items The selected outputs
+     * @return The hexadecimal form of the fingerprint or null if the version
+     * of the software is unknown (see softwareVersion). The results can't be
+     * stored in that case
+     */
+    static String key(ISaSpecification spec, TsData data, List<String> items) {
+        return key(spec, data, items, ProcessingContext.getActiveContext());
+    }
+
+    static String key(ISaSpecification spec, TsData data, List<String> items, ProcessingContext context) {
+        String software = softwareVersion();
+        if (software == null) {
+            return null;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+            InformationSet info = spec.write(true);
+            BinaryInformationSet.write(bytes, info);
+            BinaryInformationSet.writeTsData(bytes, data);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(items.size());
+            for (String item : items) {
+                out.writeUTF(item);
+            }
+            fingerprint(out, info);
+            version(out, spec, software);
+            if (context != null) {
+                SortedSet<String> names = new TreeSet<>();
+                names(info, names);
+                for (String name : names) {
+                    context(out, name, context);
+                }
+            }
+            out.flush();
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes.toByteArray());
+            StringBuilder builder = new StringBuilder(2 * digest.length);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xf, 16))
+                        .append(Character.forDigit(b & 0xf, 16));
+            }
+            return builder.toString();
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Creates the snapshot of valid results
+     *
+     * @param rslts The results
+     * @param items The selected outputs. Missing outputs and outputs that
+     * can't be serialized are skipped
+     * @param quality The quality of the processing
+     * @param warnings The warnings. May be null
+     * @param diagnostics The diagnostics. May be null
+     * @return
+     */
+    static InformationSet create(CompositeResults rslts, List<String> items, ProcQuality quality, String[] warnings, InformationSet diagnostics) {
+        InformationSet info = new InformationSet();
+        info.set(QUALITY, quality.name());
+        if (warnings != null && warnings.length > 0) {
+            info.set(WARNINGS, warnings);
+        }
+        if (diagnostics != null) {
+            info.set(DIAGNOSTICS, diagnostics);
+        }
+        InformationSet results = info.subSet(RESULTS);
+        for (String item : items) {
+            Object value = rslts.getData(item, Object.class);
+            if (value != null && BinaryInformationSet.isSupported(value)) {
+                results.set(InformationSet.split(item), value);
+            }
+        }
+        return info;
+    }
+
+    static byte[] encode(InformationSet info) {
+        return BinaryInformationSet.toBytes(info);
+    }
+
+    static InformationSet decode(byte[] bytes) throws IOException {
+        return BinaryInformationSet.fromBytes(bytes);
+    }
+
+    // values skipped by the binary form
+    private static void fingerprint(DataOutputStream out, InformationSet info) throws IOException {
+        for (Information<?> item : info.items()) {
+            if (item.value instanceof InformationSet) {
+                out.writeUTF(item.name);
+                fingerprint(out, (InformationSet) item.value);
+                out.writeByte(0);
+            } else if (!BinaryInformationSet.isSupported(item.value)) {
+                out.writeUTF(item.name);
+                out.writeUTF(item.value.getClass().getName());
+                byte[] desc = describe(item.value).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(desc.length);
+                out.write(desc);
+            }
+        }
+    }
+
+    /**
+     * Version of the software: the implementation versions of the algorithms
+     * and of this module (jar manifests) or, when one of them is missing, the
+     * value of the system property VERSION_PROPERTY. Without any version, the
+     * different builds would share the same keys
+     *
+     * @return The version or null if it is unknown
+     */
+    static String softwareVersion() {
+        String algorithms = IProcessingFactory.class.getPackage().getImplementationVersion(),
+                module = SaResultsSnapshot.class.getPackage().getImplementationVersion();
+        if (algorithms != null && module != null) {
+            return algorithms + '/' + module;
+        }
+        return System.getProperty(VERSION_PROPERTY);
+    }
+
+    private static void version(DataOutputStream out, ISaSpecification spec, String software) throws IOException {
+        out.writeInt(VERSION);
+        IProcessingFactory fac = SaManager.instance.find(spec);
+        if (fac != null) {
+            AlgorithmDescriptor desc = fac.getInformation();
+            out.writeUTF(desc.family);
+            out.writeUTF(desc.name);
+            out.writeUTF(desc.version);
+        }
+        out.writeUTF(software);
+    }
+
+    // the context items are referred to by name; all the strings of the
+    // specification are considered
+    private static void names(InformationSet info, Set<String> names) {
+        for (Information<?> item : info.items()) {
+            if (item.value instanceof InformationSet) {
+                names((InformationSet) item.value, names);
+            } else if (item.value instanceof String) {
+                names.add((String) item.value);
+            } else if (item.value instanceof String[]) {
+                for (String s : (String[]) item.value) {
+                    if (s != null) {
+                        names.add(s);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void context(DataOutputStream out, String name, ProcessingContext context) throws IOException {
+        GregorianCalendarManager calendars = context.getGregorianCalendars();
+        if (calendars != null && !name.equals(GregorianCalendarManager.DEF) && calendars.contains(name)) {
+            out.writeUTF("calendar:" + name);
+            calendar(out, name, calendars, new HashSet<>());
+        }
+        ITsVariable var = context.getTsVariable(name);
+        if (var != null) {
+            out.writeUTF("variable:" + name);
+            if (var instanceof TsVariable) {
+                TsData s = ((TsVariable) var).getTsData();
+                out.writeBoolean(s != null);
+                if (s != null) {
+                    BinaryInformationSet.writeTsData(out, s);
+                }
+            } else {
+                out.writeUTF(var.getClass().getName());
+                out.writeUTF(String.valueOf(var));
+            }
+        }
+    }
+
+    // resolved definition of a calendar (the chained and composite calendars
+    // refer to other calendars by name)
+    private static void calendar(DataOutputStream out, String name, GregorianCalendarManager calendars, Set<String> visited) throws IOException {
+        IGregorianCalendarProvider cal = calendars.get(name);
+        if (cal == null || !visited.add(name)) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeUTF(cal.getClass().getName());
+        if (cal instanceof NationalCalendarProvider) {
+            NationalCalendarProvider ncal = (NationalCalendarProvider) cal;
+            out.writeBoolean(ncal.isLongTermMeanCorrection());
+            out.writeBoolean(ncal.isJulianEaster());
+            out.writeInt(ncal.events().size());
+            for (SpecialDayEvent ev : ncal.events()) {
+                out.writeUTF(String.valueOf(ev.getStart()));
+                out.writeUTF(String.valueOf(ev.getEnd()));
+                day(out, ev.day);
+            }
+        } else if (cal instanceof ChainedGregorianCalendarProvider) {
+            ChainedGregorianCalendarProvider ccal = (ChainedGregorianCalendarProvider) cal;
+            out.writeUTF(String.valueOf(ccal.breakDay));
+            calendar(out, ccal.first, calendars, visited);
+            calendar(out, ccal.second, calendars, visited);
+        } else if (cal instanceof CompositeGregorianCalendarProvider) {
+            List<WeightedItem<String>> items = ((CompositeGregorianCalendarProvider) cal).items();
+            out.writeInt(items.size());
+            for (WeightedItem<String> item : items) {
+                out.writeDouble(item.weight);
+                calendar(out, item.item, calendars, visited);
+            }
+        } else if (cal.getClass() != DefaultGregorianCalendarProvider.class) {
+            // unknown calendar: no reuse between sessions
+            out.writeUTF(String.valueOf(cal));
+        }
+        visited.remove(name);
+    }
+
+    private static void day(DataOutputStream out, ISpecialDay day) throws IOException {
+        if (day instanceof SpecialCalendarDay) {
+            ISpecialDay sday = ((SpecialCalendarDay) day).toSpecialDay();
+            if (sday != null) {
+                day = sday;
+            }
+        }
+        out.writeUTF(day.getClass().getName());
+        out.writeDouble(day.getWeight());
+        if (day instanceof FixedDay) {
+            FixedDay fday = (FixedDay) day;
+            out.writeInt(fday.day);
+            out.writeUTF(fday.month.name());
+        } else if (day instanceof EasterRelatedDay) {
+            EasterRelatedDay eday = (EasterRelatedDay) day;
+            out.writeInt(eday.offset);
+            out.writeBoolean(eday.isJulian());
+        } else if (day instanceof FixedWeekDay) {
+            FixedWeekDay wday = (FixedWeekDay) day;
+            out.writeInt(wday.week);
+            out.writeUTF(wday.dayOfWeek.name());
+            out.writeUTF(wday.month.name());
+        } else if (day instanceof SpecialCalendarDay) {
+            SpecialCalendarDay cday = (SpecialCalendarDay) day;
+            out.writeUTF(cday.event.name());
+            out.writeInt(cday.offset);
+        } else {
+            out.writeUTF(String.valueOf(day));
+        }
+    }
+
+    private static String describe(Object value) {
+        if (value instanceof Parameter) {
+            Parameter p = (Parameter) value;
+            return p.getType() + ":" + Double.doubleToLongBits(p.getValue());
+        } else if (value instanceof Object[]) {
+            StringBuilder builder = new StringBuilder();
+            for (Object cur : (Object[]) value) {
+                builder.append('[').append(cur == null ? "" : describe(cur)).append(']');
+            }
+            return builder.toString();
+        } else {
+            return String.valueOf(value);
+        }
+    }
+}
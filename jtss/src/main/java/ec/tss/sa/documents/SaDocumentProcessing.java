@@ -18,6 +18,7 @@
 package ec.tss.sa.documents;
 
 import ec.satoolkit.ISaSpecification;
+import ec.tss.TsFactory;
 import ec.tss.documents.TsDocument;
 import ec.tss.sa.EstimationPolicyType;
 import ec.tss.sa.ISaProcessingFactory;
@@ -26,7 +27,7 @@ import ec.tstoolkit.algorithm.CompositeResults;
 import ec.tstoolkit.algorithm.IProcResults;
 import ec.tstoolkit.algorithm.IProcSpecification;
 import ec.tstoolkit.algorithm.IProcessing;
-import ec.tstoolkit.timeseries.analysis.ITsProcessing;
+import ec.tstoolkit.timeseries.analysis.IIncrementalTsProcessing;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
 
@@ -34,9 +35,12 @@ import ec.tstoolkit.timeseries.simplets.TsDomain;
  *
  * @author Jean Palate
  */
-public class SaDocumentProcessing<S extends ISaSpecification> implements ITsProcessing<CompositeResults> {
+public class SaDocumentProcessing<S extends ISaSpecification> implements IIncrementalTsProcessing<CompositeResults> {
+    private final ISaProcessingFactory<S> factory_;
+    private final S dspec_;
     private final IProcessing<TsData, CompositeResults> processing_;
     private final TsData data_;
+    private EstimationPolicyType incrementalPolicy_ = EstimationPolicyType.FreeParameters;
 
     public SaDocumentProcessing(SaDocument<S> doc, EstimationPolicyType policy) {
         ISaProcessingFactory<S> factory=(ISaProcessingFactory<S>) doc.getProcessor();
@@ -46,6 +50,23 @@ public class SaDocumentProcessing<S extends ISaSpecification> implements ITsProc
         S spec = (S)factory.createSpecification(item, null, policy, true);
         processing_=factory.generateProcessing(spec, null);
         data_ = doc.getInput().getTsData();
+        factory_ = factory;
+        dspec_ = doc.getSpecification();
+    }
+
+    /**
+     * Policy used to refresh the model of a previous vintage in the
+     * incremental processing. FreeParameters by default: the ARIMA orders,
+     * the outliers and the calendar effects of the previous vintage are kept
+     * and the parameters are re-estimated, starting from their previous values
+     * @return 
+     */
+    public EstimationPolicyType getIncrementalPolicy() {
+        return incrementalPolicy_;
+    }
+
+    public void setIncrementalPolicy(EstimationPolicyType policy) {
+        incrementalPolicy_ = policy;
     }
 
     @Override
@@ -55,5 +76,23 @@ public class SaDocumentProcessing<S extends ISaSpecification> implements ITsProc
         }
         return processing_.process(data_.fittoDomain(domain));
     }
+
+    @Override
+    public CompositeResults process(TsDomain domain, TsDomain previousDomain, CompositeResults previous) {
+        if (data_ == null) {
+            return null;
+        }
+        if (previous == null) {
+            return process(domain);
+        }
+        SaItem item = new SaItem(dspec_, TsFactory.instance.createTs("vintage", null, data_.fittoDomain(previousDomain)));
+        item.unsafeFill(previous);
+        if (!factory_.updatePointSpecification(item)) {
+            return process(domain);
+        }
+        int freq = domain.getFrequency().intValue();
+        S spec = (S) factory_.createSpecification(item, domain.drop(0, freq), incrementalPolicy_, true);
+        return factory_.generateProcessing(spec, null).process(data_.fittoDomain(domain));
+    }
    
 }
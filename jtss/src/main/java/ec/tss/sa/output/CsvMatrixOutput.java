@@ -20,15 +20,13 @@ import ec.satoolkit.ISaSpecification;
 import ec.tss.formatters.CsvInformationFormatter;
 import ec.tss.sa.documents.SaDocument;
 import ec.tstoolkit.algorithm.IOutput;
-import ec.tstoolkit.algorithm.IProcResults;
-import ec.tstoolkit.utilities.NamedObject;
 import ec.tstoolkit.utilities.Paths;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  *
@@ -37,8 +35,8 @@ import java.util.List;
 public class CsvMatrixOutput implements IOutput<SaDocument<ISaSpecification>> {
 
     CsvMatrixOutputConfiguration config_;
-    List<NamedObject<IProcResults>> infos_;
-    private File folder_;
+    private CsvInformationFormatter.ResultsMatrixWriter matrix_;
+    private File file_;
     private boolean fullName;
 
     public CsvMatrixOutput(CsvMatrixOutputConfiguration config) {
@@ -57,25 +55,37 @@ public class CsvMatrixOutput implements IOutput<SaDocument<ISaSpecification>> {
     }
 
     @Override
-    public void start(Object context) {
-        infos_ = new ArrayList<>();
-        folder_ = BasicConfiguration.folderFromContext(config_.getFolder(), context);
+    public void start(Object context) throws Exception {
+        if (matrix_ != null) {
+            // previous processing not ended
+            matrix_.close();
+            matrix_ = null;
+        }
+        File folder = BasicConfiguration.folderFromContext(config_.getFolder(), context);
+        CsvInformationFormatter fmt = new CsvInformationFormatter();
+        fmt.setFullName(fullName);
+        String file = Paths.concatenate(folder.getAbsolutePath(), config_.getFileName());
+        file_ = new File(Paths.changeExtension(file, "csv"));
+        // the records are spooled; the csv file is only written in end
+        matrix_ = fmt.createResultsWriter(config_.getItems(), true);
     }
 
     @Override
     public void end(Object context) throws Exception {
-        CsvInformationFormatter fmt = new CsvInformationFormatter();
-        fmt.setFullName(fullName);
-        String file = Paths.concatenate(folder_.getAbsolutePath(), config_.getFileName());
-        file = Paths.changeExtension(file, "csv");
-        FileOutputStream matrix = new FileOutputStream(file);
-        OutputStreamWriter writer = new OutputStreamWriter(matrix, StandardCharsets.ISO_8859_1);
-        fmt.formatResults(writer, infos_, config_.getItems(), true);
-        infos_ = null;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file_), StandardCharsets.ISO_8859_1))) {
+            matrix_.writeTo(writer);
+        } catch (Exception err) {
+            file_.delete();
+            throw err;
+        } finally {
+            matrix_.close();
+            matrix_ = null;
+        }
     }
 
     @Override
-    public void process(SaDocument<ISaSpecification> document) {
-        infos_.add(new NamedObject<>(document.getInput().getRawName(), document.getResults()));
+    public void process(SaDocument<ISaSpecification> document) throws Exception {
+        // only the requested items are kept
+        matrix_.add(document.getInput().getRawName(), document.getResults());
     }
 }
@@ -23,9 +23,11 @@ import ec.tstoolkit.algorithm.IOutput;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.utilities.Jdk6;
 import ec.tstoolkit.utilities.Paths;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.slf4j.Logger;
@@ -79,13 +81,11 @@ public class CsvOutput implements IOutput<SaDocument<ISaSpecification>> {
     }
 
     private void write(File file, List<String> names, List<TsData> s) throws Exception {
-        try (FileOutputStream matrix = new FileOutputStream(file)) {
-            try (OutputStreamWriter writer = new OutputStreamWriter(matrix, StandardCharsets.ISO_8859_1)) {
-                TsCollectionCsvFormatter fmt = new TsCollectionCsvFormatter();
-                fmt.setFullName(config_.isFullName());
-                fmt.setPresentation(config_.getPresentation());
-                fmt.write(s, names, writer);
-            }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.ISO_8859_1))) {
+            TsCollectionCsvFormatter fmt = new TsCollectionCsvFormatter();
+            fmt.setFullName(config_.isFullName());
+            fmt.setPresentation(config_.getPresentation());
+            fmt.write(s, names, writer);
         }
     }
 }
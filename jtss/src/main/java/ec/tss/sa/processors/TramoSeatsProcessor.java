@@ -191,6 +191,20 @@ public class TramoSeatsProcessor implements ISaProcessingFactory<TramoSeatsSpeci
         }
     }
 
+    @Override
+    public ISaSpecification createWarmStartSpecification(ISaSpecification espec, ISaSpecification previous) {
+        if (!(espec instanceof TramoSeatsSpecification) || !(previous instanceof TramoSeatsSpecification)) {
+            return espec;
+        }
+        TramoSeatsSpecification nspec = ((TramoSeatsSpecification) espec).clone();
+        TramoSpecification ntspec = nspec.getTramoSpecification();
+        if (ntspec.isUsingAutoModel()) {
+            return espec;
+        }
+        ntspec.getArima().setInitialParameters(((TramoSeatsSpecification) previous).getTramoSpecification().getArima());
+        return ntspec.getArima().hasInitialParameters() ? nspec : espec;
+    }
+
     @Override
     public boolean updatePointSpecification(SaItem item) {
         if (item.getStatus() != SaItem.Status.Valid) {
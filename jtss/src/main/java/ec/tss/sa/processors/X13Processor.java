@@ -113,6 +113,21 @@ public class X13Processor implements ISaProcessingFactory<X13Specification> {
         return newspec;
     }
 
+    @Override
+    public ISaSpecification createWarmStartSpecification(ISaSpecification espec, ISaSpecification previous) {
+        if (!(espec instanceof X13Specification) || !(previous instanceof X13Specification)) {
+            return espec;
+        }
+        X13Specification nspec = ((X13Specification) espec).clone();
+        RegArimaSpecification nrspec = nspec.getRegArimaSpecification(),
+                prspec = ((X13Specification) previous).getRegArimaSpecification();
+        if (nrspec == null || prspec == null || nrspec.isUsingAutoModel()) {
+            return espec;
+        }
+        nrspec.getArima().setInitialParameters(prspec.getArima());
+        return nrspec.getArima().hasInitialParameters() ? nspec : espec;
+    }
+
     @Override
     public boolean updatePointSpecification(SaItem item) {
         if (item.getStatus() != SaItem.Status.Valid) {
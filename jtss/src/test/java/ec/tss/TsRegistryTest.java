@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class TsRegistryTest {
+
+    public TsRegistryTest() {
+    }
+
+    @Test
+    public void testGetOrCreate() throws Exception {
+        TsRegistry<Object> registry = new TsRegistry<>(new ReferenceQueue<>());
+        TsMoniker moniker = TsMoniker.createProvidedMoniker("test", "1");
+        AtomicInteger ncreated = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Object>> tasks = new ArrayList<>();
+            for (int i = 0; i < 16; ++i) {
+                tasks.add(() -> registry.getOrCreate(moniker, m -> {
+                    ncreated.incrementAndGet();
+                    return new Object();
+                }));
+            }
+            List<Future<Object>> results = executor.invokeAll(tasks);
+            Object first = results.get(0).get();
+            for (Future<Object> result : results) {
+                assertSame(first, result.get());
+            }
+            assertEquals(1, ncreated.get());
+            assertTrue(registry.isAlive(moniker));
+            assertNull(registry.get(null));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPutIfAbsent() {
+        TsRegistry<Object> registry = new TsRegistry<>(new ReferenceQueue<>());
+        TsMoniker moniker = TsMoniker.createProvidedMoniker("test", "1");
+        Object first = new Object(), second = new Object();
+        assertSame(first, registry.putIfAbsent(moniker, first));
+        assertSame(first, registry.putIfAbsent(moniker, second));
+        assertSame(first, registry.get(moniker));
+    }
+
+    @Test
+    public void testProviderWithoutLock() {
+        // the provider uses the factory from another thread, for the same
+        // moniker; it would block if the factory held the lock of the moniker
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicInteger timeouts = new AtomicInteger();
+        TsMoniker moniker = TsMoniker.createProvidedMoniker(TestProvider.SOURCE, "1");
+        TsFactory.instance.add(new TestProvider() {
+            @Override
+            public boolean get(TsInformation info) {
+                try {
+                    executor.submit(() -> TsFactory.instance.createTs("other", moniker, null, null)).get(5, TimeUnit.SECONDS);
+                } catch (TimeoutException ex) {
+                    timeouts.incrementAndGet();
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+                return false;
+            }
+        });
+        try {
+            assertNotNull(TsFactory.instance.createTs("s", moniker, TsInformationType.Data));
+            assertEquals(0, timeouts.get());
+        } finally {
+            TsFactory.instance.remove(TestProvider.SOURCE);
+            executor.shutdownNow();
+        }
+    }
+
+    private static abstract class TestProvider implements ITsProvider {
+
+        static final String SOURCE = "TsRegistryTest";
+
+        @Override
+        public void clearCache() {
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public boolean get(@Nonnull TsCollectionInformation info) {
+            return false;
+        }
+
+        @Override
+        public TsAsyncMode getAsyncMode() {
+            return TsAsyncMode.None;
+        }
+
+        @Override
+        public String getSource() {
+            return SOURCE;
+        }
+
+        @Override
+        public boolean queryTs(@Nonnull TsMoniker ts, @Nonnull TsInformationType type) {
+            return false;
+        }
+
+        @Override
+        public boolean queryTsCollection(@Nonnull TsMoniker collection, @Nonnull TsInformationType info) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testExpunge() throws Exception {
+        ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        TsRegistry<Object> registry = new TsRegistry<>(queue);
+        Object alive = new Object();
+        registry.put(TsMoniker.createProvidedMoniker("test", "alive"), alive);
+        for (int i = 0; i < 10; ++i) {
+            registry.put(TsMoniker.createProvidedMoniker("test", Integer.toString(i)), new Object());
+        }
+        assertEquals(11, registry.size());
+        int n = 0;
+        for (int i = 0; i < 50 && n < 10; ++i) {
+            System.gc();
+            n += TsRegistry.expunge(queue, 100);
+        }
+        // the collection of the objects can't be forced
+        assertTrue(n <= 10);
+        assertEquals(11 - n, registry.size());
+        assertEquals(n, registry.getEvictionCount());
+        assertTrue(registry.isAlive(TsMoniker.createProvidedMoniker("test", "alive")));
+        assertNotNull(alive);
+    }
+}
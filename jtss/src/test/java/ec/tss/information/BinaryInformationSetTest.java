@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.information;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.satoolkit.x13.X13Specification;
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.TsMoniker;
+import ec.tstoolkit.MetaData;
+import ec.tstoolkit.Parameter;
+import ec.tstoolkit.ParameterType;
+import ec.tstoolkit.algorithm.AlgorithmDescriptor;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.information.RegressionItem;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.Month;
+import ec.tstoolkit.timeseries.TsPeriodSelector;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class BinaryInformationSetTest {
+
+    public BinaryInformationSetTest() {
+    }
+
+    @Test
+    public void testValues() throws IOException {
+        InformationSet info = new InformationSet();
+        Matrix M = new Matrix(5, 4);
+        M.randomize();
+        info.add("m", M);
+        info.add("ts", Data.X);
+        info.add("b", new boolean[]{true, false});
+        info.add("i", new int[]{1, -5, Integer.MAX_VALUE});
+        info.add("s", new String[]{"a", null, "a"});
+        info.add("alg", new AlgorithmDescriptor("sa", "tramoseats", "0.1"));
+        Parameter p = new Parameter(.5, ParameterType.Estimated);
+        p.setStde(.1);
+        info.add("p", p);
+        info.add("ps", new Parameter[]{p, null, new Parameter()});
+        info.add("reg", new RegressionItem("td", 1.5, .2, .01));
+        info.add("type", TsInformationType.All);
+        TsPeriodSelector sel = new TsPeriodSelector();
+        sel.between(new Day(1990, Month.February, 3), new Day(2010, Month.May, 0));
+        info.subSet("sub").add("span", sel);
+
+        InformationSet ninfo = BinaryInformationSet.fromBytes(BinaryInformationSet.toBytes(info));
+        assertEquals(M, ninfo.get("m", Matrix.class));
+        assertEquals(Data.X, ninfo.get("ts", TsData.class));
+        assertTrue(Arrays.equals(new boolean[]{true, false}, ninfo.get("b", boolean[].class)));
+        assertArrayEquals(new int[]{1, -5, Integer.MAX_VALUE}, ninfo.get("i", int[].class));
+        assertArrayEquals(new String[]{"a", null, "a"}, ninfo.get("s", String[].class));
+        assertEquals(new AlgorithmDescriptor("sa", "tramoseats", "0.1"), ninfo.get("alg", AlgorithmDescriptor.class));
+        assertEquals(p, ninfo.get("p", Parameter.class));
+        assertEquals(.1, ninfo.get("p", Parameter.class).getStde(), 0);
+        assertArrayEquals(new Parameter[]{p, null, new Parameter()}, ninfo.get("ps", Parameter[].class));
+        assertEquals(.01, ninfo.get("reg", RegressionItem.class).pValue, 0);
+        // enums are written as strings
+        assertEquals("All", ninfo.get("type", String.class));
+        assertEquals(sel, ninfo.search("sub.span", TsPeriodSelector.class));
+    }
+
+    @Test
+    public void testTs() throws IOException {
+        TsCollectionInformation coll = new TsCollectionInformation(TsMoniker.create("src", "coll"), TsInformationType.Definition);
+        coll.name = "c";
+        TsInformation s1 = new TsInformation("s1", TsMoniker.create("src", "s1"), TsInformationType.All);
+        s1.data = Data.P;
+        s1.metaData = new MetaData();
+        s1.metaData.put("k", "v");
+        coll.items.add(s1);
+        coll.items.add(new TsInformation("s2", TsMoniker.create(null, null), TsInformationType.None));
+        InformationSet info = new InformationSet();
+        info.add("coll", coll);
+        info.add("s1", s1);
+
+        InformationSet ninfo = BinaryInformationSet.fromBytes(BinaryInformationSet.toBytes(info));
+        TsCollectionInformation ncoll = ninfo.get("coll", TsCollectionInformation.class);
+        assertEquals("c", ncoll.name);
+        assertEquals(coll.moniker, ncoll.moniker);
+        assertEquals(TsInformationType.Definition, ncoll.type);
+        assertEquals(2, ncoll.items.size());
+        assertEquals(Data.P, ncoll.items.get(0).data);
+        assertEquals("v", ncoll.items.get(0).metaData.get("k"));
+        assertTrue(ncoll.items.get(1).moniker.isAnonymous());
+        assertNull(ncoll.items.get(1).data);
+        assertEquals(s1.moniker, ninfo.get("s1", TsInformation.class).moniker);
+    }
+
+    @Test
+    public void testSpecifications() throws IOException {
+        for (TramoSeatsSpecification spec : TramoSeatsSpecification.allSpecifications()) {
+            InformationSet info = BinaryInformationSet.fromBytes(BinaryInformationSet.toBytes(spec.write(true)));
+            TramoSeatsSpecification nspec = new TramoSeatsSpecification();
+            assertTrue(nspec.read(info));
+            assertEquals(spec, nspec);
+        }
+        for (X13Specification spec : X13Specification.allSpecifications()) {
+            InformationSet info = BinaryInformationSet.fromBytes(BinaryInformationSet.toBytes(spec.write(true)));
+            X13Specification nspec = new X13Specification();
+            assertTrue(nspec.read(info));
+            assertEquals(spec, nspec);
+        }
+    }
+
+    @Test
+    public void testTsData() throws IOException {
+        TsData s = new TsData(TsFrequency.Monthly, 1980, 3, new double[]{1, Double.NaN, 3}, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryInformationSet.writeTsData(out, s);
+        assertEquals(s, BinaryInformationSet.readTsData(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalid() throws IOException {
+        BinaryInformationSet.fromBytes(new byte[]{1, 2, 3, 4, 5, 6});
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.ProcDiagnostic;
+import ec.tstoolkit.algorithm.ProcQuality;
+import ec.tstoolkit.algorithm.ProcessingContext;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.information.StatisticalTest;
+import ec.tstoolkit.modelling.TsVariableDescriptor;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.Month;
+import ec.tstoolkit.timeseries.calendars.ChainedGregorianCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.EasterRelatedDay;
+import ec.tstoolkit.timeseries.calendars.FixedDay;
+import ec.tstoolkit.timeseries.calendars.NationalCalendarProvider;
+import ec.tstoolkit.timeseries.regression.TsVariable;
+import ec.tstoolkit.timeseries.regression.TsVariables;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class FileSaResultsStoreTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    private Path folder;
+
+    public FileSaResultsStoreTest() {
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("sar");
+        // the tests don't use packaged jars
+        System.setProperty(SaResultsSnapshot.VERSION_PROPERTY, "test");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        System.clearProperty(SaResultsSnapshot.VERSION_PROPERTY);
+        SaManager.instance.setResultsStore(null);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
+            for (Path file : stream) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    private static InformationSet sample(int n) {
+        InformationSet info = new InformationSet();
+        info.set("s", Data.X.drop(0, Data.X.getLength() - n));
+        info.set("start", Data.X.getStart());
+        info.set("n", n);
+        info.set("ok", true);
+        info.set("warnings", new String[]{"a", null});
+        InformationSet sub = info.subSet("sub");
+        sub.set("test", new StatisticalTest("lb", 1.5, .05));
+        sub.set("diag", new ProcDiagnostic(.2, ProcQuality.Good));
+        sub.set("values", new double[]{1, Double.NaN});
+        return info;
+    }
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        FileSaResultsStore store = new FileSaResultsStore(folder, 1 << 20);
+        assertNull(store.load("a"));
+        store.store("a", sample(60));
+        InformationSet info = new FileSaResultsStore(folder, 1 << 20).load("a");
+        assertEquals(Data.X.drop(0, Data.X.getLength() - 60), info.get("s", TsData.class));
+        assertEquals(Data.X.getStart(), info.get("start", TsPeriod.class));
+        assertEquals(60, (int) info.get("n", Integer.class));
+        assertTrue(info.get("ok", Boolean.class));
+        assertArrayEquals(new String[]{"a", null}, info.get("warnings", String[].class));
+        assertEquals(.05, info.search("sub.test", StatisticalTest.class).pvalue, 0);
+        assertEquals(ProcQuality.Good, info.search("sub.diag", ProcDiagnostic.class).quality);
+        assertTrue(Double.isNaN(info.search("sub.values", double[].class)[1]));
+        store.clear();
+        assertEquals(0, store.getCount());
+        assertNull(store.load("a"));
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        FileSaResultsStore store = new FileSaResultsStore(folder, 1 << 20);
+        store.store("a", sample(100));
+        long size = store.getSize();
+        store = new FileSaResultsStore(folder, 3 * size);
+        store.store("b", sample(100));
+        store.store("c", sample(100));
+        assertNotNull(store.load("a"));
+        // b is the least recently used entry
+        store.store("d", sample(100));
+        assertEquals(3, store.getCount());
+        assertNull(store.load("b"));
+        assertNotNull(store.load("a"));
+        assertEquals(3, new FileSaResultsStore(folder, 3 * size).getCount());
+        assertEquals(1, new FileSaResultsStore(folder, size).getCount());
+    }
+
+    @Test
+    public void testSaItem() throws IOException {
+        FileSaResultsStore store = new FileSaResultsStore(folder, 1 << 24);
+        SaManager.instance.setResultsStore(store);
+        SaItem item = new SaItem(TramoSeatsSpecification.RSA5, TsFactory.instance.createTs("X", null, Data.X));
+        CompositeResults rslts = item.process();
+        assertFalse(item.isRestored());
+        assertEquals(1, store.getCount());
+
+        SaItem nitem = new SaItem(TramoSeatsSpecification.RSA5, TsFactory.instance.createTs("X", null, Data.X));
+        CompositeResults nrslts = nitem.process();
+        assertTrue(nitem.isRestored());
+        assertEquals(SaItem.Status.Valid, nitem.getStatus());
+        assertEquals(item.getQuality(), nitem.getQuality());
+        assertArrayEquals(item.getWarnings(), nitem.getWarnings());
+        assertEquals(rslts.getData("sa", TsData.class), nrslts.getData("sa", TsData.class));
+        assertEquals(rslts.getData("decomposition.s_cmp", TsData.class), nrslts.getData("decomposition.s_cmp", TsData.class));
+        assertEquals(rslts.getData("likelihood.aic", Double.class), nrslts.getData("likelihood.aic", Double.class));
+        assertEquals(item.getDiagnostics().getDictionary(), nitem.getDiagnostics().getDictionary());
+        // the point specification needs the complete results
+        assertEquals(item.getPointSpecification(), nitem.getPointSpecification());
+        assertFalse(nitem.isRestored());
+
+        // other data
+        SaItem oitem = new SaItem(TramoSeatsSpecification.RSA5, TsFactory.instance.createTs("X", null, Data.X.drop(0, 1)));
+        oitem.process();
+        assertFalse(oitem.isRestored());
+        // other specification
+        SaItem sitem = new SaItem(TramoSeatsSpecification.RSA4, TsFactory.instance.createTs("X", null, Data.X));
+        sitem.process();
+        assertFalse(sitem.isRestored());
+        assertEquals(3, store.getCount());
+    }
+
+    @Test
+    public void testUnknownVersion() throws IOException {
+        System.clearProperty(SaResultsSnapshot.VERSION_PROPERTY);
+        assumeTrue(SaResultsSnapshot.softwareVersion() == null);
+        assertNull(SaResultsSnapshot.key(TramoSeatsSpecification.RSA5, Data.X, Arrays.asList("sa")));
+        FileSaResultsStore store = new FileSaResultsStore(folder, 1 << 24);
+        SaManager.instance.setResultsStore(store);
+        SaItem item = new SaItem(TramoSeatsSpecification.RSA5, TsFactory.instance.createTs("X", null, Data.X));
+        assertNotNull(item.process());
+        assertEquals(0, store.getCount());
+    }
+
+    @Test
+    public void testVersionKey() {
+        List<String> items = Arrays.asList("sa");
+        String key = SaResultsSnapshot.key(TramoSeatsSpecification.RSA5, Data.X, items);
+        System.setProperty(SaResultsSnapshot.VERSION_PROPERTY, "other");
+        assumeTrue("other".equals(SaResultsSnapshot.softwareVersion()));
+        assertNotEquals(key, SaResultsSnapshot.key(TramoSeatsSpecification.RSA5, Data.X, items));
+    }
+
+    private static NationalCalendarProvider calendar(int day) {
+        NationalCalendarProvider cal = new NationalCalendarProvider();
+        cal.add(new FixedDay(day, Month.May));
+        cal.add(EasterRelatedDay.EasterMonday);
+        return cal;
+    }
+
+    @Test
+    public void testContextKey() {
+        ProcessingContext context = new ProcessingContext();
+        context.getGregorianCalendars().set("a", calendar(1));
+        context.getGregorianCalendars().set("b", calendar(8));
+        context.getGregorianCalendars().set("c", new ChainedGregorianCalendarProvider(context.getGregorianCalendars(),
+                "a", new Day(2000, Month.January, 0), "b"));
+        TsVariables vars = new TsVariables();
+        vars.set("x", new TsVariable(Data.X));
+        context.getTsVariableManagers().set("vars", vars);
+
+        TramoSeatsSpecification spec = TramoSeatsSpecification.RSA5.clone();
+        spec.getTramoSpecification().getRegression().getCalendar().getTradingDays().setHolidays("c");
+        spec.getTramoSpecification().getRegression().add(new TsVariableDescriptor("vars.x"));
+        List<String> items = Arrays.asList("sa");
+        String key = SaResultsSnapshot.key(spec, Data.X, items, context);
+        assertEquals(key, SaResultsSnapshot.key(spec, Data.X, items, context));
+
+        // the chained calendar refers to "b" by name
+        context.getGregorianCalendars().remove("b");
+        context.getGregorianCalendars().set("b", calendar(9));
+        String nkey = SaResultsSnapshot.key(spec, Data.X, items, context);
+        assertNotEquals(key, nkey);
+        context.getGregorianCalendars().remove("b");
+        context.getGregorianCalendars().set("b", calendar(8));
+        assertEquals(key, SaResultsSnapshot.key(spec, Data.X, items, context));
+
+        // user-defined variable
+        vars.remove("x");
+        vars.set("x", new TsVariable(Data.X.times(2)));
+        assertNotEquals(key, SaResultsSnapshot.key(spec, Data.X, items, context));
+    }
+}
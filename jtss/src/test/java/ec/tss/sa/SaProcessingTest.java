@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.TsInformation;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.MetaData;
+import ec.tstoolkit.algorithm.ProcessingExecutors;
+import ec.tstoolkit.algorithm.ProcessingMetrics;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.modelling.arima.PreprocessingModel;
+import ec.tstoolkit.modelling.arima.RegArimaEstimator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SaProcessingTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    public SaProcessingTest() {
+    }
+
+    private static SaProcessing create() {
+        SaProcessing processing = new SaProcessing();
+        processing.add(new SaItem(TramoSeatsSpecification.RSA0, TsFactory.instance.createTs("P", null, Data.P)));
+        processing.add(new SaItem(TramoSeatsSpecification.RSA5, TsFactory.instance.createTs("X", null, Data.X)));
+        processing.add(new SaItem(TramoSeatsSpecification.RSA4, TsFactory.instance.createTs("M1", null, Data.M1)));
+        processing.add(new SaItem(TramoSeatsSpecification.RSA3, TsFactory.instance.createTs("M2", null, Data.M2)));
+        return processing;
+    }
+
+    @Test
+    public void testProcessAll() {
+        SaProcessing processing = create();
+        processing.get(3).setPriority(5);
+        final List<SaItem> order = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger completed = new AtomicInteger();
+        boolean ok = processing.processAll(ProcessingExecutors.sequential(), new SaEventListener() {
+            @Override
+            public void Processed(SaItemEvent evt) {
+                order.add((SaItem) evt.getSource());
+            }
+
+            @Override
+            public void Completed(SaProcessingEvent evt) {
+                completed.incrementAndGet();
+            }
+        });
+        assertTrue(ok);
+        assertTrue(processing.isProcessed());
+        assertEquals(4, order.size());
+        assertEquals(1, completed.get());
+        // highest priority first, then longest series first
+        assertSame(processing.get(3), order.get(0));
+        for (int i = 2; i < order.size(); ++i) {
+            assertTrue(order.get(i - 1).getTsData().getLength() >= order.get(i).getTsData().getLength());
+        }
+    }
+
+    @Test
+    public void testParallel() {
+        SaProcessing processing = create();
+        SaProcessing reference = create();
+        assertTrue(processing.processAll(ProcessingExecutors.forkJoin(4), null));
+        for (int i = 0; i < processing.size(); ++i) {
+            assertEquals(reference.get(i).process().getData("sa", ec.tstoolkit.timeseries.simplets.TsData.class),
+                    processing.get(i).process().getData("sa", ec.tstoolkit.timeseries.simplets.TsData.class));
+        }
+    }
+
+    @Test
+    public void testCancel() {
+        SaProcessing processing = create();
+        final SaProcessingMonitor monitor = new SaProcessingMonitor(ProcessingExecutors.sequential());
+        monitor.setProcessing(processing);
+        monitor.addSaEventListener(new SaEventListener() {
+            @Override
+            public void Processed(SaItemEvent evt) {
+                monitor.stop();
+            }
+
+            @Override
+            public void Completed(SaProcessingEvent evt) {
+            }
+        });
+        assertFalse(monitor.process());
+        assertEquals(1, monitor.getProcessedCount());
+        assertEquals(3, monitor.getSkippedCount());
+        assertEquals(1, processing.getProcessedCount());
+    }
+
+    private static PreprocessingModel refresh(boolean warm, ProcessingMetrics metrics) {
+        SaProcessing processing = create();
+        assertTrue(processing.processAll(ProcessingExecutors.sequential(), null));
+        boolean old = SaManager.instance.isWarmStart();
+        try {
+            SaManager.instance.setWarmStart(warm);
+            processing.refresh(EstimationPolicyType.FreeParameters, false);
+        } finally {
+            SaManager.instance.setWarmStart(old);
+        }
+        SaItem item = processing.get(1);
+        // the initial values are never stored in the estimation specification
+        TramoSeatsSpecification spec = (TramoSeatsSpecification) item.getEstimationSpecification();
+        assertFalse(spec.getTramoSpecification().getArima().hasInitialParameters());
+        ProcessingMetrics prev = ProcessingMetrics.enter(metrics);
+        try {
+            return item.process().get("preprocessing", PreprocessingModel.class);
+        } finally {
+            ProcessingMetrics.exit(prev);
+        }
+    }
+
+    @Test
+    public void testLazy() {
+        SaProcessing processing = create();
+        // frozen series
+        MetaData md = new MetaData();
+        md.put(MetaData.SOURCE, "test");
+        SaItem frozen = new SaItem(TramoSeatsSpecification.RSA0, TsFactory.instance.createTs("P", md, Data.P));
+        frozen.setName("P0");
+        processing.set(0, frozen);
+        InformationSet info = processing.write(false);
+        SaProcessing eager = new SaProcessing();
+        assertTrue(eager.read(info));
+        assertEquals("P0 [frozen]", eager.get(0).getName());
+        AtomicInteger loads = new AtomicInteger();
+        SaProcessing lazy = new SaProcessing();
+        assertTrue(lazy.read(SaProcessing.headers(info), name -> {
+            loads.incrementAndGet();
+            return name.equals("sa4") ? null : info.getSubSet(name);
+        }));
+        assertEquals(4, lazy.size());
+        for (int i = 0; i < 4; ++i) {
+            assertFalse(lazy.get(i).isLoaded());
+            assertEquals(eager.get(i).getName(), lazy.get(i).getName());
+        }
+        assertEquals(TramoSeatsSpecification.RSA5, lazy.get(1).getDomainSpecification());
+        assertEquals(0, loads.get());
+        assertEquals(Data.X, lazy.get(1).getTsData());
+        assertTrue(lazy.get(1).isLoaded());
+        assertFalse(lazy.get(0).isLoaded());
+        assertEquals(1, loads.get());
+        assertEquals(eager.get(0).getName(), lazy.get(0).getName());
+        // unreadable item: it stays unloaded and it is never saved with a
+        // partial content
+        assertNotNull(lazy.get(3).getTs());
+        assertFalse(lazy.get(3).isLoaded());
+        assertTrue(lazy.get(3).isLocked());
+        assertEquals("M2", lazy.get(3).getName());
+        assertEquals(2, loads.get());
+        assertNull(lazy.write(false));
+        // the other items are loaded, without new attempt on the unreadable one
+        assertEquals(4, loads.get());
+        // the other items can still be saved
+        lazy.remove(lazy.get(3));
+        InformationSet ninfo = lazy.write(false);
+        assertNotNull(ninfo);
+        assertEquals(info.getSubSet("sa2").get(SaItem.TS, TsInformation.class).data,
+                ninfo.getSubSet("sa2").get(SaItem.TS, TsInformation.class).data);
+    }
+
+    @Test
+    public void testLazyBatch() {
+        InformationSet info = create().write(false);
+        AtomicInteger loads = new AtomicInteger();
+        SaProcessing lazy = new SaProcessing();
+        assertTrue(lazy.read(SaProcessing.headers(info), name -> {
+            loads.incrementAndGet();
+            return info.getSubSet(name);
+        }));
+        final List<SaItem> order = new ArrayList<>();
+        final List<Integer> counts = new ArrayList<>();
+        assertTrue(lazy.processAll(ProcessingExecutors.sequential(), new SaEventListener() {
+            @Override
+            public void Processed(SaItemEvent evt) {
+                order.add((SaItem) evt.getSource());
+                counts.add(loads.get());
+            }
+
+            @Override
+            public void Completed(SaProcessingEvent evt) {
+            }
+        }));
+        // the items are loaded one by one, by their own processing
+        assertEquals(Arrays.asList(1, 2, 3, 4), counts);
+        // longest series first, using the lengths stored in the headers
+        for (int i = 1; i < order.size(); ++i) {
+            assertTrue(order.get(i - 1).getTsData().getLength() >= order.get(i).getTsData().getLength());
+        }
+    }
+
+    @Test
+    public void testWarmStart() {
+        ProcessingMetrics wmetrics = new ProcessingMetrics(), cmetrics = new ProcessingMetrics();
+        PreprocessingModel warm = refresh(true, wmetrics), cold = refresh(false, cmetrics);
+        InformationSet wopt = warm.info_.getSubSet(RegArimaEstimator.OPTIMIZATION),
+                copt = cold.info_.getSubSet(RegArimaEstimator.OPTIMIZATION);
+        assertTrue(wopt.get(RegArimaEstimator.WARMSTART, Boolean.class));
+        assertFalse(copt.get(RegArimaEstimator.WARMSTART, Boolean.class));
+        assertTrue(wmetrics.getCount(ProcessingMetrics.Counter.OptimizerIterations)
+                < cmetrics.getCount(ProcessingMetrics.Counter.OptimizerIterations));
+        assertTrue(wopt.get(RegArimaEstimator.ITERATIONS, Integer.class)
+                < copt.get(RegArimaEstimator.ITERATIONS, Integer.class));
+        assertEquals(cold.estimation.getStatistics().logLikelihood, warm.estimation.getStatistics().logLikelihood, 1e-3);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa.documents;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.sa.EstimationPolicyType;
+import ec.tss.sa.SaManager;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.timeseries.analysis.DiagnosticInfo;
+import ec.tstoolkit.timeseries.analysis.RevisionHistory;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SaDocumentProcessingTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    public SaDocumentProcessingTest() {
+    }
+
+    private static SaDocumentProcessing<TramoSeatsSpecification> create() {
+        TramoSeatsDocument doc = new TramoSeatsDocument();
+        doc.setSpecification(TramoSeatsSpecification.RSA5);
+        doc.setInput(TsFactory.instance.createTs("P", null, Data.P));
+        return new SaDocumentProcessing<>(doc, EstimationPolicyType.Complete);
+    }
+
+    @Test
+    public void testIncremental() {
+        SaDocumentProcessing<TramoSeatsSpecification> processing = create();
+        TsDomain domain = Data.P.getDomain();
+        int nvintages = 36;
+        TsPeriod start = domain.getLast().minus(nvintages - 1);
+
+        RevisionHistory<CompositeResults> exact = new RevisionHistory<>(processing, domain);
+        TsData rexact = exact.tsRevision("sa", start, start);
+        RevisionHistory<CompositeResults> incremental = new RevisionHistory<>(processing, domain, 12);
+        TsData rincremental = incremental.tsRevision("sa", start, start);
+
+        assertFalse(exact.isIncremental());
+        assertTrue(incremental.isIncremental());
+        assertEquals(nvintages, exact.getFullProcessingCount());
+        assertEquals(0, exact.getIncrementalProcessingCount());
+        // complete processing at the end of each year, starting with the
+        // checkpoint that precedes the first vintage (the last vintage is the
+        // reference)
+        assertEquals(nvintages / 12 + 1, incremental.getFullProcessingCount());
+        assertEquals(nvintages - nvintages / 12, incremental.getIncrementalProcessingCount());
+        // the checkpoints are identical in both modes
+        for (int i = 11; i < nvintages; i += 12) {
+            assertEquals(rexact.get(i), rincremental.get(i), 1e-9);
+        }
+        // revisions of the first estimates (in %)
+        double dmax = 0;
+        for (int i = 0; i < nvintages; ++i) {
+            TsPeriod p = start.plus(i);
+            double re = exact.seriesRevision("sa", p, DiagnosticInfo.RelativeDifference);
+            double ri = incremental.seriesRevision("sa", p, DiagnosticInfo.RelativeDifference);
+            assertTrue(Double.isFinite(ri));
+            dmax = Math.max(dmax, Math.abs(re - ri));
+        }
+        assertTrue(dmax < 2);
+    }
+
+    @Test
+    public void testRequestOrder() {
+        SaDocumentProcessing<TramoSeatsSpecification> processing = create();
+        TsDomain domain = Data.P.getDomain();
+        TsDomain vintage = domain.drop(0, 14), other = domain.drop(0, 17);
+
+        RevisionHistory<CompositeResults> h1 = new RevisionHistory<>(processing, domain, 12);
+        TsData s1 = h1.tsInfo(vintage).getData("sa", TsData.class);
+        RevisionHistory<CompositeResults> h2 = new RevisionHistory<>(processing, domain, 12);
+        h2.tsInfo(other);
+        TsData s2 = h2.tsInfo(vintage).getData("sa", TsData.class);
+
+        assertEquals(s1.getLength(), s2.getLength());
+        for (int i = 0; i < s1.getLength(); ++i) {
+            assertEquals(s1.get(i), s2.get(i), 1e-12);
+        }
+        assertEquals(h1.getIncrementalProcessingCount(), h2.getIncrementalProcessingCount());
+    }
+}
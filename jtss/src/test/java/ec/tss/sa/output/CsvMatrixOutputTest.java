@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa.output;
+
+import data.Data;
+import ec.satoolkit.ISaSpecification;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.formatters.CsvInformationFormatter;
+import ec.tss.sa.SaManager;
+import ec.tss.sa.documents.SaDocument;
+import ec.tss.sa.documents.TramoSeatsDocument;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.algorithm.IProcResults;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.utilities.NamedObject;
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class CsvMatrixOutputTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    public CsvMatrixOutputTest() {
+    }
+
+    private static SaDocument<ISaSpecification> create(String name, TsData s, TramoSeatsSpecification spec) {
+        TramoSeatsDocument doc = new TramoSeatsDocument();
+        doc.setSpecification(spec);
+        doc.setInput(TsFactory.instance.createTs(name, null, s));
+        return (SaDocument) doc;
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        List<SaDocument<ISaSpecification>> docs = new ArrayList<>();
+        docs.add(create("P", Data.P, TramoSeatsSpecification.RSA5));
+        docs.add(create("X", Data.X, TramoSeatsSpecification.RSA0));
+        docs.add(create("M, 1", Data.M1, TramoSeatsSpecification.RSA4));
+        docs.add(create("M2", Data.M2, TramoSeatsSpecification.RSA3));
+
+        File folder = Files.createTempDirectory("csvmatrix").toFile();
+        CsvMatrixOutputConfiguration config = new CsvMatrixOutputConfiguration();
+        List<String> items = new ArrayList<>(config.getItems());
+        items.addAll(Arrays.asList("regression.*", "arima:3", "likelihood.*"));
+        config.setItems(items);
+        config.setFolder(folder);
+        config.setFileName("test");
+        CsvMatrixOutput output = new CsvMatrixOutput(config);
+        output.start(null);
+        List<NamedObject<IProcResults>> records = new ArrayList<>();
+        for (SaDocument<ISaSpecification> doc : docs) {
+            output.process(doc);
+            records.add(new NamedObject<>(doc.getInput().getRawName(), doc.getResults()));
+        }
+        output.end(null);
+
+        File file = new File(folder, "test.csv");
+        String streamed = new String(Files.readAllBytes(file.toPath()), StandardCharsets.ISO_8859_1);
+        CsvInformationFormatter fmt = new CsvInformationFormatter();
+        fmt.setFullName(config.isFullName());
+        StringWriter writer = new StringWriter();
+        fmt.formatResults(writer, records, items, true);
+        assertEquals(writer.toString(), streamed);
+        assertEquals(docs.size() + 1, streamed.split(System.lineSeparator()).length);
+        file.delete();
+        folder.delete();
+    }
+
+    @Test
+    public void testAbortedProcessing() throws Exception {
+        File folder = Files.createTempDirectory("csvmatrix").toFile();
+        CsvMatrixOutputConfiguration config = new CsvMatrixOutputConfiguration();
+        config.setFolder(folder);
+        config.setFileName("test");
+        CsvMatrixOutput output = new CsvMatrixOutput(config);
+        output.start(null);
+        output.process(create("P", Data.P, TramoSeatsSpecification.RSA0));
+        // no csv file before the end of the processing
+        File file = new File(folder, "test.csv");
+        assertFalse(file.exists());
+        // a new processing after an aborted one
+        output.start(null);
+        output.process(create("X", Data.X, TramoSeatsSpecification.RSA0));
+        output.end(null);
+        String csv = new String(Files.readAllBytes(file.toPath()), StandardCharsets.ISO_8859_1);
+        assertEquals(2, csv.split(System.lineSeparator()).length);
+        file.delete();
+        folder.delete();
+    }
+}
@@ -20,6 +20,7 @@ import ec.satoolkit.ISeriesDecomposer;
 import static ec.satoolkit.seats.IArimaDecomposer.MODEL_DECOMPOSER;
 import ec.satoolkit.seats.SeatsSpecification.ApproximationMode;
 import ec.tstoolkit.algorithm.ProcessingInformation;
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.timeseries.simplets.TsData;
@@ -52,31 +53,42 @@ public class SeatsKernel implements ISeriesDecomposer {
         }
         SeatsContext context = toolkit.getContext();
         context.check(s);
-        SeatsModel model = toolkit.getModelBuilder().build(s, info, context);
-        // step 1. Validate the current model;
-        validate(model, info, context);
+        SeatsModel model;
         IModelApproximator approximator = toolkit.getModelApproximator();
-        approximator.pretest(model, info, context);
-        approximator.startApproximation();
+        ProcessingMetrics.Timer timer = ProcessingMetrics.time("seats.model");
+        try {
+            model = toolkit.getModelBuilder().build(s, info, context);
+            // step 1. Validate the current model;
+            validate(model, info, context);
+            approximator.pretest(model, info, context);
+            approximator.startApproximation();
+        } finally {
+            timer.stop();
+        }
         // step 2. Try to decompose the model
         IArimaDecomposer decomposer = toolkit.getModelDecomposer();
         UcarimaModel ucm = null;
-        int nround = 0;
-        while (++nround <= 10) {
-            ucm = decomposer.decompose(model, info, context);
-            if (ucm == null && nround == 1) {
-                addWarning(NON_DECOMPOSABLE, model, context);
-            }
-            if (ucm != null || context.getApproximationMode() == ApproximationMode.None) {
-                break;
-            }
-            if (!approximator.approximate(model, info, context)) {
-//                info.addLog(DECOMPOSITION, "Approximation failed");
-                break;
-            } else {
-                model.setChanged(true);
-//                info.addLog(DECOMPOSITION, model.getSarima().getSpecification());
+        timer = ProcessingMetrics.time("seats.decomposition");
+        try {
+            int nround = 0;
+            while (++nround <= 10) {
+                ucm = decomposer.decompose(model, info, context);
+                if (ucm == null && nround == 1) {
+                    addWarning(NON_DECOMPOSABLE, model, context);
+                }
+                if (ucm != null || context.getApproximationMode() == ApproximationMode.None) {
+                    break;
+                }
+                if (!approximator.approximate(model, info, context)) {
+//                    info.addLog(DECOMPOSITION, "Approximation failed");
+                    break;
+                } else {
+                    model.setChanged(true);
+//                    info.addLog(DECOMPOSITION, model.getSarima().getSpecification());
+                }
             }
+        } finally {
+            timer.stop();
         }
         if (ucm == null) {
             throw new SeatsException(SeatsException.ERR_DECOMP);
@@ -85,8 +97,13 @@ public class SeatsKernel implements ISeriesDecomposer {
         results.model = model;
         results.decomposition = ucm;
 
-        results.initialComponents = toolkit.getComponentsEstimator().decompose(model, ucm, info, context);
-        results.finalComponents = toolkit.getBiasCorrector().correct(results.initialComponents, info, context);
+        timer = ProcessingMetrics.time("seats.components");
+        try {
+            results.initialComponents = toolkit.getComponentsEstimator().decompose(model, ucm, info, context);
+            results.finalComponents = toolkit.getBiasCorrector().correct(results.initialComponents, info, context);
+        } finally {
+            timer.stop();
+        }
         results.info_ = info;
         results.addProcessingInformation(context.processingLog);
         return results;
@@ -28,6 +28,9 @@ import ec.tstoolkit.maths.linearfilters.IFiniteFilter;
 public class AsymmetricEndPoints implements IEndPointsProcessor {
 
     private IFiniteFilter[] filters;
+    // weights of the filters, computed once (the end points of the seasonal
+    // filters are shared by all the decompositions)
+    private final double[][] weights;
 
     /**
      *
@@ -35,6 +38,10 @@ public class AsymmetricEndPoints implements IEndPointsProcessor {
      */
     public AsymmetricEndPoints(IFiniteFilter[] filters) {
         this.filters = filters;
+        weights = new double[filters.length][];
+        for (int i = 0; i < filters.length; ++i) {
+            weights[i] = filters[i].getWeights();
+        }
     }
 
     @Override
@@ -70,7 +77,7 @@ public class AsymmetricEndPoints implements IEndPointsProcessor {
                 plen - rlen, plen);
         int icur = istart;
         while (icur > 0) {
-            DataBlock f = new DataBlock(filters[ifilter++].getWeights());
+            DataBlock f = new DataBlock(weights[ifilter++]);
             out.set(plen - icur, f.dot(end));
             end.bshrink();
             --icur;
@@ -158,9 +158,17 @@ class DefaultExtremeValuesCorrector extends DefaultX11Algorithm
             stdev[i] = e;
         }
         int pos = nbeg;
-        while (ibeg <= iend) {
-            cur = all.range(pos, pos + 5 * freq);
-            stdev[ibeg++] = calcStdev(cur);
+        // the 5-years windows move by one year. They share the sums of squares
+        // of the years, unless calcStdev(DataBlock) is redefined
+        double[] ms = ibeg <= iend && !isStdevOverridden()
+                ? movingMeanSquares(all, pos, freq, iend - ibeg + 1) : null;
+        for (int w = 0; ibeg <= iend; ++w) {
+            if (ms != null) {
+                stdev[ibeg++] = Math.sqrt(ms[w]);
+            } else {
+                cur = all.range(pos, pos + 5 * freq);
+                stdev[ibeg++] = calcStdev(cur);
+            }
             pos += freq;
         }
         // the last block is too short...
@@ -199,6 +207,49 @@ class DefaultExtremeValuesCorrector extends DefaultX11Algorithm
         return Math.sqrt(e / (n - nm));
     }
 
+    // same computation as calcStdev(DataBlock) (before the square root) for
+    // nwindows 5-years windows, starting at pos and moving by one year
+    private double[] movingMeanSquares(DataBlock data, int pos, int freq, int nwindows) {
+        boolean mul = isMultiplicative();
+        int nyears = nwindows + 4;
+        double[] ssq = new double[nyears];
+        int[] nobs = new int[nyears];
+        for (int j = 0, i = pos; j < nyears; ++j) {
+            for (int k = 0; k < freq; ++k, ++i) {
+                double x = data.get(i);
+                if (!Double.isNaN(x)) {
+                    if (mul) {
+                        x -= 1;
+                    }
+                    ssq[j] += x * x;
+                    ++nobs[j];
+                }
+            }
+        }
+        double[] ms = new double[nwindows];
+        for (int w = 0; w < nwindows; ++w) {
+            double e = 0;
+            int n = 0;
+            for (int j = w; j < w + 5; ++j) {
+                e += ssq[j];
+                n += nobs[j];
+            }
+            ms[w] = e / n;
+        }
+        return ms;
+    }
+
+    private boolean isStdevOverridden() {
+        for (Class<?> c = getClass(); c != DefaultExtremeValuesCorrector.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("calcStdev", DataBlock.class);
+                return true;
+            } catch (NoSuchMethodException ex) {
+            }
+        }
+        return false;
+    }
+
     /**
      * Computes the corrections for a given series
      *
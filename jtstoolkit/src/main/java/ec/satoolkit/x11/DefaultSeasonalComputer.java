@@ -219,7 +219,7 @@ class DefaultSeasonalComputer extends DefaultX11Algorithm implements
         TsData s1 = fseas.process(s, rdomain);
         TsData s2;
         if (context.isPseudoAdditive()){
-            s2=s.minus(s1).plus(1);
+            s2 = TsData.computeOnIntersection(s, s1, (x, y) -> x - y + 1);
         }else{
             s2= op(s, s1);
         }
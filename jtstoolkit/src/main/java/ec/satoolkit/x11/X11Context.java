@@ -186,6 +186,74 @@ public final class X11Context {
         }
     }
 
+    /**
+     * Same as op, but the result is written in the left operand when it is
+     * possible (see TsData.applyOnIntersection)
+     *
+     * @param l The left operand. Should be a new series, which is not shared
+     * @param r The right operand
+     *
+     * @return The result (l or a new time series)
+     */
+    public final TsData opInPlace(TsData l, TsData r) {
+        if (l == null || r == null) {
+            return op(l, r);
+        }
+        if (mode != DecompositionMode.Multiplicative && mode != DecompositionMode.PseudoAdditive) {
+            return l.applyOnIntersection(r, (a, b) -> a - b);
+        } else {
+            return l.applyOnIntersection(r, (a, b) -> a / b);
+        }
+    }
+
+    /**
+     * Same as invOp, but the result is written in the left operand when it is
+     * possible (see TsData.applyOnIntersection)
+     *
+     * @param l The left operand. Should be a new series, which is not shared
+     * @param r The right operand
+     *
+     * @return The result (l or a new time series)
+     */
+    public final TsData invOpInPlace(TsData l, TsData r) {
+        if (l == null || r == null) {
+            return invOp(l, r);
+        }
+        if (mode != DecompositionMode.Multiplicative && mode != DecompositionMode.PseudoAdditive) {
+            return l.applyOnIntersection(r, (a, b) -> a + b);
+        } else {
+            return l.applyOnIntersection(r, (a, b) -> a * b);
+        }
+    }
+
+    /**
+     * Adds/multiplies successively several time series to a given series,
+     * following the decomposition mode. The missing (null) series are skipped.
+     * At most one new series is created.
+     *
+     * @param l The left operand
+     * @param r The other operands
+     *
+     * @return The result. The left operand itself if all the other operands
+     * are null
+     */
+    public final TsData invOp(TsData l, TsData... r) {
+        TsData cur = l;
+        boolean owned = false;
+        for (TsData s : r) {
+            if (s == null) {
+                continue;
+            }
+            if (owned) {
+                cur = invOpInPlace(cur, s);
+            } else {
+                cur = invOp(cur, s);
+                owned = cur != s;
+            }
+        }
+        return cur;
+    }
+
     public final TsData pseudoOp(TsData y, TsData t, TsData s) {
         TsData sa = new TsData(y.getDomain());
         int beg = t.getStart().minus(y.getStart()), end = t.getLength() + beg;
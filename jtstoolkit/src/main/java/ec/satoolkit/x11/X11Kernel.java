@@ -18,6 +18,7 @@ package ec.satoolkit.x11;
 
 import ec.satoolkit.DecompositionMode;
 import ec.satoolkit.ISeriesDecomposer;
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.timeseries.simplets.TsData;
@@ -93,12 +94,22 @@ public class X11Kernel implements ISeriesDecomposer {
         // build the modules
         info.subSet(A).set(A1, s);
 
-        stepA(info);
-        stepB(info);
-        stepC(info);
-        stepD(info);
-        stepE(info);
-        stepF(info);
+        ProcessingMetrics.Timer timer = ProcessingMetrics.time("x11.a");
+        try {
+            stepA(info);
+            timer.next("x11.b");
+            stepB(info);
+            timer.next("x11.c");
+            stepC(info);
+            timer.next("x11.d");
+            stepD(info);
+            timer.next("x11.e");
+            stepE(info);
+            timer.next("x11.f");
+            stepF(info);
+        } finally {
+            timer.stop();
+        }
 
         X11Results results = new X11Results(mode, info);
         return results;
@@ -203,7 +214,9 @@ public class X11Kernel implements ISeriesDecomposer {
 
         TsData b11;
         if (toolkit.getContext().isPseudoAdditive()) {
-            b11 = refSeries.minus(b7.times(b10.minus(1)));
+            // refSeries - b7 * (b10 - 1)
+            b11 = TsData.computeOnIntersection(b7, b10, (t, s) -> t * (s - 1))
+                    .applyOnIntersection(refSeries, (x, y) -> y - x);
         } else {
             b11 = toolkit.getContext().op(refSeries, b10);
         }
@@ -278,7 +291,10 @@ public class X11Kernel implements ISeriesDecomposer {
         if (toolkit.getContext().isPseudoAdditive()) {
             TsData b7 = info.subSet(B).get(B7, TsData.class); // trend
             TsData b13 = info.subSet(B).get(B13, TsData.class); // irregular
-            c1 = refSeries.plus(b7.times(b13.div(refCorrection).minus(b13)));
+            // refSeries + b7 * (b13 / refCorrection - b13)
+            c1 = TsData.computeOnIntersection(b13, refCorrection, (i, c) -> i / c - i)
+                    .applyOnIntersection(b7, (x, t) -> t * x)
+                    .applyOnIntersection(refSeries, (x, y) -> y + x);
         } else {
             c1 = toolkit.getContext().op(refSeries, refCorrection);
         }
@@ -310,7 +326,8 @@ public class X11Kernel implements ISeriesDecomposer {
         TsData c10 = toolkit.getSeasonalNormalizer().normalize(c10a, null);
         TsData c11;
         if (toolkit.getContext().isPseudoAdditive()) {
-            c11 = refSeries.minus(c7.times(c10.minus(1)));
+            c11 = TsData.computeOnIntersection(c7, c10, (t, s) -> t * (s - 1))
+                    .applyOnIntersection(refSeries, (x, y) -> y - x);
         } else {
             c11 = toolkit.getContext().op(refSeries, c10);
         }
@@ -380,7 +397,9 @@ public class X11Kernel implements ISeriesDecomposer {
         if (toolkit.getContext().isPseudoAdditive()) {
             TsData c7 = info.subSet(C).get(C7, TsData.class); // trend
             TsData c13 = info.subSet(C).get(C13, TsData.class); // irregular
-            d1 = refSeries.plus(c7.times(c13.div(refCorrection).minus(c13)));
+            d1 = TsData.computeOnIntersection(c13, refCorrection, (i, c) -> i / c - i)
+                    .applyOnIntersection(c7, (x, t) -> t * x)
+                    .applyOnIntersection(refSeries, (x, y) -> y + x);
         } else {
             d1 = toolkit.getContext().op(refSeries, refCorrection);
         }
@@ -409,7 +428,7 @@ public class X11Kernel implements ISeriesDecomposer {
             toolkit.getUtilities().checkPositivity(d7);
         }
         TsData d8a = toolkit.getContext().op(d1, d7);
-        TsData d8 = toolkit.getContext().invOp(d8a, refCorrection);
+        TsData d8 = toolkit.getContext().invOpInPlace(d8a, refCorrection);
 // probably a mistake in case of pseudoadditive decomposition. To See with Brian
 
 //        TsData d8 = toolkit.getContext().op(refSeries, d7);
@@ -431,7 +450,8 @@ public class X11Kernel implements ISeriesDecomposer {
         }
         TsData d11bis;
         if (toolkit.getContext().isPseudoAdditive()) {
-            d11bis = d1.minus(d7.times(d10.minus(1)));
+            d11bis = TsData.computeOnIntersection(d7, d10, (t, s) -> t * (s - 1))
+                    .applyOnIntersection(d1, (x, y) -> y - x);
         } else {
             d11bis = toolkit.getContext().op(d1, d10);
         }
@@ -454,7 +474,7 @@ public class X11Kernel implements ISeriesDecomposer {
 
         TsData d10b, d11;
         if (toolkit.getContext().isPseudoAdditive()) {
-            d10b = d12.times(d10.minus(1));
+            d10b = TsData.computeOnIntersection(d12, d10, (t, s) -> t * (s - 1));
             d11 = refSeries.minus(d10b);
         } else {
             d10b = null;
@@ -525,17 +545,14 @@ public class X11Kernel implements ISeriesDecomposer {
         TsData d13c = toolkit.getContext().invOp(d13, a8i);
 
         // add pt, pi to d11
-        TsData d11c = toolkit.getContext().invOp(d11, a8t);
-        d11c = toolkit.getContext().invOp(d11c, a8i);
         //   d11c = toolkit.getContext().invOp(d11c, a8s);
         TsData a9sa = atables.get(A9sa, TsData.class);
-
-        d11c = toolkit.getContext().invOp(d11c, a9sa);
+        TsData d11c = toolkit.getContext().invOp(d11, a8t, a8i, a9sa);
 
         //  TsData d16 = toolkit.getContext().op(a1, d11c);
         TsData d16;
         if (toolkit.getContext().isPseudoAdditive()) {
-            d16 = a1.div(d12).minus(d13).plus(1);
+            d16 = TsData.divide(a1, d12).applyOnIntersection(d13, (x, i) -> x - i + 1);
         } else {
             d16 = toolkit.getContext().op(a1, d11c);
         }
@@ -551,7 +568,7 @@ public class X11Kernel implements ISeriesDecomposer {
             TsData a1a = atables.get(A1a, TsData.class);
             TsData d16a;
             if (toolkit.getContext().isPseudoAdditive()) {
-                d16a = a1a.div(d12).minus(d13).plus(1);
+                d16a = TsData.divide(a1a, d12).applyOnIntersection(d13, (x, i) -> x - i + 1);
             } else {
                 d16a = toolkit.getContext().op(a1a, d11c);
             }
@@ -575,9 +592,7 @@ public class X11Kernel implements ISeriesDecomposer {
             // TsData a8s = atables.get(A8s, TsData.class);
             TsData a6 = atables.get(A6, TsData.class);
             TsData a7 = atables.get(A7, TsData.class);
-            TsData d16a = toolkit.getContext().invOp(d10a, a6);
-            d16a = toolkit.getContext().invOp(d16a, a7);
-            d16a = toolkit.getContext().invOp(d16a, a8s);
+            TsData d16a = toolkit.getContext().invOp(d10a, a6, a7, a8s);
             dtables.set(D16a, d16a);
         }
 
@@ -619,7 +634,7 @@ public class X11Kernel implements ISeriesDecomposer {
         TsData e3 = toolkit.getUtilities().correctSeries(d13l, c17,
                 toolkit.getContext().getMean());
         TsData e11 = toolkit.getUtilities().correctSeries(d11c, c17,
-                TsData.add(d12, TsData.subtract(a1c, e1)));
+                TsData.subtract(a1c, e1).applyOnIntersection(d12, (x, t) -> t + x));
 
         InformationSet etables = info.subSet(E);
         etables.set(E1, e1);
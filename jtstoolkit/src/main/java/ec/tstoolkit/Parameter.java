@@ -87,6 +87,23 @@ public class Parameter implements Cloneable, Comparable<Parameter> {
         return false;
     }
 
+    /**
+     * Checks that an array of parameters contains initial values
+     * @param p The array of parameters. May be null.
+     * @return True if some item of the array is an initial value
+     */
+    public static boolean hasInitialParameters(Parameter[] p) {
+        if (p == null) {
+            return false;
+        }
+        for (int i = 0; i < p.length; ++i) {
+            if (p[i] != null && p[i].type_ == ParameterType.Initial) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks that an array of parameters contains free values
      * @param p The array of parameters. May be null.
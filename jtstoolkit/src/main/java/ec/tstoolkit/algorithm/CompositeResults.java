@@ -41,6 +41,8 @@ public class CompositeResults implements IProcResults {
     }
     private final LinkedHashMap<String, Node> nodes = new LinkedHashMap<>();
     private final List<ProcessingInformation> infos = new ArrayList<>();
+    // nodes, in their insertion order (built on demand)
+    private volatile Node[] layout;
 
     public CompositeResults() {
     }
@@ -51,14 +53,26 @@ public class CompositeResults implements IProcResults {
 
     public void put(String name, IProcResults rslts, String prefix) {
         nodes.put(name, new Node(rslts, prefix));
+        layout = null;
     }
 
     public void remove(String name) {
         nodes.remove(name);
+        layout = null;
     }
 
     public void removeAll() {
         this.nodes.clear();
+        layout = null;
+    }
+
+    Node[] nodes() {
+        Node[] cur = layout;
+        if (cur == null) {
+            cur = nodes.values().toArray(new Node[nodes.size()]);
+            layout = cur;
+        }
+        return cur;
     }
 
     public int getNodesCount() {
@@ -146,42 +160,21 @@ public class CompositeResults implements IProcResults {
         return dic;
     }
 
+    /**
+     * Searches first the nodes whose prefix corresponds to the identifier (or
+     * without prefix). If it doesn't succeed, the search is less strict: we
+     * search in all the sub-results for the first item corresponding to the
+     * identifier. The resolution of the identifier is cached (see
+     * ResultsAccessor)
+     *
+     * @param <T>
+     * @param id
+     * @param tclass
+     * @return
+     */
     @Override
     public <T> T getData(String id, Class<T> tclass) {
-        for (Entry<String, Node> entry : nodes.entrySet()) {
-            Node node = entry.getValue();
-            if (node.results != null) {
-                String cid = null;
-                if (node.prefix != null) {
-                    if (InformationSet.isPrefix(id, node.prefix)) {
-                        cid = InformationSet.removePrefix(id);
-                    }
-                } else {
-                    cid = id;
-                }
-                if (cid != null && node.results.contains(cid)) {
-                    return node.results.getData(cid, tclass);
-                }
-            }
-        }
-        // if it doesn't succeed, try another strategy, less strict:
-        // we search in all the sub-results for the first item corresponding to 
-        // the identification id
-        for (Entry<String, Node> entry : nodes.entrySet()) {
-            Node node = entry.getValue();
-            if (node.results != null) {
-                String cid;
-                if (node.prefix != null && InformationSet.isPrefix(id, node.prefix)) {
-                    cid = InformationSet.removePrefix(id);
-                } else {
-                    cid = id;
-                }
-                if (cid != null && node.results.contains(cid)) {
-                    return node.results.getData(cid, tclass);
-                }
-            }
-        }
-        return null;
+        return ResultsAccessor.of(id).getData(this, tclass);
     }
 
     @Override
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.algorithm;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution service shared by the parallel parts of the processing
+ * (parallel nodes, batches...). Implementations must support nested calls:
+ * a task executed by the service may itself call invokeAll on the same
+ * service without dead-locking.
+ *
+ * @author agent
+ */
+public interface IProcessingExecutor {
+
+    /**
+     * Executes the given tasks and waits for their completion
+     *
+     * @param <T> The type of the results
+     * @param tasks The tasks
+     * @return The results, in the order of the tasks
+     * @throws InterruptedException The calling thread has been interrupted
+     * @throws ExecutionException At least one task failed. The remaining
+     * tasks have been completed
+     */
+    <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException;
+
+    /**
+     * Maximum number of tasks that can be executed concurrently
+     *
+     * @return A strictly positive number (Integer.MAX_VALUE for unbounded
+     * services)
+     */
+    int getParallelism();
+
+    /**
+     * Number of tasks waiting for a thread
+     *
+     * @return
+     */
+    int getQueuedTaskCount();
+
+    /**
+     * Number of tasks that are currently running
+     *
+     * @return
+     */
+    int getActiveTaskCount();
+
+    /**
+     * Total number of tasks completed by the service
+     *
+     * @return
+     */
+    long getCompletedTaskCount();
+
+    /**
+     * Waits until the service is idle: no task is running or waiting for a
+     * thread. The counters of the service are stable once it is idle
+     *
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return True if the service is idle, false if the timeout elapsed
+     * @throws InterruptedException The calling thread has been interrupted
+     */
+    boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException;
+}
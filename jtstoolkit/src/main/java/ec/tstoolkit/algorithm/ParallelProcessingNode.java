@@ -17,27 +17,34 @@
 package ec.tstoolkit.algorithm;
 
 import ec.tstoolkit.algorithm.IProcessing.Status;
-import ec.tstoolkit.information.InformationSet;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 /**
+ * Processing node that executes its sub-nodes concurrently. The sub-nodes are
+ * executed by the executor of the node or, if it is not defined, by the
+ * executor of the active processing context.
  *
  * @author Jean Palate
  */
 public class ParallelProcessingNode<I> implements IProcessingNode<I> {
 
-    private final int NBR_EXECUTORS = Runtime.getRuntime().availableProcessors();
     private final String name, prefix;
+    private final IProcessingExecutor executor;
 
     public ParallelProcessingNode(final String name, final String prefix) {
+        this(name, prefix, null);
+    }
+
+    public ParallelProcessingNode(final String name, final String prefix, final IProcessingExecutor executor) {
         this.name = name;
         this.prefix = prefix;
+        this.executor = executor;
     }
     private ArrayList<IProcessingNode<I>> nodes_ = new ArrayList<>();
 
@@ -54,7 +61,7 @@ public class ParallelProcessingNode<I> implements IProcessingNode<I> {
                     try {
                         return o.process(input, map);
                     } catch (Exception err) {
-                        errors.put(o.getName(), err.getMessage());
+                        errors.put(o.getName(), String.valueOf(err.getMessage()));
                         return IProcessing.Status.Invalid;
                     }
                 }
@@ -74,22 +81,26 @@ public class ParallelProcessingNode<I> implements IProcessingNode<I> {
         return prefix;
     }
 
+    public IProcessingExecutor getExecutor() {
+        return executor != null ? executor : ProcessingContext.getActiveContext().getExecutor();
+    }
+
     @Override
     public Status process(I input, Map<String, IProcResults> results) {
         CompositeResults cresults = new CompositeResults();
         final ConcurrentHashMap<String, IProcResults> map = new ConcurrentHashMap<>();
-        ExecutorService executorService = Executors.newFixedThreadPool(NBR_EXECUTORS, CustomThreadFactory.INSTANCE);
 
-        Map<String, String> errors=new ConcurrentHashMap<>();
+        Map<String, String> errors = new ConcurrentHashMap<>();
         List<Callable<IProcessing.Status>> tasks = createTasks(input, map, errors);
         try {
-            executorService.invokeAll(tasks);
+            getExecutor().invokeAll(tasks);
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
             return Status.Invalid;
+        } catch (ExecutionException ex) {
+            return Status.Invalid;
         }
 
-        executorService.shutdown();
         for (IProcessingNode<I> cur : nodes_) {
 
             String cname = cur.getName();
@@ -104,27 +115,4 @@ public class ParallelProcessingNode<I> implements IProcessingNode<I> {
         results.put(name, cresults);
         return Status.Valid;
     }
-
-    private enum CustomThreadFactory implements ThreadFactory {
-
-        INSTANCE;
-        //
-        final ThreadGroup group;
-        final AtomicInteger threadNumber = new AtomicInteger(1);
-        final String namePrefix;
-
-        private CustomThreadFactory() {
-            SecurityManager s = System.getSecurityManager();
-            group = (s != null) ? s.getThreadGroup() : Thread.currentThread().getThreadGroup();
-            namePrefix = "pool-" + CustomThreadFactory.class.getSimpleName() + "-thread-";
-        }
-
-        @Override
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
-            t.setDaemon(true);
-            t.setPriority(Thread.MIN_PRIORITY);
-            return t;
-        }
-    }
 }
@@ -41,6 +41,9 @@ public class ProcessingContext implements IModifiable {
 
     private final HashMap<Class, NameManager> map_ = new HashMap<>();
     private final static ProcessingContext[] def_ = new ProcessingContext[]{new ProcessingContext()};
+    private volatile IProcessingExecutor executor_;
+    private volatile boolean metrics_ = true;
+    private volatile boolean parallelModelling_;
 
     public ProcessingContext() {
         map_.put(TsVariables.class, new NameManager(TsVariables.class, "Variables_", new DefaultNameValidator(".")));
@@ -119,6 +122,72 @@ public class ProcessingContext implements IModifiable {
         return map_.get(tclass);
     }
 
+    /**
+     * Gets the executor used by the parallel parts of the processing
+     *
+     * @return The executor of this context or the process-wide executor if
+     * none has been defined. Never null
+     */
+    public IProcessingExecutor getExecutor() {
+        IProcessingExecutor executor = executor_;
+        return executor != null ? executor : ProcessingExecutors.getDefault();
+    }
+
+    /**
+     * Sets the executor used by the parallel parts of the processing
+     *
+     * @param executor The new executor. Null to use the process-wide executor
+     */
+    public void setExecutor(IProcessingExecutor executor) {
+        executor_ = executor;
+    }
+
+    /**
+     * Checks that the processing of the documents is instrumented (see
+     * ProcessingMetrics). True by default
+     *
+     * @return
+     */
+    public boolean isMetricsEnabled() {
+        return metrics_;
+    }
+
+    /**
+     * Enables/disables the instrumentation of the processing
+     *
+     * @param enabled
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        synchronized (def_) {
+            metrics_ = enabled;
+            if (def_[0] == this) {
+                ProcessingMetrics.setEnabled(enabled);
+            }
+        }
+    }
+
+    /**
+     * Checks that the automatic modelling of a single series evaluates its
+     * candidate models in parallel. False by default
+     *
+     * @return
+     */
+    public boolean isParallelModelling() {
+        return parallelModelling_;
+    }
+
+    /**
+     * Enables/disables the parallel evaluation of the candidate models. The
+     * selected models don't depend on this option; it only reduces the
+     * processing time of long series (the candidates are executed by the
+     * executor of this context)
+     *
+     * @param parallel
+     */
+    public void setParallelModelling(boolean parallel) {
+        parallelModelling_ = parallel;
+    }
+
     public static ProcessingContext getActiveContext() {
         synchronized (def_) {
             return def_[0];
@@ -128,6 +197,7 @@ public class ProcessingContext implements IModifiable {
     public static void setActiveContext(ProcessingContext context) {
         synchronized (def_) {
             def_[0] = context;
+            ProcessingMetrics.setEnabled(context == null || context.metrics_);
         }
     }
 
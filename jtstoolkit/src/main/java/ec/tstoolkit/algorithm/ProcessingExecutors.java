@@ -0,0 +1,390 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.algorithm;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Factory of processing executors. By default, all the processing shares a
+ * single work-stealing pool, sized on the number of available processors.
+ * The metrics bound to the calling thread (see ProcessingMetrics) are
+ * propagated to the tasks.
+ *
+ * @author agent
+ */
+public final class ProcessingExecutors {
+
+    private ProcessingExecutors() {
+    }
+
+    private static volatile IProcessingExecutor default_;
+
+    /**
+     * Process-wide executor, used when the active processing context doesn't
+     * define its own executor
+     *
+     * @return The default executor (never null)
+     */
+    public static IProcessingExecutor getDefault() {
+        IProcessingExecutor executor = default_;
+        if (executor == null) {
+            synchronized (ProcessingExecutors.class) {
+                executor = default_;
+                if (executor == null) {
+                    executor = forkJoin(Runtime.getRuntime().availableProcessors());
+                    default_ = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Changes the process-wide executor. The previous executor is not shut
+     * down (its threads are daemon threads)
+     *
+     * @param executor The new executor. Null to restore the default
+     * work-stealing pool
+     */
+    public static void setDefault(IProcessingExecutor executor) {
+        synchronized (ProcessingExecutors.class) {
+            default_ = executor;
+        }
+    }
+
+    /**
+     * Creates a new work-stealing executor
+     *
+     * @param parallelism The number of worker threads
+     * @return
+     */
+    public static IProcessingExecutor forkJoin(int parallelism) {
+        return new ForkJoinExecutor(parallelism);
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     * When virtual threads are not supported by the current runtime, a
+     * work-stealing executor is returned
+     *
+     * @return
+     */
+    public static IProcessingExecutor virtualThreads() {
+        ExecutorService service = newVirtualThreadPerTaskExecutor();
+        if (service == null) {
+            return forkJoin(Runtime.getRuntime().availableProcessors());
+        } else {
+            return new ServiceExecutor(service, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Checks that the current runtime provides virtual threads
+     *
+     * @return
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_FACTORY != null;
+    }
+
+    /**
+     * Creates an executor that executes all the tasks in the calling thread
+     *
+     * @return
+     */
+    public static IProcessingExecutor sequential() {
+        return new SequentialExecutor();
+    }
+
+    private static final Method VIRTUAL_FACTORY = virtualFactory();
+
+    private static Method virtualFactory() {
+        try {
+            return java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException | SecurityException ex) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (VIRTUAL_FACTORY == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) VIRTUAL_FACTORY.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // preview feature not enabled...
+            return null;
+        }
+    }
+
+    private static final class ForkJoinExecutor implements IProcessingExecutor {
+
+        private final ForkJoinPool pool;
+        private final LongAdder completed = new LongAdder();
+
+        private ForkJoinExecutor(int parallelism) {
+            pool = new ForkJoinPool(parallelism, WorkerThreadFactory.INSTANCE, null, false);
+        }
+
+        @Override
+        public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+            List<ForkJoinTask<T>> fjtasks = new ArrayList<>(tasks.size());
+            Thread cur = Thread.currentThread();
+            // nested calls are forked in the local queue of the worker; joining
+            // them lets the worker execute pending tasks instead of blocking
+            boolean nested = cur instanceof ForkJoinWorkerThread
+                    && ((ForkJoinWorkerThread) cur).getPool() == pool;
+            for (Callable<T> task : tasks) {
+                ForkJoinTask<T> fjtask = ForkJoinTask.adapt(counting(ProcessingMetrics.bind(task)));
+                if (nested) {
+                    fjtask.fork();
+                } else {
+                    pool.execute(fjtask);
+                }
+                fjtasks.add(fjtask);
+            }
+            return collect(fjtasks);
+        }
+
+        private <T> Callable<T> counting(final Callable<T> task) {
+            return () -> {
+                try {
+                    return task.call();
+                } finally {
+                    completed.increment();
+                }
+            };
+        }
+
+        @Override
+        public int getParallelism() {
+            return pool.getParallelism();
+        }
+
+        @Override
+        public int getQueuedTaskCount() {
+            long n = pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount();
+            return n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+        }
+
+        @Override
+        public int getActiveTaskCount() {
+            return pool.getActiveThreadCount();
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return completed.sum();
+        }
+
+        @Override
+        public boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            return pool.awaitQuiescence(timeout, unit);
+        }
+    }
+
+    private static final class ServiceExecutor implements IProcessingExecutor {
+
+        private final ExecutorService service;
+        private final int parallelism;
+        private final AtomicInteger queued = new AtomicInteger(), active = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+
+        private ServiceExecutor(ExecutorService service, int parallelism) {
+            this.service = service;
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> cur : tasks) {
+                final Callable<T> task = ProcessingMetrics.bind(cur);
+                queued.incrementAndGet();
+                futures.add(service.submit(() -> {
+                    queued.decrementAndGet();
+                    active.incrementAndGet();
+                    try {
+                        return task.call();
+                    } finally {
+                        active.decrementAndGet();
+                        completed.increment();
+                    }
+                }));
+            }
+            try {
+                return collect(futures);
+            } catch (InterruptedException ex) {
+                for (Future<T> future : futures) {
+                    future.cancel(true);
+                }
+                throw ex;
+            }
+        }
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getQueuedTaskCount() {
+            return queued.get();
+        }
+
+        @Override
+        public int getActiveTaskCount() {
+            return active.get();
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return completed.sum();
+        }
+
+        @Override
+        public boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+            return await(this, timeout, unit);
+        }
+    }
+
+    private static final class SequentialExecutor implements IProcessingExecutor {
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+
+        @Override
+        public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+            List<T> results = new ArrayList<>(tasks.size());
+            ExecutionException error = null;
+            for (Callable<T> task : tasks) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                active.incrementAndGet();
+                try {
+                    results.add(task.call());
+                } catch (Exception ex) {
+                    if (error == null) {
+                        error = new ExecutionException(ex);
+                    }
+                    results.add(null);
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+            return results;
+        }
+
+        @Override
+        public int getParallelism() {
+            return 1;
+        }
+
+        @Override
+        public int getQueuedTaskCount() {
+            return 0;
+        }
+
+        @Override
+        public int getActiveTaskCount() {
+            return active.get();
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return completed.sum();
+        }
+
+        @Override
+        public boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+            return await(this, timeout, unit);
+        }
+    }
+
+    /**
+     * Polls the counters of the executor until it is idle
+     */
+    private static boolean await(IProcessingExecutor executor, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (executor.getActiveTaskCount() > 0 || executor.getQueuedTaskCount() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * Waits for the completion of all the futures. The first failure (if any)
+     * is re-thrown once all the tasks are done
+     */
+    private static <T> List<T> collect(List<? extends Future<T>> futures) throws InterruptedException, ExecutionException {
+        List<T> results = new ArrayList<>(futures.size());
+        ExecutionException error = null;
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException ex) {
+                if (error == null) {
+                    error = ex;
+                }
+                results.add(null);
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return results;
+    }
+
+    private static final class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private static final WorkerThreadFactory INSTANCE = new WorkerThreadFactory();
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setName("pool-" + ProcessingExecutors.class.getSimpleName() + "-thread-" + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.algorithm;
+
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.information.InformationSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Instrumentation of the processing. Metrics contain counters (function
+ * evaluations, filter passes...) and the wall time spent in the different
+ * stages of the processing (modules of Tramo, steps of X11...).
+ * Metrics are bound to the current thread (see enter); the low-level
+ * routines only update the metrics of the current thread and the process-wide
+ * metrics (see global), so that the overhead is limited to a thread-local
+ * lookup and to the increment of a contention-free counter. The binding is
+ * propagated to the tasks executed by the processing executors.
+ * Nothing is counted or timed when the metrics are disabled in the active
+ * processing context (see ProcessingContext.setMetricsEnabled).
+ * Metrics are also processing results: they can be put in CompositeResults.
+ *
+ * Typical use:
+ * <pre>
+ * ProcessingMetrics metrics = new ProcessingMetrics();
+ * ProcessingMetrics prev = ProcessingMetrics.enter(metrics);
+ * try {
+ *     ...
+ *     ProcessingMetrics.Timer timer = ProcessingMetrics.time("stage");
+ *     try {
+ *         ...
+ *     } finally {
+ *         timer.stop();
+ *     }
+ * } finally {
+ *     ProcessingMetrics.exit(prev);
+ * }
+ * </pre>
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class ProcessingMetrics implements IProcResults {
+
+    public static final String METRICS = "metrics", STAGES = "stages", TIME = "time", CALLS = "calls";
+
+    public static enum Counter {
+
+        /**
+         * Evaluations of the objective functions used in the optimization
+         * procedures
+         */
+        FunctionEvaluations,
+        /**
+         * Computations of (concentrated) likelihoods of regression models
+         */
+        LikelihoodEvaluations,
+        /**
+         * Passes of the (Kalman) filters
+         */
+        FilterPasses,
+        /**
+         * Iterations of the optimization procedures
+         */
+        OptimizerIterations;
+
+        /**
+         * Identifier of the counter in the results
+         *
+         * @return
+         */
+        public String id() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final Counter[] COUNTERS = Counter.values();
+    private static final ProcessingMetrics GLOBAL = new ProcessingMetrics();
+    private static final ThreadLocal<ProcessingMetrics> CURRENT = new ThreadLocal<>();
+    private static volatile boolean enabled = true;
+
+    private final LongAdder[] counters = new LongAdder[COUNTERS.length];
+    private final ConcurrentSkipListMap<String, Stage> stages = new ConcurrentSkipListMap<>();
+
+    private static final class Stage {
+
+        final LongAdder calls = new LongAdder(), nanos = new LongAdder();
+    }
+
+    public ProcessingMetrics() {
+        for (int i = 0; i < counters.length; ++i) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Process-wide metrics. They contain the activity of all the threads,
+     * whatever the binding of the metrics
+     *
+     * @return
+     */
+    public static ProcessingMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Checks that the metrics are updated. The flag follows the active
+     * processing context (see ProcessingContext.isMetricsEnabled)
+     *
+     * @return
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Metrics bound to the current thread
+     *
+     * @return The current metrics. May be null
+     */
+    public static ProcessingMetrics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds metrics to the current thread. The previous binding must be
+     * restored by exit
+     *
+     * @param metrics The new metrics. May be null (no metrics)
+     * @return The previous binding. May be null
+     */
+    public static ProcessingMetrics enter(ProcessingMetrics metrics) {
+        ProcessingMetrics prev = CURRENT.get();
+        set(metrics);
+        return prev;
+    }
+
+    /**
+     * Restores a previous binding (see enter)
+     *
+     * @param prev The metrics returned by the corresponding call to enter
+     */
+    public static void exit(ProcessingMetrics prev) {
+        set(prev);
+    }
+
+    private static void set(ProcessingMetrics metrics) {
+        if (metrics == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(metrics);
+        }
+    }
+
+    /**
+     * Propagates the metrics of the current thread to a task that will be
+     * executed by another thread
+     *
+     * @param <T>
+     * @param task
+     * @return The given task if no metrics are bound to the current thread, a
+     * wrapper of the task otherwise
+     */
+    public static <T> Callable<T> bind(final Callable<T> task) {
+        final ProcessingMetrics metrics = CURRENT.get();
+        if (metrics == null) {
+            return task;
+        }
+        return () -> {
+            ProcessingMetrics prev = enter(metrics);
+            try {
+                return task.call();
+            } finally {
+                exit(prev);
+            }
+        };
+    }
+
+    /**
+     * Increments a counter of the current metrics (and of the global
+     * metrics). Does nothing when the metrics are disabled
+     *
+     * @param counter
+     */
+    public static void increment(Counter counter) {
+        if (!enabled) {
+            return;
+        }
+        int i = counter.ordinal();
+        GLOBAL.counters[i].increment();
+        ProcessingMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.counters[i].increment();
+        }
+    }
+
+    /**
+     * Starts a timer on a given stage. The elapsed time is added to the
+     * current metrics (and to the global metrics) when the timer is stopped.
+     * Timers must be stopped by the thread that started them. The timer
+     * doesn't record anything when the metrics are disabled.
+     *
+     * @param stage The name of the stage
+     * @return The timer
+     */
+    public static Timer time(String stage) {
+        return new Timer(enabled, CURRENT.get(), stage);
+    }
+
+    /**
+     * Gets the value of a counter
+     *
+     * @param counter
+     * @return
+     */
+    public long getCount(Counter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    /**
+     * Names of the timed stages, in alphabetical order
+     *
+     * @return
+     */
+    public String[] getStages() {
+        return stages.keySet().toArray(new String[stages.size()]);
+    }
+
+    /**
+     * Number of executions of a stage
+     *
+     * @param stage
+     * @return 0 if the stage has never been executed
+     */
+    public long getStageCalls(String stage) {
+        Stage s = stages.get(stage);
+        return s == null ? 0 : s.calls.sum();
+    }
+
+    /**
+     * Total wall time spent in a stage
+     *
+     * @param stage
+     * @return The time, in nanoseconds
+     */
+    public long getStageTime(String stage) {
+        Stage s = stages.get(stage);
+        return s == null ? 0 : s.nanos.sum();
+    }
+
+    /**
+     * Adds the execution of a stage
+     *
+     * @param stage The name of the stage
+     * @param nanos The elapsed time, in nanoseconds
+     */
+    public void addStage(String stage, long nanos) {
+        Stage s = stages.get(stage);
+        if (s == null) {
+            s = stages.computeIfAbsent(stage, k -> new Stage());
+        }
+        s.calls.increment();
+        s.nanos.add(nanos);
+    }
+
+    /**
+     * Resets all the counters and removes all the stages
+     */
+    public void reset() {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        stages.clear();
+    }
+
+    @Override
+    public boolean contains(String id) {
+        for (Counter counter : COUNTERS) {
+            if (counter.id().equals(id)) {
+                return true;
+            }
+        }
+        return stageItem(id) != null;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Map<String, Class> getDictionary() {
+        LinkedHashMap<String, Class> dic = new LinkedHashMap<>();
+        for (Counter counter : COUNTERS) {
+            dic.put(counter.id(), Integer.class);
+        }
+        for (String stage : stages.keySet()) {
+            dic.put(InformationSet.concatenate(STAGES, stage, CALLS), Integer.class);
+            dic.put(InformationSet.concatenate(STAGES, stage, TIME), Double.class);
+        }
+        return dic;
+    }
+
+    /**
+     * Counters and numbers of calls are returned as integers, times as doubles
+     * (in milliseconds)
+     *
+     * @param <T>
+     * @param id
+     * @param tclass
+     * @return
+     */
+    @Override
+    public <T> T getData(String id, Class<T> tclass) {
+        Object data = null;
+        for (Counter counter : COUNTERS) {
+            if (counter.id().equals(id)) {
+                data = toInt(getCount(counter));
+                break;
+            }
+        }
+        if (data == null) {
+            String[] item = stageItem(id);
+            if (item != null) {
+                if (item[1].equals(CALLS)) {
+                    data = toInt(getStageCalls(item[0]));
+                } else {
+                    data = getStageTime(item[0]) * 1e-6;
+                }
+            }
+        }
+        if (data != null && tclass.isInstance(data)) {
+            return tclass.cast(data);
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Counter counter : COUNTERS) {
+            builder.append(counter.id()).append('=').append(getCount(counter)).append('\n');
+        }
+        for (Map.Entry<String, Stage> entry : stages.entrySet()) {
+            Stage s = entry.getValue();
+            builder.append(entry.getKey()).append(": ").append(s.calls.sum())
+                    .append(" call(s), ").append(s.nanos.sum() / 1000000).append(" ms\n");
+        }
+        return builder.toString();
+    }
+
+    // stages.[stage].calls/time -> {stage, calls/time}
+    private String[] stageItem(String id) {
+        String prefix = STAGES + InformationSet.SEP;
+        if (!id.startsWith(prefix)) {
+            return null;
+        }
+        int pos = id.lastIndexOf(InformationSet.SEP);
+        if (pos <= prefix.length()) {
+            return null;
+        }
+        String stage = id.substring(prefix.length(), pos), item = id.substring(pos + 1);
+        if (!stages.containsKey(stage) || !(item.equals(CALLS) || item.equals(TIME))) {
+            return null;
+        }
+        return new String[]{stage, item};
+    }
+
+    private static Integer toInt(long n) {
+        return n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    /**
+     * Timer of a stage (see time)
+     */
+    public static final class Timer {
+
+        private final boolean active;
+        private final ProcessingMetrics metrics;
+        private String stage;
+        private long start;
+
+        private Timer(boolean active, ProcessingMetrics metrics, String stage) {
+            this.active = active;
+            this.metrics = metrics;
+            this.stage = stage;
+            this.start = System.nanoTime();
+        }
+
+        /**
+         * Stops the timing of the current stage and starts the timing of
+         * another one
+         *
+         * @param stage The name of the next stage
+         */
+        public void next(String stage) {
+            long now = System.nanoTime();
+            add(now);
+            this.stage = stage;
+            this.start = now;
+        }
+
+        /**
+         * Stops the timer. The timer must not be used afterwards
+         */
+        public void stop() {
+            add(System.nanoTime());
+        }
+
+        private void add(long now) {
+            if (!active) {
+                return;
+            }
+            long nanos = now - start;
+            GLOBAL.addStage(stage, nanos);
+            if (metrics != null) {
+                metrics.addStage(stage, nanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.algorithm;
+
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.information.InformationSet;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled access to an item of processing results. The resolution of the
+ * identifier in composite results (selection of the candidate nodes,
+ * removal of their prefixes) only depends on the layout of the results: it
+ * is done once for each layout and reused for all the results with the
+ * same layout (typically all the results of a given processing factory).
+ * The search order is the one of CompositeResults.getData.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class ResultsAccessor {
+
+    private static final int MAX_CACHED_ACCESSORS = 4096;
+    private static final int MAX_PLANS = 8;
+    private static final ConcurrentHashMap<String, ResultsAccessor> ACCESSORS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the (shared) accessor of a given item
+     *
+     * @param id The identifier of the item (for instance "sa.s_f")
+     * @return
+     */
+    public static ResultsAccessor of(String id) {
+        ResultsAccessor accessor = ACCESSORS.get(id);
+        if (accessor == null) {
+            if (ACCESSORS.size() >= MAX_CACHED_ACCESSORS) {
+                ACCESSORS.clear();
+            }
+            accessor = new ResultsAccessor(id);
+            ResultsAccessor prev = ACCESSORS.putIfAbsent(id, accessor);
+            if (prev != null) {
+                accessor = prev;
+            }
+        }
+        return accessor;
+    }
+
+    /**
+     * Resolution of the identifier for a given layout (prefixes of the
+     * nodes): the nodes that must be searched, in order, with the
+     * corresponding local identifiers
+     */
+    private static final class Plan {
+
+        final String[] prefixes;
+        final int[] nodes;
+        final String[] ids;
+
+        Plan(String[] prefixes, int[] nodes, String[] ids) {
+            this.prefixes = prefixes;
+            this.nodes = nodes;
+            this.ids = ids;
+        }
+    }
+
+    private final String id;
+    private volatile Plan[] plans = new Plan[0];
+
+    private ResultsAccessor(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the item from given results
+     *
+     * @param <T> The type of the item
+     * @param rslts The results. May be null
+     * @param tclass The class of the item
+     * @return The item or null if it is not available
+     */
+    public <T> T getData(IProcResults rslts, Class<T> tclass) {
+        if (rslts == null) {
+            return null;
+        }
+        if (!(rslts instanceof CompositeResults)) {
+            return rslts.getData(id, tclass);
+        }
+        CompositeResults.Node[] nodes = ((CompositeResults) rslts).nodes();
+        Plan plan = plan(nodes);
+        for (int i = 0; i < plan.nodes.length; ++i) {
+            IProcResults cur = nodes[plan.nodes[i]].results;
+            String cid = plan.ids[i];
+            if (cur != null && cur.contains(cid)) {
+                return cur.getData(cid, tclass);
+            }
+        }
+        return null;
+    }
+
+    private Plan plan(CompositeResults.Node[] nodes) {
+        Plan[] cur = plans;
+        for (Plan plan : cur) {
+            if (matches(plan.prefixes, nodes)) {
+                return plan;
+            }
+        }
+        Plan plan = compile(nodes);
+        synchronized (this) {
+            Plan[] nplans;
+            if (plans.length < MAX_PLANS) {
+                nplans = Arrays.copyOf(plans, plans.length + 1);
+            } else {
+                nplans = new Plan[1];
+            }
+            nplans[nplans.length - 1] = plan;
+            plans = nplans;
+        }
+        return plan;
+    }
+
+    private static boolean matches(String[] prefixes, CompositeResults.Node[] nodes) {
+        if (prefixes.length != nodes.length) {
+            return false;
+        }
+        for (int i = 0; i < prefixes.length; ++i) {
+            String p = nodes[i].prefix;
+            if (p != prefixes[i] && (p == null || !p.equals(prefixes[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Plan compile(CompositeResults.Node[] nodes) {
+        int n = nodes.length;
+        String[] prefixes = new String[n];
+        int[] cnodes = new int[2 * n];
+        String[] cids = new String[2 * n];
+        int ncur = 0;
+        // first strategy: the nodes without prefix or with the right prefix
+        for (int i = 0; i < n; ++i) {
+            String prefix = nodes[i].prefix;
+            prefixes[i] = prefix;
+            if (prefix == null) {
+                cnodes[ncur] = i;
+                cids[ncur++] = id;
+            } else if (InformationSet.isPrefix(id, prefix)) {
+                cnodes[ncur] = i;
+                cids[ncur++] = InformationSet.removePrefix(id);
+            }
+        }
+        // second strategy: the other nodes, with the full identifier (the
+        // previous ones would give the same results)
+        for (int i = 0; i < n; ++i) {
+            String prefix = nodes[i].prefix;
+            if (prefix != null && !InformationSet.isPrefix(id, prefix)) {
+                cnodes[ncur] = i;
+                cids[ncur++] = id;
+            }
+        }
+        return new Plan(prefixes, Arrays.copyOf(cnodes, ncur), Arrays.copyOf(cids, ncur));
+    }
+}
@@ -53,6 +53,22 @@ public class SequentialProcessing<I> implements IProcessing<I, CompositeResults>
 
     @Override
     public CompositeResults process(I input) {
+        // nested processing share the metrics of the enclosing one
+        ProcessingMetrics metrics = ProcessingMetrics.current();
+        if (metrics == null && ProcessingContext.getActiveContext().isMetricsEnabled()) {
+            metrics = new ProcessingMetrics();
+            ProcessingMetrics prev = ProcessingMetrics.enter(metrics);
+            try {
+                return process(input, metrics);
+            } finally {
+                ProcessingMetrics.exit(prev);
+            }
+        } else {
+            return process(input, metrics);
+        }
+    }
+
+    private CompositeResults process(I input, ProcessingMetrics metrics) {
         CompositeResults results = new CompositeResults();
         HashMap<String, IProcResults> map = new HashMap<>();
         boolean ok = true;
@@ -63,7 +79,13 @@ public class SequentialProcessing<I> implements IProcessing<I, CompositeResults>
 //                results.addInformation(ProcessingInformation.error(name, "unprocessed"));
             } else {
                 try {
-                    Status st = cur.process(input, map);
+                    Status st;
+                    ProcessingMetrics.Timer timer = ProcessingMetrics.time(name);
+                    try {
+                        st = cur.process(input, map);
+                    } finally {
+                        timer.stop();
+                    }
                     if (st == Status.Valid) {
                         results.put(name, map.get(name), cur.getPrefix());
                     } else if (st == Status.Invalid) {
@@ -85,6 +107,9 @@ public class SequentialProcessing<I> implements IProcessing<I, CompositeResults>
                 }
             }
         }
+        if (metrics != null) {
+            results.put(ProcessingMetrics.METRICS, metrics, ProcessingMetrics.METRICS);
+        }
         return results;
     }
 
@@ -17,6 +17,7 @@
 
 package ec.tstoolkit.arima.estimation;
 
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.arima.IArimaModel;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
@@ -56,6 +57,7 @@ public class ArmaFunction<S extends IArimaModel> implements ISsqFunction, IFunct
 
     @Override
     public ArmaEvaluation<S> evaluate(IReadDataBlock parameters) {
+	ProcessingMetrics.increment(ProcessingMetrics.Counter.FunctionEvaluations);
 	S tmp = mapper.map(parameters);
 	if (tmp == null)
 	    return null;
@@ -81,6 +83,7 @@ public class ArmaFunction<S extends IArimaModel> implements ISsqFunction, IFunct
 
     @Override
     public ISsqFunctionInstance ssqEvaluate(IReadDataBlock parameters) {
+	ProcessingMetrics.increment(ProcessingMetrics.Counter.FunctionEvaluations);
 	S tmp = mapper.map(parameters);
 	if (tmp == null)
 	    return null;
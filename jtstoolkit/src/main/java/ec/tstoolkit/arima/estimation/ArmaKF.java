@@ -16,6 +16,7 @@
 */
 package ec.tstoolkit.arima.estimation;
 
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.arima.*;
 import ec.tstoolkit.data.SubArrayOfInt;
 import ec.tstoolkit.eco.ConcentratedLikelihood;
@@ -48,7 +49,11 @@ public class ArmaKF {
     /**
      * Contains the number of function calls to the main routine of the class,
      * i.e. "process".
+     *
+     * @deprecated Use the FilterPasses counter of
+     * {@link ProcessingMetrics#global()} instead
      */
+    @Deprecated
     public static int fnCalls;
     private IArimaModel arma_;
     private Polynomial phi_;
@@ -195,6 +200,7 @@ public class ArmaKF {
     public boolean process(final IReadDataBlock y, final IDataBlock res,
             final IDataBlock stde) {
         ++fnCalls;
+        ProcessingMetrics.increment(ProcessingMetrics.Counter.FilterPasses);
         fast_ = false;
         Determinant det = new Determinant();
         double[] C = c0_.clone();
@@ -268,6 +274,7 @@ public class ArmaKF {
      */
     public boolean process(final IReadDataBlock y, final Likelihood ll) {
         ++fnCalls;
+        ProcessingMetrics.increment(ProcessingMetrics.Counter.FilterPasses);
         fast_ = false;
         Determinant det = new Determinant();
         double[] C = c0_.clone();
@@ -348,6 +355,7 @@ public class ArmaKF {
     public boolean process(final IReadDataBlock y, final SubArrayOfInt ao,
             final SubMatrix x, final ConcentratedLikelihood ll) {
         ++fnCalls;
+        ProcessingMetrics.increment(ProcessingMetrics.Counter.FilterPasses);
         fast_ = false;
         Determinant det = new Determinant();
         double[] c = c0_.clone();
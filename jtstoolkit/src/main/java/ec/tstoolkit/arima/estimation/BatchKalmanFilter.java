@@ -0,0 +1,357 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+
+package ec.tstoolkit.arima.estimation;
+
+import ec.tstoolkit.arima.ArimaException;
+import ec.tstoolkit.arima.IArimaModel;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.eco.Likelihood;
+import ec.tstoolkit.maths.polynomials.Polynomial;
+
+/**
+ * Kalman filter (Chandrasekhar recursions, see KalmanFilter) applied in
+ * lockstep on a panel of series generated by arma models with the same
+ * structure (same AR degree and same MA length). The models may have
+ * different parameters. The data are organized by structure of arrays: each
+ * component of the states and of the gains is stored in an array that spans
+ * the whole panel, so that each step of the recursions is made of simple
+ * loops on the series, which can be vectorized by the compiler.
+ * The residuals and the determinantal terms are identical to the ones
+ * computed by KalmanFilter on each series.
+ * Series that correspond to invalid models are flagged (see isValid); they
+ * don't stop the processing of the other series.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public class BatchKalmanFilter {
+
+    // bounds of the unnormalized products of the variances. The products are
+    // scaled by powers of 16 (as in Determinant) only when they leave that range
+    private static final double DMAX = Math.scalb(1.0, 512), DMIN = Math.scalb(1.0, -512);
+
+    /**
+     * Computes the likelihoods of a panel of series. Entry point for the batch
+     * processing of many series that share the same arima structure (for
+     * instance, the stationary part of the airline model)
+     *
+     * @param models The models of the series. They must share the same
+     * structure
+     * @param y The series. All the series must contain at least as many
+     * observations as the first one
+     * @return The likelihoods of the series (null for the series corresponding
+     * to invalid models)
+     */
+    public static Likelihood[] likelihoods(final IArimaModel[] models, final double[][] y) {
+        if (y.length != models.length) {
+            throw new IllegalArgumentException("Incompatible panel");
+        }
+        int n = y.length == 0 ? 0 : y[0].length;
+        BatchKalmanFilter filter = new BatchKalmanFilter();
+        filter.initialize(models, n);
+        filter.filter(y, null);
+        Likelihood[] ll = new Likelihood[models.length];
+        for (int k = 0; k < ll.length; ++k) {
+            if (filter.isValid(k)) {
+                ll[k] = new Likelihood();
+                ll[k].set(filter.getSsq(k), filter.getLogDeterminant(k), n);
+            }
+        }
+        return ll;
+    }
+
+    private int m_count, m_n, m_dim, m_p;
+    // AR coefficients ([lag-1][series]), initial gains ([i][series]),
+    // innovation variances and initial variances ([series])
+    private double[][] m_phi, m_C0;
+    private double[] m_var, m_h0;
+    // results
+    private double[] m_ldet, m_ssq;
+    private boolean[] m_valid;
+
+    /**
+     *
+     */
+    public BatchKalmanFilter() {
+    }
+
+    /**
+     * Initializes the filter
+     *
+     * @param models The models of the series
+     * @param length The number of observations of each series
+     * @return The number of series
+     * @throws ArimaException The models don't have the same structure
+     */
+    public int initialize(final IArimaModel[] models, final int length) {
+        m_count = models.length;
+        m_n = length;
+        m_ldet = null;
+        m_ssq = null;
+        m_valid = new boolean[m_count];
+        if (m_count == 0) {
+            m_dim = 0;
+            m_p = 0;
+            return 0;
+        }
+        m_p = models[0].getAR().getPolynomial().getDegree();
+        int q = models[0].getMA().getLength();
+        m_dim = Math.max(m_p, q);
+        m_phi = new double[m_p][m_count];
+        m_var = new double[m_count];
+        m_h0 = new double[m_count];
+        m_C0 = new double[m_dim][m_count];
+        for (int k = 0; k < m_count; ++k) {
+            IArimaModel model = models[k];
+            Polynomial phi = model.getAR().getPolynomial();
+            if (phi.getDegree() != m_p || model.getMA().getLength() != q) {
+                throw new ArimaException("Incompatible models in the panel");
+            }
+            for (int j = 1; j <= m_p; ++j) {
+                m_phi[j - 1][k] = phi.get(j);
+            }
+            m_var[k] = model.getInnovationVariance();
+            double[] c0;
+            try {
+                c0 = model.getAutoCovarianceFunction().values(m_dim);
+            } catch (ArimaException err) {
+                // non stationary model. The series is skipped
+                continue;
+            }
+            m_h0[k] = c0[0];
+            m_valid[k] = c0[0] > 0 && !Double.isInfinite(c0[0]);
+            // tx(c0)
+            double last = 0;
+            for (int j = 1; j <= m_p; ++j) {
+                last -= phi.get(j) * c0[m_dim - j];
+            }
+            for (int i = 1; i < m_dim; ++i) {
+                m_C0[i - 1][k] = c0[i];
+            }
+            m_C0[m_dim - 1][k] = last;
+        }
+        return m_count;
+    }
+
+    /**
+     * Filters the series of the panel. The log-determinants and the sums of
+     * squares of the residuals are computed for each series
+     *
+     * @param y The series (at least "length" observations for each series)
+     * @param e The standardized residuals ("length" observations for each
+     * series). May be null if the residuals are not needed
+     */
+    public void filter(final double[][] y, final double[][] e) {
+        final int K = m_count, ilast = m_dim - 1;
+        if (y.length != K || (e != null && e.length != K)) {
+            throw new IllegalArgumentException("Incompatible panel");
+        }
+        if (K == 0) {
+            m_ldet = new double[0];
+            m_ssq = new double[0];
+            return;
+        }
+        double[][] C = clone(m_C0), L = clone(m_C0), a = new double[m_dim][K];
+        double[] h = m_h0.clone();
+        double[] tl = new double[K], ta = new double[K], zl = new double[K], zlv = new double[K];
+        double[] yc = new double[K], ec = new double[K], v = new double[K];
+        double[] detman = new double[K], detcar = new double[K], ssq = new double[K];
+        for (int k = 0; k < K; ++k) {
+            detman[k] = 1;
+            if (!m_valid[k]) {
+                h[k] = Double.NaN;
+            }
+        }
+
+        for (int pos = 0; pos < m_n; ++pos) {
+            if (pos > 0) {
+                // C, L, h
+                tlast(L, tl);
+                double[] l0 = L[0];
+                for (int k = 0; k < K; ++k) {
+                    zl[k] = l0[k];
+                    zlv[k] = l0[k] / h[k];
+                }
+                for (int i = 0; i < ilast; ++i) {
+                    double[] li = L[i], lnext = L[i + 1], ci = C[i];
+                    for (int k = 0; k < K; ++k) {
+                        double l = lnext[k], c = ci[k];
+                        li[k] = l - c * zlv[k];
+                        ci[k] = c - zlv[k] * l;
+                    }
+                }
+                double[] llast = L[ilast], clast = C[ilast];
+                for (int k = 0; k < K; ++k) {
+                    double c = clast[k];
+                    llast[k] = tl[k] - zlv[k] * c;
+                    clast[k] = c - zlv[k] * tl[k];
+                }
+                for (int k = 0; k < K; ++k) {
+                    double hk = h[k] - zl[k] * zlv[k];
+                    h[k] = hk < m_var[k] ? m_var[k] : hk;
+                }
+            }
+            // filter y
+            for (int k = 0; k < K; ++k) {
+                yc[k] = y[k][pos];
+            }
+            tlast(a, ta);
+            double[] a0 = a[0];
+            for (int k = 0; k < K; ++k) {
+                double s = Math.sqrt(h[k]);
+                double ek = (yc[k] - a0[k]) / s;
+                ec[k] = ek;
+                ssq[k] += ek * ek;
+                v[k] = ek / s;
+            }
+            if (e != null) {
+                for (int k = 0; k < K; ++k) {
+                    e[k][pos] = ec[k];
+                }
+            }
+            for (int i = 0; i < ilast; ++i) {
+                double[] ai = a[i], anext = a[i + 1], ci = C[i];
+                for (int k = 0; k < K; ++k) {
+                    ai[k] = anext[k] + ci[k] * v[k];
+                }
+            }
+            double[] alast = a[ilast], clast = C[ilast];
+            for (int k = 0; k < K; ++k) {
+                alast[k] = ta[k] + clast[k] * v[k];
+            }
+            // determinantal terms
+            for (int k = 0; k < K; ++k) {
+                detman[k] *= h[k];
+            }
+            for (int k = 0; k < K; ++k) {
+                double m = detman[k];
+                if (m >= DMAX || m <= DMIN) {
+                    normalize(detman, detcar, k);
+                }
+            }
+        }
+        for (int k = 0; k < K; ++k) {
+            normalize(detman, detcar, k);
+        }
+        m_ldet = new double[K];
+        m_ssq = ssq;
+        for (int k = 0; k < K; ++k) {
+            if (m_valid[k] && detman[k] > 0 && !Double.isInfinite(detman[k])) {
+                m_ldet[k] = Math.log(detman[k]) + detcar[k] * Math.log(2.0);
+            } else {
+                m_valid[k] = false;
+                m_ldet[k] = Double.NaN;
+                m_ssq[k] = Double.NaN;
+            }
+        }
+    }
+
+    /**
+     * Number of series in the panel
+     *
+     * @return
+     */
+    public int getSeriesCount() {
+        return m_count;
+    }
+
+    /**
+     * Number of observations of each series
+     *
+     * @return
+     */
+    public int getLength() {
+        return m_n;
+    }
+
+    /**
+     * Checks that a series has been successfully filtered
+     *
+     * @param k The position of the series in the panel
+     * @return False if the corresponding model is invalid
+     */
+    public boolean isValid(final int k) {
+        return m_valid[k];
+    }
+
+    /**
+     * Log-determinant of the covariance matrix of a series. Available after
+     * filtering
+     *
+     * @param k The position of the series in the panel
+     * @return The log-determinant or NaN for invalid series
+     */
+    public double getLogDeterminant(final int k) {
+        if (m_ldet == null) {
+            throw new IllegalStateException("Data not filtered");
+        }
+        return m_ldet[k];
+    }
+
+    /**
+     * Sum of the squares of the standardized residuals of a series. Available
+     * after filtering
+     *
+     * @param k The position of the series in the panel
+     * @return The sum of squares or NaN for invalid series
+     */
+    public double getSsq(final int k) {
+        if (m_ssq == null) {
+            throw new IllegalStateException("Data not filtered");
+        }
+        return m_ssq[k];
+    }
+
+    // last = -sum(phi(j)*x(dim-j)), for each series
+    private void tlast(final double[][] x, final double[] last) {
+        final int K = m_count;
+        for (int k = 0; k < K; ++k) {
+            last[k] = 0;
+        }
+        for (int j = 1; j <= m_p; ++j) {
+            double[] phi = m_phi[j - 1], xj = x[m_dim - j];
+            for (int k = 0; k < K; ++k) {
+                last[k] -= phi[k] * xj[k];
+            }
+        }
+    }
+
+    private static void normalize(final double[] detman, final double[] detcar, final int k) {
+        double m = detman[k];
+        if (Double.isInfinite(m) || Double.isNaN(m)) {
+            return;
+        }
+        while (m >= 1) {
+            m *= .0625;
+            detcar[k] += 4.0;
+        }
+        while (m != 0 && m <= 0.0625) {
+            m *= 16;
+            detcar[k] -= 4.0;
+        }
+        detman[k] = m;
+    }
+
+    private static double[][] clone(final double[][] x) {
+        double[][] c = new double[x.length][];
+        for (int i = 0; i < x.length; ++i) {
+            c[i] = x[i].clone();
+        }
+        return c;
+    }
+}
@@ -17,6 +17,7 @@
 package ec.tstoolkit.arima.estimation;
 
 import ec.tstoolkit.BaseException;
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.arima.IArimaModel;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.DataBlockIterator;
@@ -36,8 +37,10 @@ import java.util.concurrent.atomic.AtomicLong;
 public class ConcentratedLikelihoodEstimation {
 
     /**
-     *
+     * @deprecated Use the LikelihoodEvaluations counter of
+     * {@link ProcessingMetrics#global()} instead
      */
+    @Deprecated
     public static final AtomicLong fnCalls = new AtomicLong(0);
 
     private final IArmaFilter m_filter;
@@ -117,6 +120,7 @@ public class ConcentratedLikelihoodEstimation {
 
     private boolean process(RegModel model, int nl, int nd, int[] missings) {
         fnCalls.incrementAndGet();
+        ProcessingMetrics.increment(ProcessingMetrics.Counter.LikelihoodEvaluations);
         m_ll = new ConcentratedLikelihood();
         DataBlock y = model.getY().deepClone();
         int n = y.getLength();
@@ -54,6 +54,7 @@ public class GlsArimaMonitor<S extends IArimaModel> implements
     private double[] m_score;
     private double m_obj;
     private double m_precision = 1e-7;
+    private int m_niter;
 
     /**
      *
@@ -95,6 +96,15 @@ public class GlsArimaMonitor<S extends IArimaModel> implements
         return m_min;
     }
 
+    /**
+     * Number of iterations of the minimizer in the last optimization
+     *
+     * @return
+     */
+    public int getIterationsCount() {
+        return m_niter;
+    }
+
     @Override
     public double getPrecision() {
         return m_precision;
@@ -273,6 +283,7 @@ public class GlsArimaMonitor<S extends IArimaModel> implements
             // starting values...
             ArmaEvaluation<S> fstart = new ArmaEvaluation<>(m_fn, arma);
             m_bconverged = fmin.minimize(m_fn, fstart);
+            m_niter = fmin.getIterCount();
             m_efn = (ArmaEvaluation<S>) fmin.getResult();
             RegArimaModel<S> nregs = new RegArimaModel<>(regs);
             S narima = m_mapper.map(m_efn.getParameters());
@@ -380,6 +391,6 @@ public class GlsArimaMonitor<S extends IArimaModel> implements
         m_score = null;
         m_fn = null;
         m_efn = null;
-
+        m_niter = 0;
     }
 }
@@ -189,8 +189,8 @@ public class BlackmanTukeySpectrum {
             System.arraycopy(cov_, 0, tmp, 0, lstart);
             cov_ = tmp;
         } else {
-            lstart = 0;
-            cov_ = new double[winLen_];
+            cov_ = DescriptiveStatistics.autoCovariances(winLen_ - 1, data_);
+            return;
         }
         for (int i = lstart; i < winLen_; i++) {
             cov_[i] = DescriptiveStatistics.cov(i, data_);
@@ -19,6 +19,7 @@ package ec.tstoolkit.data;
 
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.FftPlan;
 
 /**
  *
@@ -38,9 +39,88 @@ public class DescriptiveStatistics {
      */
     public static double[] ac(int k, double[] data) {
         double[] c = new double[k];
-        double var = cov(0, data);
+        double[] cov = autoCovariances(k, data);
+        double var = cov[0];
         for (int i = 0; i < k; ++i) {
-            c[i] = cov(i + 1, data) / var;
+            c[i] = cov[i + 1] / var;
+        }
+        return c;
+    }
+
+    /**
+     * Relative cost of a step of the fast Fourier transform, compared to a
+     * step of the direct computation of the covariances
+     */
+    private static final int FFT_COST = 10;
+
+    /**
+     * Computes the auto-covariances of lags 0 to k of an array of doubles,
+     * which is supposed to have a zero mean. The conventions are the same as
+     * in cov(int, double[]): missing values (non finite numbers) are omitted.
+     * For large k, the covariances are computed by means of a fast Fourier
+     * transform (O(n log n) instead of O(n*k)).
+     * @param k The maximum lag
+     * @param data The data
+     * @return An array of k+1 covariances; cov[i] corresponds to lag i
+     */
+    public static double[] autoCovariances(int k, double[] data) {
+        int n = data.length;
+        int m = FftPlan.nextPowerOf2(n + k);
+        if (k > 0 && k < n && k >= FFT_COST * Integer.numberOfTrailingZeros(m)) {
+            return fftAutoCovariances(k, data);
+        } else {
+            return directAutoCovariances(k, data);
+        }
+    }
+
+    static double[] directAutoCovariances(int k, double[] data) {
+        double[] c = new double[k + 1];
+        for (int i = 0; i <= k; ++i) {
+            c[i] = cov(i, data);
+        }
+        return c;
+    }
+
+    static double[] fftAutoCovariances(int k, double[] data) {
+        int n = data.length;
+        int m = FftPlan.nextPowerOf2(n + k);
+        // the data (missing values replaced by 0) are put in the real part,
+        // the mask of the available observations in the imaginary part
+        double[] yr = new double[m], yi = new double[m];
+        boolean missing = false;
+        for (int i = 0; i < n; ++i) {
+            double x = data[i];
+            if (Double.isFinite(x)) {
+                yr[i] = x;
+                yi[i] = 1;
+            } else {
+                missing = true;
+            }
+        }
+        FftPlan plan = FftPlan.of(m);
+        plan.transform(yr, yi);
+        // power spectra of both parts: |Z(j)|^2 + i*|W(j)|^2, with
+        // Z(j) = (Y(j) + conj(Y(m-j)))/2 and W(j) = (Y(j) - conj(Y(m-j)))/2i
+        double[] pr = new double[m], pi = new double[m];
+        for (int j = 0; j < m; ++j) {
+            int l = j == 0 ? 0 : m - j;
+            double ar = yr[j] + yr[l], ai = yi[j] - yi[l];
+            double br = yr[j] - yr[l], bi = yi[j] + yi[l];
+            pr[j] = (ar * ar + ai * ai) / 4;
+            pi[j] = (br * br + bi * bi) / 4;
+        }
+        plan.backTransform(pr, pi);
+        double[] c = new double[k + 1];
+        for (int t = 0; t <= k; ++t) {
+            int nobs;
+            if (missing) {
+                // nobs = n - (number of incomplete pairs)
+                int valid = (int) Math.round(pi[t]);
+                nobs = t + valid;
+            } else {
+                nobs = n;
+            }
+            c[t] = nobs == 0 ? 0 : pr[t] / nobs;
         }
         return c;
     }
@@ -880,6 +960,19 @@ public class DescriptiveStatistics {
         return m_sdata;
     }
 
+    /**
+     * Statistics on the moving windows of the data. As in this class, the
+     * missing values are skipped
+     *
+     * @param window The length of the windows
+     * @return
+     */
+    public RollingStatistics rolling(int window) {
+        RollingStatistics stats = new RollingStatistics(m_data, window);
+        stats.setSkippingMissing(true);
+        return stats;
+    }
+
     private void sortObservations() {
         if (m_sdata == null) {
             if (!isInitialized()) {
@@ -18,6 +18,7 @@ package ec.tstoolkit.data;
 
 import ec.tstoolkit.BaseException;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.FftPlan;
 import ec.tstoolkit.utilities.IntList;
 
 /**
@@ -36,11 +37,19 @@ import ec.tstoolkit.utilities.IntList;
  * p(0) = |sx|^2/sx2
  * p(j) = 2*|sum(x(j)*e(i*k*f(j))|^2/sx2
  * if n is even, p(n/2) = |(-1)^k*sum(x(j)|^2/sx2
+ * Missing values are masked (they don't contribute to the sums).
+ * Long series are handled by means of a fast Fourier transform.
  * @author Jean Palate
  */
 @Development(status = Development.Status.Alpha)
 public class Periodogram {
 
+    /**
+     * Minimal length of the series for using the fast Fourier transform.
+     * Shorter series are handled by the direct computation
+     */
+    static final int FFT_THRESHOLD = 64;
+
     public static double[] getSeasonalFrequencies(int freq) {
         double[] dfreq = new double[freq / 2];
         for (int i = 1; i <= dfreq.length; ++i) {
@@ -134,20 +143,59 @@ public class Periodogram {
         if (m_p != null || m_data == null) {
             return;
         }
+        m_p = m_data.length < FFT_THRESHOLD ? directP() : fftP();
+    }
+
+    /**
+     * Computes the periodogram by means of a fast Fourier transform
+     * @return 
+     */
+    double[] fftP() {
+        int T = m_data.length, T1 = (1 + T) / 2, T2 = 1 + T / 2;
+        double[] p = new double[T2];
+        if (m_mean) {
+            p[0] = 0;
+        } else {
+            p[0] = m_sy * m_sy / m_sy2;
+        }
+        if (T < 2) {
+            return p;
+        }
+        double[] x = new double[T], re = new double[T], im = new double[T];
+        for (int j = 0; j < T; ++j) {
+            double xj = m_data[j];
+            x[j] = Double.isNaN(xj) ? 0 : xj;
+        }
+        FftPlan.of(T).realTransform(x, re, im);
+        for (int i = 1; i < T1; ++i) {
+            p[i] = 2 * (re[i] * re[i] + im[i] * im[i]) / m_sy2;
+        }
+        if (T1 != T2) // T even
+        {
+            p[T2 - 1] = (re[T2 - 1] * re[T2 - 1] + im[T2 - 1] * im[T2 - 1]) / m_sy2;
+        }
+        return p;
+    }
+
+    /**
+     * Computes the periodogram by means of the direct (O(n^2)) algorithm
+     * @return 
+     */
+    double[] directP() {
         // p(l(j)) = a(j)*a(j) + b(j)*b(j)
         // l(j) = 2*pi*j / T, where T = m_data.Length
         // a(j) = (1/sqrt(T))
         int T = m_data.length, T1 = (1 + T) / 2, T2 = 1 + T / 2;
-        m_p = new double[T2];
+        double[] p = new double[T2];
         double l = 2 * Math.PI / T;
         double cosl = Math.cos(l), sinl = Math.sin(l);
         double cos = 1, sin = 0; // current cos and sin...
 
         // the mean has been removed
         if (m_mean) {
-            m_p[0] = 0;
+            p[0] = 0;
         } else {
-            m_p[0] = m_sy * m_sy / m_sy2;
+            p[0] = m_sy * m_sy / m_sy2;
         }
         double a = 0, b = 0;
         for (int i = 1; i < T1; ++i) {
@@ -170,7 +218,7 @@ public class Periodogram {
                     b += s * m_data[j];
                 }
             }
-            m_p[i] = 2 * (a * a + b * b) / m_sy2;
+            p[i] = 2 * (a * a + b * b) / m_sy2;
         }
 
         if (T1 != T2) // T even
@@ -185,8 +233,9 @@ public class Periodogram {
                     }
                 }
             }
-            m_p[T2 - 1] = a * a / m_sy2;
+            p[T2 - 1] = a * a / m_sy2;
         }
+        return p;
     }
 
     private void calcs() {
@@ -0,0 +1,435 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+
+package ec.tstoolkit.data;
+
+import ec.tstoolkit.design.Development;
+import java.util.Arrays;
+
+/**
+ * Statistics on the moving windows of a series of data. The i-th result
+ * corresponds to the window [i, i+window[. The number of results is
+ * n-window+1 (or 0 if the data are shorter than the window).
+ *
+ * The statistics are computed incrementally: averages and variances are
+ * updated when the window moves (O(n)), the order statistics (medians,
+ * quantiles, MAD, trimmed means) are computed with a Fenwick tree on the
+ * ranks of the data (O(n log n) instead of O(n.window.log(window)) when
+ * the windows are sorted).
+ *
+ * The missing values are the non finite values. By default, the statistics
+ * of a window that contains missing values are missing (NaN), as in
+ * TsData.movingMedian. When the missing values are skipped, the statistics
+ * are computed on the available observations, as in DescriptiveStatistics
+ * (NaN if there is no observation).
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public class RollingStatistics {
+
+    private final double[] m_data;
+    private final int m_window;
+    private boolean m_skip;
+    // order statistics
+    private double[] m_sorted;
+    private int[] m_rank;
+    private int[] m_cnt;
+    private double[] m_sum;
+    private int m_high;
+
+    /**
+     *
+     * @param data The data. They are not copied
+     * @param window The length of the windows (> 0)
+     */
+    public RollingStatistics(double[] data, int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Invalid window");
+        }
+        m_data = data;
+        m_window = window;
+    }
+
+    /**
+     *
+     * @param data The data. They are copied
+     * @param window The length of the windows (> 0)
+     */
+    public RollingStatistics(IReadDataBlock data, int window) {
+        this(copy(data), window);
+    }
+
+    private static double[] copy(IReadDataBlock data) {
+        double[] x = new double[data.getLength()];
+        data.copyTo(x, 0);
+        return x;
+    }
+
+    public int getWindow() {
+        return m_window;
+    }
+
+    /**
+     * Number of windows
+     *
+     * @return n-window+1 or 0
+     */
+    public int getLength() {
+        return Math.max(0, m_data.length - m_window + 1);
+    }
+
+    public boolean isSkippingMissing() {
+        return m_skip;
+    }
+
+    /**
+     * Specifies how the windows with missing values are handled
+     *
+     * @param skip True if the statistics are computed on the available
+     * observations, false if they are missing
+     */
+    public void setSkippingMissing(boolean skip) {
+        m_skip = skip;
+    }
+
+    /**
+     * Moving averages
+     *
+     * @return
+     */
+    public double[] averages() {
+        return moments(false);
+    }
+
+    /**
+     * Moving variances (divided by the number of observations, as in
+     * DescriptiveStatistics.getVar)
+     *
+     * @return
+     */
+    public double[] variances() {
+        return moments(true);
+    }
+
+    /**
+     * Moving medians. When the number of observations is even, the median is
+     * the average of the two central values
+     *
+     * @return
+     */
+    public double[] medians() {
+        return orderStatistics(this::median);
+    }
+
+    /**
+     * Moving quantiles. The quantile is interpolated between the two nearest
+     * ordered observations, as in DescriptiveStatistics.quantiles
+     *
+     * @param p The probability, in [0, 1]
+     * @return
+     */
+    public double[] quantiles(double p) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("Invalid probability");
+        }
+        return orderStatistics(c -> quantile(c, p));
+    }
+
+    /**
+     * Moving median absolute deviations (around the median of the window, not
+     * scaled)
+     *
+     * @return
+     */
+    public double[] mads() {
+        return orderStatistics(this::mad);
+    }
+
+    /**
+     * Moving trimmed means
+     *
+     * @param alpha The proportion of the observations removed at each end of
+     * the (sorted) window, in [0, 0.5[. The number of removed observations is
+     * rounded down
+     * @return
+     */
+    public double[] trimmedMeans(double alpha) {
+        if (alpha < 0 || alpha >= .5) {
+            throw new IllegalArgumentException("Invalid trimming");
+        }
+        return orderStatistics(c -> trimmedMean(c, alpha));
+    }
+
+    private double[] moments(boolean var) {
+        int nw = getLength();
+        double[] rslt = new double[nw];
+        int c = 0, nm = 0;
+        double m = 0, m2 = 0;
+        for (int i = 0; i < nw; ++i) {
+            if (i % m_window == 0) {
+                // recomputed from time to time, to avoid the accumulation of
+                // rounding errors
+                c = 0;
+                nm = 0;
+                m = 0;
+                m2 = 0;
+                for (int j = i; j < i + m_window; ++j) {
+                    double x = m_data[j];
+                    if (Double.isFinite(x)) {
+                        ++c;
+                        m += x;
+                    } else {
+                        ++nm;
+                    }
+                }
+                if (c > 0) {
+                    m /= c;
+                    for (int j = i; j < i + m_window; ++j) {
+                        double x = m_data[j];
+                        if (Double.isFinite(x)) {
+                            double e = x - m;
+                            m2 += e * e;
+                        }
+                    }
+                }
+            } else {
+                double xout = m_data[i - 1], xin = m_data[i + m_window - 1];
+                if (Double.isFinite(xout)) {
+                    if (--c == 0) {
+                        m = 0;
+                        m2 = 0;
+                    } else {
+                        double d = xout - m;
+                        m -= d / c;
+                        m2 -= d * (xout - m);
+                    }
+                } else {
+                    --nm;
+                }
+                if (Double.isFinite(xin)) {
+                    double d = xin - m;
+                    m += d / ++c;
+                    m2 += d * (xin - m);
+                } else {
+                    ++nm;
+                }
+            }
+            if (c == 0 || (nm > 0 && !m_skip)) {
+                rslt[i] = Double.NaN;
+            } else if (var) {
+                rslt[i] = m2 <= 0 ? 0 : m2 / c;
+            } else {
+                rslt[i] = m;
+            }
+        }
+        return rslt;
+    }
+
+    @FunctionalInterface
+    private static interface OrderStatistic {
+
+        double compute(int count);
+    }
+
+    private double[] orderStatistics(OrderStatistic fn) {
+        int nw = getLength();
+        double[] rslt = new double[nw];
+        if (nw == 0) {
+            return rslt;
+        }
+        initRanks();
+        Arrays.fill(m_cnt, 0);
+        Arrays.fill(m_sum, 0);
+        int c = 0;
+        for (int j = 0; j < m_window - 1; ++j) {
+            if (m_rank[j] >= 0) {
+                update(m_rank[j], 1, m_data[j]);
+                ++c;
+            }
+        }
+        for (int i = 0; i < nw; ++i) {
+            int jin = i + m_window - 1;
+            if (m_rank[jin] >= 0) {
+                update(m_rank[jin], 1, m_data[jin]);
+                ++c;
+            }
+            if (c == 0 || (c < m_window && !m_skip)) {
+                rslt[i] = Double.NaN;
+            } else {
+                rslt[i] = fn.compute(c);
+            }
+            if (m_rank[i] >= 0) {
+                update(m_rank[i], -1, -m_data[i]);
+                --c;
+            }
+        }
+        return rslt;
+    }
+
+    private double median(int c) {
+        int h = c / 2;
+        if (c % 2 == 0) {
+            return (get(h - 1) + get(h)) / 2;
+        } else {
+            return get(h);
+        }
+    }
+
+    private double quantile(int c, double p) {
+        double dindex = p * (c - 1);
+        int lo = (int) dindex;
+        double dlo = dindex - lo;
+        if (dlo == 0 || lo == c - 1) {
+            return get(lo);
+        } else {
+            return get(lo) * (1 - dlo) + get(lo + 1) * dlo;
+        }
+    }
+
+    private double mad(int c) {
+        double med = median(c);
+        int h = c / 2;
+        if (c % 2 == 0) {
+            return (deviation(c, med, h - 1) + deviation(c, med, h)) / 2;
+        } else {
+            return deviation(c, med, h);
+        }
+    }
+
+    /**
+     * q-th smallest absolute deviation to the median. The deviations of the
+     * observations smaller (resp. greater) than the median are sorted
+     * sequences; we look for the q-th element of their union
+     */
+    private double deviation(int c, double med, int q) {
+        int h = c / 2, nl = h, nr = c - h;
+        int lo = Math.max(0, q + 1 - nr), hi = Math.min(nl, q + 1);
+        while (lo < hi) {
+            int i = (lo + hi) / 2;
+            if (med - get(h - 1 - i) < get(h + q - i) - med) {
+                lo = i + 1;
+            } else {
+                hi = i;
+            }
+        }
+        int j = q + 1 - lo;
+        double d = Double.NEGATIVE_INFINITY;
+        if (lo > 0) {
+            d = med - get(h - lo);
+        }
+        if (j > 0) {
+            d = Math.max(d, get(h + j - 1) - med);
+        }
+        return d;
+    }
+
+    private double trimmedMean(int c, double alpha) {
+        int t = (int) (alpha * c);
+        return (sumSmallest(c - t) - sumSmallest(t)) / (c - 2 * t);
+    }
+
+    private void initRanks() {
+        if (m_rank != null) {
+            return;
+        }
+        int n = m_data.length, m = 0;
+        double[] sorted = new double[n];
+        for (int i = 0; i < n; ++i) {
+            double x = m_data[i];
+            if (Double.isFinite(x)) {
+                sorted[m++] = x;
+            }
+        }
+        sorted = Arrays.copyOf(sorted, m);
+        Arrays.sort(sorted);
+        // equal values get successive ranks
+        int[] used = new int[m];
+        m_rank = new int[n];
+        for (int i = 0; i < n; ++i) {
+            double x = m_data[i];
+            if (Double.isFinite(x)) {
+                int pos = lowerBound(sorted, x);
+                m_rank[i] = pos + used[pos]++;
+            } else {
+                m_rank[i] = -1;
+            }
+        }
+        m_sorted = sorted;
+        m_cnt = new int[m + 1];
+        m_sum = new double[m + 1];
+        m_high = Integer.highestOneBit(Math.max(1, m));
+    }
+
+    private static int lowerBound(double[] sorted, double x) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < x) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void update(int rank, int dc, double dx) {
+        for (int i = rank + 1; i < m_cnt.length; i += i & -i) {
+            if ((m_cnt[i] += dc) == 0) {
+                m_sum[i] = 0;
+            } else {
+                m_sum[i] += dx;
+            }
+        }
+    }
+
+    /**
+     * j-th smallest observation (0-based) of the current window
+     */
+    private double get(int j) {
+        int pos = 0, rem = j + 1;
+        for (int step = m_high; step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < m_cnt.length && m_cnt[next] < rem) {
+                pos = next;
+                rem -= m_cnt[next];
+            }
+        }
+        return m_sorted[pos];
+    }
+
+    /**
+     * Sum of the j smallest observations of the current window
+     */
+    private double sumSmallest(int j) {
+        if (j == 0) {
+            return 0;
+        }
+        int pos = 0, rem = j;
+        double s = 0;
+        for (int step = m_high; step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < m_cnt.length && m_cnt[next] < rem) {
+                pos = next;
+                rem -= m_cnt[next];
+                s += m_sum[next];
+            }
+        }
+        return s + m_sorted[pos];
+    }
+}
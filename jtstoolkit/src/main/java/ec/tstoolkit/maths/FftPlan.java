@@ -0,0 +1,337 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths;
+
+import ec.tstoolkit.design.Development;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fast Fourier transform of a given length, working on split (real/imaginary)
+ * arrays of doubles. The transform is defined by
+ * X(k) = sum(x(j)*e(2*i*pi*j*k/n)), j in [0, n[
+ * (the convention of the toolkit) and the back transform by
+ * x(j) = (1/n)*sum(X(k)*e(-2*i*pi*j*k/n)).
+ * Powers of 2 are handled by an iterative radix-2 algorithm, the other lengths
+ * by Bluestein's algorithm. The twiddle factors (and the chirp of Bluestein's
+ * algorithm) are computed once; plans are cached by length and can be shared
+ * between threads. The transforms don't allocate memory.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class FftPlan {
+
+    private static final int MAX_CACHED_PLANS = 64;
+    // least recently used plans are removed first
+    private static final LinkedHashMap<Integer, FftPlan> PLANS = new LinkedHashMap<Integer, FftPlan>(16, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, FftPlan> eldest) {
+            return size() > MAX_CACHED_PLANS;
+        }
+    };
+
+    /**
+     * Gets the plan for a given length
+     *
+     * @param n The length of the transforms (strictly positive)
+     * @return A shared plan
+     */
+    public static FftPlan of(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Invalid length: " + n);
+        }
+        FftPlan plan;
+        synchronized (PLANS) {
+            plan = PLANS.get(n);
+        }
+        if (plan == null) {
+            // computed outside the lock; concurrent computations of the same
+            // plan give identical results
+            plan = new FftPlan(n);
+            synchronized (PLANS) {
+                FftPlan prev = PLANS.putIfAbsent(n, plan);
+                if (prev != null) {
+                    plan = prev;
+                }
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Checks that a length can be handled by the radix-2 algorithm
+     *
+     * @param n The length
+     * @return True if n is a power of 2
+     */
+    public static boolean isPowerOf2(final int n) {
+        return n > 0 && (n & (n - 1)) == 0;
+    }
+
+    /**
+     * Smallest power of 2 greater or equal to n
+     *
+     * @param n
+     * @return
+     */
+    public static int nextPowerOf2(final int n) {
+        int m = 1;
+        while (m < n) {
+            m <<= 1;
+        }
+        return m;
+    }
+
+    private final int n;
+    // cos(2*pi*k/n), sin(2*pi*k/n), k in [0, n/2[
+    private final double[] cos, sin;
+    // radix-2 only
+    private final int[] rev;
+    // Bluestein only
+    private final FftPlan inner;
+    private final double[] chirpRe, chirpIm, filterRe, filterIm;
+    private final ThreadLocal<double[][]> work;
+    // real transforms of even length
+    private volatile FftPlan half;
+
+    private FftPlan(int n) {
+        this.n = n;
+        int n2 = n / 2;
+        cos = new double[n2];
+        sin = new double[n2];
+        for (int k = 0; k < n2; ++k) {
+            double a = 2 * Math.PI * k / n;
+            cos[k] = Math.cos(a);
+            sin[k] = Math.sin(a);
+        }
+        if (isPowerOf2(n)) {
+            rev = new int[n];
+            int bits = Integer.numberOfTrailingZeros(n);
+            for (int i = 1; i < n; ++i) {
+                rev[i] = Integer.reverse(i) >>> (32 - bits);
+            }
+            inner = null;
+            chirpRe = null;
+            chirpIm = null;
+            filterRe = null;
+            filterIm = null;
+            work = null;
+        } else {
+            rev = null;
+            // w(jk) = c(j)*c(k)*conj(c(k-j)), where c(j) = e(i*pi*j*j/n)
+            chirpRe = new double[n];
+            chirpIm = new double[n];
+            final long nn = 2L * n;
+            for (int j = 0; j < n; ++j) {
+                // j*j mod 2n to keep the accuracy of the angles
+                long jj = ((long) j * j) % nn;
+                double a = Math.PI * jj / n;
+                chirpRe[j] = Math.cos(a);
+                chirpIm[j] = Math.sin(a);
+            }
+            int m = nextPowerOf2(2 * n - 1);
+            inner = of(m);
+            filterRe = new double[m];
+            filterIm = new double[m];
+            filterRe[0] = chirpRe[0];
+            filterIm[0] = -chirpIm[0];
+            for (int j = 1; j < n; ++j) {
+                filterRe[j] = chirpRe[j];
+                filterIm[j] = -chirpIm[j];
+                filterRe[m - j] = chirpRe[j];
+                filterIm[m - j] = -chirpIm[j];
+            }
+            inner.transform(filterRe, filterIm);
+            work = ThreadLocal.withInitial(() -> new double[2][m]);
+        }
+    }
+
+    /**
+     * Length of the transforms
+     *
+     * @return
+     */
+    public int getLength() {
+        return n;
+    }
+
+    /**
+     * Forward transform, in place. Only the first n elements of the arrays
+     * are considered.
+     *
+     * @param re The real parts
+     * @param im The imaginary parts
+     */
+    public void transform(final double[] re, final double[] im) {
+        if (rev != null) {
+            radix2(re, im, false);
+        } else {
+            bluestein(re, im);
+        }
+    }
+
+    /**
+     * Back transform, in place (including the 1/n scaling). Only the first n
+     * elements of the arrays are considered.
+     *
+     * @param re The real parts
+     * @param im The imaginary parts
+     */
+    public void backTransform(final double[] re, final double[] im) {
+        if (rev != null) {
+            radix2(re, im, true);
+        } else {
+            // conj(transform(conj(x)))
+            for (int i = 0; i < n; ++i) {
+                im[i] = -im[i];
+            }
+            bluestein(re, im);
+            for (int i = 0; i < n; ++i) {
+                im[i] = -im[i];
+            }
+        }
+        final double v = 1.0 / n;
+        for (int i = 0; i < n; ++i) {
+            re[i] *= v;
+            im[i] *= v;
+        }
+    }
+
+    /**
+     * Forward transform of real data. Only the n/2+1 first coefficients are
+     * computed (the other ones are their conjugates: X(n-k) = conj(X(k)))
+     *
+     * @param x The data (n elements). Unchanged
+     * @param re The real parts of the coefficients (at least n/2+1 elements;
+     * n elements when n is odd)
+     * @param im The imaginary parts of the coefficients (same length as re)
+     */
+    public void realTransform(final double[] x, final double[] re, final double[] im) {
+        if (n == 1) {
+            re[0] = x[0];
+            im[0] = 0;
+            return;
+        }
+        if (n % 2 != 0) {
+            System.arraycopy(x, 0, re, 0, n);
+            for (int i = 0; i < n; ++i) {
+                im[i] = 0;
+            }
+            transform(re, im);
+            return;
+        }
+        int h = n / 2;
+        // z(j) = x(2j) + i*x(2j+1)
+        for (int j = 0, k = 0; j < h; ++j, k += 2) {
+            re[j] = x[k];
+            im[j] = x[k + 1];
+        }
+        halfPlan().transform(re, im);
+        // X(k) = E(k) + w(k)*O(k), X(h-k) = conj(E(k) - w(k)*O(k)), where
+        // E(k) = (Z(k) + conj(Z(h-k)))/2, O(k) = (Z(k) - conj(Z(h-k)))/2i
+        double z0r = re[0], z0i = im[0];
+        re[0] = z0r + z0i;
+        im[0] = 0;
+        re[h] = z0r - z0i;
+        im[h] = 0;
+        for (int k = 1, l = h - 1; k <= l; ++k, --l) {
+            double zkr = re[k], zki = im[k], zlr = re[l], zli = im[l];
+            double er = .5 * (zkr + zlr), ei = .5 * (zki - zli);
+            double or = .5 * (zki + zli), oi = -.5 * (zkr - zlr);
+            double wr = cos[k], wi = sin[k];
+            double tr = wr * or - wi * oi, ti = wr * oi + wi * or;
+            re[k] = er + tr;
+            im[k] = ei + ti;
+            if (k != l) {
+                re[l] = er - tr;
+                im[l] = -(ei - ti);
+            }
+        }
+    }
+
+    private FftPlan halfPlan() {
+        FftPlan plan = half;
+        if (plan == null) {
+            plan = of(n / 2);
+            half = plan;
+        }
+        return plan;
+    }
+
+    private void radix2(final double[] re, final double[] im, final boolean back) {
+        for (int i = 1; i < n; ++i) {
+            int j = rev[i];
+            if (j > i) {
+                double t = re[i];
+                re[i] = re[j];
+                re[j] = t;
+                t = im[i];
+                im[i] = im[j];
+                im[j] = t;
+            }
+        }
+        // Danielson-Lanczos butterflies
+        for (int m = 1, step = n >> 1; m < n; m <<= 1, step >>= 1) {
+            int tm = m << 1;
+            for (int j = 0, s = 0; j < m; ++j, s += step) {
+                double wr = cos[s], wi = back ? -sin[s] : sin[s];
+                for (int k = j; k < n; k += tm) {
+                    int l = k + m;
+                    double xr = re[l], xi = im[l];
+                    double tr = wr * xr - wi * xi;
+                    double ti = wr * xi + wi * xr;
+                    double ur = re[k], ui = im[k];
+                    re[k] = ur + tr;
+                    im[k] = ui + ti;
+                    re[l] = ur - tr;
+                    im[l] = ui - ti;
+                }
+            }
+        }
+    }
+
+    private void bluestein(final double[] re, final double[] im) {
+        int m = filterRe.length;
+        double[][] w = work.get();
+        double[] ar = w[0], ai = w[1];
+        // a = x*c
+        for (int j = 0; j < n; ++j) {
+            double xr = re[j], xi = im[j], cr = chirpRe[j], ci = chirpIm[j];
+            ar[j] = xr * cr - xi * ci;
+            ai[j] = xr * ci + xi * cr;
+        }
+        for (int j = n; j < m; ++j) {
+            ar[j] = 0;
+            ai[j] = 0;
+        }
+        // y = a (*) conj(c), computed by means of the inner (radix-2) plan
+        inner.transform(ar, ai);
+        for (int j = 0; j < m; ++j) {
+            double xr = ar[j], xi = ai[j], fr = filterRe[j], fi = filterIm[j];
+            ar[j] = xr * fr - xi * fi;
+            ai[j] = xr * fi + xi * fr;
+        }
+        inner.backTransform(ar, ai);
+        // X = y*c
+        for (int k = 0; k < n; ++k) {
+            double yr = ar[k], yi = ai[k], cr = chirpRe[k], ci = chirpIm[k];
+            re[k] = yr * cr - yi * ci;
+            im[k] = yr * ci + yi * cr;
+        }
+    }
+}
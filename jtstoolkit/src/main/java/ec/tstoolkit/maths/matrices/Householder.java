@@ -133,6 +133,10 @@ public class Householder extends AbstractLinearSystemSolver implements
     }
 
     private void householder() {
+        if (MatrixKernels.isBlocked(m_m, m_n, m_n)) {
+            blockedHouseholder();
+            return;
+        }
         int[] unused = new int[m_norig];
         int nunused = 0, nrdiag = 0;
         // Main loop.
@@ -193,6 +197,115 @@ public class Householder extends AbstractLinearSystemSolver implements
         }
     }
 
+    /**
+     * Same algorithm as householder(), but the reflections are applied to the
+     * columns that are outside the current panel of QR_NB columns only when the
+     * panel is completed, by groups of 4 columns. Each column receives the same
+     * transformations, in the same order; the independent dot products of a
+     * group are interleaved and the group stays in the caches while it is
+     * transformed by all the reflections of the panel.
+     */
+    private void blockedHouseholder() {
+        int[] unused = new int[m_norig];
+        int nunused = 0, nrdiag = 0;
+        double eps = getEpsilon();
+        int ncols = m_n;
+        // reflections [p, l[ have not been applied yet to the columns [w, ncols[
+        int p = 0, w = 0;
+        for (int l = 0, k = 0, km = 0; k < m_n; ++k) {
+            if (l == w) {
+                applyReflections(p, l, w, ncols);
+                p = l;
+                w = Math.min(l + MatrixKernels.QR_NB, ncols);
+            }
+            DataBlock col = new DataBlock(m_qr, km + l, km + m_m, 1);
+            double nrm = col.nrm2();
+            if (nrm > eps) {
+                if (m_qr[l + km] < -eps) {
+                    nrm = -nrm;
+                }
+                for (int i = l; i < m_m; ++i) {
+                    m_qr[i + km] /= nrm;
+                }
+                m_qr[l + km] += 1.0;
+                m_rdiag[nrdiag++] = -nrm;
+                applyReflections(l, l + 1, l + 1, w);
+                km += m_m;
+                ++l;
+            } else {
+                unused[nunused++] = k;
+                applyReflections(p, l, w, ncols);
+                --ncols;
+                System.arraycopy(m_qr, km + m_m, m_qr, km, (ncols - l) * m_m);
+                p = l;
+                w = Math.min(l + MatrixKernels.QR_NB, ncols);
+            }
+        }
+        if (nunused > 0) {
+            m_unused = new int[nunused];
+            System.arraycopy(unused, 0, m_unused, 0, nunused);
+            m_n -= nunused;
+        } else {
+            m_unused = null;
+        }
+    }
+
+    /**
+     * Applies the reflections [r0, r1[ to the columns [c0, c1[
+     */
+    private void applyReflections(int r0, int r1, int c0, int c1) {
+        if (r0 == r1) {
+            return;
+        }
+        int j = c0;
+        for (; j + 4 <= c1; j += 4) {
+            for (int l = r0; l < r1; ++l) {
+                reflect4(l, j);
+            }
+        }
+        for (; j < c1; ++j) {
+            for (int l = r0; l < r1; ++l) {
+                reflect(l, j);
+            }
+        }
+    }
+
+    private void reflect(int l, int j) {
+        int km = l * m_m, jm = j * m_m;
+        double s = 0.0;
+        for (int i = l; i < m_m; ++i) {
+            s += m_qr[i + km] * m_qr[i + jm];
+        }
+        s /= -m_qr[l + km];
+        for (int i = l; i < m_m; ++i) {
+            m_qr[i + jm] += s * m_qr[i + km];
+        }
+    }
+
+    private void reflect4(int l, int j) {
+        int km = l * m_m, j0 = j * m_m, j1 = j0 + m_m, j2 = j1 + m_m, j3 = j2 + m_m;
+        double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+        for (int i = l; i < m_m; ++i) {
+            double v = m_qr[i + km];
+            s0 += v * m_qr[i + j0];
+            s1 += v * m_qr[i + j1];
+            s2 += v * m_qr[i + j2];
+            s3 += v * m_qr[i + j3];
+        }
+        double d = -m_qr[l + km];
+        s0 /= d;
+        s1 /= d;
+        s2 /= d;
+        s3 /= d;
+        for (int i = l; i < m_m; ++i) {
+            double v = m_qr[i + km];
+            m_qr[i + j0] += s0 * v;
+            m_qr[i + j1] += s1 * v;
+            m_qr[i + j2] += s2 * v;
+            m_qr[i + j3] += s3 * v;
+        }
+    }
+
     private void init(Matrix m) {
         m_m = m.getRowsCount();
         m_norig = m_n = m.getColumnsCount();
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.matrices;
+
+import ec.tstoolkit.design.Development;
+
+/**
+ * Cache-blocked kernels for the level-3 operations of the toolkit (general
+ * products, X'X, Cholesky). The operands are packed in small contiguous panels
+ * that stay in the caches and the products are computed by 4x4 register
+ * tiles.
+ * The kernels accumulate each element of the results in the same order as the
+ * straightforward algorithms (sum of the products in the order of the inner
+ * dimension), so that they give the same results (up to the sign of zeroes).
+ * SubMatrix.product, Matrix.times, SymmetricMatrix.XtX/XXt/lcholesky and the
+ * Householder decomposition use them when the number of multiply-adds exceeds
+ * a given threshold.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class MatrixKernels {
+
+    private MatrixKernels() {
+    }
+
+    /**
+     * Default minimal number of multiply-adds for using the blocked kernels
+     */
+    public static final long DEFAULT_THRESHOLD = 1 << 16;
+
+    private static volatile long threshold_ = DEFAULT_THRESHOLD;
+
+    // register tiles
+    private static final int MR = 4, NR = 4;
+    // cache blocks
+    private static final int MC = 64, KC = 256, NC = 256;
+    // panels of the Cholesky factorization / of the QR decomposition
+    private static final int CHOL_NB = 32;
+    static final int QR_NB = 16;
+
+    private static final int ADD = 1, NEG = 2, LOWER = 4;
+
+    /**
+     * Minimal number of multiply-adds for using the blocked kernels
+     *
+     * @return
+     */
+    public static long getThreshold() {
+        return threshold_;
+    }
+
+    /**
+     * Sets the minimal number of multiply-adds for using the blocked kernels
+     *
+     * @param threshold The new threshold. Long.MAX_VALUE to disable the
+     * blocked kernels.
+     */
+    public static void setThreshold(long threshold) {
+        threshold_ = threshold;
+    }
+
+    /**
+     * Checks that an operation of the given dimensions should use the blocked
+     * kernels
+     *
+     * @param m
+     * @param n
+     * @param k
+     * @return
+     */
+    static boolean isBlocked(int m, int n, int k) {
+        return m > 0 && n > 0 && k > 0 && (long) m * n * k >= threshold_;
+    }
+
+    /**
+     * Computes c = a * b. The routine doesn't verify the conditions on the
+     * dimensions of the sub-matrices. c shouldn't overlap a or b.
+     *
+     * @param a m x k sub-matrix
+     * @param b k x n sub-matrix
+     * @param c m x n sub-matrix
+     */
+    public static void gemm(final SubMatrix a, final SubMatrix b, final SubMatrix c) {
+        product(a, b, c, 0);
+    }
+
+    /**
+     * Computes the lower triangular part (diagonal included) of c = x' * x.
+     * Some cells of the upper triangular part are also modified.
+     *
+     * @param x r x n sub-matrix
+     * @param c n x n sub-matrix
+     */
+    public static void syrk(final SubMatrix x, final SubMatrix c) {
+        product(x.transpose(), x, c, LOWER);
+    }
+
+    /**
+     * Computes the lower Cholesky factor of a symmetric matrix, in place. Only
+     * the lower triangular part of the matrix is used. On exit, the upper
+     * triangular part is set to 0.
+     *
+     * @param m The matrix
+     * @throws MatrixException The matrix is not positive definite
+     */
+    public static void potrf(final Matrix m) {
+        double[] data = m.data_;
+        int n = m.nrows_;
+        for (int i0 = 0; i0 < n; i0 += CHOL_NB) {
+            int i1 = Math.min(n, i0 + CHOL_NB);
+            if (i0 > 0) {
+                // A(i0:n, i0:i1) -= L(i0:n, 0:i0) * L(i0:i1, 0:i0)'
+                SubMatrix l = new SubMatrix(data, i0, n - i0, i0, 1, n);
+                SubMatrix lt = new SubMatrix(data, i0, i0, i1 - i0, n, 1);
+                SubMatrix a = new SubMatrix(data, i0 + i0 * n, n - i0, i1 - i0, 1, n);
+                product(l, lt, a, ADD | NEG | LOWER);
+            }
+            // unblocked factorization of the panel
+            for (int i = i0, idiag = i0 * (n + 1); i < i1; ++i, idiag += n + 1) {
+                double aii = data[idiag];
+                for (int j = i + i0 * n; j < idiag; j += n) {
+                    double x = data[j];
+                    aii -= x * x;
+                }
+                if (aii <= 0) {
+                    throw new MatrixException(MatrixException.CholeskyFailed);
+                }
+                aii = Math.sqrt(aii);
+                data[idiag] = aii;
+                int ymax = (i + 1) * n;
+                for (int jx = i + i0 * n; jx < idiag; jx += n) {
+                    double temp = data[jx];
+                    if (temp != 0) {
+                        for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
+                            data[iy] -= temp * data[ia];
+                        }
+                    }
+                }
+                for (int iy = idiag + 1; iy < ymax; ++iy) {
+                    data[iy] /= aii;
+                }
+            }
+        }
+        m.toLower();
+    }
+
+    private static void product(final SubMatrix a, final SubMatrix b, final SubMatrix c, final int mode) {
+        int m = c.m_nrows, n = c.m_ncols, k = a.m_ncols;
+        if (m == 0 || n == 0) {
+            return;
+        }
+        if (k == 0) {
+            if ((mode & ADD) == 0) {
+                c.set(0);
+            }
+            return;
+        }
+        boolean lower = (mode & LOWER) != 0;
+        double[] ap = new double[round(Math.min(m, MC), MR) * Math.min(k, KC)];
+        double[] bp = new double[round(Math.min(n, NC), NR) * Math.min(k, KC)];
+        for (int jc = 0; jc < n; jc += NC) {
+            int nc = Math.min(NC, n - jc);
+            int ic0 = lower ? jc - jc % MC : 0;
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                boolean add = pc > 0 || (mode & ADD) != 0;
+                packB(b, pc, jc, kc, nc, bp);
+                for (int ic = ic0; ic < m; ic += MC) {
+                    int mc = Math.min(MC, m - ic);
+                    packA(a, ic, pc, mc, kc, (mode & NEG) != 0, ap);
+                    for (int jr = 0; jr < nc; jr += NR) {
+                        int nr = Math.min(NR, nc - jr);
+                        int ir0 = 0;
+                        if (lower) {
+                            // skip the tiles above the diagonal
+                            int d = jc + jr - ic;
+                            if (d >= mc) {
+                                continue;
+                            }
+                            if (d > 0) {
+                                ir0 = d - d % MR;
+                            }
+                        }
+                        for (int ir = ir0; ir < mc; ir += MR) {
+                            int mr = Math.min(MR, mc - ir);
+                            int cpos = c.m_start + (ic + ir) * c.m_row_inc + (jc + jr) * c.m_col_inc;
+                            if (mr == MR && nr == NR) {
+                                kernel(kc, ap, ir * kc, bp, jr * kc, c.m_data, cpos, c.m_row_inc, c.m_col_inc, add);
+                            } else {
+                                edgeKernel(kc, ap, ir * kc, bp, jr * kc, c.m_data, cpos, c.m_row_inc, c.m_col_inc, mr, nr, add);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int round(int n, int r) {
+        return ((n + r - 1) / r) * r;
+    }
+
+    /**
+     * Packs a(ic:ic+mc, pc:pc+kc) in slivers of MR rows. The missing rows of
+     * the last sliver are set to 0
+     */
+    private static void packA(SubMatrix a, int ic, int pc, int mc, int kc, boolean neg, double[] ap) {
+        double[] data = a.m_data;
+        int rinc = a.m_row_inc, cinc = a.m_col_inc;
+        int pos = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            int start = a.m_start + (ic + ir) * rinc + pc * cinc;
+            for (int l = 0, ia = start; l < kc; ++l, ia += cinc) {
+                int i = 0;
+                for (int ja = ia; i < mr; ++i, ja += rinc) {
+                    ap[pos++] = neg ? -data[ja] : data[ja];
+                }
+                for (; i < MR; ++i) {
+                    ap[pos++] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs b(pc:pc+kc, jc:jc+nc) in slivers of NR columns. The missing
+     * columns of the last sliver are set to 0
+     */
+    private static void packB(SubMatrix b, int pc, int jc, int kc, int nc, double[] bp) {
+        double[] data = b.m_data;
+        int rinc = b.m_row_inc, cinc = b.m_col_inc;
+        int pos = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            int start = b.m_start + pc * rinc + (jc + jr) * cinc;
+            for (int l = 0, ib = start; l < kc; ++l, ib += rinc) {
+                int j = 0;
+                for (int jb = ib; j < nr; ++j, jb += cinc) {
+                    bp[pos++] = data[jb];
+                }
+                for (; j < NR; ++j) {
+                    bp[pos++] = 0;
+                }
+            }
+        }
+    }
+
+    private static void kernel(int kc, double[] ap, int ia, double[] bp, int ib,
+            double[] c, int cpos, int rinc, int cinc, boolean add) {
+        int c0 = cpos, c1 = c0 + cinc, c2 = c1 + cinc, c3 = c2 + cinc;
+        double c00, c10, c20, c30, c01, c11, c21, c31, c02, c12, c22, c32, c03, c13, c23, c33;
+        if (add) {
+            c00 = c[c0];
+            c10 = c[c0 + rinc];
+            c20 = c[c0 + 2 * rinc];
+            c30 = c[c0 + 3 * rinc];
+            c01 = c[c1];
+            c11 = c[c1 + rinc];
+            c21 = c[c1 + 2 * rinc];
+            c31 = c[c1 + 3 * rinc];
+            c02 = c[c2];
+            c12 = c[c2 + rinc];
+            c22 = c[c2 + 2 * rinc];
+            c32 = c[c2 + 3 * rinc];
+            c03 = c[c3];
+            c13 = c[c3 + rinc];
+            c23 = c[c3 + 2 * rinc];
+            c33 = c[c3 + 3 * rinc];
+        } else {
+            c00 = c10 = c20 = c30 = c01 = c11 = c21 = c31 = 0;
+            c02 = c12 = c22 = c32 = c03 = c13 = c23 = c33 = 0;
+        }
+        for (int l = 0; l < kc; ++l, ia += MR, ib += NR) {
+            double a0 = ap[ia], a1 = ap[ia + 1], a2 = ap[ia + 2], a3 = ap[ia + 3];
+            double b0 = bp[ib], b1 = bp[ib + 1], b2 = bp[ib + 2], b3 = bp[ib + 3];
+            c00 += a0 * b0;
+            c10 += a1 * b0;
+            c20 += a2 * b0;
+            c30 += a3 * b0;
+            c01 += a0 * b1;
+            c11 += a1 * b1;
+            c21 += a2 * b1;
+            c31 += a3 * b1;
+            c02 += a0 * b2;
+            c12 += a1 * b2;
+            c22 += a2 * b2;
+            c32 += a3 * b2;
+            c03 += a0 * b3;
+            c13 += a1 * b3;
+            c23 += a2 * b3;
+            c33 += a3 * b3;
+        }
+        c[c0] = c00;
+        c[c0 + rinc] = c10;
+        c[c0 + 2 * rinc] = c20;
+        c[c0 + 3 * rinc] = c30;
+        c[c1] = c01;
+        c[c1 + rinc] = c11;
+        c[c1 + 2 * rinc] = c21;
+        c[c1 + 3 * rinc] = c31;
+        c[c2] = c02;
+        c[c2 + rinc] = c12;
+        c[c2 + 2 * rinc] = c22;
+        c[c2 + 3 * rinc] = c32;
+        c[c3] = c03;
+        c[c3 + rinc] = c13;
+        c[c3 + 2 * rinc] = c23;
+        c[c3 + 3 * rinc] = c33;
+    }
+
+    private static void edgeKernel(int kc, double[] ap, int ia, double[] bp, int ib,
+            double[] c, int cpos, int rinc, int cinc, int mr, int nr, boolean add) {
+        for (int j = 0, cj = cpos; j < nr; ++j, cj += cinc) {
+            for (int i = 0, ci = cj; i < mr; ++i, ci += rinc) {
+                double s = add ? c[ci] : 0;
+                for (int l = 0, pa = ia + i, pb = ib + j; l < kc; ++l, pa += MR, pb += NR) {
+                    s += ap[pa] * bp[pb];
+                }
+                c[ci] = s;
+            }
+        }
+    }
+}
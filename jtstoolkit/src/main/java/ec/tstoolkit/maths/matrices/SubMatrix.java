@@ -738,6 +738,10 @@ public class SubMatrix implements Cloneable {
      * @param n
      */
     public void product(final SubMatrix m, final SubMatrix n) {
+        if (MatrixKernels.isBlocked(m_nrows, m_ncols, m.m_ncols)) {
+            MatrixKernels.gemm(m, n, this);
+            return;
+        }
         if (m.getColumnsCount() < PROD_THRESHOLD * (m.getRowsCount())) {
             DataBlockIterator cols = columns();
             DataBlockIterator rcols = n.columns();
@@ -201,6 +201,10 @@ public final class SymmetricMatrix {
         int n = m.nrows_;
         // if (n != m.ncols_)
         // throw new MatrixException(MatrixException.SquareOnly);
+        if (MatrixKernels.isBlocked(n, n, n)) {
+            MatrixKernels.potrf(m);
+            return;
+        }
 
         for (int i = 0, idiag = 0; i < n; ++i, idiag += n + 1) {
             // compute aii;
@@ -878,8 +882,13 @@ public final class SymmetricMatrix {
      */
     public static Matrix XtX(final Matrix x) throws MatrixException {
         int n = x.getColumnsCount();
-        DataBlockIterator rows = x.columns(), cols = x.columns();
         Matrix o = new Matrix(n, n);
+        if (MatrixKernels.isBlocked(n, n, x.getRowsCount())) {
+            MatrixKernels.syrk(x.all(), o.all());
+            fromLower(o);
+            return o;
+        }
+        DataBlockIterator rows = x.columns(), cols = x.columns();
         int idx = 0, c = 0;
         DataBlock col = cols.getData();
         DataBlock row = rows.getData();
@@ -902,6 +911,12 @@ public final class SymmetricMatrix {
      * @param m c x c sub-matrix.
      */
     public static void XtX(final SubMatrix x, final SubMatrix m) {
+        int n = x.getColumnsCount();
+        if (MatrixKernels.isBlocked(n, n, x.getRowsCount())) {
+            MatrixKernels.syrk(x, m);
+            fromLower(m);
+            return;
+        }
         DataBlockIterator rows = x.columns(), cols = x.columns(), rcols = m
                 .columns();
         int c = 0;
@@ -926,8 +941,13 @@ public final class SymmetricMatrix {
      */
     public static Matrix XXt(final Matrix x) throws MatrixException {
         int n = x.getRowsCount();
-        DataBlockIterator rows = x.rows(), cols = x.rows();
         Matrix o = new Matrix(n, n);
+        if (MatrixKernels.isBlocked(n, n, x.getColumnsCount())) {
+            MatrixKernels.syrk(x.all().transpose(), o.all());
+            fromLower(o);
+            return o;
+        }
+        DataBlockIterator rows = x.rows(), cols = x.rows();
         int idx = 0, c = 0;
         DataBlock col = cols.getData(), row = rows.getData();
         do {
@@ -949,6 +969,12 @@ public final class SymmetricMatrix {
      * @param m r x r sub-matrix.
      */
     public static void XXt(final SubMatrix x, final SubMatrix m) {
+        int n = x.getRowsCount();
+        if (MatrixKernels.isBlocked(n, n, x.getColumnsCount())) {
+            MatrixKernels.syrk(x.transpose(), m);
+            fromLower(m);
+            return;
+        }
         DataBlockIterator rows = x.rows(), cols = x.rows(), rcols = m
                 .columns();
         int c = 0;
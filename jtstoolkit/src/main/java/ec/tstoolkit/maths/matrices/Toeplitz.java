@@ -18,8 +18,7 @@ package ec.tstoolkit.maths.matrices;
 
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.design.Development;
-import ec.tstoolkit.maths.Complex;
-import ec.tstoolkit.maths.Fft;
+import ec.tstoolkit.maths.FftPlan;
 import ec.tstoolkit.utilities.Arrays2;
 
 /**
@@ -169,28 +168,30 @@ public final class Toeplitz
 	    x.mul(0, m_r[0]);
 	else {
 	    // By FFT.
-	    // circulant matrix
+	    // circulant matrix: r(0)...r(n-1), 0...0, r(n-1)...r(1)
 	    int nc = 2 * n - 2;
 	    // DFT length:
-	    int q = 2;
-	    while (q < nc)
-		q <<= 1;
-	    Complex[] fx = new Complex[q];
-	    Complex[] fr = new Complex[q];
+	    int q = FftPlan.nextPowerOf2(nc);
+	    double[] fxr = new double[q], fxi = new double[q];
+	    double[] frr = new double[q], fri = new double[q];
 	    for (int i = 0; i < n; ++i) {
-		fx[i] = Complex.cart(x.get(i));
-		fr[i] = Complex.cart(m_r[i]);
+		fxr[i] = x.get(i);
+		frr[i] = m_r[i];
 	    }
-	    for (int i = n - 2, j = n; i > 0; --i, ++j)
-		fr[j] = Complex.cart(m_r[i]);
-	    Fft fft = new Fft();
-	    fft.transform(fx);
-	    fft.transform(fr);
-	    for (int i = 0; i < q; ++i)
-		fx[i] = fx[i].times(fr[i]);
-	    fft.backTransform(fx);
+	    for (int i = 1; i < n; ++i)
+		frr[q - i] = m_r[i];
+	    FftPlan plan = FftPlan.of(q);
+	    plan.transform(fxr, fxi);
+	    plan.transform(frr, fri);
+	    for (int i = 0; i < q; ++i) {
+		double re = fxr[i] * frr[i] - fxi[i] * fri[i];
+		double im = fxr[i] * fri[i] + fxi[i] * frr[i];
+		fxr[i] = re;
+		fxi[i] = im;
+	    }
+	    plan.backTransform(fxr, fxi);
 	    for (int i = 0; i < n; ++i)
-		x.set(i, fx[i].getRe());
+		x.set(i, fxr[i]);
 	}
 
     }
@@ -27,6 +27,8 @@ import ec.tstoolkit.maths.Simplifying;
 import ec.tstoolkit.utilities.Arrays2;
 import java.util.Arrays;
 import java.util.Formatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.IntToDoubleFunction;
 
@@ -555,12 +557,15 @@ public final class Polynomial implements IReadDataBlock {
     private final double[] m_c;
     private final int degree;
     private final AtomicReference<Complex[]> defRoots = new AtomicReference<>(); // caching the roots
+    private volatile Polynomial[] factors; // factors of a product, used for the lazy computation of the roots
     private static double EPSILON = 1e-9;
     /**
      * The static member defines the Root finding algorithm used to find the
      * roots of the polynomial. By default this is the Muller algorithm. It can
      * be changed to whatever algorithm that supports the RootsSearcher
-     * interface.
+     * interface. With a SeasonalRootsSolver (opt-in), the low degree and
+     * seasonal polynomials are solved analytically and the roots of the
+     * products are derived from the roots of their factors.
      *
      */
     private static final AtomicReference<IRootsSolver> defSolver= new AtomicReference<>(new MullerNewtonSolver());
@@ -581,6 +586,11 @@ public final class Polynomial implements IReadDataBlock {
         defSolver.set(value);
     }
 
+    // the roots of the products are derived from their factors
+    private static boolean isFactorizedRoots() {
+        return defSolver.get() instanceof SeasonalRootsSolver;
+    }
+
     /**
      * The constructor takes an array of doubles. The array represents the
      * coefficients of the polynomial. The polynomial will be of degree
@@ -944,14 +954,31 @@ public final class Polynomial implements IReadDataBlock {
      * algorithm by setting DefRootsSearcher to another RootsSearcher object.
      * Setting this property re-initializes the internal state of the
      * polynomial.
+     * The last results of the default algorithm are memoized. With a
+     * SeasonalRootsSolver, the roots of a product are derived from the roots
+     * of its factors.
      *
      * @return
      */
     public Complex[] roots() {
         Complex[] result = defRoots.get();
         if (result == null) {
-            result = roots(getDefRootsSearcher());
+            Polynomial[] f = factors;
+            if (f != null && isFactorizedRoots()) {
+                Complex[] lroots = f[0].roots(), rroots = f[1].roots();
+                if (lroots != null && rroots != null) {
+                    result = Arrays2.concat(lroots, rroots);
+                }
+            }
+            if (result == null) {
+                result = RootsMemo.find(this);
+            }
+            if (result == null) {
+                result = roots(getDefRootsSearcher());
+                RootsMemo.add(this, result);
+            }
             defRoots.set(result);
+            factors = null;
         }
         return result;
     }
@@ -1074,6 +1101,9 @@ public final class Polynomial implements IReadDataBlock {
                 prod.defRoots.set(Arrays2.concat(lRoots, rRoots));
             } else if (computeroots) {
                 prod.defRoots.set(Arrays2.concat(roots(), r.roots()));
+            } else if (prod.defRoots.get() == null && isFactorizedRoots()) {
+                // the roots will be computed from the factors, if need be
+                prod.factors = new Polynomial[]{this, r};
             }
         }
         return prod;
@@ -1206,6 +1236,83 @@ public final class Polynomial implements IReadDataBlock {
         }
     }
 
+    /**
+     * Bounded memo of the roots computed with the default solver. The same
+     * polynomials are re-created many times (stationarity checks, arima
+     * models built from the same sarima model...). The memo is specific to
+     * each thread (no lock) and it is reset when the default solver is
+     * changed. It contains private copies of the roots
+     */
+    static final class RootsMemo extends LinkedHashMap<RootsMemo.Key, Complex[]> {
+
+        private static final int CAPACITY = 256;
+        private static final ThreadLocal<RootsMemo> MEMO = ThreadLocal.withInitial(RootsMemo::new);
+
+        // solver used to compute the memoized roots
+        private IRootsSolver solver;
+
+        private RootsMemo() {
+            super(64, .75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Complex[]> eldest) {
+            return size() > CAPACITY;
+        }
+
+        private static RootsMemo current() {
+            RootsMemo memo = MEMO.get();
+            IRootsSolver cur = defSolver.get();
+            if (memo.solver != cur) {
+                memo.clear();
+                memo.solver = cur;
+            }
+            return memo;
+        }
+
+        static Complex[] find(Polynomial p) {
+            Complex[] roots = current().get(new Key(p));
+            return roots == null ? null : roots.clone();
+        }
+
+        static void add(Polynomial p, Complex[] roots) {
+            if (roots == null) {
+                return;
+            }
+            current().put(new Key(p), roots.clone());
+        }
+
+        /**
+         * Size of the memo of the current thread
+         *
+         * @return
+         */
+        static int count() {
+            return current().size();
+        }
+
+        private static final class Key {
+
+            private final double[] c;
+            private final int hash;
+
+            Key(Polynomial p) {
+                c = Arrays.copyOf(p.m_c, p.degree + 1);
+                hash = Arrays.hashCode(c);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                return obj instanceof Key && hash == ((Key) obj).hash && Arrays.equals(c, ((Key) obj).c);
+            }
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+        }
+    }
+
     /**
      * Some values are requested often; this class makes them memory
      * efficient<br> Note that if might be interesting to check call stack to
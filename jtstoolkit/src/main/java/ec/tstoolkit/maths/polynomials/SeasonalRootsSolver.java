@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.polynomials;
+
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.Complex;
+
+/**
+ * Roots solver that uses the structure of the polynomials before calling a
+ * general solver:
+ * <ul>
+ * <li>polynomials of degree 1 or 2 are solved analytically;</li>
+ * <li>polynomials in x^s (seasonal factors like 1+a*x^s+b*x^2s) are reduced
+ * to a polynomial in y=x^s, whose roots are solved as above or by the general
+ * solver; the roots in x are the s-th roots of the roots in y.</li>
+ * </ul>
+ * The other polynomials are handled by the general solver. As with the
+ * Muller-Newton solver, the roots are sorted by their real parts and the
+ * remainder is the highest coefficient.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public class SeasonalRootsSolver implements IRootsSolver {
+
+    private final IRootsSolver m_solver;
+    private Complex[] m_roots;
+    private Polynomial m_remainder;
+
+    /**
+     * Creates a new solver, based on the Muller-Newton solver
+     */
+    public SeasonalRootsSolver() {
+        m_solver = new MullerNewtonSolver();
+    }
+
+    /**
+     *
+     * @param solver The general solver
+     */
+    public SeasonalRootsSolver(IRootsSolver solver) {
+        m_solver = solver;
+    }
+
+    @Override
+    public void clear() {
+        m_roots = null;
+        m_remainder = null;
+        m_solver.clear();
+    }
+
+    @Override
+    public boolean factorize(Polynomial p) {
+        clear();
+        int n = p.getDegree();
+        while (n > 0 && p.get(n) == 0) {
+            --n;
+        }
+        if (n == 0) {
+            return false;
+        }
+        // roots at 0 are left to the general solver
+        if (p.get(0) == 0) {
+            return general(p);
+        }
+        int s = stride(p, n);
+        Complex[] roots = s == 1 ? solve(p, n) : seasonal(p, n, s);
+        if (roots == null) {
+            return general(p);
+        }
+        sort(roots);
+        m_roots = roots;
+        m_remainder = Polynomial.valueOf(p.get(p.getDegree()));
+        return true;
+    }
+
+    @Override
+    public Polynomial remainder() {
+        return m_remainder;
+    }
+
+    @Override
+    public Complex[] roots() {
+        return m_roots;
+    }
+
+    @Override
+    public SeasonalRootsSolver exemplar() {
+        return new SeasonalRootsSolver(m_solver.exemplar());
+    }
+
+    private boolean general(Polynomial p) {
+        if (!m_solver.factorize(p)) {
+            return false;
+        }
+        m_roots = m_solver.roots();
+        m_remainder = m_solver.remainder();
+        m_solver.clear();
+        return true;
+    }
+
+    /**
+     * Greatest common divisor of the powers of the non null coefficients
+     */
+    private static int stride(Polynomial p, int n) {
+        int s = n;
+        for (int i = 1; i < n && s > 1; ++i) {
+            if (p.get(i) != 0) {
+                s = gcd(s, i);
+            }
+        }
+        return s;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private Complex[] seasonal(Polynomial p, int n, int s) {
+        int m = n / s;
+        double[] c = new double[m + 1];
+        for (int i = 0; i <= m; ++i) {
+            c[i] = p.get(i * s);
+        }
+        Polynomial q = Polynomial.of(c);
+        Complex[] y = m <= 2 ? solve(q, m) : null;
+        if (y == null) {
+            IRootsSolver solver = m_solver.exemplar();
+            if (!solver.factorize(q)) {
+                return null;
+            }
+            y = solver.roots();
+            if (y == null || y.length != m) {
+                return null;
+            }
+        }
+        // the roots of a real polynomial are real or conjugate pairs; the
+        // roots in x are generated by pairs, so that they are exact conjugates
+        int npos = 0, nneg = 0;
+        for (int i = 0; i < m; ++i) {
+            if (y[i].getIm() > 0) {
+                ++npos;
+            } else if (y[i].getIm() < 0) {
+                ++nneg;
+            }
+        }
+        if (npos != nneg) {
+            return null;
+        }
+        Complex[] roots = new Complex[n];
+        int j = 0;
+        for (int i = 0; i < m; ++i) {
+            double im = y[i].getIm();
+            if (im < 0) {
+                continue;
+            }
+            double r = Math.pow(y[i].abs(), 1.0 / s);
+            if (im > 0) {
+                double arg = y[i].arg();
+                for (int k = 0; k < s; ++k) {
+                    Complex w = Complex.polar(r, (arg + 2 * Math.PI * k) / s);
+                    roots[j++] = w;
+                    roots[j++] = w.conj();
+                }
+            } else {
+                // arguments in [0, pi] (the other ones are the conjugates)
+                boolean neg = y[i].getRe() < 0;
+                for (int k = 0; 2 * k <= s; ++k) {
+                    // arg = (theta+2*pi*k)/s, theta = 0 or pi
+                    int num = neg ? 2 * k + 1 : 2 * k;
+                    if (num > s) {
+                        break;
+                    }
+                    if (num == 0) {
+                        roots[j++] = Complex.cart(r);
+                    } else if (num == s) {
+                        roots[j++] = Complex.cart(-r);
+                    } else {
+                        Complex w = Complex.polar(r, Math.PI * num / s);
+                        roots[j++] = w;
+                        roots[j++] = w.conj();
+                    }
+                }
+            }
+        }
+        return j == n ? roots : null;
+    }
+
+    /**
+     * Analytical solutions for degree 1 or 2. Null otherwise
+     */
+    private static Complex[] solve(Polynomial p, int n) {
+        if (n == 1) {
+            return new Complex[]{Complex.cart(-p.get(0) / p.get(1))};
+        } else if (n != 2) {
+            return null;
+        }
+        double c = p.get(0), b = p.get(1), a = p.get(2);
+        double rho = b * b - 4 * a * c;
+        if (rho >= 0) {
+            // numerically stable form
+            double q = -.5 * (b + (b < 0 ? -Math.sqrt(rho) : Math.sqrt(rho)));
+            if (q == 0) {
+                return null;
+            }
+            return new Complex[]{Complex.cart(q / a), Complex.cart(c / q)};
+        } else {
+            double re = -b / (2 * a), im = Math.sqrt(-rho) / (2 * Math.abs(a));
+            return new Complex[]{Complex.cart(re, im), Complex.cart(re, -im)};
+        }
+    }
+
+    // sorts the roots by their real parts (straight insertion)
+    private static void sort(Complex[] roots) {
+        for (int j = 1; j < roots.length; j++) {
+            Complex tmp = roots[j];
+            int i = j - 1;
+            for (; i >= 0; i--) {
+                if (roots[i].getRe() <= tmp.getRe()) {
+                    break;
+                }
+                roots[i + 1] = roots[i];
+            }
+            roots[i + 1] = tmp;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.realfunctions;
+
+import ec.tstoolkit.algorithm.IProcessingExecutor;
+import ec.tstoolkit.algorithm.ProcessingContext;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.data.IReadDataBlock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Execution of the independent function evaluations of the numerical
+ * derivatives. The evaluations are split in contiguous blocks; each block
+ * works on its own copy of the parameters, re-used for all its evaluations.
+ * In multi-threaded mode, the blocks are executed by the executor of the
+ * active processing context (shared pool). Each evaluation writes its own
+ * result, so that the results don't depend on the execution mode.
+ *
+ * @author agent
+ */
+final class DerivativesEvaluation {
+
+    /**
+     * Evaluations of a block [start, end[
+     */
+    @FunctionalInterface
+    static interface Block {
+
+        /**
+         *
+         * @param buffer Buffer for the parameters, which must be re-initialized
+         * before each evaluation (see reset)
+         * @param start
+         * @param end
+         */
+        void evaluate(DataBlock buffer, int start, int end);
+    }
+
+    private DerivativesEvaluation() {
+    }
+
+    /**
+     * Copies the current point in the buffer
+     *
+     * @param buffer
+     * @param pt
+     * @return The buffer
+     */
+    static DataBlock reset(DataBlock buffer, IReadDataBlock pt) {
+        buffer.copy(pt);
+        return buffer;
+    }
+
+    /**
+     * Executes count evaluations
+     *
+     * @param count The number of evaluations
+     * @param pt The current point
+     * @param mt True if the evaluations can be executed in parallel
+     * @param block The evaluations
+     */
+    static void run(int count, IReadDataBlock pt, boolean mt, Block block) {
+        int nblocks = 1;
+        IProcessingExecutor executor = null;
+        if (mt && count > 1) {
+            executor = ProcessingContext.getActiveContext().getExecutor();
+            nblocks = Math.min(count, Math.min(executor.getParallelism(), Runtime.getRuntime().availableProcessors()));
+        }
+        int dim = pt.getLength();
+        if (nblocks <= 1) {
+            block.evaluate(new DataBlock(dim), 0, count);
+            return;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>(nblocks);
+        for (int i = 0; i < nblocks; ++i) {
+            final int start = (int) ((long) count * i / nblocks), end = (int) ((long) count * (i + 1) / nblocks);
+            tasks.add(() -> {
+                block.evaluate(new DataBlock(dim), start, end);
+                return null;
+            });
+        }
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new FunctionException(FunctionException.D_ERR);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new FunctionException(FunctionException.D_ERR);
+            }
+        }
+    }
+}
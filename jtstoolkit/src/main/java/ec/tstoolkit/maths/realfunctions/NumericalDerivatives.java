@@ -16,26 +16,24 @@
  */
 package ec.tstoolkit.maths.realfunctions;
 
-import ec.tstoolkit.algorithm.CompositeResults;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.maths.matrices.Matrix;
 import ec.tstoolkit.maths.matrices.SymmetricMatrix;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
+ * Numerical derivatives of a function. In multi-threaded mode, the
+ * evaluations of the function (for the gradient and for the hessian) are
+ * executed in parallel by the executor of the active processing context. The
+ * function must then be thread-safe. The results don't depend on the mode.
  *
  * @author Jean Palate
  */
 @Development(status = Development.Status.Alpha)
 public class NumericalDerivatives implements IFunctionDerivatives {
 
-    private static final int nThreads = Runtime.getRuntime().availableProcessors();
+    private final boolean m_mt;
 
     private double[] m_eps, m_fp, m_fm, m_grad;
 
@@ -63,48 +61,34 @@ public class NumericalDerivatives implements IFunctionDerivatives {
     public NumericalDerivatives(IFunction fn, IFunctionInstance point,
             boolean sym, boolean mt) {
         m_fn = fn;
+        m_mt = mt;
         m_fcur = point.getValue();
         m_pt = point.getParameters();
         int n = m_pt.getLength();
         m_fp = new double[n];
         m_eps = new double[n];
-        if (!mt || n < 2) {
-            if (!sym) {
-                for (int i = 0; i < n; ++i) {
-                    m_eps[i] = m_fn.getDomain().epsilon(m_pt, i);
-                    checkepsilon(i);
-                    m_fp[i] = newval(i, m_eps[i]);
-                }
-            } else {
-                m_fm = new double[n];
-                for (int i = 0; i < n; ++i) {
-                    m_eps[i] = m_fn.getDomain().epsilon(m_pt, i);
-                    checkepsilon(i);
-                    m_fp[i] = newval(i, m_eps[i]);
-                    m_fm[i] = newval(i, -m_eps[i]);
+        for (int i = 0; i < n; ++i) {
+            m_eps[i] = m_fn.getDomain().epsilon(m_pt, i);
+            checkepsilon(i);
+        }
+        if (!sym) {
+            DerivativesEvaluation.run(n, m_pt, mt, (buffer, start, end) -> {
+                for (int i = start; i < end; ++i) {
+                    m_fp[i] = newval(buffer, i, m_eps[i]);
                 }
-            }
+            });
         } else {
-            if (!sym) {
-                for (int i = 0; i < n; ++i) {
-                    m_eps[i] = m_fn.getDomain().epsilon(m_pt, i);
-                    checkepsilon(i);
-                }
-            } else {
-                m_fm = new double[n];
-                for (int i = 0; i < n; ++i) {
-                    m_eps[i] = m_fn.getDomain().epsilon(m_pt, i);
-                    checkepsilon(i);
+            m_fm = new double[n];
+            // f(x+ei), i in [0, n[, then f(x-ei)
+            DerivativesEvaluation.run(2 * n, m_pt, mt, (buffer, start, end) -> {
+                for (int k = start; k < end; ++k) {
+                    if (k < n) {
+                        m_fp[k] = newval(buffer, k, m_eps[k]);
+                    } else {
+                        m_fm[k - n] = newval(buffer, k - n, -m_eps[k - n]);
+                    }
                 }
-            }
-            List<Callable<Void>> tasks = createTasks(n, sym);
-            ExecutorService executorService = Executors.newFixedThreadPool(nThreads);
-            try {
-                executorService.invokeAll(tasks);
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            }
-            executorService.shutdown();
+            });
         }
     }
 
@@ -129,13 +113,42 @@ public class NumericalDerivatives implements IFunctionDerivatives {
             e[i] = Math.sqrt(Math.abs(m_eps[i]));
          }
         m_h = new Matrix(n, n);
+        // all the evaluations are done first: f(x+ei), f(x-ei) for the
+        // diagonal, then f(x+ei+ej), f(x-ei-ej), f(x+ei-ej), f(x-ei+ej) for
+        // each (i, j), j < i (lower triangle, by rows)
+        int nlower = n * (n - 1) / 2;
+        int[] ilower = new int[nlower], jlower = new int[nlower];
+        for (int i = 0, k = 0; i < n; ++i) {
+            for (int j = 0; j < i; ++j, ++k) {
+                ilower[k] = i;
+                jlower[k] = j;
+            }
+        }
+        double[] f = new double[2 * n + 4 * nlower];
+        DerivativesEvaluation.run(n + nlower, m_pt, m_mt, (buffer, start, end) -> {
+            for (int k = start; k < end; ++k) {
+                if (k < n) {
+                    double di = e[k];
+                    f[2 * k] = newval(buffer, k, di);
+                    f[2 * k + 1] = newval(buffer, k, -di);
+                } else {
+                    int l = k - n, i = ilower[l], j = jlower[l];
+                    double di = e[i], dj = e[j];
+                    int pos = 2 * n + 4 * l;
+                    f[pos] = newval(buffer, i, j, di / 2, dj / 2);
+                    f[pos + 1] = newval(buffer, i, j, -di / 2, -dj / 2);
+                    f[pos + 2] = newval(buffer, i, j, di / 2, -dj / 2);
+                    f[pos + 3] = newval(buffer, i, j, -di / 2, dj / 2);
+                }
+            }
+        });
         // compute the diagonal
         // df/di(x) = (f(x+ei)-f(x))/ei
         // d2f/di2(x) = (df/di(x)-df/di(x-ei))/ei=(f(x+ei)-f(x)-f(x)+f(x-ei))/ei*ei
         DataBlock diag = m_h.diagonal();
         for (int i = 0; i < n; ++i) {
             double di = e[i];
-            double num = newval(i, di) - 2 * m_fcur + newval(i, -di);
+            double num = f[2 * i] - 2 * m_fcur + f[2 * i + 1];
             if (num != 0 && m_eps[i] != 0) {
                 diag.set(i, num / (di*di));
             }
@@ -143,14 +156,13 @@ public class NumericalDerivatives implements IFunctionDerivatives {
         // other elements. 
         // df/di(x) = (f(x+ei)-f(x-ei))/(2ei)
         // d2f/didj(x) = (f(x+ei+ej)-f(x+ei-ej)-f(x-ei+ej)+f(x-ei-ej))/(4*ei*ej)
-        for (int i = 0; i < n; ++i) {
-            for (int j = 0; j < i; ++j) {
-                double di = e[i], dj = e[j];
-                double num = newval(i, j, di/2, dj/2) + newval(i, j, -di/2, -dj/2)
-                        - newval(i, j, di/2, -dj/2) - newval(i, j, -di/2, dj/2);
-                if (num != 0 && di != 0 && dj != 0) {
-                    m_h.set(i, j, num / (di * dj));
-                }
+        for (int l = 0; l < nlower; ++l) {
+            int i = ilower[l], j = jlower[l];
+            double di = e[i], dj = e[j];
+            int pos = 2 * n + 4 * l;
+            double num = f[pos] + f[pos + 1] - f[pos + 2] - f[pos + 3];
+            if (num != 0 && di != 0 && dj != 0) {
+                m_h.set(i, j, num / (di * dj));
             }
         }
         SymmetricMatrix.fromLower(m_h);
@@ -266,9 +278,9 @@ public class NumericalDerivatives implements IFunctionDerivatives {
         return m_h;
     }
 
-    private double newval(int i, double dx) {
+    private double newval(DataBlock buffer, int i, double dx) {
         try {
-            DataBlock cur = new DataBlock(m_pt);
+            DataBlock cur = DerivativesEvaluation.reset(buffer, m_pt);
             cur.add(i, dx);
             IFunctionInstance fn = m_fn.evaluate(cur);
             return fn.getValue();
@@ -277,9 +289,9 @@ public class NumericalDerivatives implements IFunctionDerivatives {
         }
     }
 
-    private double newval(int i, int j, double dxi, double dxj) {
+    private double newval(DataBlock buffer, int i, int j, double dxi, double dxj) {
         try {
-            DataBlock cur = new DataBlock(m_pt);
+            DataBlock cur = DerivativesEvaluation.reset(buffer, m_pt);
             cur.add(i, dxi);
             cur.add(j, dxj);
             IFunctionInstance fn = m_fn.evaluate(cur);
@@ -288,45 +300,4 @@ public class NumericalDerivatives implements IFunctionDerivatives {
             return m_fcur;
         }
     }
-
-    private List<Callable<Void>> createTasks(int n, boolean sym) {
-        List<Callable<Void>> result = new ArrayList<>();
-        for (int i = 0; i < n; ++i) {
-            result.add(new NewVal(m_fp, i, m_eps[i]));
-        }
-        if (sym) {
-            for (int i = 0; i < n; ++i) {
-                result.add(new NewVal(m_fm, i, -m_eps[i]));
-            }
-        }
-        return result;
-    }
-
-    private class NewVal implements Callable<Void> {
-
-        double[] rslt;
-        int pos;
-        double eps;
-
-        private NewVal(double[] rslt, int pos, double eps) {
-            this.rslt = rslt;
-            this.pos = pos;
-            this.eps = eps;
-
-        }
-
-        @Override
-        public Void call() throws Exception {
-            try {
-                DataBlock cur = new DataBlock(m_pt);
-                cur.add(pos, eps);
-                IFunctionInstance fn = m_fn.evaluate(cur);
-                rslt[pos] = fn.getValue();
-            } catch (Exception err) {
-                rslt[pos] = m_fcur;
-            }
-            return null;
-        }
-
-    }
 }
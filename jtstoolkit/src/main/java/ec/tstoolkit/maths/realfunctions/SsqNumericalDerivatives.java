@@ -22,25 +22,17 @@ import ec.tstoolkit.design.Development;
 import ec.tstoolkit.maths.matrices.Matrix;
 import ec.tstoolkit.maths.matrices.SubMatrix;
 import ec.tstoolkit.maths.matrices.SymmetricMatrix;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.RecursiveAction;
-import java.util.concurrent.TimeUnit;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
+ * Numerical derivatives of a sum of squares function. In multi-threaded mode,
+ * the evaluations of the function are executed in parallel by the executor
+ * of the active processing context (see NumericalDerivatives).
  *
  * @author Jean Palate
  */
 @Development(status = Development.Status.Alpha)
 public class SsqNumericalDerivatives implements ISsqFunctionDerivatives {
 
-    private static final int nThreads = Runtime.getRuntime().availableProcessors();
-
     private double[] m_epsp;
     private double[][] m_ep;
     private double[] m_epsm;
@@ -92,35 +84,21 @@ public class SsqNumericalDerivatives implements ISsqFunctionDerivatives {
             m_em = new double[n][];
         }
         m_de = new double[n][];
-        if (!m_mt || n < 2) {
-            for (int i = 0; i < n; ++i) {
-                m_epsp[i] = m_fn.getDomain().epsilon(m_pt, i);
-                checkepsilon(i);
-                if (m_sym) {
-                    checkmepsilon(i);
-                }
-                m_ep[i] = err(i, m_epsp[i]);
-                if (m_sym) {
-                    m_em[i] = err(i, m_epsm[i]);
-                }
+        for (int i = 0; i < n; ++i) {
+            m_epsp[i] = m_fn.getDomain().epsilon(m_pt, i);
+            checkepsilon(i);
+            if (m_sym) {
+                checkmepsilon(i);
             }
-        } else {
-            for (int i = 0; i < n; ++i) {
-                m_epsp[i] = m_fn.getDomain().epsilon(m_pt, i);
-                checkepsilon(i);
+        }
+        DerivativesEvaluation.run(n, m_pt, m_mt, (buffer, start, end) -> {
+            for (int i = start; i < end; ++i) {
+                m_ep[i] = err(buffer, i, m_epsp[i]);
                 if (m_sym) {
-                    checkmepsilon(i);
+                    m_em[i] = err(buffer, i, m_epsm[i]);
                 }
             }
-            List<Callable<Void>> tasks = createTasks(n, m_sym);
-            ExecutorService executorService = Executors.newFixedThreadPool(nThreads);
-            try {
-                executorService.invokeAll(tasks);
-                executorService.shutdown();
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            }
-        }
+        });
         for (int i = 0; i < n; ++i) {
             double[] ep = m_ep[i];
             double gr = 0;
@@ -233,9 +211,9 @@ public class SsqNumericalDerivatives implements ISsqFunctionDerivatives {
         return m_de[idx];
     }
 
-    private double[] err(int i, double dx) {
+    private double[] err(DataBlock buffer, int i, double dx) {
         try {
-            DataBlock pcur=new DataBlock(m_pt);
+            DataBlock pcur = DerivativesEvaluation.reset(buffer, m_pt);
             pcur.add(i, dx);
             ISsqFunctionInstance fn = m_fn.ssqEvaluate(pcur);
             return fn.getE();
@@ -286,46 +264,4 @@ public class SsqNumericalDerivatives implements ISsqFunctionDerivatives {
         }
         return m_h;
     }
-
-    private List<Callable<Void>> createTasks(int n, boolean sym) {
-        List<Callable<Void>> result = new ArrayList<>();
-        for (int i = 0; i < n; ++i) {
-            result.add(new Err(m_ep, i, m_epsp[i]));
-        }
-        if (sym) {
-            for (int i = 0; i < n; ++i) {
-                result.add(new Err(m_em, i, m_epsm[i]));
-            }
-        }
-        return result;
-    }
-
-    private class Err implements Callable<Void> {
-
-        double[][] rslt;
-        int pos;
-        double eps;
-
-        private Err(double[][] rslt, int pos, double eps) {
-            this.rslt = rslt;
-            this.pos = pos;
-            this.eps = eps;
-
-        }
-
-        @Override
-        public Void call() throws Exception {
-            try {
-                DataBlock cur = new DataBlock(m_pt);
-                cur.add(pos, eps);
-                ISsqFunctionInstance fn = m_fn.ssqEvaluate(cur);
-                rslt[pos] = fn.getE();
-            } catch (Exception err) {
-                rslt[pos] = m_ecur;
-            }
-            return null;
-        }
-
-    }
-
 }
@@ -17,6 +17,7 @@
 
 package ec.tstoolkit.maths.realfunctions.bfgs;
 
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.DataBlockIterator;
 import ec.tstoolkit.data.IReadDataBlock;
@@ -45,7 +46,7 @@ public class Bfgs implements IFunctionMinimizer {
     private double m_eps = 1e-9, m_geps = 1e-7, m_alpha, m_f, m_fprev,
             m_falpha = .5;
     private int m_iter, m_maxiter = 100, m_bdirty;
-    private boolean m_bUpdated, m_gUpdated, m_bStrong=true, m_bConverged;
+    private boolean m_bUpdated, m_gUpdated, m_bStrong=true, m_bConverged, m_mt;
     private static final int m_bminiter = 5;
 
     /** Creates a new instance of L_BFGS_B */
@@ -65,7 +66,7 @@ public class Bfgs implements IFunctionMinimizer {
     }
 
     private void calcSGrad(double[] g) {
-        NumericalDerivatives D = new NumericalDerivatives(m_fn, m_ftry, true);
+        NumericalDerivatives D = new NumericalDerivatives(m_fn, m_ftry, true, m_mt);
         double[] grad = D.getGradient();
         System.arraycopy(grad, 0, g, 0, g.length);
     }
@@ -94,6 +95,7 @@ public class Bfgs implements IFunctionMinimizer {
         bfgs.m_falpha = m_falpha;
         bfgs.m_maxiter = m_maxiter;
         bfgs.m_bStrong=m_bStrong;
+        bfgs.m_mt=m_mt;
         return bfgs;
     }
 
@@ -111,7 +113,7 @@ public class Bfgs implements IFunctionMinimizer {
                 m_gUpdated = true;
             }
             if (m_bdirty < m_bminiter || !update()) {
-                Matrix h = new NumericalDerivatives(m_fn, m_ftry, true).getHessian();
+                Matrix h = new NumericalDerivatives(m_fn, m_ftry, true, m_mt).getHessian();
                 m_B = SymmetricMatrix.inverse(h);
             }
             m_bUpdated = true;
@@ -295,6 +297,7 @@ public class Bfgs implements IFunctionMinimizer {
         initialize(function, start);
         while (iterate() && m_iter < m_maxiter) {
             ++m_iter;
+            ProcessingMetrics.increment(ProcessingMetrics.Counter.OptimizerIterations);
         }
 
         return true;
@@ -395,4 +398,18 @@ public class Bfgs implements IFunctionMinimizer {
     public void useStrongStopConditions(boolean value) {
         m_bStrong = value;
     }
+
+    public boolean isMultiThread() {
+        return m_mt;
+    }
+
+    /**
+     * Computes the numerical derivatives (gradient and hessian) in parallel.
+     * The function must be thread-safe
+     *
+     * @param mt
+     */
+    public void setMultiThread(boolean mt) {
+        m_mt = mt;
+    }
 }
@@ -17,6 +17,7 @@
 
 package ec.tstoolkit.maths.realfunctions.levmar;
 
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.DescriptiveStatistics;
 import ec.tstoolkit.data.IReadDataBlock;
@@ -299,6 +300,7 @@ public class DogLegMethod implements ISsqFunctionMinimizer {
         g_ = new DataBlock(m);
         while (iterate() && iter < itmax) {
             ++iter;
+            ProcessingMetrics.increment(ProcessingMetrics.Counter.OptimizerIterations);
         }
         return (stop != 7 && stop != 4);
     }
@@ -18,6 +18,7 @@ package ec.tstoolkit.maths.realfunctions.levmar;
 
 import ec.tstoolkit.algorithm.IProcessingHook;
 import ec.tstoolkit.algorithm.ProcessingHookProvider;
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.DescriptiveStatistics;
 import ec.tstoolkit.data.IReadDataBlock;
@@ -309,6 +310,7 @@ public class LevenbergMarquardtMethod extends ProcessingHookProvider<LevenbergMa
         J = new Matrix(n, m);
         Jte = new DataBlock(m);
         while (iter++ < itmax) {
+            ProcessingMetrics.increment(ProcessingMetrics.Counter.OptimizerIterations);
             boolean rslt = iterate();
             if (hasHooks()) {
                 IProcessingHook.HookInformation<LevenbergMarquardtMethod, ISsqFunctionInstance> hinfo
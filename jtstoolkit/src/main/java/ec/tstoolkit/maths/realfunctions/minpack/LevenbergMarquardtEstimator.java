@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.maths.realfunctions.minpack;
 
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.maths.realfunctions.FunctionException;
 
@@ -497,6 +498,7 @@ public class LevenbergMarquardtEstimator extends AbstractEstimator {
         boolean firstIteration = true;
         iterCount = 0;
         while (iterCount++ < maxIter) {
+            ProcessingMetrics.increment(ProcessingMetrics.Counter.OptimizerIterations);
 
             // compute the Q.R. decomposition of the jacobian matrix
             updateJacobian(problem);
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.modelling.arima;
+
+import ec.tstoolkit.algorithm.IProcessingExecutor;
+import ec.tstoolkit.algorithm.ProcessingContext;
+import ec.tstoolkit.design.Development;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntFunction;
+
+/**
+ * Evaluation of independent candidate models during the automatic modelling
+ * of a series (arma orders, log/level, calendar specifications...).
+ *
+ * When the parallel modelling is enabled in the active processing context,
+ * the candidates are evaluated by the executor of that context. Each
+ * candidate must then work on its own objects (model description, monitor,
+ * variables...). The results are always returned in the order of the
+ * candidates, so that the reduction made by the caller (sort, comparison)
+ * gives the same model as the sequential evaluation.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class CandidateEvaluation {
+
+    private CandidateEvaluation() {
+    }
+
+    /**
+     * Checks that the candidates are evaluated in parallel
+     *
+     * @return
+     */
+    public static boolean isParallel() {
+        ProcessingContext context = ProcessingContext.getActiveContext();
+        return context != null && context.isParallelModelling()
+                && context.getExecutor().getParallelism() > 1;
+    }
+
+    /**
+     * Evaluates n candidates
+     *
+     * @param <T> Type of the results
+     * @param n The number of candidates
+     * @param fn The evaluation of the i-th candidate
+     * @return The results, in the order of the candidates
+     */
+    public static <T> List<T> evaluate(int n, IntFunction<? extends T> fn) {
+        List<T> results = new ArrayList<>(n);
+        if (n < 2 || !isParallel()) {
+            for (int i = 0; i < n; ++i) {
+                results.add(fn.apply(i));
+            }
+            return results;
+        }
+        IProcessingExecutor executor = ProcessingContext.getActiveContext().getExecutor();
+        List<Callable<T>> tasks = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            final int cur = i;
+            tasks.add(() -> fn.apply(cur));
+        }
+        try {
+            results.addAll(executor.invokeAll(tasks));
+            return results;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        } catch (ExecutionException ex) {
+            // the first failure, in the order of the candidates. Work-stealing
+            // pools may wrap the original exception in a copy of itself
+            Throwable cause = ex.getCause();
+            if (cause != null && cause.getCause() != null && cause.getCause().getClass() == cause.getClass()) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+}
@@ -196,6 +196,39 @@ public class DefaultArimaSpec implements Cloneable, InformationSetSerializable {
         }
     }
 
+    /**
+     * Uses the estimated parameters of a previous specification as initial
+     * values of the undefined parameters of this specification. The next
+     * estimation of the model will start from the previous estimates (warm
+     * start). Only the parameters of the arrays with the same orders are
+     * considered
+     *
+     * @param previous The previous specification
+     */
+    public void setInitialParameters(DefaultArimaSpec previous) {
+        setInitial(phi_, previous.phi_);
+        setInitial(bphi_, previous.bphi_);
+        setInitial(theta_, previous.theta_);
+        setInitial(btheta_, previous.btheta_);
+    }
+
+    private static void setInitial(Parameter[] target, Parameter[] source) {
+        if (target == null || source == null || target.length != source.length) {
+            return;
+        }
+        for (int i = 0; i < target.length; ++i) {
+            if (Parameter.isDefault(target[i]) && source[i] != null
+                    && (source[i].getType() == ParameterType.Estimated || source[i].getType() == ParameterType.Initial)) {
+                target[i] = new Parameter(source[i].getValue(), ParameterType.Initial);
+            }
+        }
+    }
+
+    public boolean hasInitialParameters() {
+        return Parameter.hasInitialParameters(phi_) || Parameter.hasInitialParameters(theta_)
+                || Parameter.hasInitialParameters(bphi_) || Parameter.hasInitialParameters(btheta_);
+    }
+
     public boolean hasParameters() {
         return !Parameter.isDefault(phi_) || !Parameter.isDefault(theta_)
                 || !Parameter.isDefault(bphi_) || !Parameter.isDefault(btheta_);
@@ -16,6 +16,8 @@
  */
 package ec.tstoolkit.modelling.arima;
 
+import ec.tstoolkit.algorithm.IProcessingExecutor;
+import ec.tstoolkit.algorithm.ProcessingContext;
 import ec.tstoolkit.arima.IArimaModel;
 import ec.tstoolkit.arima.estimation.AnsleyFilter;
 import ec.tstoolkit.arima.estimation.IArmaFilter;
@@ -24,14 +26,33 @@ import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.DataBlockIterator;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.eco.RegModel;
+import ec.tstoolkit.maths.FftPlan;
 import ec.tstoolkit.maths.matrices.Householder;
 import ec.tstoolkit.maths.matrices.LowerTriangularMatrix;
 import ec.tstoolkit.maths.matrices.Matrix;
 import ec.tstoolkit.modelling.IRobustStandardDeviationComputer;
 import ec.tstoolkit.timeseries.regression.IOutlierVariable;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
+ * Exact computation of the t-statistics of the outliers, by means of the
+ * filtered regression variables.
+ * By default, the outliers are filtered at each position. Two options reduce
+ * the processing time of long series (both are off by default):
+ * - shift invariant scan: once the ARMA filter is past its transient, it is
+ * time invariant: the filtered outlier at a given position is then the
+ * shifted (and truncated) response of the filter to the outlier at a
+ * reference position. The statistics of all the following positions are
+ * computed from that response only, the needed cross-products being obtained
+ * by FFT. The statistics are then approximated (relative precision of about
+ * 1e-9).
+ * - parallel scan: the positions that are filtered one by one are split in
+ * blocks executed by the executor of the active processing context. The
+ * statistics are unchanged.
  *
  * @author Jean Palate
  */
@@ -43,6 +64,17 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
     private Matrix m_L, m_X;
     private double[] m_yl, m_b, m_w;
     private int m_n;
+    private boolean m_shift, m_parallel;
+    // spectra of the filtered data and of the filtered regression variables
+    private double[][] m_fyl;
+    private double[][][] m_fX;
+
+    // relative precision of the shifted responses
+    private static final double SHIFT_EPS = 1e-9;
+    // minimal number of positions processed by shifting the responses
+    private static final int MIN_SHIFTED = 32;
+    // minimal size (positions x length) for a parallel processing of the positions
+    private static final int PARALLEL_THRESHOLD = 1 << 18;
 
     public ExactSingleOutlierDetector() {
         this(IRobustStandardDeviationComputer.mad());
@@ -77,6 +109,49 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         this.resComputer = resComputer;
     }
 
+    /**
+     * Indicates that the time invariance of the filter is used once it is past
+     * its transient (false by default)
+     *
+     * @return
+     */
+    public boolean isShiftInvariantScan() {
+        return m_shift;
+    }
+
+    /**
+     * When set to false, the outliers are filtered at each position. Otherwise,
+     * the shifted response of the filter is used once the filter is past its
+     * transient. The t-statistics are the same up to a relative precision of
+     * about 1e-9.
+     *
+     * @param shift
+     */
+    public void setShiftInvariantScan(boolean shift) {
+        m_shift = shift;
+    }
+
+    /**
+     * Indicates that the positions of long series are filtered in parallel
+     * (false by default)
+     *
+     * @return
+     */
+    public boolean isParallelScan() {
+        return m_parallel;
+    }
+
+    /**
+     * When set to true, the positions of long series are split in blocks,
+     * executed by the executor of the active processing context. The
+     * t-statistics don't depend on this option.
+     *
+     * @param parallel
+     */
+    public void setParallelScan(boolean parallel) {
+        m_parallel = parallel;
+    }
+
     /**
      *
      * @return
@@ -105,6 +180,8 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
      */
     protected boolean initialize(RegModel model) {
         try {
+            m_fyl = null;
+            m_fX = null;
             m_yl = new double[m_n];
             DataBlock YL = new DataBlock(m_yl);
             m_filter.filter(model.getY(), YL);
@@ -199,51 +276,239 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         DataBlock OD = new DataBlock(od);
         getModel().getDifferencingFilter().filter(O, OD);
 
-        DataBlock OL = new DataBlock(od, n, 2 * n - d, 1);
-        for (int i = 0; i < n; ++i) {
+        int npos = n;
+        if (m_shift && m_n == n - d) {
+            npos = processShiftedOutliers(idx, od, n, d);
+        }
+        processOutliers(idx, od, n, d, npos);
+    }
+
+    /**
+     * Filters the outlier at a given position
+     *
+     * @param filter
+     * @param od The differenced outlier, from position -n
+     * @param n
+     * @param d
+     * @param pos
+     * @return
+     */
+    private double[] response(IArmaFilter filter, double[] od, int n, int d, int pos) {
+        double[] u = new double[m_n];
+        filter.filter(new DataBlock(od, n - pos, 2 * n - d - pos, 1), new DataBlock(u));
+        return u;
+    }
+
+    /**
+     * Computes the statistics of the positions that follow the transient of
+     * the filter. The response of the filter at some reference position (T) is
+     * accepted when it doesn't differ from the response at T+T/4 (shifted by
+     * T/4). Since the filter converges geometrically, that difference is a
+     * good approximation of the error on the following positions.
+     *
+     * @return The first position that has been processed (n if none)
+     */
+    private int processShiftedOutliers(int idx, double[] od, int n, int d) {
+        IArimaModel arma = getModel().getArma();
+        int T = Math.max(d, arma.getAR().getDegree() + arma.getMA().getDegree()) + 1;
+        double[] ref = null, cur = response(m_filter, od, n, d, T);
+        for (int del = Math.max(1, T / 4); n - T - del >= MIN_SHIFTED; del = Math.max(1, T / 4)) {
+            double[] next = response(m_filter, od, n, d, T + del);
+            // the filter must be causal...
+            for (int t = 0; t < T - d; ++t) {
+                if (cur[t] != 0) {
+                    return n;
+                }
+            }
+            // ... and time invariant
+            double dn = 0, nn = 0;
+            for (int t = T - d; t < m_n - del; ++t) {
+                double e = next[t + del] - cur[t];
+                dn += e * e;
+                nn += cur[t] * cur[t];
+            }
+            if (dn <= SHIFT_EPS * SHIFT_EPS * nn) {
+                ref = cur;
+                break;
+            }
+            T += del;
+            cur = next;
+        }
+        if (ref == null) {
+            return n;
+        }
+        // u(pos, t) = ref(t-(pos-T)), pos >= T
+        int m = m_n, nshift = n - T;
+        double[] ssq = new double[m + 1];
+        for (int t = 0; t < m; ++t) {
+            ssq[t + 1] = ssq[t] + ref[t] * ref[t];
+        }
+        FftPlan plan = FftPlan.of(FftPlan.nextPowerOf2(2 * m));
+        double[][] fref = spectrum(plan, new DataBlock(ref));
+        if (m_fyl == null) {
+            m_fyl = spectrum(plan, new DataBlock(m_yl));
+            if (m_X != null) {
+                m_fX = new double[m_X.getColumnsCount()][][];
+                DataBlockIterator xcols = m_X.columns();
+                DataBlock xcol = xcols.getData();
+                do {
+                    m_fX[xcols.getPosition()] = spectrum(plan, xcol);
+                } while (xcols.next());
+            }
+        }
+        double[] xy = crossProducts(plan, fref, m_fyl, nshift);
+        double[][] xl = null;
+        if (m_L != null) {
+            xl = new double[m_fX.length][];
+            for (int k = 0; k < xl.length; ++k) {
+                xl[k] = crossProducts(plan, fref, m_fX[k], nshift);
+            }
+        }
+        for (int i = T, s = 0; i < n; ++i, ++s) {
+            if (isDefined(i, idx)) {
+                double[] l = null;
+                if (xl != null) {
+                    l = new double[xl.length];
+                    for (int k = 0; k < l.length; ++k) {
+                        l[k] = xl[k][s];
+                    }
+                }
+                computeT(i, idx, ssq[m - s], xy[s], l);
+            }
+        }
+        return T;
+    }
+
+    private static double[][] spectrum(FftPlan plan, DataBlock x) {
+        int len = plan.getLength();
+        double[] re = new double[len], im = new double[len];
+        x.copyTo(re, 0);
+        plan.transform(re, im);
+        return new double[][]{re, im};
+    }
+
+    /**
+     * Computes c(s) = sum(ref(t)*z(t+s)), s in [0, ns[, from the spectra of ref
+     * and z
+     */
+    private static double[] crossProducts(FftPlan plan, double[][] fref, double[][] fz, int ns) {
+        int len = plan.getLength();
+        double[] rr = fref[0], ri = fref[1], zr = fz[0], zi = fz[1];
+        double[] re = new double[len], im = new double[len];
+        for (int k = 0; k < len; ++k) {
+            // conj(ref)*z
+            re[k] = rr[k] * zr[k] + ri[k] * zi[k];
+            im[k] = rr[k] * zi[k] - ri[k] * zr[k];
+        }
+        plan.backTransform(re, im);
+        double[] c = new double[ns];
+        System.arraycopy(re, 0, c, 0, ns);
+        return c;
+    }
+
+    /**
+     * Computes the statistics of the positions [0, npos[ by filtering the
+     * outlier at each position. In parallel scan, long series are split in
+     * blocks of positions executed in parallel, each of them with its own
+     * filter.
+     */
+    private void processOutliers(int idx, double[] od, int n, int d, int npos) {
+        int nblocks = 1;
+        IProcessingExecutor executor = null;
+        if (m_parallel && (long) npos * m_n >= PARALLEL_THRESHOLD) {
+            executor = ProcessingContext.getActiveContext().getExecutor();
+            nblocks = Math.min(npos / MIN_SHIFTED, Math.min(executor.getParallelism(), Runtime.getRuntime().availableProcessors()));
+        }
+        if (nblocks <= 1) {
+            processOutliers(m_filter, idx, od, n, d, 0, npos);
+            return;
+        }
+        IArimaModel arma = getModel().getArma();
+        int nobs = n - d;
+        List<Callable<Void>> tasks = new ArrayList<>(nblocks);
+        for (int i = 0; i < nblocks; ++i) {
+            final int i0 = (int) ((long) npos * i / nblocks), i1 = (int) ((long) npos * (i + 1) / nblocks);
+            tasks.add(() -> {
+                IArmaFilter filter = m_filter.exemplar();
+                filter.initialize(arma, nobs);
+                processOutliers(filter, idx, od, n, d, i0, i1);
+                return null;
+            });
+        }
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+    private void processOutliers(IArmaFilter filter, int idx, double[] od, int n, int d, int i0, int i1) {
+        for (int i = i0; i < i1; ++i) {
             if (isDefined(i, idx)) {
-//                double[] ol = new double[n - d];
-//                DataBlock OL = new DataBlock(ol);
-//                System.arraycopy(od, n - i , ol, 0, ol.length);
-                double[] u = new double[m_n];
-                DataBlock U = new DataBlock(u);
-                m_filter.filter(OL, U);
+                double[] u = response(filter, od, n, d, i);
                 double xx = 0, xy = 0;
                 for (int j = 0; j < u.length; ++j) {
                     xx += u[j] * u[j];
                     xy += u[j] * m_yl[j];
                 }
-
+                double[] l = null;
                 if (m_L != null) {
-                    double[] l = new double[m_b.length];
+                    l = new double[m_b.length];
+                    DataBlock U = new DataBlock(u);
                     DataBlockIterator xcols = m_X.columns();
                     DataBlock xcol = xcols.getData();
                     do {
                         l[xcols.getPosition()] = xcol.dot(U);
                     } while (xcols.next());
-                    DataBlock L = new DataBlock(l);
-                    // K=A^-1*L
-                    // lA * lA' * K = L
-                    // l'AA^-1l = |l' * lA'^-1|
-                    LowerTriangularMatrix.rsolve(m_L, l);
-                    // q = l'A^-1l
-                    double q = L.dot(L);
-                    //
-                    double c = xx - q;
-                    if (c <= 0) {
-                        exclude(i, idx);
-                    } else {
-                        LowerTriangularMatrix.lsolve(m_L, l);
-                        setT(i, idx, (xy - new DataBlock(m_w).dot(L))
-                                / (Math.sqrt(c)) / getMAD());
-                    }
-                } else if (xx <= 0) {
-                    exclude(i, idx);
-                } else {
-                    setT(i, idx, (xy / (Math.sqrt(xx)) / getMAD()));
                 }
+                computeT(i, idx, xx, xy, l);
+            }
+        }
+    }
+
+    /**
+     * Computes the t-statistic of an outlier
+     *
+     * @param i The position of the outlier
+     * @param idx The type of the outlier
+     * @param xx The sum of squares of the filtered outlier
+     * @param xy The cross-product of the filtered outlier and of the filtered
+     * data
+     * @param l The cross-products of the filtered outlier and of the filtered
+     * regression variables (null if there is no regression variable)
+     */
+    private void computeT(int i, int idx, double xx, double xy, double[] l) {
+        if (m_L != null) {
+            DataBlock L = new DataBlock(l);
+            // K=A^-1*L
+            // lA * lA' * K = L
+            // l'AA^-1l = |l' * lA'^-1|
+            LowerTriangularMatrix.rsolve(m_L, l);
+            // q = l'A^-1l
+            double q = L.dot(L);
+            //
+            double c = xx - q;
+            if (c <= 0) {
+                exclude(i, idx);
+            } else {
+                LowerTriangularMatrix.lsolve(m_L, l);
+                setT(i, idx, (xy - new DataBlock(m_w).dot(L))
+                        / (Math.sqrt(c)) / getMAD());
             }
-            OL.move(-1);
+        } else if (xx <= 0) {
+            exclude(i, idx);
+        } else {
+            setT(i, idx, (xy / (Math.sqrt(xx)) / getMAD()));
         }
     }
 
@@ -258,5 +523,7 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         m_X = null;
         m_b = null;
         m_w = null;
+        m_fyl = null;
+        m_fX = null;
     }
 }
@@ -71,7 +71,8 @@ public class ModelDescription implements Cloneable {
     private volatile int diff_;
     private DefaultTransformationType function_ = DefaultTransformationType.None;
     private double logtransform0_, logtransform_;
-    // caching of the regression variables
+    // caching of the regression variables (shared by the clones, which can be
+    // estimated concurrently)
     private final HashMap<ITsVariable, DataBlock[]> xmap_
             = new HashMap<>();
 
@@ -296,8 +297,20 @@ public class ModelDescription implements Cloneable {
     }
 
     private DataBlock[] getX(ITsVariable variable) {
-        DataBlock[] x = xmap_.get(variable);
+        DataBlock[] x;
+        synchronized (xmap_) {
+            x = xmap_.get(variable);
+        }
+        if (x != null) {
+            return x;
+        }
+        // calendar variables are shared by the different series
+        RegressorCache cache = RegressorCache.getDefault();
+        x = cache == null ? null : cache.get(variable, estimationDomain_);
         if (x != null) {
+            synchronized (xmap_) {
+                xmap_.put(variable, x);
+            }
             return x;
         } else {
             int n = estimationDomain_.getLength();
@@ -308,7 +321,9 @@ public class ModelDescription implements Cloneable {
                 tmp.add(x[i]);
             }
             variable.data(estimationDomain_, tmp);
-            xmap_.put(variable, x);
+            synchronized (xmap_) {
+                xmap_.put(variable, x);
+            }
             return x;
         }
     }
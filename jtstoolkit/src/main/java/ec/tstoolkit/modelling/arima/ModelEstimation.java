@@ -33,6 +33,7 @@ import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.information.ParameterInfo;
 import ec.tstoolkit.information.StatisticalTest;
 import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.realfunctions.IParametricMapping;
 import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.stats.NiidTests;
 import ec.tstoolkit.stats.RunsTestKind;
@@ -177,6 +178,31 @@ public class ModelEstimation implements IProcResults {
         }
     }
 
+    /**
+     * Estimates a model described by a model description (used for the
+     * comparison of alternative models)
+     *
+     * @param desc The model description. May be null
+     * @param mapping The mapping of the arima parameters
+     * @param eps The precision of the estimation
+     * @return The estimation. Null if the description is null or if the
+     * estimation failed
+     */
+    public static ModelEstimation estimate(ModelDescription desc, IParametricMapping<SarimaModel> mapping, double eps) {
+        if (desc == null) {
+            return null;
+        }
+        RegArimaEstimator monitor = new RegArimaEstimator(mapping);
+        monitor.setPrecision(eps);
+        try {
+            ModelEstimation estimation = new ModelEstimation(desc.buildRegArima(), desc.getLikelihoodCorrection());
+            estimation.compute(monitor, mapping.getDim());
+            return estimation;
+        } catch (Exception err) {
+            return null;
+        }
+    }
+
     public void updateParametersCovariance(Matrix pvar) {
         pcov_ = pvar;
     }
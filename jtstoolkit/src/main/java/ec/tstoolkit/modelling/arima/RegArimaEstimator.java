@@ -47,7 +47,7 @@ import ec.tstoolkit.sarima.estimation.SarimaInitializer;
 @Development(status = Development.Status.Preliminary)
 public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
 
-    public static final String SCORE = "score", OPTIMIZATION = "optimization";
+    public static final String SCORE = "score", OPTIMIZATION = "optimization", WARMSTART = "warmstart", ITERATIONS = "iterations";
     public static enum StartingPoint {
 
         Zero,
@@ -61,6 +61,7 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
     protected StartingPoint start_ = StartingPoint.Multiple;
     protected Matrix pcov_;
     protected double[] score_;
+    protected int niter_;
     protected final IParametricMapping<SarimaModel> mapping_;
     protected GlsSarimaMonitor monitor_;
     protected IFunctionMinimizer min_ = new ProxyMinimizer(new LevenbergMarquardtMethod());
@@ -105,9 +106,20 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
         return min_;
     }
 
+    /**
+     * Total number of iterations of the minimizers used in the last
+     * estimation (search of the starting point included)
+     *
+     * @return
+     */
+    public int getIterationsCount() {
+        return niter_;
+    }
+
     @Override
     public RegArimaEstimation<SarimaModel> process(RegArimaModel<SarimaModel> regs) {
 
+        niter_ = 0;
         if (mapping_.getDim() == 0 ) {
             return new RegArimaEstimation<>(regs, regs.computeLikelihood());
         }
@@ -187,6 +199,7 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
 
     @Override
     public RegArimaEstimation<SarimaModel> optimize(RegArimaModel<SarimaModel> regs) {
+        niter_ = 0;
         SarimaModel arima = regs.getArima();
         DataBlock p = new DataBlock(mapping_.map(arima));
         if (mapping_.validate(p) == ParamValidation.Changed) {
@@ -220,6 +233,7 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
         feps_ = eps_;
         monitor_ = createProcessor();
         RegArimaEstimation<SarimaModel> rslt = monitor_.optimize(regs, start);
+        niter_ += monitor_.getIterationsCount();
         if (rslt != null) {
             return finalProcessing(rslt);
         } else {
@@ -230,6 +244,7 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
                 feps_ *= 10;
                 monitor_.setPrecision(feps_);
                 rslt = monitor_.optimize(regs, rslt.model.getArma());
+                niter_ += monitor_.getIterationsCount();
             } while (rslt == null && ++iter < 3);
             if (rslt == null) {
                 return null;
@@ -250,7 +265,9 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
         feps_ = eps_;
         GlsSarimaMonitor monitor = createProcessor(DEF_INTERNAL_EPS);
         monitor.getMinimizer().setMaxIter(10);
-        return monitor.optimize(regs, start);
+        RegArimaEstimation<SarimaModel> rslt = monitor.optimize(regs, start);
+        niter_ += monitor.getIterationsCount();
+        return rslt;
     }
 
     @Override
@@ -316,6 +333,7 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
             mapping_.validate(parameters);
             nmodel.getArima().setParameters(parameters);
             RegArimaEstimation<SarimaModel> nrslts = nmonitor.optimize(nmodel);
+            niter_ += nmonitor.getIterationsCount();
             if (nrslts.likelihood.getLogLikelihood() > estimation.likelihood.getLogLikelihood()) {
                 monitor_ = nmonitor;
                 return nrslts;
@@ -378,6 +396,7 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
             mapping_.validate(parameters);
             nmodel.getArima().setParameters(parameters);
             RegArimaEstimation<SarimaModel> nrslts = nmonitor.optimize(nmodel);
+            niter_ += nmonitor.getIterationsCount();
             if (nrslts.likelihood.getLogLikelihood() > estimation.likelihood.getLogLikelihood()) {
                 monitor_ = nmonitor;
                 return nrslts;
@@ -20,6 +20,7 @@ import ec.tstoolkit.arima.estimation.ArmaKF;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.modelling.arima.CandidateEvaluation;
 import ec.tstoolkit.modelling.arima.IPreprocessingModule;
 import ec.tstoolkit.modelling.arima.ModellingContext;
 import ec.tstoolkit.modelling.arima.ProcessingResult;
@@ -28,6 +29,7 @@ import ec.tstoolkit.sarima.SarimaSpecification;
 import ec.tstoolkit.sarima.SarmaSpecification;
 import ec.tstoolkit.sarima.estimation.HannanRissanen;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  *
@@ -460,15 +462,20 @@ public class ArmaModule implements IPreprocessingModule {
         m_hrs = null;
         HRBic[] hrs = new HRBic[specs.length];
         int n = 0;
-        for (int i = 0; i < specs.length; ++i) {
+        List<HRBic> all = CandidateEvaluation.evaluate(specs.length, i -> {
             HannanRissanen hr = new HannanRissanen();
             if (hr.process(data, specs[i])) {
                 SarimaModel m = hr.getModel();
                 if (!m.adjustSpecification() && m.isStable(true)) {
-                    HRBic hrbic = new HRBic(hr);
-                    hrs[n++] = hrbic;
+                    return new HRBic(hr);
                 }
             }
+            return null;
+        });
+        for (HRBic hrbic : all) {
+            if (hrbic != null) {
+                hrs[n++] = hrbic;
+            }
         }
         if (n == 0) {
             return 0;
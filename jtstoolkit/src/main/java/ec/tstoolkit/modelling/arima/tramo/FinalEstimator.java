@@ -20,6 +20,7 @@ package ec.tstoolkit.modelling.arima.tramo;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.maths.Complex;
 import ec.tstoolkit.maths.polynomials.Polynomial;
 import ec.tstoolkit.maths.realfunctions.IParametricMapping;
@@ -76,7 +77,10 @@ public class FinalEstimator implements IModelEstimator {
                 if (ndim == 0) {
                     return true;
                 }
-                context.information.subSet(RegArimaEstimator.OPTIMIZATION).set(RegArimaEstimator.SCORE, monitor.getScore());
+                InformationSet optimization = context.information.subSet(RegArimaEstimator.OPTIMIZATION);
+                optimization.set(RegArimaEstimator.SCORE, monitor.getScore());
+                optimization.set(RegArimaEstimator.WARMSTART, model.getArimaComponent().hasInitialParameters());
+                optimization.set(RegArimaEstimator.ITERATIONS, monitor.getIterationsCount());
                 if (checkUnitRoots(context)) {
                     nnsig_ = 0;
                     if (context.automodelling) {
@@ -25,6 +25,7 @@ import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.maths.realfunctions.ProxyMinimizer;
 import ec.tstoolkit.maths.realfunctions.levmar.LevenbergMarquardtMethod;
 import ec.tstoolkit.modelling.DefaultTransformationType;
+import ec.tstoolkit.modelling.arima.CandidateEvaluation;
 import ec.tstoolkit.modelling.arima.IPreprocessingModule;
 import ec.tstoolkit.modelling.arima.ModelDescription;
 import ec.tstoolkit.modelling.arima.ModellingContext;
@@ -34,6 +35,7 @@ import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.sarima.SarimaSpecification;
 import ec.tstoolkit.sarima.estimation.GlsSarimaMonitor;
 import ec.tstoolkit.sarima.estimation.SarimaInitializer;
+import java.util.List;
 
 /**
  *
@@ -164,31 +166,35 @@ public class LogLevelTest extends AbstractTramoModule implements IPreprocessingM
             context.estimation = null;
             int ifreq = curModel.getFrequency();
             double[] data = curModel.getY();
-            RegArimaModel<SarimaModel> reg = buildModel(ifreq, data, context.hasseas);
-            //TramoModelEstimator monitor = new TramoModelEstimator();
-            SarimaInitializer initializer = new SarimaInitializer();
-            initializer.useDefaultIfFailed(false);
-            GlsSarimaMonitor monitor = getMonitor(initializer);
-            e_ = monitor.process(reg);
-            if (e_ != null) {
-                level_ = Math.log(e_.likelihood.getSsqErr()
-                        * e_.likelihood.getFactor());
-                //reg.setArima(e_.model.getArima());
-            }
             double[] ldata = data.clone();
             slog_ = 0;
             for (int i = 0; i < ldata.length; ++i) {
                 if (ldata[i] <= 0) {
-                    curModel.setTransformation(DefaultTransformationType.None);
-                    return ProcessingResult.Changed;
+                    ldata = null;
+                    break;
                 }
                 ldata[i] = Math.log(ldata[i]);
                 slog_ += ldata[i];
             }
+            double[][] candidates = ldata == null ? new double[][]{data} : new double[][]{data, ldata};
+            List<RegArimaEstimation<SarimaModel>> estimations = CandidateEvaluation.evaluate(candidates.length, i -> {
+                RegArimaModel<SarimaModel> reg = buildModel(ifreq, candidates[i], context.hasseas);
+                SarimaInitializer initializer = new SarimaInitializer();
+                initializer.useDefaultIfFailed(false);
+                return getMonitor(initializer).process(reg);
+            });
+            e_ = estimations.get(0);
+            if (e_ != null) {
+                level_ = Math.log(e_.likelihood.getSsqErr()
+                        * e_.likelihood.getFactor());
+            }
+            if (ldata == null) {
+                curModel.setTransformation(DefaultTransformationType.None);
+                return ProcessingResult.Changed;
+            }
             slog_ /= ldata.length;
 
-            reg = buildModel(ifreq, ldata, context.hasseas);
-            el_ = monitor.process(reg);
+            el_ = estimations.get(1);
 
             if (el_ == null) {
                 curModel.setTransformation(DefaultTransformationType.None);
@@ -90,9 +90,12 @@ public class RegressionTestTD extends AbstractTramoModule implements IPreprocess
         int df = ll.getN() - ll.getNx() - nhp;
         sigma = ll.getSsqErr() / df;
 
-        GregorianCalendarVariables vars = tdvars(context);
-        td1Stats = check(vars, TradingDaysType.WorkingDays, LengthOfPeriodType.None);
-        ntdStats = check(vars, TradingDaysType.None, LengthOfPeriodType.None);
+        // each alternative uses its own calendar variables
+        TradingDaysType[] alternatives = new TradingDaysType[]{TradingDaysType.WorkingDays, TradingDaysType.None};
+        List<LikelihoodStatistics> stats = CandidateEvaluation.evaluate(alternatives.length,
+                i -> check(tdvars(context), alternatives[i], LengthOfPeriodType.None));
+        td1Stats = stats.get(0);
+        ntdStats = stats.get(1);
         calcProb();
         TradingDaysType td = TradingDaysType.None;
         LengthOfPeriodType lp = LengthOfPeriodType.LeapYear;
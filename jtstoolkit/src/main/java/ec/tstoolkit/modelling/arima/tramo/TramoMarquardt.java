@@ -17,6 +17,7 @@
 
 package ec.tstoolkit.modelling.arima.tramo;
 
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
@@ -244,6 +245,7 @@ class TramoMarquardt implements ISsqFunctionMinimizer {
 
     protected boolean iterate(final boolean bnewval) {
         ++m_niter;
+        ProcessingMetrics.increment(ProcessingMetrics.Counter.OptimizerIterations);
         m_obj0 = m_obj1;
 
         int ne = m_e.length, n = m_beta.length;
@@ -17,6 +17,7 @@
 package ec.tstoolkit.modelling.arima.tramo;
 
 import ec.tstoolkit.Parameter;
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.arima.estimation.RegArimaEstimation;
 import ec.tstoolkit.arima.estimation.RegArimaModel;
 import ec.tstoolkit.data.IReadDataBlock;
@@ -116,7 +117,8 @@ public class TramoProcessor extends AbstractTramoModule implements IPreprocessor
                 return null;
             }
 
-            if (context.description.isFullySpecified() && outliers == null) {
+            if (context.description.isFullySpecified() && outliers == null
+                    && !context.description.getArimaComponent().hasInitialParameters()) {
                 // nothing to do
                 IParametricMapping<SarimaModel> mapping = context.description.defaultMapping();
                 ModelDescription model = context.description;
@@ -134,12 +136,22 @@ public class TramoProcessor extends AbstractTramoModule implements IPreprocessor
             checkSeasonality(context);
             // log/level...
             if (loglevelTest != null) {
-                loglevelTest.process(context);
+                ProcessingMetrics.Timer timer = ProcessingMetrics.time("tramo.loglevel");
+                try {
+                    loglevelTest.process(context);
+                } finally {
+                    timer.stop();
+                }
 //                addLogLevelHistory(context);
             }
             // regression effects
             if (regressionTest != null) {
-                regressionTest.process(context);
+                ProcessingMetrics.Timer timer = ProcessingMetrics.time("tramo.regression");
+                try {
+                    regressionTest.process(context);
+                } finally {
+                    timer.stop();
+                }
 //                addRegressionHistory(context);
             }
 
@@ -339,7 +351,13 @@ public class TramoProcessor extends AbstractTramoModule implements IPreprocessor
             context.description.setSpecification(
                     new SarimaSpecification(context.description.getFrequency()));
         }
-        ProcessingResult drslt = differencing.process(context);
+        ProcessingResult drslt;
+        ProcessingMetrics.Timer timer = ProcessingMetrics.time("tramo.differencing");
+        try {
+            drslt = differencing.process(context);
+        } finally {
+            timer.stop();
+        }
         SarimaSpecification curspec = context.description.getSpecification();
 
         boolean changed = drslt == ProcessingResult.Changed;
@@ -367,7 +385,12 @@ public class TramoProcessor extends AbstractTramoModule implements IPreprocessor
 
     private boolean execAutoModelling(ModellingContext context) {
         SarimaSpecification prevspec = context.description.getSpecification();
-        ProcessingResult autorslt = autoModelling.process(context);
+        ProcessingMetrics.Timer timer = ProcessingMetrics.time("tramo.arima");
+        try {
+            autoModelling.process(context);
+        } finally {
+            timer.stop();
+        }
         SarimaSpecification curspec = context.description.getSpecification();
         if (curspec.getParametersCount() == 0) {
             if (pass_ >= 3) {
@@ -396,7 +419,13 @@ public class TramoProcessor extends AbstractTramoModule implements IPreprocessor
         context.estimation = null;
         //}
 
-        ProcessingResult autoout = outliers.process(context);
+        ProcessingResult autoout;
+        ProcessingMetrics.Timer timer = ProcessingMetrics.time("tramo.outliers");
+        try {
+            autoout = outliers.process(context);
+        } finally {
+            timer.stop();
+        }
 //        addOutliersHistory(context);
         return autoout == ProcessingResult.Changed;
     }
@@ -23,6 +23,7 @@ import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.maths.realfunctions.ProxyMinimizer;
 import ec.tstoolkit.maths.realfunctions.levmar.LevenbergMarquardtMethod;
+import ec.tstoolkit.modelling.arima.CandidateEvaluation;
 import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.sarima.SarmaSpecification;
 import ec.tstoolkit.sarima.estimation.GlsSarimaMonitor;
@@ -321,10 +322,11 @@ public class ArmaModule {
      * @return
      */
     public int sort(final DataBlock data, final SarmaSpecification[] specs) {
-        m_est = new RegArmaBic[specs.length];
-        for (int i = 0; i < specs.length; ++i) {
-            m_est[i] = new RegArmaBic(data, specs[i], eps_);
-        }
+        // the sort is stable, so that ties are resolved as in the sequential
+        // case
+        List<RegArmaBic> all = CandidateEvaluation.evaluate(specs.length,
+                i -> new RegArmaBic(data, specs[i], eps_));
+        m_est = all.toArray(new RegArmaBic[specs.length]);
 
         Arrays.sort(m_est);
         for (int i = m_est.length; i > 0; --i) {
@@ -17,11 +17,11 @@
 
 package ec.tstoolkit.modelling.arima.x13;
 
-import ec.tstoolkit.modelling.arima.RegArimaEstimator;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.maths.realfunctions.IParametricMapping;
 import ec.tstoolkit.modelling.arima.AICcComparator;
+import ec.tstoolkit.modelling.arima.CandidateEvaluation;
 import ec.tstoolkit.modelling.arima.IModelComparator;
 import ec.tstoolkit.modelling.arima.IPreprocessingModule;
 import ec.tstoolkit.modelling.arima.ModelDescription;
@@ -32,6 +32,7 @@ import ec.tstoolkit.modelling.arima.PreprocessingModelBuilder;
 import ec.tstoolkit.modelling.arima.ProcessingResult;
 import ec.tstoolkit.modelling.Variable;
 import ec.tstoolkit.sarima.SarimaModel;
+import java.util.List;
 
 /**
  *
@@ -86,8 +87,6 @@ public class CalendarEffectsDetection implements IPreprocessingModule {
     public ProcessingResult process(ModellingContext context) {
 
         IParametricMapping<SarimaModel> mapping = X13Preprocessor.createDefaultMapping(context.description);
-        RegArimaEstimator monitor = new RegArimaEstimator(mapping);
-        monitor.setPrecision(eps_);
 
         clear();
         // builds models with and without td
@@ -99,22 +98,13 @@ public class CalendarEffectsDetection implements IPreprocessingModule {
         if (!PreprocessingModelBuilder.updateCalendar(ntddesc, false)) {
             ntd_ = context.estimation;
         }
-        int nhp = mapping.getDim();
+        ModelDescription[] candidates = new ModelDescription[]{td_ == null ? tddesc : null, ntd_ == null ? ntddesc : null};
+        List<ModelEstimation> estimations = CandidateEvaluation.evaluate(candidates.length, i -> ModelEstimation.estimate(candidates[i], mapping, eps_));
         if (td_ == null) {
-            try {
-                td_ = new ModelEstimation(tddesc.buildRegArima(), tddesc.getLikelihoodCorrection());
-                td_.compute(monitor, nhp);
-            } catch (Exception err) {
-                td_ = null;
-            }
+            td_ = estimations.get(0);
         }
         if (ntd_ == null) {
-            try {
-                ntd_ = new ModelEstimation(ntddesc.buildRegArima(), ntddesc.getLikelihoodCorrection());
-                ntd_.compute(monitor, nhp);
-            } catch (Exception err) {
-                ntd_ = null;
-            }
+            ntd_ = estimations.get(1);
         }
 
         boolean changed = false;
@@ -21,6 +21,7 @@ import ec.tstoolkit.modelling.arima.RegArimaEstimator;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.maths.Complex;
 import ec.tstoolkit.maths.linearfilters.Utilities;
 import ec.tstoolkit.maths.realfunctions.IParametricMapping;
@@ -74,7 +75,10 @@ public class FinalEstimator implements IModelEstimator {
                 if (ndim == 0) {
                     return true;
                 }
-                context.information.subSet(RegArimaEstimator.OPTIMIZATION).set(RegArimaEstimator.SCORE, monitor.getScore());
+                InformationSet optimization = context.information.subSet(RegArimaEstimator.OPTIMIZATION);
+                optimization.set(RegArimaEstimator.SCORE, monitor.getScore());
+                optimization.set(RegArimaEstimator.WARMSTART, model.getArimaComponent().hasInitialParameters());
+                optimization.set(RegArimaEstimator.ITERATIONS, monitor.getIterationsCount());
                 if (context.automodelling) {
                     int itest = test(context);
                     if (itest == 0) {
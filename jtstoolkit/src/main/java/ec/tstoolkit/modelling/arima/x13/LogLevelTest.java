@@ -22,6 +22,7 @@ import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.maths.realfunctions.IParametricMapping;
 import ec.tstoolkit.modelling.DefaultTransformationType;
 import ec.tstoolkit.modelling.arima.AICcComparator;
+import ec.tstoolkit.modelling.arima.CandidateEvaluation;
 import ec.tstoolkit.modelling.arima.IModelComparator;
 import ec.tstoolkit.modelling.arima.IPreprocessingModule;
 import ec.tstoolkit.modelling.arima.ModelDescription;
@@ -29,8 +30,8 @@ import ec.tstoolkit.modelling.arima.ModelEstimation;
 import ec.tstoolkit.modelling.arima.ModellingContext;
 import ec.tstoolkit.modelling.arima.PreprocessingDictionary;
 import ec.tstoolkit.modelling.arima.ProcessingResult;
-import ec.tstoolkit.modelling.arima.RegArimaEstimator;
 import ec.tstoolkit.sarima.SarimaModel;
+import java.util.List;
 
 /**
  *
@@ -94,26 +95,10 @@ public class LogLevelTest implements IPreprocessingModule {
             ldesc.setTransformation(DefaultTransformationType.Log);
         }
         IParametricMapping<SarimaModel> mapping = X13Preprocessor.createDefaultMapping(context.description);
-        RegArimaEstimator monitor = new RegArimaEstimator(mapping);
-        monitor.setPrecision(eps_);
-        //monitor.setPrecision(1e-7);
-        level_ = context.estimation;
-        if (level_ == null) {
-            try {
-                level_ = new ModelEstimation(desc.buildRegArima(), desc.getLikelihoodCorrection());
-                level_.compute(monitor, mapping.getDim());
-            } catch (Exception err) {
-                level_ = null;
-            }
-        }
-        if (ldesc != null) {
-            try {
-                log_ = new ModelEstimation(ldesc.buildRegArima(), ldesc.getLikelihoodCorrection());
-                log_.compute(monitor, mapping.getDim());
-            } catch (Exception err) {
-                log_ = null;
-            }
-        }
+        ModelDescription[] candidates = new ModelDescription[]{context.estimation == null ? desc : null, ldesc};
+        List<ModelEstimation> estimations = CandidateEvaluation.evaluate(candidates.length, i -> ModelEstimation.estimate(candidates[i], mapping, eps_));
+        level_ = context.estimation == null ? estimations.get(0) : context.estimation;
+        log_ = estimations.get(1);
 
         if (comparator_.compare(log_, level_) == 0) {
             context.description = desc;
@@ -18,6 +18,7 @@ package ec.tstoolkit.modelling.arima.x13;
 
 import ec.tstoolkit.modelling.arima.RegArimaEstimator;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.maths.realfunctions.IParametricMapping;
 import ec.tstoolkit.maths.realfunctions.levmar.LevenbergMarquardtMethod;
 import ec.tstoolkit.modelling.arima.IModelEstimator;
@@ -49,10 +50,19 @@ public class X13Estimator implements IModelEstimator {
         ModelEstimation estimation = new ModelEstimation(context.description.buildRegArima(),
                 context.description.getLikelihoodCorrection());
         try {
-            estimation.compute(monitor, mapping.getDim());
+            // initial values of the parameters (warm start): no need to
+            // search for a starting point
+            if (context.description.getArimaComponent().hasInitialParameters()) {
+                estimation.improve(monitor, mapping.getDim());
+            } else {
+                estimation.compute(monitor, mapping.getDim());
+            }
             estimation.updateParametersCovariance(monitor.getParametersCovariance());
             if (mapping.getDim() > 0) {
-                context.information.subSet(RegArimaEstimator.OPTIMIZATION).set(RegArimaEstimator.SCORE, monitor.getScore());
+                InformationSet optimization = context.information.subSet(RegArimaEstimator.OPTIMIZATION);
+                optimization.set(RegArimaEstimator.SCORE, monitor.getScore());
+                optimization.set(RegArimaEstimator.WARMSTART, context.description.getArimaComponent().hasInitialParameters());
+                optimization.set(RegArimaEstimator.ITERATIONS, monitor.getIterationsCount());
             }
             context.estimation = estimation;
 
@@ -110,7 +110,8 @@ public class X13Preprocessor implements IPreprocessor {
                     return null;
                 }
             }
-            if (context.description.isFullySpecified() && outliers == null) {
+            if (context.description.isFullySpecified() && outliers == null
+                    && !context.description.getArimaComponent().hasInitialParameters()) {
                 // nothing to do
                 IParametricMapping<SarimaModel> mapping = context.description.defaultMapping();
                 ModelDescription model = context.description;
@@ -368,6 +368,17 @@ public class SarimaComponent extends AbstractArimaComponent implements Cloneable
                 && Parameter.isDefault(m_bphi) && Parameter.isDefault(m_btheta);
     }
 
+    /**
+     * Checks that some parameters are initial values (which should be used
+     * as starting point of the estimation)
+     *
+     * @return
+     */
+    public boolean hasInitialParameters() {
+        return Parameter.hasInitialParameters(m_phi) || Parameter.hasInitialParameters(m_theta)
+                || Parameter.hasInitialParameters(m_bphi) || Parameter.hasInitialParameters(m_btheta);
+    }
+
     public void setSpecification(SarimaSpecification spec) {
         setP(spec.getP());
         m_D = spec.getD();
@@ -497,7 +497,7 @@ public class SarimaModel extends AbstractArimaModel implements IArimaModel,
         } else {
             double[] p = Polynomial.Doubles.fromDegree(spec_.BP * freq);
             p[0] = 1;
-            for (int i = freq, j = i0; i < spec_.BP; i += freq, ++j) {
+            for (int i = freq, j = i0; i <= spec_.BP * freq; i += freq, ++j) {
                 p[i] = params_[j];
             }
             return Polynomial.of(p);
@@ -515,7 +515,7 @@ public class SarimaModel extends AbstractArimaModel implements IArimaModel,
         } else {
             double[] p = Polynomial.Doubles.fromDegree(spec_.BQ * freq);
             p[0] = 1;
-            for (int i = freq, j = i0; i < spec_.BQ; i += freq, ++j) {
+            for (int i = freq, j = i0; i <= spec_.BQ * freq; i += freq, ++j) {
                 p[i] = params_[j];
             }
             return Polynomial.of(p);
@@ -33,7 +33,7 @@ import ec.tstoolkit.maths.matrices.UpperTriangularMatrix;
 @Development(status = Development.Status.Alpha)
 public abstract class AbstractSsfAlgorithm {
 
-    private boolean m_ssq = false, m_ml = true;
+    private boolean m_ssq = false, m_ml = true, m_steady = false;
 
     /**
      * 
@@ -136,6 +136,17 @@ public abstract class AbstractSsfAlgorithm {
 	return m_ssq;
     }
 
+    /**
+     * Checks that the filters switch to their steady state (if any) when it
+     * is reached
+     * 
+     * @return False by default
+     */
+    public boolean isUsingSteadyState()
+    {
+	return m_steady;
+    }
+
     /**
      * 
      * @param value
@@ -153,4 +164,15 @@ public abstract class AbstractSsfAlgorithm {
     {
 	m_ssq = value;
     }
+
+    /**
+     * 
+     * @param value True to stop the recursions of the filters once they have
+     * converged (faster, but the results are approximations), false to run
+     * the full recursions on the whole series
+     */
+    public void useSteadyState(final boolean value)
+    {
+	m_steady = value;
+    }
 }
@@ -36,6 +36,8 @@ public abstract class BaseSmoother {
     double m_v, m_ff;
     Matrix m_Nf;
     Matrix m_L, m_T;
+    // work area (K'VT)
+    private DataBlock m_kvt;
     boolean m_bCalcVar = false, m_bMissing;
     double m_c, m_cvar;
 
@@ -55,6 +57,7 @@ public abstract class BaseSmoother {
         m_Nf = null;
         m_L = null;
         m_T = null;
+        m_kvt = null;
     }
 
     /**
@@ -91,6 +94,7 @@ public abstract class BaseSmoother {
             m_Nf = new Matrix(m_r, m_r);
             m_L = new Matrix(m_r, m_r);
             m_T = new Matrix(m_r, m_r);
+            m_kvt = new DataBlock(m_r);
         }
     }
 
@@ -130,7 +134,7 @@ public abstract class BaseSmoother {
 
             // compute K'VT
             // compute (XT)'*T. (XT)' rows are the columns of XT
-            DataBlock kvt = new DataBlock(m_r);
+            DataBlock kvt = m_kvt;
             do {
                 kvt.set(ncols.getPosition(), m_Kf.dot(ncol));
                 m_ssf.XT(m_pos, ncol);
@@ -28,8 +28,10 @@ import java.util.concurrent.atomic.AtomicLong;
 public class BaseState {
 
     /**
-     *
+     * @deprecated Use the FilterPasses counter of
+     * {@link ec.tstoolkit.algorithm.ProcessingMetrics#global()} instead
      */
+    @Deprecated
     public static final AtomicLong fnCalls = new AtomicLong(0);
 
     /**
@@ -16,10 +16,14 @@
 */
 package ec.tstoolkit.ssf;
 
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.design.Development;
 
 /**
- * Chandrasekhar recursions
+ * Chandrasekhar recursions.
+ * The recursions can be stopped when L is negligible (steady state): the
+ * variance of the prediction errors and the gain don't change anymore. The
+ * steady state is disabled by default (see setSteadyStateTolerance).
  * @param <F>
  * @author Jean Palate
  */
@@ -40,7 +44,13 @@ public class FastFilter<F extends ISsf> {
 
     private IFastFilteringResults m_rslts;
 
-    private static final double m_epsilon = 0;// 1e-9;
+    private double m_steadyeps = -1;
+
+    /**
+     * Suggested tolerance for the detection of the steady state. The
+     * neglected corrections of f and C are of the order of its square
+     */
+    public static final double DEFAULT_STEADY_STATE_EPS = 1e-9;
 
     /**
      * 
@@ -50,11 +60,19 @@ public class FastFilter<F extends ISsf> {
     }
 
     private void checksteady() {
-	m_steady = false;
-	for (int i = 0; i < m_dim; ++i)
-	    if (Math.abs(m_state.L.get(i)) > m_epsilon)
-		return;
-	m_steady = true;
+	if (m_steadyeps < 0)
+	    return;
+	double[] L = m_state.L.getData();
+	double[] C = m_state.C.getData();
+	double lmax = 0, cmax = 0;
+	for (int i = 0; i < m_dim; ++i) {
+	    double l = Math.abs(L[i]), c = Math.abs(C[i]);
+	    if (l > lmax)
+		lmax = l;
+	    if (c > cmax)
+		cmax = c;
+	}
+	m_steady = lmax <= m_steadyeps * cmax;
     }
 
     /**
@@ -84,6 +102,37 @@ public class FastFilter<F extends ISsf> {
 	return m_state;
     }
 
+    /**
+     * Tolerance used in the detection of the steady state (relative to the
+     * largest element of C)
+     * 
+     * @return
+     */
+    public double getSteadyStateTolerance()
+    {
+	return m_steadyeps;
+    }
+
+    /**
+     * Sets the tolerance used in the detection of the steady state
+     * 
+     * @param eps The tolerance. 0 to stop the recursions only when L is
+     * null, a negative value (default) to never stop them
+     */
+    public void setSteadyStateTolerance(final double eps)
+    {
+	m_steadyeps = eps;
+    }
+
+    /**
+     * 
+     * @return
+     */
+    public boolean isInSteadyState()
+    {
+	return m_steady;
+    }
+
     @SuppressWarnings("unchecked")
     private boolean initialize(final IFastFilteringResults rslts) {
 	m_state = new FastState(m_dim, m_data.hasData());
@@ -129,15 +178,18 @@ public class FastFilter<F extends ISsf> {
      * @param rslts
      * @return
      */
+    @SuppressWarnings("deprecation")
     public boolean process(final ISsfData data,
 	    final IFastFilteringResults rslts) {
 	if (m_ssf == null)
 	    return false;
 	BaseState.fnCalls.incrementAndGet();
+	ProcessingMetrics.increment(ProcessingMetrics.Counter.FilterPasses);
 	m_data = data;
 	m_rslts = rslts;
 	m_dim = m_ssf.getStateDim();
 	m_pos = 0;
+	m_steady = false;
 	m_end = m_data.getCount();
 	if (!initialize(rslts))
 	    return false;
@@ -152,7 +204,7 @@ public class FastFilter<F extends ISsf> {
 		//
 		if (!m_steady) {
 		    iterate();
-		    // checksteady();
+		    checksteady();
 		}
 	    } while (++m_pos < m_end);
 	if (rslts != null)
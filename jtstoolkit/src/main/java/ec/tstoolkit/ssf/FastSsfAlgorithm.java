@@ -58,6 +58,8 @@ public class FastSsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 	filter.setSsf(instance.ssf);
 	if (m_initializer != null)
 	    filter.setInitializer(m_initializer);
+	if (isUsingSteadyState())
+	    filter.setSteadyStateTolerance(FastFilter.DEFAULT_STEADY_STATE_EPS);
 	DiffusePredictionErrorDecomposition pred = new DiffusePredictionErrorDecomposition(
 		isUsingSsq());
 	if (filter.process(instance.getData(), pred))
@@ -72,6 +74,8 @@ public class FastSsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 	filter.setSsf(instance.ssf);
 	if (m_initializer != null)
 	    filter.setInitializer(m_initializer);
+	if (isUsingSteadyState())
+	    filter.setSteadyStateTolerance(FastFilter.DEFAULT_STEADY_STATE_EPS);
 	DiffuseFilteringResults drslts = new DiffuseFilteringResults(true);
 	if (!filter.process(instance.getData(), drslts))
 	    return null;
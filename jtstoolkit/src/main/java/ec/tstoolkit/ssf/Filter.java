@@ -16,15 +16,24 @@
  */
 package ec.tstoolkit.ssf;
 
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.data.DataBlock;
-import ec.tstoolkit.data.DataBlockIterator;
 import ec.tstoolkit.data.SubArrayOfInt;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.SubMatrix;
 import ec.tstoolkit.maths.matrices.SymmetricMatrix;
 
 /**
- * Ordinary Kalman filter
+ * Ordinary Kalman filter.
+ * The filter doesn't create any object once it is initialized. For
+ * time-invariant models, the filter can switch to a steady-state mode when
+ * the variance of the state has converged: the variance and the gain are
+ * then no longer updated (until the next missing value). The steady state
+ * is disabled by default (see setSteadyStateTolerance).
+ * Only the information required by the results is stored (for instance,
+ * PredictionErrorDecomposition only cumulates the likelihood); without
+ * results, the filter just provides the last state.
  *
  * @param <F>
  * @author Jean Palate
@@ -33,8 +42,10 @@ import ec.tstoolkit.maths.matrices.SymmetricMatrix;
 public class Filter<F extends ISsf> {
 
     /**
-     *
+     * @deprecated Use the FilterPasses counter of
+     * {@link ProcessingMetrics#global()} instead
      */
+    @Deprecated
     public static int fnCalls = 0;
     private State m_state;
     private F m_ssf;
@@ -44,7 +55,16 @@ public class Filter<F extends ISsf> {
     private int[] m_idxR;
     private Matrix m_Q, m_WQW;
     private Matrix m_W;
-    private boolean m_bsteady, m_fixedsteadypos, m_qinit;
+    private boolean m_bsteady, m_fixedsteadypos, m_qinit, m_hasprev;
+    private double m_steadyeps = -1, m_fprev;
+    // work area: the underlying storage of P and C, the previous P (steady state)
+    private SubMatrix m_psm;
+    private double[] m_p, m_c, m_pprev;
+    /**
+     * Suggested tolerance for the detection of the steady state. The results
+     * are then slightly different from the results of the full recursions
+     */
+    public static final double DEFAULT_STEADY_STATE_EPS = 1e-13;
     // for steady state
     /**
      *
@@ -92,13 +112,49 @@ public class Filter<F extends ISsf> {
         }
     }
 
+    /**
+     * The steady state is reached when the largest change of P is smaller
+     * than eps*max(|P|). P is only compared once f has converged
+     */
     private void checkSteadyState() {
-        /*
-         * if (m_pos == m_steadypos) { m_bsteady = true; return; } if (m_oldf ==
-         * 0 || (m_oldf - m_state.f) / m_state.f > m_eps) { m_oldf = m_state.f;
-         * m_curcheck = 0; } else ++m_curcheck; if (m_curcheck == m_nchecks) {
-         * m_steadypos = m_pos; m_bsteady = true; }
-         */
+        if (m_fixedsteadypos) {
+            if (m_pos >= m_steadypos) {
+                m_bsteady = true;
+            }
+            return;
+        }
+        if (m_steadyeps < 0) {
+            return;
+        }
+        double f = m_state.f, df = Math.abs(f - m_fprev);
+        m_fprev = f;
+        if (df > m_steadyeps * f) {
+            m_hasprev = false;
+            return;
+        }
+        double[] p = m_p, pprev = m_pprev;
+        if (!m_hasprev) {
+            System.arraycopy(p, 0, pprev, 0, p.length);
+            m_hasprev = true;
+            return;
+        }
+        double dmax = 0, pmax = 0;
+        for (int i = 0; i < p.length; ++i) {
+            double cur = p[i], d = Math.abs(cur - pprev[i]);
+            if (d > dmax) {
+                dmax = d;
+            }
+            if (Math.abs(cur) > pmax) {
+                pmax = Math.abs(cur);
+            }
+            pprev[i] = cur;
+        }
+        if (dmax <= m_steadyeps * pmax) {
+            m_bsteady = true;
+            if (m_steadypos < 0) {
+                m_steadypos = m_pos;
+            }
+        }
     }
 
     /**
@@ -111,7 +167,7 @@ public class Filter<F extends ISsf> {
         // m_ff=m_Pf.quadraticForm(m_Z)+m_h;
 
         if (!m_bsteady) {
-            m_state.f = m_ssf.ZVZ(m_pos, m_state.P.subMatrix());
+            m_state.f = m_ssf.ZVZ(m_pos, m_psm);
             if (m_state.f < State.ZERO) {
                 m_state.f = 0;
             }
@@ -120,11 +176,18 @@ public class Filter<F extends ISsf> {
         if (m_data.hasData()) {
             double y = m_data.get(m_pos);
             if (Double.isNaN(y)) {
-                m_bsteady = false;
+                if (m_bsteady) {
+                    m_bsteady = false;
+                    // the previous variance is no longer relevant
+                    m_hasprev = false;
+                }
                 m_state.e = Double.NaN;
             } else {
-                m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
-                m_ssf.TX(m_pos, m_state.C);
+                // in steady state, C = TPZ' is unchanged
+                if (!m_bsteady) {
+                    m_ssf.ZM(m_pos, m_psm, m_state.C);
+                    m_ssf.TX(m_pos, m_state.C);
+                }
                 m_state.e = y - m_ssf.ZX(m_pos, m_state.A);
                 if (m_state.f == 0) {
                     if (Math.abs(m_state.e) > State.EPS) {
@@ -135,8 +198,10 @@ public class Filter<F extends ISsf> {
                 }
             }
         } else {
-            m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
-            m_ssf.TX(m_pos, m_state.C);
+            if (!m_bsteady) {
+                m_ssf.ZM(m_pos, m_psm, m_state.C);
+                m_ssf.TX(m_pos, m_state.C);
+            }
             m_state.e = 0;
         }
 
@@ -213,6 +278,27 @@ public class Filter<F extends ISsf> {
         return m_steadypos;
     }
 
+    /**
+     * Tolerance used in the detection of the steady state (relative to the
+     * largest element of the variance of the state)
+     *
+     * @return
+     */
+    public double getSteadyStateTolerance() {
+        return m_steadyeps;
+    }
+
+    /**
+     * Sets the tolerance used in the detection of the steady state
+     *
+     * @param eps The tolerance. 0 to switch to the steady state only when the
+     * variance doesn't change at all, a negative value (default) to disable
+     * the steady state
+     */
+    public void setSteadyStateTolerance(final double eps) {
+        m_steadyeps = eps;
+    }
+
     private boolean initFilter() {
         m_qinit = false;
         m_pos = 0;
@@ -221,6 +307,8 @@ public class Filter<F extends ISsf> {
             m_steadypos = -1;
         }
         m_lastff = 0;
+        m_fprev = 0;
+        m_hasprev = false;
         m_r = m_ssf.getStateDim();
         m_end = m_data.getCount();
         m_pos = 0;
@@ -256,16 +344,26 @@ public class Filter<F extends ISsf> {
 
     private int initState(final IFilteringResults rslts) {
         m_state = new State(m_r, m_data.hasData());
+        int pos;
         if (m_initializer != null) {
-            return m_initializer.initialize(m_ssf, m_data, m_state, rslts);
+            pos = m_initializer.initialize(m_ssf, m_data, m_state, rslts);
         } else if (!m_ssf.isDiffuse()) {
             new DefaultSsfInitializer().initialize(m_ssf, m_data, m_state,
                     rslts);
-            return 0;
+            pos = 0;
         } else {
             DurbinKoopmanInitializer dk = new DurbinKoopmanInitializer();
-            return dk.initialize(m_ssf, m_data, m_state, rslts);
+            pos = dk.initialize(m_ssf, m_data, m_state, rslts);
         }
+        // the initializers may have replaced P or C
+        m_psm = m_state.P.subMatrix();
+        m_p = m_state.P.internalStorage();
+        DataBlock C = m_state.C;
+        m_c = C.getStartPosition() == 0 && C.getIncrement() == 1 ? C.getData() : null;
+        if (m_pprev == null || m_pprev.length != m_p.length) {
+            m_pprev = new double[m_p.length];
+        }
+        return pos;
     }
 
     /**
@@ -295,20 +393,33 @@ public class Filter<F extends ISsf> {
                 // M = PZ'
                 // P = TPT' - (TM)*(TM)' / f + RQR' --> Symmetric
                 // A = Ta + (TM) v / f
-                m_ssf.TVT(m_pos, m_state.P.subMatrix());
+                m_ssf.TVT(m_pos, m_psm);
                 if (m_state.f != 0) {
-                    DataBlockIterator cols = m_state.P.columns();
-                    DataBlock col = cols.getData();
-                    int pos = 0;
-                    do {
-                        double c = -m_state.C.get(pos) / m_state.f;
-                        if (pos > 0) {
-                            col.drop(pos, 0).addAY(c, m_state.C.drop(pos, 0));
-                        } else {
-                            col.addAY(c, m_state.C);
+                    // lower part of P, column by column
+                    double[] p = m_p;
+                    double f = m_state.f;
+                    int r = m_r;
+                    if (m_c != null) {
+                        double[] C = m_c;
+                        for (int j = 0, jj = 0; j < r; ++j, jj += r + 1) {
+                            double c = -C[j] / f;
+                            if (c != 0) {
+                                for (int i = j, ij = jj; i < r; ++i, ++ij) {
+                                    p[ij] += c * C[i];
+                                }
+                            }
+                        }
+                    } else {
+                        DataBlock C = m_state.C;
+                        for (int j = 0, jj = 0; j < r; ++j, jj += r + 1) {
+                            double c = -C.get(j) / f;
+                            if (c != 0) {
+                                for (int i = j, ij = jj; i < r; ++i, ++ij) {
+                                    p[ij] += c * C.get(i);
+                                }
+                            }
                         }
-                        ++pos;
-                    } while (cols.next());
+                    }
                     SymmetricMatrix.fromLower(m_state.P);
                 }
                 // RQR'
@@ -339,6 +450,9 @@ public class Filter<F extends ISsf> {
         if (!m_ssf.isTimeInvariant() && !getModelInfo()) {
             return false;
         }
+        // the variance of the forecasts must be updated
+        m_bsteady = false;
+        m_hasprev = false;
         next();
         ++m_pos;
         return true;
@@ -346,7 +460,7 @@ public class Filter<F extends ISsf> {
 
     private void nextMissing() {
         // variance
-        m_ssf.TVT(m_pos, m_state.P.subMatrix());
+        m_ssf.TVT(m_pos, m_psm);
         addRQR(m_state.P);
 
         // state
@@ -364,6 +478,7 @@ public class Filter<F extends ISsf> {
             return false;
         }
         ++fnCalls;
+        ProcessingMetrics.increment(ProcessingMetrics.Counter.FilterPasses);
         m_data = data;
         if (!initFilter()) {
             return false;
@@ -17,6 +17,7 @@
 
 package ec.tstoolkit.ssf;
 
+import ec.tstoolkit.algorithm.ProcessingMetrics;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.maths.realfunctions.IFunction;
@@ -79,6 +80,7 @@ public class SsfFunction<S extends ISsf> implements IFunction, ISsqFunction {
 
     @Override
     public IFunctionInstance evaluate(IReadDataBlock parameters) {
+	ProcessingMetrics.increment(ProcessingMetrics.Counter.FunctionEvaluations);
 	return new SsfFunctionInstance<>(this, parameters);
     }
 
@@ -103,6 +105,7 @@ public class SsfFunction<S extends ISsf> implements IFunction, ISsqFunction {
 
     @Override
     public ISsqFunctionInstance ssqEvaluate(IReadDataBlock parameters) {
+	ProcessingMetrics.increment(ProcessingMetrics.Counter.FunctionEvaluations);
 	return new SsfFunctionInstance<>(this, parameters);
     }
 }
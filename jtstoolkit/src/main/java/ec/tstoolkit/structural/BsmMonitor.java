@@ -28,6 +28,7 @@ import ec.tstoolkit.maths.realfunctions.IFunctionInstance;
 import ec.tstoolkit.maths.realfunctions.IFunctionMinimizer;
 import ec.tstoolkit.maths.realfunctions.ProxyMinimizer;
 import ec.tstoolkit.maths.realfunctions.TransformedFunction;
+import ec.tstoolkit.maths.realfunctions.bfgs.Bfgs;
 import ec.tstoolkit.ssf.FastSsfAlgorithm;
 import ec.tstoolkit.ssf.SsfData;
 import ec.tstoolkit.ssf.SsfFunction;
@@ -57,7 +58,7 @@ public class BsmMonitor {
 
     private double m_eps = 1e-9;
 
-    private boolean m_bconverged = false, m_dregs;
+    private boolean m_bconverged = false, m_dregs, m_mt;
 
     private IFunctionMinimizer m_min = null;// new
     // ec.tstoolkit.maths.functions.minpack.LMMinimizer();
@@ -103,6 +104,9 @@ public class BsmMonitor {
             //fmin = new ec.tstoolkit.maths.realfunctions.jbfgs.Bfgs();
             fmin.setConvergenceCriterion(m_eps);
         }
+        if (fmin instanceof Bfgs) {
+            ((Bfgs) fmin).setMultiThread(m_mt);
+        }
 
         fmin.setMaxIter(10);
         for (int i = 0; i < 3; ++i) {
@@ -164,7 +168,7 @@ public class BsmMonitor {
         FastSsfAlgorithm<BasicStructuralModel> alg = new FastSsfAlgorithm<>();
         alg.useSsq(ssq);
         SsfFunction<BasicStructuralModel> eval = new SsfFunction<>(
-                model, mapper == null ? m_mapper : mapper, alg);
+                model, mapper == null ? m_mapper : mapper, alg, false, m_mt);
         return eval;
     }
 
@@ -360,6 +364,20 @@ public class BsmMonitor {
         return m_dregs;
     }
 
+    public boolean isMultiThread() {
+        return m_mt;
+    }
+
+    /**
+     * Computes the numerical derivatives of the likelihood in parallel. The
+     * estimated model doesn't depend on this option.
+     *
+     * @param mt
+     */
+    public void setMultiThread(boolean mt) {
+        m_mt = mt;
+    }
+
     /**
      *
      * @param y
@@ -420,7 +438,7 @@ public class BsmMonitor {
                 m_min = new ProxyMinimizer(new ec.tstoolkit.maths.realfunctions.minpack.LevenbergMarquardtMinimizer());
                 break;
             case LBFGS:
-                m_min = new ec.tstoolkit.maths.realfunctions.bfgs.Bfgs();
+                m_min = new Bfgs();
                 break;
             default:
                 m_min = null;
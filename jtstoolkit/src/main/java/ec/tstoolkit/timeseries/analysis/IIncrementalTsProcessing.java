@@ -0,0 +1,43 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+
+package ec.tstoolkit.timeseries.analysis;
+
+import ec.tstoolkit.algorithm.IProcResults;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+
+/**
+ * A TSProcessing that can use the results of a shorter time span as
+ * starting point (warm start). Typically, the model identified on the
+ * previous time span is re-used and only its parameters are re-estimated.
+ * @author agent
+ * @param <I>
+ */
+@Development(status = Development.Status.Preliminary)
+public interface IIncrementalTsProcessing<I extends IProcResults> extends ITsProcessing<I> {
+
+    /**
+     *
+     * @param domain The time span that must be processed
+     * @param previousDomain A shorter time span (with the same start)
+     * @param previous The results of the processing of previousDomain. Should
+     * not be null
+     * @return
+     */
+    I process(TsDomain domain, TsDomain previousDomain, I previous);
+}
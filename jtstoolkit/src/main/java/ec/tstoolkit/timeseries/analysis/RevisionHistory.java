@@ -42,6 +42,10 @@ public class RevisionHistory<T extends IProcResults> {
 
     private final TsDomain m_domainT;
 
+    private final int m_checkpoint;
+
+    private int m_nfull, m_nincremental;
+
     /**
      *
      * @param processing
@@ -49,9 +53,67 @@ public class RevisionHistory<T extends IProcResults> {
      */
     public RevisionHistory(ITsProcessing<T> processing,
             TsDomain domain) {
+        this(processing, domain, 0);
+    }
+
+    /**
+     * Creates a revision history that processes the vintages incrementally,
+     * when the processing supports it (IIncrementalTsProcessing). A vintage
+     * is then computed from the results of the immediately preceding vintage
+     * (warm start), except at the checkpoints, where a complete processing is
+     * done. The results don't depend on the order of the requests. The
+     * checkpoints are the vintages whose last period closes a block of
+     * checkpoint periods (for instance, the vintages ending in December
+     * for monthly series and a checkpoint of 12).
+     *
+     * @param processing
+     * @param domain
+     * @param checkpoint The number of periods between two complete
+     * processing. 0 for a complete processing of all the vintages (exact mode)
+     */
+    public RevisionHistory(ITsProcessing<T> processing,
+            TsDomain domain, int checkpoint) {
+        if (checkpoint < 0) {
+            throw new IllegalArgumentException("Invalid checkpoint");
+        }
         m_processing = processing;
         m_domainT = domain;
+        m_checkpoint = checkpoint;
         m_cache.put(m_domainT, processing.process(m_domainT));
+        ++m_nfull;
+    }
+
+    /**
+     *
+     * @return True if the vintages are processed incrementally
+     */
+    public boolean isIncremental() {
+        return m_checkpoint > 0 && m_processing instanceof IIncrementalTsProcessing;
+    }
+
+    /**
+     *
+     * @return The number of periods between two complete processing (0 in
+     * exact mode)
+     */
+    public int getCheckpoint() {
+        return m_checkpoint;
+    }
+
+    /**
+     *
+     * @return The number of complete processing (including the reference)
+     */
+    public int getFullProcessingCount() {
+        return m_nfull;
+    }
+
+    /**
+     *
+     * @return The number of vintages computed from a previous vintage
+     */
+    public int getIncrementalProcessingCount() {
+        return m_nincremental;
     }
 
     /**
@@ -312,12 +374,79 @@ public class RevisionHistory<T extends IProcResults> {
     public T tsInfo(TsDomain domain) {
         T info = m_cache.get(domain);
         if (info == null) {
-            info = m_processing.process(domain);
+            info = compute(domain);
             m_cache.put(domain, info);
         }
         return info;
     }
 
+    private T compute(TsDomain domain) {
+        if (isIncremental() && domain.getStart().equals(m_domainT.getStart())) {
+            TsDomain cdomain = checkpoint(domain);
+            if (cdomain != null && cdomain.getLength() < domain.getLength()) {
+                // each vintage is computed from the immediately preceding one.
+                // The missing vintages of the chain that starts at the
+                // checkpoint are computed (and cached) on demand
+                TsDomain pdomain = previous(domain, cdomain);
+                T previous = tsInfo(pdomain);
+                while (pdomain.getLength() < domain.getLength() - 1) {
+                    TsDomain ndomain = pdomain.extend(0, 1);
+                    previous = next(ndomain, pdomain, previous);
+                    m_cache.put(ndomain, previous);
+                    pdomain = ndomain;
+                }
+                return next(domain, pdomain, previous);
+            }
+        }
+        ++m_nfull;
+        return m_processing.process(domain);
+    }
+
+    private T next(TsDomain domain, TsDomain pdomain, T previous) {
+        if (previous != null) {
+            T info = ((IIncrementalTsProcessing<T>) m_processing).process(domain, pdomain, previous);
+            if (info != null) {
+                ++m_nincremental;
+                return info;
+            }
+        }
+        ++m_nfull;
+        return m_processing.process(domain);
+    }
+
+    /**
+     * Last checkpoint in the given domain
+     *
+     * @param domain
+     * @return The domain that ends at the checkpoint or null if the domain
+     * doesn't contain any checkpoint
+     */
+    private TsDomain checkpoint(TsDomain domain) {
+        TsPeriod last = domain.getLast();
+        int idx = last.getYear() * last.getFrequency().intValue() + last.getPosition();
+        int del = (idx + 1) % m_checkpoint;
+        if (del >= domain.getLength()) {
+            return null;
+        }
+        return domain.drop(0, del);
+    }
+
+    /**
+     * Longest processed vintage between the checkpoint and the domain
+     * (checkpoint included). Starting point of the chain of the missing
+     * vintages
+     */
+    private TsDomain previous(TsDomain domain, TsDomain cdomain) {
+        TsDomain pdomain = domain.drop(0, 1);
+        while (pdomain.getLength() > cdomain.getLength()) {
+            if (m_cache.containsKey(pdomain)) {
+                return pdomain;
+            }
+            pdomain = pdomain.drop(0, 1);
+        }
+        return cdomain;
+    }
+
     // / <summary>
     // / Returns the value of the time series identified by "item" at a given
     // point ("period"),
@@ -0,0 +1,353 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+package ec.tstoolkit.timeseries.regression;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.timeseries.calendars.DefaultGregorianCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.EasterRelatedDay;
+import ec.tstoolkit.timeseries.calendars.FixedDay;
+import ec.tstoolkit.timeseries.calendars.FixedWeekDay;
+import ec.tstoolkit.timeseries.calendars.IGregorianCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.NationalCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.SpecialDayEvent;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide cache of the regression variables that only depend on their
+ * definition and on the domain: trading days (for a given calendar), leap
+ * year, Easter effects. Those variables are identical for all the series of
+ * a batch that share the same domain, and they are used many times during
+ * the automatic modelling of each series (log-level test, trading days and
+ * Easter tests, outliers detection, final estimation).
+ *
+ * The cache is limited in size (see getCapacity); the least recently used
+ * entries are removed first. Other variables (outliers, user variables...)
+ * are not cached.
+ *
+ * Trading days are only cached for the default calendar and for national
+ * calendars, which are identified by their content (mean correction, Julian
+ * Easter, special days and their validity periods). Chained or composite
+ * calendars refer to other calendars by name; they are never cached.
+ *
+ * The blocks returned by the cache are copies of the cached data.
+ *
+ * The caching is opt-in: no default cache is defined (see setDefault).
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class RegressorCache {
+
+    /**
+     * Default capacity of the cache (32 MB)
+     */
+    public static final long DEFAULT_CAPACITY = 32L << 20;
+    // approximate size of an entry without its data
+    private static final long OVERHEAD = 128;
+
+    private static volatile RegressorCache DEFAULT;
+
+    /**
+     * The cache used by the modelling routines (see
+     * ModelDescription.buildRegArima)
+     *
+     * @return The default cache. Null (no caching) by default
+     */
+    public static RegressorCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Sets the cache used by the modelling routines
+     *
+     * @param cache The new cache. May be null (no caching)
+     */
+    public static void setDefault(RegressorCache cache) {
+        DEFAULT = cache;
+    }
+
+    private final LinkedHashMap<Key, double[][]> entries = new LinkedHashMap<>(64, .75f, true);
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
+    private long capacity, size;
+
+    /**
+     *
+     * @param capacity The maximum size (in bytes) of the cached data
+     */
+    public RegressorCache(long capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Checks that a variable can be cached
+     *
+     * @param variable
+     * @return
+     */
+    public static boolean isCacheable(ITsVariable variable) {
+        return definition(variable) != null;
+    }
+
+    /**
+     * Gets the data of a variable on a given domain, computing them if
+     * necessary
+     *
+     * @param variable The variable
+     * @param domain The domain
+     * @return Copies of the data of each component of the variable. Null if
+     * the variable can't be cached
+     */
+    public DataBlock[] get(ITsVariable variable, TsDomain domain) {
+        Object[] def = definition(variable);
+        if (def == null) {
+            return null;
+        }
+        Key key = new Key(def, domain);
+        double[][] data;
+        synchronized (entries) {
+            data = entries.get(key);
+        }
+        if (data != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            // computed outside the lock; concurrent computations of the same
+            // entry give identical results
+            data = compute(variable, domain);
+            synchronized (entries) {
+                if (entries.put(key, data) == null) {
+                    size += size(data);
+                    shrink();
+                }
+            }
+        }
+        DataBlock[] x = new DataBlock[data.length];
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = new DataBlock(data[i].clone());
+        }
+        return x;
+    }
+
+    /**
+     * Removes all the entries of the cache. The statistics are not reset
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            size = 0;
+        }
+    }
+
+    /**
+     * Maximum size (in bytes) of the cached data
+     *
+     * @return
+     */
+    public long getCapacity() {
+        synchronized (entries) {
+            return capacity;
+        }
+    }
+
+    public void setCapacity(long capacity) {
+        synchronized (entries) {
+            this.capacity = capacity;
+            shrink();
+        }
+    }
+
+    /**
+     * Approximate size (in bytes) of the cached data
+     *
+     * @return
+     */
+    public long getSize() {
+        synchronized (entries) {
+            return size;
+        }
+    }
+
+    /**
+     * Number of cached variables
+     *
+     * @return
+     */
+    public int getCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Proportion of the requests served by the cache
+     *
+     * @return A number in [0, 1]. 0 if no request has been made
+     */
+    public double getHitRate() {
+        long h = hits.sum(), n = h + misses.sum();
+        return n == 0 ? 0 : (double) h / n;
+    }
+
+    /**
+     * Resets the statistics of the cache (hits, misses, evictions)
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RegressorCache[count=%d, size=%d, hit rate=%.3f]", getCount(), getSize(), getHitRate());
+    }
+
+    private void shrink() {
+        Iterator<double[][]> iter = entries.values().iterator();
+        while (size > capacity && iter.hasNext()) {
+            size -= size(iter.next());
+            iter.remove();
+            evictions.increment();
+        }
+    }
+
+    private static long size(double[][] data) {
+        long n = OVERHEAD;
+        for (double[] col : data) {
+            n += 16 + 8L * col.length;
+        }
+        return n;
+    }
+
+    private static double[][] compute(ITsVariable variable, TsDomain domain) {
+        int n = domain.getLength();
+        double[][] data = new double[variable.getDim()][];
+        List<DataBlock> x = new ArrayList<>(data.length);
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = new double[n];
+            x.add(new DataBlock(data[i]));
+        }
+        variable.data(domain, x);
+        return data;
+    }
+
+    // the classes are compared exactly: derived classes could contain other
+    // parameters
+    private static Object[] definition(ITsVariable variable) {
+        if (variable == null) {
+            return null;
+        }
+        Class<?> type = variable.getClass();
+        if (type == GregorianCalendarVariables.class) {
+            GregorianCalendarVariables var = (GregorianCalendarVariables) variable;
+            Object[] cal = calendar(var.getProvider());
+            return cal == null ? null : new Object[]{type, cal, var.getDayOfWeek()};
+        } else if (type == LeapYearVariable.class) {
+            return new Object[]{type, ((LeapYearVariable) variable).getType()};
+        } else if (type == EasterVariable.class) {
+            EasterVariable var = (EasterVariable) variable;
+            return new Object[]{type, var.getDuration(), var.getType(), var.hasEaster(), var.hasEasterMonday()};
+        } else if (type == JulianEasterVariable.class) {
+            JulianEasterVariable var = (JulianEasterVariable) variable;
+            return new Object[]{type, var.getDuration(), var.isGregorianDate()};
+        } else {
+            return null;
+        }
+    }
+
+    // content of the calendar, null if it can't be identified safely
+    private static Object[] calendar(IGregorianCalendarProvider provider) {
+        if (provider == null) {
+            return null;
+        }
+        Class<?> type = provider.getClass();
+        if (type == DefaultGregorianCalendarProvider.class) {
+            return new Object[]{type};
+        } else if (type == NationalCalendarProvider.class) {
+            NationalCalendarProvider ncal = (NationalCalendarProvider) provider;
+            SpecialDayEvent[] events = ncal.events().toArray(new SpecialDayEvent[0]);
+            Object[] cal = new Object[3 + 3 * events.length];
+            int pos = 0;
+            cal[pos++] = type;
+            cal[pos++] = ncal.isLongTermMeanCorrection();
+            cal[pos++] = ncal.isJulianEaster();
+            for (SpecialDayEvent event : events) {
+                // only immutable days
+                Class<?> dtype = event.day.getClass();
+                if (dtype != FixedDay.class && dtype != FixedWeekDay.class && dtype != EasterRelatedDay.class) {
+                    return null;
+                }
+                cal[pos++] = event.day;
+                // the validity period is mutable: its bounds are copied
+                cal[pos++] = event.getStart();
+                cal[pos++] = event.getEnd();
+            }
+            return cal;
+        } else {
+            return null;
+        }
+    }
+
+    private static final class Key {
+
+        private final Object[] definition;
+        private final TsDomain domain;
+        private final int hash;
+
+        Key(Object[] definition, TsDomain domain) {
+            this.definition = definition;
+            this.domain = domain;
+            this.hash = 31 * Arrays.deepHashCode(definition) + domain.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && domain.equals(other.domain) && Arrays.deepEquals(definition, other.definition);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
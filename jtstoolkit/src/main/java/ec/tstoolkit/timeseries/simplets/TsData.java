@@ -20,6 +20,7 @@ import ec.tstoolkit.arima.ArimaModelBuilder;
 import ec.tstoolkit.data.DescriptiveStatistics;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.data.ReadDataBlock;
+import ec.tstoolkit.data.RollingStatistics;
 import ec.tstoolkit.data.Values;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -27,6 +28,7 @@ import ec.tstoolkit.design.NewObject;
 import ec.tstoolkit.design.Unsafe;
 import ec.tstoolkit.timeseries.Day;
 import ec.tstoolkit.timeseries.TsAggregationType;
+import ec.tstoolkit.timeseries.TsException;
 import ec.tstoolkit.timeseries.TsPeriodSelector;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.random.IRandomNumberGenerator;
@@ -38,6 +40,7 @@ import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoublePredicate;
 import java.util.function.DoubleSupplier;
 import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
 import java.util.function.IntToDoubleFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -1160,46 +1163,81 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      * length is even, a null is also returned.
      */
     public TsData movingMedian(final int nperiods, final boolean bcentred) {
+        return moving(nperiods, bcentred, RollingStatistics::medians);
+    }
+
+    /**
+     * Returns a moving quantile of this time series. The quantiles are
+     * interpolated between the two nearest (sorted) values.
+     *
+     * @param nperiods Number of periods to take into account for the
+     * calculation of the quantile.
+     * @param p The probability of the quantile (in [0, 1]).
+     * @param bcentred true if the moving quantile is centred.
+     * @return A new time series is returned. Null in the same cases as for
+     * movingMedian.
+     */
+    public TsData movingQuantile(final int nperiods, final double p, final boolean bcentred) {
+        return moving(nperiods, bcentred, rs -> rs.quantiles(p));
+    }
+
+    /**
+     * Returns the moving median absolute deviations (around the moving
+     * median) of this time series. The deviations are not scaled.
+     *
+     * @param nperiods Number of periods of the moving window.
+     * @param bcentred true if the moving window is centred.
+     * @return A new time series is returned. Null in the same cases as for
+     * movingMedian.
+     */
+    public TsData movingMad(final int nperiods, final boolean bcentred) {
+        return moving(nperiods, bcentred, RollingStatistics::mads);
+    }
+
+    /**
+     * Returns a moving trimmed mean of this time series.
+     *
+     * @param nperiods Number of periods of the moving window.
+     * @param alpha Proportion of the (sorted) values removed at each end of
+     * the window, in [0, 0.5[.
+     * @param bcentred true if the moving window is centred.
+     * @return A new time series is returned. Null in the same cases as for
+     * movingMedian.
+     */
+    public TsData movingTrimmedMean(final int nperiods, final double alpha, final boolean bcentred) {
+        return moving(nperiods, bcentred, rs -> rs.trimmedMeans(alpha));
+    }
+
+    /**
+     * Returns the moving variances of this time series (divided by the
+     * number of periods).
+     *
+     * @param nperiods Number of periods of the moving window.
+     * @param bcentred true if the moving window is centred.
+     * @return A new time series is returned. Null in the same cases as for
+     * movingMedian.
+     */
+    public TsData movingVariance(final int nperiods, final boolean bcentred) {
+        return moving(nperiods, bcentred, RollingStatistics::variances);
+    }
+
+    // the periods with missing values in their window are missing
+    private TsData moving(final int nperiods, final boolean bcentred, final Function<RollingStatistics, double[]> fn) {
         if (nperiods < 2 || (bcentred && nperiods % 2 == 0)) {
             return null;
         }
         int np2 = (nperiods - 1) / 2;
-        TsDomain dout = null;
+        TsDomain dout;
         TsDomain dom = getDomain();
         if (bcentred) {
             dout = dom.drop(nperiods - 1 - np2, np2);
         } else {
             dout = dom.drop(nperiods - 1, 0);
         }
-
-        TsData rslt = new TsData(dout);
-        int n = dout.getLength();
-        if (n == 0) {
-            return rslt;
+        if (dout.getLength() == 0) {
+            return new TsData(dout);
         }
-        double[] tmp = new double[nperiods];
-        boolean bPair = (nperiods % 2) == 0;
-        for (int i = 0; i < n; ++i) {
-            boolean bmissing = false;
-            for (int j = 0; j < nperiods; ++j) {
-                double x = vals[i + j];
-                if (!Double.isFinite(x)) {
-                    bmissing = true;
-                    break;
-                }
-                tmp[j] = x;
-            }
-            if (!bmissing) {
-                Arrays.sort(tmp);
-                if (bPair) // moyenne des 2 valeurs centrales
-                {
-                    rslt.vals[i] = (tmp[np2] + tmp[np2 + 1]) / 2;
-                } else {
-                    rslt.vals[i] = tmp[np2];
-                }
-            }
-        }
-        return rslt;
+        return new TsData(dout.getStart(), fn.apply(new RollingStatistics(vals, nperiods)), false);
     }
 
     /**
@@ -1605,32 +1643,74 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
         }
     }
 
+    /**
+     * Computes fn(tsl[t], tsr[t]) on the common domain of two time series. The
+     * result is missing when one of the operands is missing (not finite).
+     *
+     * @param tsl The left operand
+     * @param tsr The right operand
+     * @param fn The operation
+     * @return A new time series, defined on the common time domain. It may be
+     * empty, but not null
+     * @throws TsException when the frequencies are not the same
+     */
     public static TsData computeOnIntersection(final TsData tsl, final TsData tsr, final DoubleBinaryOperator fn) {
+        checkFrequency(tsl, tsr);
+        int lbeg = tsl.start.id(), rbeg = tsr.start.id();
+        int ibeg = Math.max(lbeg, rbeg);
+        int ni = Math.max(0, Math.min(lbeg + tsl.vals.length, rbeg + tsr.vals.length) - ibeg);
+        TsData rslt = new TsData(lbeg >= rbeg ? tsl.start : tsr.start, ni);
+        compute(tsl.vals, ibeg - lbeg, tsr.vals, ibeg - rbeg, rslt.vals, ni, fn);
+        return rslt;
+    }
 
-        TsDomain rDomain = tsr.getDomain();
-        TsDomain lDomain = tsl.getDomain();
-        TsDomain iDomain = lDomain.intersection(rDomain);
-        if (iDomain == null) {
-            return null;
+    /**
+     * In-place version of computeOnIntersection(this, ts, fn). When the domain
+     * of this series is included in the domain of ts (usual case), the result
+     * is written in this series and no new object is created. Otherwise, a new
+     * series, defined on the common domain, is returned and this series is
+     * unchanged.
+     *
+     * This method should only be used on series that are not shared (for
+     * instance on the intermediate results of a computation); chained calls
+     * avoid the creation of temporary series. For example,
+     * a.minus(b).times(c).plus(d) can be written as
+     * TsData.subtract(a, b).applyOnIntersection(c, (x, y) -> x * y)
+     * .applyOnIntersection(d, (x, y) -> x + y) or, when the intermediate
+     * results are not needed, as a single fused operation.
+     *
+     * @param ts The right operand
+     * @param fn The operation
+     * @return The result: this series or a new series
+     * @throws TsException when the frequencies are not the same
+     */
+    public TsData applyOnIntersection(final TsData ts, final DoubleBinaryOperator fn) {
+        checkFrequency(this, ts);
+        int beg = start.id(), tbeg = ts.start.id();
+        if (beg < tbeg || beg + vals.length > tbeg + ts.vals.length) {
+            return computeOnIntersection(this, ts, fn);
         }
-        int ni = iDomain.getLength();
-        TsData rslt = new TsData(iDomain);
-        if (ni == 0) {
-            return rslt;
+        compute(vals, 0, ts.vals, beg - tbeg, vals, vals.length, fn);
+        return this;
+    }
+
+    private static void checkFrequency(final TsData tsl, final TsData tsr) {
+        if (tsl.start.getFrequency() != tsr.start.getFrequency()) {
+            throw new TsException(TsException.INCOMPATIBLE_FREQ);
         }
+    }
 
-        int rbeg = rDomain.firstid(), lbeg = tsl.start.id(), ibeg = iDomain.firstid();
-        int li = ibeg - lbeg, ri = ibeg - rbeg;
-        rslt.set(tsl.rextract(li, ni), tsr.rextract(ri, ni),
-                (a, b) -> {
-                    if (Double.isFinite(a) && Double.isFinite(b)) {
-                        return fn.applyAsDouble(a, b);
-                    } else {
-                        return Double.NaN;
-                    }
-                }
-        );
-        return rslt;
+    // out may be l (in-place computation)
+    private static void compute(final double[] l, final int lpos, final double[] r, final int rpos,
+            final double[] out, final int n, final DoubleBinaryOperator fn) {
+        for (int i = 0; i < n; ++i) {
+            double a = l[lpos + i], b = r[rpos + i];
+            if (Double.isFinite(a) && Double.isFinite(b)) {
+                out[i] = fn.applyAsDouble(a, b);
+            } else {
+                out[i] = Double.NaN;
+            }
+        }
     }
 
 //</editor-fold>
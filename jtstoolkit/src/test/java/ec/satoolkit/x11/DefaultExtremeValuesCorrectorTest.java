@@ -0,0 +1,77 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+
+package ec.satoolkit.x11;
+
+import data.Data;
+import ec.satoolkit.DecompositionMode;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class DefaultExtremeValuesCorrectorTest {
+
+    public DefaultExtremeValuesCorrectorTest() {
+    }
+
+    private static double[] stdev(DefaultExtremeValuesCorrector corrector, TsData s) {
+        corrector.setContext(new X11Context(DecompositionMode.Multiplicative, 0, 0));
+        corrector.scur = s;
+        corrector.calcStdev();
+        return corrector.getStandardDeviations();
+    }
+
+    /**
+     * The shared sums of squares give the same results as the computation of
+     * each window
+     */
+    @Test
+    public void testMovingStdev() {
+        TsData s = Data.X.drop(3, 5);
+        s = s.div(s.average());
+        s.set(20, Double.NaN);
+        double[] fast = stdev(new DefaultExtremeValuesCorrector(), s);
+        double[] slow = stdev(new DefaultExtremeValuesCorrector() {
+            @Override
+            protected double calcStdev(DataBlock data) {
+                return super.calcStdev(data);
+            }
+        }, s);
+        assertEquals(slow.length, fast.length);
+        for (int i = 0; i < fast.length; ++i) {
+            assertEquals(slow[i], fast[i], 1e-12);
+        }
+    }
+
+    @Test
+    public void testOverriddenStdev() {
+        double[] stdev = stdev(new DefaultExtremeValuesCorrector() {
+            @Override
+            protected double calcStdev(DataBlock data) {
+                return 1;
+            }
+        }, Data.X);
+        for (int i = 0; i < stdev.length; ++i) {
+            assertEquals(1, stdev[i], 0);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.information.ProxyResults;
 import ec.tstoolkit.maths.matrices.Matrix;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.AfterClass;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -99,6 +100,62 @@ public class ParallelProcessingNodeTest {
 
     }
 
+    @Test
+    public void testNested() throws InterruptedException {
+        // more nested nodes than threads: must not dead-lock
+        IProcessingExecutor executor = ProcessingExecutors.forkJoin(2);
+        ParallelProcessingNode<Matrix> outer = new ParallelProcessingNode<>("outer", null, executor);
+        for (int i = 0; i < 4; ++i) {
+            final int pos = i;
+            outer.add(new IProcessingNode<Matrix>() {
+
+                @Override
+                public String getName() {
+                    return "inner" + pos;
+                }
+
+                @Override
+                public String getPrefix() {
+                    return getName();
+                }
+
+                @Override
+                public Status process(Matrix input, Map<String, IProcResults> results) {
+                    ParallelProcessingNode<Matrix> inner = new ParallelProcessingNode<>(getName(), getPrefix(), executor);
+                    for (int j = 0; j < input.getColumnsCount(); ++j) {
+                        inner.add(createNode(j));
+                    }
+                    return inner.process(input, results);
+                }
+            });
+        }
+        Matrix M = new Matrix(100, 10);
+        M.randomize();
+        Map<String, IProcResults> results = new java.util.HashMap<>();
+        assertEquals(Status.Valid, outer.process(M, results));
+        CompositeResults rslts = (CompositeResults) results.get("outer");
+        for (int i = 0; i < 4; ++i) {
+            for (int j = 0; j < M.getColumnsCount(); ++j) {
+                assertEquals(M.column(j).ssq(), rslts.getData("inner" + i + ".column" + j + ".value", Double.class), 1e-9);
+            }
+        }
+        assertEquals(44, executor.getCompletedTaskCount());
+        // the workers may still be busy right after the last join
+        assertTrue(executor.awaitQuiescence(10, TimeUnit.SECONDS));
+        assertEquals(0, executor.getActiveTaskCount());
+    }
+
+    @Test
+    public void testContextExecutor() {
+        ProcessingContext context = new ProcessingContext();
+        assertSame(ProcessingExecutors.getDefault(), context.getExecutor());
+        IProcessingExecutor executor = ProcessingExecutors.sequential();
+        context.setExecutor(executor);
+        assertSame(executor, context.getExecutor());
+        context.setExecutor(null);
+        assertSame(ProcessingExecutors.getDefault(), context.getExecutor());
+    }
+
     private static IProcessingNode<Matrix> createNode(final int pos) {
         return new IProcessingNode<Matrix>() {
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.algorithm;
+
+import data.Data;
+import ec.satoolkit.algorithm.implementation.TramoSeatsProcessingFactory;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class ProcessingMetricsTest {
+
+    public ProcessingMetricsTest() {
+    }
+
+    @Test
+    public void testScope() {
+        ProcessingMetrics outer = new ProcessingMetrics(), inner = new ProcessingMetrics();
+        long g = ProcessingMetrics.global().getCount(ProcessingMetrics.Counter.FilterPasses);
+        ProcessingMetrics p1 = ProcessingMetrics.enter(outer);
+        assertNull(p1);
+        ProcessingMetrics.increment(ProcessingMetrics.Counter.FilterPasses);
+        ProcessingMetrics p2 = ProcessingMetrics.enter(inner);
+        assertSame(outer, p2);
+        ProcessingMetrics.increment(ProcessingMetrics.Counter.FilterPasses);
+        ProcessingMetrics.Timer timer = ProcessingMetrics.time("test");
+        ProcessingMetrics.increment(ProcessingMetrics.Counter.FilterPasses);
+        timer.next("next");
+        timer.stop();
+        ProcessingMetrics.exit(p2);
+        assertSame(outer, ProcessingMetrics.current());
+        ProcessingMetrics.exit(p1);
+        assertNull(ProcessingMetrics.current());
+        assertEquals(1, outer.getCount(ProcessingMetrics.Counter.FilterPasses));
+        assertEquals(2, inner.getCount(ProcessingMetrics.Counter.FilterPasses));
+        assertTrue(ProcessingMetrics.global().getCount(ProcessingMetrics.Counter.FilterPasses) >= g + 3);
+        assertEquals(1, inner.getStageCalls("test"));
+        assertEquals(1, inner.getStageCalls("next"));
+        assertEquals(0, outer.getStageCalls("test"));
+        assertEquals(Integer.valueOf(2), inner.getData("filterpasses", Integer.class));
+        assertNotNull(inner.getData("stages.test.time", Double.class));
+        assertNull(inner.getData("stages.other.time", Double.class));
+    }
+
+    @Test
+    public void testDisabled() {
+        ProcessingContext context = ProcessingContext.getActiveContext();
+        ProcessingMetrics metrics = new ProcessingMetrics();
+        long g = ProcessingMetrics.global().getCount(ProcessingMetrics.Counter.FilterPasses);
+        context.setMetricsEnabled(false);
+        try {
+            assertFalse(ProcessingMetrics.isEnabled());
+            ProcessingMetrics prev = ProcessingMetrics.enter(metrics);
+            try {
+                ProcessingMetrics.increment(ProcessingMetrics.Counter.FilterPasses);
+                ProcessingMetrics.Timer timer = ProcessingMetrics.time("test");
+                timer.next("next");
+                timer.stop();
+            } finally {
+                ProcessingMetrics.exit(prev);
+            }
+            CompositeResults rslt = TramoSeatsProcessingFactory.process(Data.X, TramoSeatsSpecification.RSA0);
+            assertNull(rslt.get(ProcessingMetrics.METRICS, ProcessingMetrics.class));
+        } finally {
+            context.setMetricsEnabled(true);
+        }
+        assertTrue(ProcessingMetrics.isEnabled());
+        assertEquals(0, metrics.getCount(ProcessingMetrics.Counter.FilterPasses));
+        assertEquals(0, metrics.getStages().length);
+        assertEquals(g, ProcessingMetrics.global().getCount(ProcessingMetrics.Counter.FilterPasses));
+    }
+
+    @Test
+    public void testExecutor() throws Exception {
+        ProcessingMetrics metrics = new ProcessingMetrics();
+        IProcessingExecutor executor = ProcessingExecutors.forkJoin(3);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            tasks.add(() -> {
+                ProcessingMetrics.increment(ProcessingMetrics.Counter.FunctionEvaluations);
+                return null;
+            });
+        }
+        ProcessingMetrics prev = ProcessingMetrics.enter(metrics);
+        try {
+            executor.invokeAll(tasks);
+        } finally {
+            ProcessingMetrics.exit(prev);
+        }
+        assertEquals(100, metrics.getCount(ProcessingMetrics.Counter.FunctionEvaluations));
+    }
+
+    @Test
+    public void testTramoSeats() {
+        CompositeResults rslt = TramoSeatsProcessingFactory.process(Data.X, TramoSeatsSpecification.RSA5);
+        ProcessingMetrics metrics = rslt.get(ProcessingMetrics.METRICS, ProcessingMetrics.class);
+        assertNotNull(metrics);
+        assertTrue(metrics.getCount(ProcessingMetrics.Counter.LikelihoodEvaluations) > 0);
+        assertTrue(metrics.getCount(ProcessingMetrics.Counter.OptimizerIterations) > 0);
+        assertTrue(metrics.getStageCalls("tramo.outliers") > 0);
+        assertEquals(1, metrics.getStageCalls("seats.decomposition"));
+        Integer n = rslt.getData("metrics.likelihoodevaluations", Integer.class);
+        assertEquals(metrics.getCount(ProcessingMetrics.Counter.LikelihoodEvaluations), n.longValue());
+        assertTrue(rslt.getDictionary().containsKey("metrics.stages.seats.decomposition.time"));
+    }
+}
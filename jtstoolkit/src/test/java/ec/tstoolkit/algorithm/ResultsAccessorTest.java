@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.algorithm;
+
+import data.Data;
+import ec.satoolkit.algorithm.implementation.TramoSeatsProcessingFactory;
+import ec.satoolkit.algorithm.implementation.X13ProcessingFactory;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.satoolkit.x13.X13Specification;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.Map;
+import java.util.Objects;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class ResultsAccessorTest {
+
+    public ResultsAccessorTest() {
+    }
+
+    // previous implementation of CompositeResults.getData
+    private static <T> T search(CompositeResults rslts, String id, Class<T> tclass) {
+        for (CompositeResults.Node node : rslts.nodes()) {
+            if (node.results != null) {
+                String cid = null;
+                if (node.prefix != null) {
+                    if (InformationSet.isPrefix(id, node.prefix)) {
+                        cid = InformationSet.removePrefix(id);
+                    }
+                } else {
+                    cid = id;
+                }
+                if (cid != null && node.results.contains(cid)) {
+                    return node.results.getData(cid, tclass);
+                }
+            }
+        }
+        for (CompositeResults.Node node : rslts.nodes()) {
+            if (node.results != null) {
+                String cid;
+                if (node.prefix != null && InformationSet.isPrefix(id, node.prefix)) {
+                    cid = InformationSet.removePrefix(id);
+                } else {
+                    cid = id;
+                }
+                if (cid != null && node.results.contains(cid)) {
+                    return node.results.getData(cid, tclass);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void check(CompositeResults rslts) {
+        Map<String, Class> dic = rslts.getDictionary();
+        assertFalse(dic.isEmpty());
+        int n = 0;
+        for (String id : dic.keySet()) {
+            Object o = ResultsAccessor.of(id).getData(rslts, Object.class);
+            Object r = search(rslts, id, Object.class);
+            if (r != null) {
+                ++n;
+            }
+            assertTrue(id, Objects.deepEquals(r, o) || (r != null && r.toString().equals(o.toString())));
+        }
+        assertTrue(n > 0);
+        // unprefixed identifiers are found by the second strategy
+        assertSame(search(rslts, "s_f", Object.class), rslts.getData("s_f", Object.class));
+        assertNull(rslts.getData("sa.unknown", Object.class));
+    }
+
+    @Test
+    public void testTramoSeats() {
+        check(TramoSeatsProcessingFactory.process(Data.P, TramoSeatsSpecification.RSA5));
+    }
+
+    @Test
+    public void testX13() {
+        check(X13ProcessingFactory.process(Data.P, X13Specification.RSA5));
+    }
+
+    @Test
+    public void testLayouts() {
+        CompositeResults r1 = new CompositeResults();
+        r1.put("a", new SingleTsData("a", Data.P), "x");
+        r1.put("b", new SingleTsData("b", Data.X), null);
+        CompositeResults r2 = new CompositeResults();
+        r2.put("a", new SingleTsData("a", Data.X), null);
+        ResultsAccessor accessor = ResultsAccessor.of("x.a");
+        assertSame(Data.P, accessor.getData(r1, TsData.class));
+        assertNull(accessor.getData(r2, TsData.class));
+        assertSame(Data.X, ResultsAccessor.of("a").getData(r2, TsData.class));
+        assertNull(accessor.getData(null, TsData.class));
+        // the layout is updated with the nodes
+        r2.put("c", new SingleTsData("a", Data.M1), "x");
+        assertSame(Data.M1, accessor.getData(r2, TsData.class));
+    }
+}
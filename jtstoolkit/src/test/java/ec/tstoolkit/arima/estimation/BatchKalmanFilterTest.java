@@ -0,0 +1,156 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+
+package ec.tstoolkit.arima.estimation;
+
+import ec.tstoolkit.arima.ArimaException;
+import ec.tstoolkit.arima.IArimaModel;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.eco.Likelihood;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarmaSpecification;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class BatchKalmanFilterTest {
+
+    private static final int K = 25, N = 240;
+
+    public BatchKalmanFilterTest() {
+    }
+
+    private static SarimaModel[] models(SarmaSpecification spec, Random rnd) {
+        SarimaModel[] models = new SarimaModel[K];
+        for (int k = 0; k < K; ++k) {
+            SarimaModel m;
+            do {
+                m = new SarimaModel(spec);
+                for (int i = 1; i <= spec.getP(); ++i) {
+                    m.setPhi(i, 1.6 * rnd.nextDouble() - .8);
+                }
+                for (int i = 1; i <= spec.getBP(); ++i) {
+                    m.setBPhi(i, 1.6 * rnd.nextDouble() - .8);
+                }
+                for (int i = 1; i <= spec.getQ(); ++i) {
+                    m.setTheta(i, 1.8 * rnd.nextDouble() - .9);
+                }
+                for (int i = 1; i <= spec.getBQ(); ++i) {
+                    m.setBTheta(i, 1.8 * rnd.nextDouble() - .9);
+                }
+            } while (!m.isValid(true));
+            models[k] = m;
+        }
+        return models;
+    }
+
+    private static double[][] data(Random rnd) {
+        double[][] y = new double[K][N];
+        for (int k = 0; k < K; ++k) {
+            for (int i = 0; i < N; ++i) {
+                y[k][i] = rnd.nextGaussian();
+            }
+        }
+        return y;
+    }
+
+    private static void compare(SarmaSpecification spec) {
+        Random rnd = new Random(0);
+        SarimaModel[] models = models(spec, rnd);
+        double[][] y = data(rnd);
+        BatchKalmanFilter bf = new BatchKalmanFilter();
+        assertEquals(K, bf.initialize(models, N));
+        double[][] e = new double[K][N];
+        bf.filter(y, e);
+        for (int k = 0; k < K; ++k) {
+            KalmanFilter kf = new KalmanFilter(false);
+            int n = kf.initialize(models[k], N);
+            DataBlock ek = new DataBlock(n);
+            kf.filter(new DataBlock(y[k]), ek);
+            assertTrue(bf.isValid(k));
+            assertEquals(kf.getLogDeterminant(), bf.getLogDeterminant(k), 1e-12);
+            assertEquals(ek.ssq(), bf.getSsq(k), 1e-9);
+            assertArrayEquals(ek.getData(), e[k], 1e-12);
+        }
+    }
+
+    @Test
+    public void testAirline() {
+        SarmaSpecification spec = new SarmaSpecification(12);
+        spec.setQ(1);
+        spec.setBQ(1);
+        compare(spec);
+    }
+
+    @Test
+    public void testArma() {
+        SarmaSpecification spec = new SarmaSpecification(12);
+        spec.setP(3);
+        spec.setBP(1);
+        spec.setQ(1);
+        spec.setBQ(1);
+        compare(spec);
+        spec = new SarmaSpecification(4);
+        spec.setP(2);
+        compare(spec);
+    }
+
+    @Test
+    public void testLikelihoods() {
+        SarmaSpecification spec = new SarmaSpecification(4);
+        spec.setP(1);
+        spec.setQ(1);
+        spec.setBQ(1);
+        Random rnd = new Random(1);
+        SarimaModel[] models = models(spec, rnd);
+        double[][] y = data(rnd);
+        Likelihood[] ll = BatchKalmanFilter.likelihoods(models, y);
+        for (int k = 0; k < K; ++k) {
+            KalmanFilter kf = new KalmanFilter(true);
+            int n = kf.initialize(models[k], N);
+            DataBlock ek = new DataBlock(n);
+            kf.filter(new DataBlock(y[k]), ek);
+            Likelihood l = new Likelihood();
+            l.set(ek.ssq(), kf.getLogDeterminant(), n);
+            assertEquals(l.getLogLikelihood(), ll[k].getLogLikelihood(), 1e-9);
+        }
+    }
+
+    @Test
+    public void testEmptyPanel() {
+        Likelihood[] ll = BatchKalmanFilter.likelihoods(new IArimaModel[0], new double[0][]);
+        assertEquals(0, ll.length);
+        BatchKalmanFilter filter = new BatchKalmanFilter();
+        assertEquals(0, filter.initialize(new IArimaModel[0], N));
+        filter.filter(new double[0][], new double[0][]);
+        assertEquals(0, filter.getSeriesCount());
+    }
+
+    @Test(expected = ArimaException.class)
+    public void testIncompatibleModels() {
+        SarmaSpecification spec = new SarmaSpecification(12);
+        spec.setQ(1);
+        spec.setBQ(1);
+        SarmaSpecification spec2 = spec.clone();
+        spec2.setP(1);
+        new BatchKalmanFilter().initialize(new IArimaModel[]{new SarimaModel(spec), new SarimaModel(spec2)}, N);
+    }
+}
@@ -35,4 +35,31 @@ public class DescriptiveStatisticsTest {
         Assert.assertFalse(Double.isFinite(Double.POSITIVE_INFINITY));
         Assert.assertFalse(Double.isFinite(Double.NaN));
     }
+
+    @Test
+    public void testAutoCovariances() {
+        for (int n = 50; n < 1000; n += 97) {
+            DataBlock z = new DataBlock(n);
+            z.randomize(n);
+            z.sub(z.sum() / n);
+            double[] data = z.getData();
+            for (int k = 1; k < n; k += n / 5) {
+                Assert.assertArrayEquals(DescriptiveStatistics.directAutoCovariances(k, data),
+                        DescriptiveStatistics.fftAutoCovariances(k, data), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void testAutoCovariancesWithMissing() {
+        DataBlock z = new DataBlock(500);
+        z.randomize(0);
+        double[] data = z.getData();
+        for (int i = 0; i < data.length; i += 11) {
+            data[i] = Double.NaN;
+        }
+        data[data.length - 1] = Double.POSITIVE_INFINITY;
+        Assert.assertArrayEquals(DescriptiveStatistics.directAutoCovariances(200, data),
+                DescriptiveStatistics.fftAutoCovariances(200, data), 1e-12);
+    }
 }
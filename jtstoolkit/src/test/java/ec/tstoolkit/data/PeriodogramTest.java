@@ -31,4 +31,27 @@ public class PeriodogramTest {
         }
     }
 
+
+    @Test
+    public void testFft() {
+        for (int K = 12; K < 300; K += 7) {
+            DataBlock z = new DataBlock(K);
+            z.randomize(K);
+            for (int mean = 0; mean < 2; ++mean) {
+                Periodogram p = new Periodogram(z, mean == 1);
+                assertArrayEquals(p.directP(), p.fftP(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testFftWithMissing() {
+        DataBlock z = new DataBlock(365);
+        z.randomize(1);
+        for (int i = 3; i < z.getLength(); i += 17) {
+            z.set(i, Double.NaN);
+        }
+        Periodogram p = new Periodogram(z, true);
+        assertArrayEquals(p.directP(), p.fftP(), 1e-9);
+    }
 }
@@ -0,0 +1,146 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+
+package ec.tstoolkit.data;
+
+import data.Data;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class RollingStatisticsTest {
+
+    public RollingStatisticsTest() {
+    }
+
+    private static double[] data(int n, boolean ties, boolean missing) {
+        Random rnd = new Random(4);
+        double[] x = new double[n];
+        for (int i = 0; i < n; ++i) {
+            x[i] = 100 + 10 * rnd.nextGaussian();
+            if (ties) {
+                x[i] = Math.round(x[i] / 5);
+            }
+            if (missing && rnd.nextInt(20) == 0) {
+                x[i] = Double.NaN;
+            }
+        }
+        return x;
+    }
+
+    private static double[] window(double[] x, int pos, int len) {
+        return Arrays.copyOfRange(x, pos, pos + len);
+    }
+
+    private static double mad(double[] w) {
+        DescriptiveStatistics stats = new DescriptiveStatistics(w);
+        double med = stats.getMedian();
+        double[] obs = stats.observations();
+        double[] e = new double[obs.length];
+        for (int i = 0; i < e.length; ++i) {
+            e[i] = Math.abs(obs[i] - med);
+        }
+        return new DescriptiveStatistics(e).getMedian();
+    }
+
+    private static double trimmedMean(double[] w, double alpha) {
+        double[] s = new DescriptiveStatistics(w).sortedObservations();
+        int t = (int) (alpha * s.length);
+        double sum = 0;
+        for (int i = t; i < s.length - t; ++i) {
+            sum += s[i];
+        }
+        return sum / (s.length - 2 * t);
+    }
+
+    private static void check(double[] x, int len, boolean skip) {
+        RollingStatistics rs = new RollingStatistics(x, len);
+        rs.setSkippingMissing(skip);
+        double[] med = rs.medians(), q = rs.quantiles(.25), mad = rs.mads(),
+                tm = rs.trimmedMeans(.1), avg = rs.averages(), var = rs.variances();
+        assertEquals(x.length - len + 1, med.length);
+        for (int i = 0; i < med.length; ++i) {
+            double[] w = window(x, i, len);
+            DescriptiveStatistics stats = new DescriptiveStatistics(w);
+            if (stats.getObservationsCount() == 0 || (!skip && stats.hasMissingValues())) {
+                assertTrue(Double.isNaN(med[i]) && Double.isNaN(q[i]) && Double.isNaN(mad[i])
+                        && Double.isNaN(tm[i]) && Double.isNaN(avg[i]) && Double.isNaN(var[i]));
+                continue;
+            }
+            assertEquals(stats.getMedian(), med[i], 0);
+            double[] sorted = stats.sortedObservations();
+            double dq = .25 * (sorted.length - 1);
+            int lo = (int) dq;
+            double eq = lo == sorted.length - 1 ? sorted[lo] : sorted[lo] * (1 - (dq - lo)) + sorted[lo + 1] * (dq - lo);
+            assertEquals(eq, q[i], 1e-12);
+            assertEquals(mad(w), mad[i], 1e-12);
+            assertEquals(trimmedMean(w, .1), tm[i], 1e-9);
+            assertEquals(stats.getAverage(), avg[i], 1e-9);
+            assertEquals(stats.getVar(), var[i], 1e-7);
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        for (int len : new int[]{1, 2, 7, 12, 25}) {
+            check(data(300, false, false), len, false);
+            check(data(300, true, false), len, false);
+            check(data(300, false, true), len, false);
+            check(data(300, true, true), len, true);
+        }
+    }
+
+    @Test
+    public void testShort() {
+        RollingStatistics rs = new RollingStatistics(data(5, false, false), 12);
+        assertEquals(0, rs.getLength());
+        assertEquals(0, rs.medians().length);
+        assertEquals(0, rs.variances().length);
+    }
+
+    @Test
+    public void testMovingMedian() {
+        TsData s = Data.X.clone();
+        s.set(20, Double.NaN);
+        for (int len : new int[]{3, 4, 13}) {
+            TsData m = s.movingMedian(len, false);
+            assertEquals(s.getLength() - len + 1, m.getLength());
+            assertEquals(s.getStart().plus(len - 1), m.getStart());
+            double[] tmp = new double[len];
+            for (int i = 0; i < m.getLength(); ++i) {
+                System.arraycopy(s.internalStorage(), i, tmp, 0, len);
+                Arrays.sort(tmp);
+                if (Double.isNaN(tmp[len - 1])) {
+                    assertTrue(Double.isNaN(m.get(i)));
+                } else {
+                    double e = len % 2 == 0 ? (tmp[len / 2 - 1] + tmp[len / 2]) / 2 : tmp[len / 2];
+                    assertEquals(e, m.get(i), 0);
+                }
+            }
+        }
+        TsData c = s.movingMedian(5, true);
+        assertEquals(s.getStart().plus(2), c.getStart());
+        assertEquals(s.getLength() - 4, c.getLength());
+        assertNull(s.movingMedian(4, true));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class FftPlanTest {
+
+    public FftPlanTest() {
+    }
+
+    private static double[][] naive(double[] re, double[] im) {
+        int n = re.length;
+        double[][] z = new double[2][n];
+        for (int k = 0; k < n; ++k) {
+            for (int j = 0; j < n; ++j) {
+                double a = 2 * Math.PI * (((long) j * k) % n) / n;
+                double c = Math.cos(a), s = Math.sin(a);
+                z[0][k] += re[j] * c - im[j] * s;
+                z[1][k] += re[j] * s + im[j] * c;
+            }
+        }
+        return z;
+    }
+
+    private static double[] random(int n, Random rnd) {
+        double[] x = new double[n];
+        for (int i = 0; i < n; ++i) {
+            x[i] = rnd.nextGaussian();
+        }
+        return x;
+    }
+
+    @Test
+    public void testTransform() {
+        Random rnd = new Random(0);
+        for (int n = 1; n < 140; ++n) {
+            double[] re = random(n, rnd), im = random(n, rnd);
+            double[][] z = naive(re, im);
+            FftPlan.of(n).transform(re, im);
+            assertArrayEquals(z[0], re, 1e-9);
+            assertArrayEquals(z[1], im, 1e-9);
+        }
+    }
+
+    @Test
+    public void testBackTransform() {
+        Random rnd = new Random(1);
+        for (int n : new int[]{1, 2, 3, 7, 12, 64, 100, 127, 1024, 1000}) {
+            double[] re = random(n, rnd), im = random(n, rnd);
+            double[] re0 = re.clone(), im0 = im.clone();
+            FftPlan plan = FftPlan.of(n);
+            plan.transform(re, im);
+            plan.backTransform(re, im);
+            assertArrayEquals(re0, re, 1e-12);
+            assertArrayEquals(im0, im, 1e-12);
+        }
+    }
+
+    @Test
+    public void testRealTransform() {
+        Random rnd = new Random(2);
+        for (int n = 1; n < 140; ++n) {
+            double[] x = random(n, rnd);
+            double[][] z = naive(x, new double[n]);
+            double[] re = new double[n], im = new double[n];
+            FftPlan.of(n).realTransform(x, re, im);
+            for (int k = 0; k <= n / 2; ++k) {
+                assertEquals(z[0][k], re[k], 1e-9);
+                assertEquals(z[1][k], im[k], 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testComplex() {
+        Random rnd = new Random(3);
+        for (int n : new int[]{8, 12, 256, 300}) {
+            double[] re = random(n, rnd), im = random(n, rnd);
+            Complex[] c = new Complex[n];
+            for (int i = 0; i < n; ++i) {
+                c[i] = Complex.cart(re[i], im[i]);
+            }
+            new Fft().transform(c);
+            FftPlan.of(n).transform(re, im);
+            for (int i = 0; i < n; ++i) {
+                assertEquals(re[i], c[i].getRe(), 1e-12);
+                assertEquals(im[i], c[i].getIm(), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void testCache() {
+        // a plan in use is kept, even when many other lengths are requested
+        FftPlan plan = FftPlan.of(12);
+        for (int n = 1; n <= 200; ++n) {
+            FftPlan.of(100 + n);
+            assertSame(plan, FftPlan.of(12));
+        }
+    }
+}
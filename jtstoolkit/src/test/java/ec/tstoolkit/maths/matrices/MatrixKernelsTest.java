@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.matrices;
+
+import ec.tstoolkit.data.DataBlock;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class MatrixKernelsTest {
+
+    public MatrixKernelsTest() {
+    }
+
+    @After
+    public void restoreThreshold() {
+        MatrixKernels.setThreshold(MatrixKernels.DEFAULT_THRESHOLD);
+    }
+
+    private static Matrix random(int nrows, int ncols, int seed) {
+        Matrix m = new Matrix(nrows, ncols);
+        m.randomize(seed);
+        return m;
+    }
+
+    @Test
+    public void testProduct() {
+        // dimensions that are not multiples of the blocks
+        int[][] dims = {{1, 1, 1}, {3, 5, 2}, {37, 301, 29}, {70, 13, 260}, {257, 9, 300}};
+        for (int[] d : dims) {
+            Matrix a = random(d[0], d[1], 1), b = random(d[1], d[2], 2);
+            MatrixKernels.setThreshold(Long.MAX_VALUE);
+            Matrix c0 = new Matrix(d[0], d[2]);
+            c0.all().product(a.all(), b.all());
+            Matrix t0 = a.times(b);
+            MatrixKernels.setThreshold(0);
+            Matrix c1 = new Matrix(d[0], d[2]);
+            c1.all().product(a.all(), b.all());
+            Matrix t1 = a.times(b);
+            // same order of the operations
+            assertArrayEquals(c0.internalStorage(), c1.internalStorage(), 0);
+            assertArrayEquals(t0.internalStorage(), t1.internalStorage(), 0);
+            assertArrayEquals(c0.internalStorage(), t1.internalStorage(), 0);
+        }
+    }
+
+    @Test
+    public void testProductOfSubMatrices() {
+        Matrix a = random(80, 90, 3), b = random(90, 70, 4);
+        SubMatrix sa = a.subMatrix(5, 75, 10, 80).transpose(), sb = b.subMatrix(10, 80, 3, 64).transpose();
+        MatrixKernels.setThreshold(Long.MAX_VALUE);
+        Matrix c0 = new Matrix(100, 100);
+        c0.subMatrix(20, 81, 1, 71).product(sb, sa);
+        MatrixKernels.setThreshold(0);
+        Matrix c1 = new Matrix(100, 100);
+        c1.subMatrix(20, 81, 1, 71).product(sb, sa);
+        assertArrayEquals(c0.internalStorage(), c1.internalStorage(), 0);
+    }
+
+    @Test
+    public void testXtX() {
+        Matrix x = random(301, 45, 5);
+        MatrixKernels.setThreshold(Long.MAX_VALUE);
+        Matrix s0 = SymmetricMatrix.XtX(x);
+        Matrix t0 = SymmetricMatrix.XXt(x);
+        Matrix u0 = new Matrix(45, 45);
+        SymmetricMatrix.XtX(x.all(), u0.all());
+        MatrixKernels.setThreshold(0);
+        Matrix s1 = SymmetricMatrix.XtX(x);
+        Matrix t1 = SymmetricMatrix.XXt(x);
+        Matrix u1 = new Matrix(45, 45);
+        SymmetricMatrix.XtX(x.all(), u1.all());
+        assertArrayEquals(s0.internalStorage(), s1.internalStorage(), 0);
+        assertArrayEquals(t0.internalStorage(), t1.internalStorage(), 0);
+        assertArrayEquals(u0.internalStorage(), u1.internalStorage(), 0);
+        assertArrayEquals(s1.internalStorage(), u1.internalStorage(), 0);
+    }
+
+    @Test
+    public void testCholesky() {
+        Matrix x = random(150, 101, 6);
+        Matrix s = SymmetricMatrix.XtX(x);
+        MatrixKernels.setThreshold(Long.MAX_VALUE);
+        Matrix l0 = s.clone();
+        SymmetricMatrix.lcholesky(l0);
+        MatrixKernels.setThreshold(0);
+        Matrix l1 = s.clone();
+        SymmetricMatrix.lcholesky(l1);
+        assertArrayEquals(l0.internalStorage(), l1.internalStorage(), 0);
+        Matrix ll = SymmetricMatrix.LLt(l1);
+        assertEquals(0, ll.minus(s).nrm2() / s.nrm2(), 1e-12);
+    }
+
+    @Test(expected = MatrixException.class)
+    public void testCholeskyFailure() {
+        MatrixKernels.setThreshold(0);
+        Matrix s = SymmetricMatrix.XtX(random(20, 40, 7));
+        SymmetricMatrix.lcholesky(s);
+    }
+
+    @Test
+    public void testHouseholder() {
+        Matrix x = random(200, 60, 8);
+        // null columns, in the first panel and in a later one
+        x.column(7).set(0);
+        x.column(40).set(0);
+        x.column(41).set(0);
+        DataBlock y = new DataBlock(200);
+        y.randomize();
+        MatrixKernels.setThreshold(Long.MAX_VALUE);
+        Householder h0 = new Householder(true);
+        h0.decompose(x);
+        double[] b0 = new double[h0.getRank()];
+        h0.leastSquares(y, new DataBlock(b0), null);
+        MatrixKernels.setThreshold(0);
+        Householder h1 = new Householder(true);
+        h1.decompose(x);
+        double[] b1 = new double[h1.getRank()];
+        h1.leastSquares(y, new DataBlock(b1), null);
+        assertArrayEquals(h0.getUnused(), h1.getUnused());
+        assertArrayEquals(h0.getR().internalStorage(), h1.getR().internalStorage(), 0);
+        assertArrayEquals(b0, b1, 0);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.polynomials;
+
+import ec.tstoolkit.maths.Complex;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SeasonalRootsSolverTest {
+
+    public SeasonalRootsSolverTest() {
+    }
+
+    private static void check(Polynomial p) {
+        SeasonalRootsSolver solver = new SeasonalRootsSolver();
+        assertTrue(solver.factorize(p));
+        Complex[] roots = solver.roots();
+        assertEquals(p.getDegree(), roots.length);
+        // same polynomial
+        Polynomial q = Polynomial.fromComplexRoots(roots, p.get(p.getDegree()));
+        for (int i = 0; i <= p.getDegree(); ++i) {
+            assertEquals(p.get(i), q.get(i), 1e-12);
+        }
+        // exact conjugates
+        for (Complex root : roots) {
+            if (root.getIm() != 0) {
+                boolean found = false;
+                for (Complex other : roots) {
+                    if (other.getRe() == root.getRe() && other.getIm() == -root.getIm()) {
+                        found = true;
+                        break;
+                    }
+                }
+                assertTrue(found);
+            }
+        }
+        // sorted
+        for (int i = 1; i < roots.length; ++i) {
+            assertTrue(roots[i - 1].getRe() <= roots[i].getRe());
+        }
+    }
+
+    @Test
+    public void testLowDegree() {
+        check(Polynomial.valueOf(1, -.5));
+        check(Polynomial.valueOf(1, -.5, .3));
+        check(Polynomial.valueOf(1, .2, -.8));
+        check(Polynomial.valueOf(1, -2, 1));
+    }
+
+    @Test
+    public void testSeasonal() {
+        check(Polynomial.factor(.7, 12));
+        check(Polynomial.factor(-.7, 12));
+        check(Polynomial.factor(.7, 4));
+        check(Polynomial.factor(-.4, 7));
+        check(Polynomial.valueOf(1, 0, 0, 0, -.3, 0, 0, 0, .5));
+        check(Polynomial.valueOf(1, 0, 0, 0, .2, 0, 0, 0, -.6));
+        // cubic in x^4: general solver on the reduced polynomial
+        check(Polynomial.valueOf(1, 0, 0, 0, -.3, 0, 0, 0, .5, 0, 0, 0, .1));
+        check(UnitRoots.D(12));
+    }
+
+    @Test
+    public void testGeneral() {
+        check(Polynomial.valueOf(1, -.3, .2, .5));
+        check(Polynomial.valueOf(1, -.3, 0, 0, .2));
+    }
+
+    @Test
+    public void testFactors() {
+        // opt-in
+        assertTrue(Polynomial.getDefRootsSearcher() instanceof MullerNewtonSolver);
+        IRootsSolver old = Polynomial.getDefRootsSearcher();
+        try {
+            Polynomial.setDefRootsSearcher(new SeasonalRootsSolver());
+            Polynomial r = Polynomial.valueOf(1, -.3, .2, .5), s = Polynomial.factor(-.6, 12);
+            Polynomial p = r.times(s, false);
+            Complex[] roots = p.roots();
+            assertEquals(15, roots.length);
+            Polynomial q = Polynomial.fromComplexRoots(roots, p.get(p.getDegree()));
+            for (int i = 0; i <= p.getDegree(); ++i) {
+                assertEquals(p.get(i), q.get(i), 1e-12);
+            }
+        } finally {
+            Polynomial.setDefRootsSearcher(old);
+        }
+    }
+
+    @Test
+    public void testMemo() {
+        double[] c = new double[]{1, -.35, .27, .43, -.11};
+        Complex[] roots = Polynomial.copyOf(c).roots();
+        roots[0] = Complex.ZERO;
+        // other instance, same coefficients
+        Complex[] nroots = Polynomial.copyOf(c).roots();
+        assertNotSame(roots, nroots);
+        assertNotEquals(Complex.ZERO, nroots[0]);
+        assertTrue(Polynomial.RootsMemo.count() > 0);
+        // same roots as without memo
+        assertArrayEquals(Polynomial.copyOf(c).roots(new MullerNewtonSolver()), nroots);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.modelling.arima;
+
+import data.Data;
+import ec.tstoolkit.algorithm.IProcessingExecutor;
+import ec.tstoolkit.algorithm.ProcessingContext;
+import ec.tstoolkit.algorithm.ProcessingExecutors;
+import ec.tstoolkit.modelling.arima.tramo.TramoSpecification;
+import ec.tstoolkit.modelling.arima.x13.RegArimaSpecification;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.List;
+import java.util.function.Supplier;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class CandidateEvaluationTest {
+
+    private static final TsData[] SERIES = new TsData[]{Data.X, Data.P, Data.M1, Data.M3, Data.Q, Data.UNEMPLOY};
+
+    public CandidateEvaluationTest() {
+    }
+
+    // the preprocessors are not re-used (X13 keeps some state between calls)
+    private static PreprocessingModel[] process(Supplier<IPreprocessor> preprocessor, boolean parallel) {
+        ProcessingContext context = ProcessingContext.getActiveContext();
+        boolean old = context.isParallelModelling();
+        IProcessingExecutor executor = ProcessingExecutors.forkJoin(4);
+        try {
+            context.setParallelModelling(parallel);
+            context.setExecutor(executor);
+            assertEquals(parallel, CandidateEvaluation.isParallel());
+            PreprocessingModel[] models = new PreprocessingModel[SERIES.length];
+            for (int i = 0; i < models.length; ++i) {
+                models[i] = preprocessor.get().process(SERIES[i], null);
+            }
+            return models;
+        } finally {
+            context.setParallelModelling(old);
+            context.setExecutor(null);
+        }
+    }
+
+    private static void compare(PreprocessingModel[] m0, PreprocessingModel[] m1) {
+        for (int i = 0; i < m0.length; ++i) {
+            assertEquals(m0[i].description.getSpecification(), m1[i].description.getSpecification());
+            assertEquals(m0[i].description.getTransformation(), m1[i].description.getTransformation());
+            assertEquals(m0[i].description.buildRegressionVariables().getVariablesCount(), m1[i].description.buildRegressionVariables().getVariablesCount());
+            assertEquals(m0[i].estimation.getStatistics().logLikelihood, m1[i].estimation.getStatistics().logLikelihood, 0);
+        }
+    }
+
+    @Test
+    public void testTramo() {
+        Supplier<IPreprocessor> tramo = TramoSpecification.TRfull::build;
+        compare(process(tramo, false), process(tramo, true));
+    }
+
+    @Test
+    public void testX13() {
+        Supplier<IPreprocessor> x13 = RegArimaSpecification.RG5::build;
+        compare(process(x13, false), process(x13, true));
+    }
+
+    @Test
+    public void testOrder() {
+        ProcessingContext context = ProcessingContext.getActiveContext();
+        try {
+            context.setParallelModelling(true);
+            context.setExecutor(ProcessingExecutors.forkJoin(4));
+            List<Integer> rslt = CandidateEvaluation.evaluate(100, i -> {
+                if (i % 7 == 0) {
+                    Thread.yield();
+                }
+                return i * i;
+            });
+            for (int i = 0; i < 100; ++i) {
+                assertEquals(i * i, (int) rslt.get(i));
+            }
+            try {
+                CandidateEvaluation.evaluate(10, i -> {
+                    if (i == 3 || i == 7) {
+                        throw new IllegalArgumentException(Integer.toString(i));
+                    }
+                    return i;
+                });
+                fail();
+            } catch (IllegalArgumentException err) {
+                // the first failure is re-thrown
+                assertEquals("3", err.getMessage());
+            }
+        } finally {
+            context.setParallelModelling(false);
+            context.setExecutor(null);
+        }
+    }
+}
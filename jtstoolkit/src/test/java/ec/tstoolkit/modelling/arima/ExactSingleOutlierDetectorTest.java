@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.modelling.arima;
+
+import ec.tstoolkit.algorithm.IProcessingExecutor;
+import ec.tstoolkit.algorithm.ProcessingContext;
+import ec.tstoolkit.algorithm.ProcessingExecutors;
+import ec.tstoolkit.arima.ArimaModelBuilder;
+import ec.tstoolkit.arima.estimation.AnsleyFilter;
+import ec.tstoolkit.arima.estimation.RegArimaModel;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.modelling.IRobustStandardDeviationComputer;
+import ec.tstoolkit.random.XorshiftRNG;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaModelBuilder;
+import ec.tstoolkit.timeseries.regression.AdditiveOutlierFactory;
+import ec.tstoolkit.timeseries.regression.LevelShiftFactory;
+import ec.tstoolkit.timeseries.regression.SeasonalOutlierFactory;
+import ec.tstoolkit.timeseries.regression.TransitoryChangeFactory;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class ExactSingleOutlierDetectorTest {
+
+    public ExactSingleOutlierDetectorTest() {
+    }
+
+    private static ExactSingleOutlierDetector<SarimaModel> detector(TsDomain domain, boolean shift, boolean parallel) {
+        ExactSingleOutlierDetector<SarimaModel> sod = new ExactSingleOutlierDetector<>(IRobustStandardDeviationComputer.mad(false),
+                IResidualsComputer.mlComputer(), new AnsleyFilter());
+        sod.addOutlierFactory(new AdditiveOutlierFactory());
+        sod.addOutlierFactory(new LevelShiftFactory());
+        sod.addOutlierFactory(new TransitoryChangeFactory());
+        sod.addOutlierFactory(new SeasonalOutlierFactory());
+        sod.setShiftInvariantScan(shift);
+        sod.setParallelScan(parallel);
+        sod.prepare(domain, null);
+        return sod;
+    }
+
+    private static void compare(RegArimaModel<SarimaModel> regarima, TsDomain domain) {
+        compare(regarima, domain, detector(domain, true, false), 1e-6);
+    }
+
+    private static void compare(RegArimaModel<SarimaModel> regarima, TsDomain domain,
+            ExactSingleOutlierDetector<SarimaModel> fsod, double eps) {
+        ExactSingleOutlierDetector<SarimaModel> sod = detector(domain, false, false);
+        assertTrue(sod.process(regarima));
+        assertTrue(fsod.process(regarima));
+        for (int j = 0; j < sod.getOutlierFactoriesCount(); ++j) {
+            for (int i = 0; i < domain.getLength(); ++i) {
+                assertEquals(sod.T(i, j), fsod.T(i, j), eps);
+            }
+        }
+        assertEquals(sod.getMaxTStat(), fsod.getMaxTStat(), eps);
+        assertEquals(sod.getMaxOutlier().getPosition(), fsod.getMaxOutlier().getPosition());
+    }
+
+    private static double[] generate(SarimaModel model, int n) {
+        ArimaModelBuilder builder = new ArimaModelBuilder();
+        builder.setRandomNumberGenerator(new XorshiftRNG(12));
+        builder.setStartMean(0);
+        builder.setStartStdev(1);
+        builder.setDropCount(12);
+        double[] y = builder.generate(model, n);
+        y[n / 3] += 5;
+        return y;
+    }
+
+    @Test
+    public void testShiftInvariantScan() {
+        SarimaModel airline = new SarimaModelBuilder().createAirlineModel(12, -.6, -.4);
+        int n = 1200;
+        TsDomain domain = new TsDomain(TsFrequency.Monthly, 1900, 0, n);
+        RegArimaModel<SarimaModel> regarima = new RegArimaModel<>(airline, new DataBlock(generate(airline, n)));
+        compare(regarima, domain);
+    }
+
+    @Test
+    public void testShiftInvariantScanWithRegressors() {
+        SarimaModel airline = new SarimaModelBuilder().createAirlineModel(12, -.6, -.4);
+        int n = 1200;
+        TsDomain domain = new TsDomain(TsFrequency.Monthly, 1900, 0, n);
+        RegArimaModel<SarimaModel> regarima = new RegArimaModel<>(airline, new DataBlock(generate(airline, n)));
+        regarima.setMeanCorrection(true);
+        DataBlock x = new DataBlock(n);
+        x.set(i -> Math.cos(i * .3));
+        regarima.addX(x);
+        compare(regarima, domain);
+    }
+
+    @Test
+    public void testParallelScan() {
+        assertFalse(new ExactSingleOutlierDetector<SarimaModel>().isShiftInvariantScan());
+        assertFalse(new ExactSingleOutlierDetector<SarimaModel>().isParallelScan());
+        SarimaModel airline = new SarimaModelBuilder().createAirlineModel(12, -.6, -.4);
+        int n = 1200;
+        TsDomain domain = new TsDomain(TsFrequency.Monthly, 1900, 0, n);
+        RegArimaModel<SarimaModel> regarima = new RegArimaModel<>(airline, new DataBlock(generate(airline, n)));
+        ProcessingContext context = ProcessingContext.getActiveContext();
+        IProcessingExecutor executor = context.getExecutor();
+        context.setExecutor(ProcessingExecutors.forkJoin(3));
+        try {
+            compare(regarima, domain, detector(domain, false, true), 1e-12);
+        } finally {
+            context.setExecutor(executor);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ * 
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ * 
+ * http://ec.europa.eu/idabc/eupl
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.sarima;
+
+import ec.tstoolkit.maths.linearfilters.BackFilter;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class SarimaModelTest {
+
+    public SarimaModelTest() {
+    }
+
+    @Test
+    public void testSeasonalOrder2() {
+        SarimaSpecification spec = new SarimaSpecification(12);
+        spec.setP(1);
+        spec.setBP(2);
+        spec.setQ(1);
+        spec.setBQ(2);
+        SarimaModel arima = new SarimaModel(spec);
+        arima.setPhi(1, -.3);
+        arima.setBPhi(1, -.4);
+        arima.setBPhi(2, .2);
+        arima.setTheta(1, -.5);
+        arima.setBTheta(1, -.6);
+        arima.setBTheta(2, .1);
+        // (1-.3B)(1-.4B^12+.2B^24)
+        BackFilter ar = arima.getStationaryAR();
+        assertEquals(25, ar.getDegree());
+        assertEquals(-.4, ar.get(12), 1e-15);
+        assertEquals(.12, ar.get(13), 1e-15);
+        assertEquals(.2, ar.get(24), 1e-15);
+        assertEquals(-.06, ar.get(25), 1e-15);
+        // (1-.5B)(1-.6B^12+.1B^24)
+        BackFilter ma = arima.getMA();
+        assertEquals(25, ma.getDegree());
+        assertEquals(-.6, ma.get(12), 1e-15);
+        assertEquals(.3, ma.get(13), 1e-15);
+        assertEquals(.1, ma.get(24), 1e-15);
+        assertEquals(-.05, ma.get(25), 1e-15);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.ssf;
+
+import ec.tstoolkit.eco.DefaultLikelihoodEvaluation;
+import ec.tstoolkit.eco.DiffuseConcentratedLikelihood;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaModelBuilder;
+import ec.tstoolkit.ssf.arima.SsfArima;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class FilterTest {
+
+    private static final int N = 1200;
+
+    public FilterTest() {
+    }
+
+    private static double[] data() {
+        // integrated (seasonal) noise
+        Random rnd = new Random(0);
+        double[] y = new double[N];
+        for (int i = 0; i < N; ++i) {
+            y[i] = rnd.nextGaussian();
+            if (i > 0) {
+                y[i] += y[i - 1];
+            }
+            if (i >= 12) {
+                y[i] += y[i - 12];
+            }
+            if (i >= 13) {
+                y[i] -= y[i - 13];
+            }
+        }
+        return y;
+    }
+
+    private static DiffuseConcentratedLikelihood likelihood(AbstractSsfAlgorithm alg, double[] y, boolean steady) {
+        SarimaModel airline = new SarimaModelBuilder().createAirlineModel(12, -.6, -.4);
+        SsfModel<SsfArima> model = new SsfModel<>(new SsfArima(airline), new SsfData(y, null), null, null);
+        alg.useSteadyState(steady);
+        DefaultLikelihoodEvaluation<DiffuseConcentratedLikelihood> ll = ((ISsfAlgorithm<SsfArima>) alg).evaluate(model);
+        return ll.getLikelihood();
+    }
+
+    @Test
+    public void testSteadyState() {
+        double[] y = data();
+        DiffuseConcentratedLikelihood ll0 = likelihood(new SsfAlgorithm<SsfArima>(), y, false);
+        DiffuseConcentratedLikelihood ll1 = likelihood(new SsfAlgorithm<SsfArima>(), y, true);
+        assertEquals(ll0.getLogLikelihood(), ll1.getLogLikelihood(), 1e-9 * Math.abs(ll0.getLogLikelihood()));
+        assertEquals(ll0.getSsqErr(), ll1.getSsqErr(), 1e-9 * ll0.getSsqErr());
+
+        Filter<SsfArima> filter = new Filter<>();
+        filter.setSsf(new SsfArima(new SarimaModelBuilder().createAirlineModel(12, -.6, -.4)));
+        // disabled by default
+        filter.process(new SsfData(y, null), null);
+        assertEquals(-1, filter.getSteadyStatePosition());
+        filter.setSteadyStateTolerance(Filter.DEFAULT_STEADY_STATE_EPS);
+        filter.process(new SsfData(y, null), null);
+        assertTrue(filter.getSteadyStatePosition() > 0 && filter.getSteadyStatePosition() < N);
+    }
+
+    @Test
+    public void testSteadyStateWithMissings() {
+        double[] y = data();
+        for (int i = N / 2; i < N / 2 + 20; i += 3) {
+            y[i] = Double.NaN;
+        }
+        y[N - 5] = Double.NaN;
+        DiffuseConcentratedLikelihood ll0 = likelihood(new SsfAlgorithm<SsfArima>(), y, false);
+        DiffuseConcentratedLikelihood ll1 = likelihood(new SsfAlgorithm<SsfArima>(), y, true);
+        assertEquals(ll0.getLogLikelihood(), ll1.getLogLikelihood(), 1e-9 * Math.abs(ll0.getLogLikelihood()));
+        assertEquals(ll0.getN(), ll1.getN());
+    }
+
+    @Test
+    public void testFastFilterSteadyState() {
+        double[] y = data();
+        DiffuseConcentratedLikelihood ll0 = likelihood(new FastSsfAlgorithm<SsfArima>(), y, false);
+        DiffuseConcentratedLikelihood ll1 = likelihood(new FastSsfAlgorithm<SsfArima>(), y, true);
+        DiffuseConcentratedLikelihood ll2 = likelihood(new SsfAlgorithm<SsfArima>(), y, false);
+        assertEquals(ll0.getLogLikelihood(), ll1.getLogLikelihood(), 1e-12 * Math.abs(ll0.getLogLikelihood()));
+        assertEquals(ll2.getLogLikelihood(), ll1.getLogLikelihood(), 1e-9 * Math.abs(ll2.getLogLikelihood()));
+    }
+}
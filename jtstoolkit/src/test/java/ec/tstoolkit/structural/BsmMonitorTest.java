@@ -23,6 +23,7 @@ import ec.tstoolkit.ssf.LikelihoodEvaluation;
 import ec.tstoolkit.ssf.SsfData;
 import ec.tstoolkit.ssf.arima.SsfArima;
 import ec.tstoolkit.ucarima.UcarimaModel;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -93,6 +94,26 @@ public class BsmMonitorTest {
         }
     }
 
+    @Test
+    public void testMultiThread() {
+        ModelSpecification mspec = new ModelSpecification();
+        mspec.lUse = ComponentUse.Free;
+        mspec.sUse = ComponentUse.Free;
+        mspec.seasModel = SeasonalModel.Trigonometric;
+        double[] y = data.Data.P.internalStorage();
+        BsmMonitor smonitor = new BsmMonitor();
+        smonitor.setSpecification(mspec);
+        assertTrue(smonitor.process(y, 12));
+        BsmMonitor pmonitor = new BsmMonitor();
+        pmonitor.setSpecification(mspec);
+        pmonitor.setMultiThread(true);
+        assertTrue(pmonitor.process(y, 12));
+        // the parallel derivatives are identical to the sequential ones
+        assertEquals(smonitor.getLikelihood().getLogLikelihood(), pmonitor.getLikelihood().getLogLikelihood(), 0);
+        assertEquals(smonitor.getResult().getVariance(Component.Level), pmonitor.getResult().getVariance(Component.Level), 0);
+        assertEquals(smonitor.getResult().getVariance(Component.Seasonal), pmonitor.getResult().getVariance(Component.Seasonal), 0);
+    }
+
     @Test
     @Ignore
     public void testNile() {
@@ -0,0 +1,182 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+package ec.tstoolkit.timeseries.regression;
+
+import data.Data;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.modelling.arima.PreprocessingModel;
+import ec.tstoolkit.modelling.arima.tramo.TramoSpecification;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.Month;
+import ec.tstoolkit.timeseries.ValidityPeriod;
+import ec.tstoolkit.timeseries.calendars.ChainedGregorianCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.FixedDay;
+import ec.tstoolkit.timeseries.calendars.GregorianCalendarManager;
+import ec.tstoolkit.timeseries.calendars.LengthOfPeriodType;
+import ec.tstoolkit.timeseries.calendars.NationalCalendarProvider;
+import ec.tstoolkit.timeseries.calendars.SpecialDayEvent;
+import ec.tstoolkit.timeseries.calendars.TradingDaysType;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class RegressorCacheTest {
+
+    public RegressorCacheTest() {
+    }
+
+    private static DataBlock[] direct(ITsVariable var, TsDomain domain) {
+        List<DataBlock> x = new ArrayList<>();
+        for (int i = 0; i < var.getDim(); ++i) {
+            x.add(new DataBlock(domain.getLength()));
+        }
+        var.data(domain, x);
+        return x.toArray(new DataBlock[x.size()]);
+    }
+
+    @Test
+    public void testGet() {
+        RegressorCache cache = new RegressorCache(RegressorCache.DEFAULT_CAPACITY);
+        TsDomain domain = new TsDomain(new TsPeriod(TsFrequency.Monthly, 1990, 0), 240);
+        ITsVariable td = GregorianCalendarVariables.getDefault(TradingDaysType.TradingDays);
+        DataBlock[] x = cache.get(td, domain);
+        DataBlock[] y = direct(td, domain);
+        assertEquals(6, x.length);
+        for (int i = 0; i < x.length; ++i) {
+            assertEquals(0, x[i].distance(y[i]), 0);
+        }
+        // other instances with the same definition
+        cache.get(GregorianCalendarVariables.getDefault(TradingDaysType.TradingDays), domain);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getCount());
+        // other definitions or domains
+        cache.get(GregorianCalendarVariables.getDefault(TradingDaysType.WorkingDays), domain);
+        cache.get(td, domain.drop(0, 12));
+        assertEquals(3, cache.getMisses());
+        EasterVariable easter = new EasterVariable();
+        easter.setDuration(8);
+        DataBlock[] e = cache.get(easter, domain);
+        assertEquals(0, e[0].distance(direct(easter, domain)[0]), 0);
+        easter = new EasterVariable();
+        easter.setDuration(8);
+        cache.get(easter, domain);
+        assertEquals(2, cache.getHits());
+        cache.get(new LeapYearVariable(LengthOfPeriodType.LeapYear), domain);
+        assertEquals(5, cache.getCount());
+        assertEquals(2.0 / 7, cache.getHitRate(), 1e-12);
+        // outliers are not cached
+        assertNull(cache.get(new AdditiveOutlier(domain.get(10).firstday()), domain));
+    }
+
+    @Test
+    public void testCopies() {
+        RegressorCache cache = new RegressorCache(RegressorCache.DEFAULT_CAPACITY);
+        TsDomain domain = new TsDomain(new TsPeriod(TsFrequency.Monthly, 1990, 0), 240);
+        ITsVariable td = GregorianCalendarVariables.getDefault(TradingDaysType.TradingDays);
+        DataBlock[] x = cache.get(td, domain);
+        x[0].set(0);
+        DataBlock[] y = cache.get(td, domain);
+        assertEquals(1, cache.getHits());
+        assertEquals(0, y[0].distance(direct(td, domain)[0]), 0);
+    }
+
+    @Test
+    public void testCalendars() {
+        RegressorCache cache = new RegressorCache(RegressorCache.DEFAULT_CAPACITY);
+        TsDomain domain = new TsDomain(new TsPeriod(TsFrequency.Monthly, 1990, 0), 240);
+        NationalCalendarProvider c1 = new NationalCalendarProvider();
+        c1.add(new SpecialDayEvent(FixedDay.Christmas));
+        NationalCalendarProvider c2 = new NationalCalendarProvider();
+        c2.add(new SpecialDayEvent(FixedDay.Christmas));
+        // national calendars are identified by their content
+        cache.get(new GregorianCalendarVariables(c1, TradingDaysType.TradingDays), domain);
+        cache.get(new GregorianCalendarVariables(c2, TradingDaysType.TradingDays), domain);
+        assertEquals(1, cache.getHits());
+        SpecialDayEvent ev = new SpecialDayEvent(FixedDay.NewYear);
+        ValidityPeriod validity = new ValidityPeriod(new Day(2000, Month.January, 0), null);
+        ev.setValidityPeriod(validity);
+        c2.add(ev);
+        GregorianCalendarVariables td = new GregorianCalendarVariables(c2, TradingDaysType.TradingDays);
+        DataBlock[] x = cache.get(td, domain);
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, x[0].distance(direct(td, domain)[0]), 0);
+        // a modification of the validity period is taken into account
+        validity.setStart(new Day(2005, Month.January, 0));
+        x = cache.get(td, domain);
+        assertEquals(3, cache.getMisses());
+        assertEquals(0, x[0].distance(direct(td, domain)[0]), 0);
+        // chained calendars refer to other calendars by name
+        GregorianCalendarManager mgr = new GregorianCalendarManager();
+        mgr.set("c1", c1);
+        mgr.set("c2", c2);
+        ChainedGregorianCalendarProvider chained = new ChainedGregorianCalendarProvider(mgr, "c1", new Day(2000, Month.January, 0), "c2");
+        assertNull(cache.get(new GregorianCalendarVariables(chained, TradingDaysType.TradingDays), domain));
+    }
+
+    @Test
+    public void testEviction() {
+        TsDomain domain = new TsDomain(new TsPeriod(TsFrequency.Monthly, 1990, 0), 240);
+        RegressorCache cache = new RegressorCache(1 << 20);
+        cache.get(new LeapYearVariable(LengthOfPeriodType.LeapYear), domain);
+        long size = cache.getSize();
+        cache.setCapacity(3 * size);
+        cache.get(new LeapYearVariable(LengthOfPeriodType.LeapYear), domain.drop(0, 1));
+        cache.get(new LeapYearVariable(LengthOfPeriodType.LeapYear), domain.drop(0, 2));
+        // the first entry becomes the most recently used
+        cache.get(new LeapYearVariable(LengthOfPeriodType.LeapYear), domain);
+        cache.get(new LeapYearVariable(LengthOfPeriodType.LeapYear), domain.drop(0, 3));
+        assertEquals(3, cache.getCount());
+        assertEquals(1, cache.getEvictions());
+        long hits = cache.getHits();
+        cache.get(new LeapYearVariable(LengthOfPeriodType.LeapYear), domain);
+        assertEquals(hits + 1, cache.getHits());
+        cache.get(new LeapYearVariable(LengthOfPeriodType.LeapYear), domain.drop(0, 1));
+        assertEquals(hits + 1, cache.getHits());
+        cache.setCapacity(0);
+        assertEquals(0, cache.getCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testModelling() {
+        RegressorCache prev = RegressorCache.getDefault();
+        try {
+            RegressorCache.setDefault(null);
+            PreprocessingModel m0 = TramoSpecification.TRfull.build().process(Data.X, null);
+            RegressorCache cache = new RegressorCache(RegressorCache.DEFAULT_CAPACITY);
+            RegressorCache.setDefault(cache);
+            PreprocessingModel m1 = TramoSpecification.TRfull.build().process(Data.X, null);
+            long misses = cache.getMisses();
+            assertTrue(cache.getHits() > 0);
+            // second series: calendar variables are reused
+            PreprocessingModel m2 = TramoSpecification.TRfull.build().process(Data.X, null);
+            assertEquals(misses, cache.getMisses());
+            assertEquals(m0.estimation.getStatistics().logLikelihood, m1.estimation.getStatistics().logLikelihood, 1e-9);
+            assertEquals(m0.estimation.getStatistics().logLikelihood, m2.estimation.getStatistics().logLikelihood, 1e-9);
+        } finally {
+            RegressorCache.setDefault(prev);
+        }
+    }
+}
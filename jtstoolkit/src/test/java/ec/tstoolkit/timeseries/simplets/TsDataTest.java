@@ -255,4 +255,26 @@ public class TsDataTest {
             }
         }
     }
+
+    @Test
+    public void testApplyOnIntersection() {
+        TsData s = Data.X.drop(12, 6);
+        // domain of s included in the domain of X: in place
+        TsData d = Data.X.minus(s), c = s.clone();
+        assertTrue(c.applyOnIntersection(Data.X, (x, y) -> x - y) == c);
+        assertTrue(c.getDomain().equals(s.getDomain()));
+        for (int i = 0; i < c.getLength(); ++i) {
+            assertTrue(c.get(i) == -d.get(i));
+        }
+        // otherwise, new series on the intersection
+        TsData x = Data.X.clone();
+        TsData r = x.applyOnIntersection(s, (a, b) -> a - b);
+        assertTrue(r != x && r.getDomain().equals(d.getDomain()));
+        assertTrue(x.equals(Data.X) && r.equals(d));
+        // missing values are propagated
+        c = s.clone();
+        c.set(3, Double.NaN);
+        c.applyOnIntersection(Data.X, (a, b) -> a / b);
+        assertTrue(Double.isNaN(c.get(3)) && Double.isFinite(c.get(4)));
+    }
 }
@@ -20,8 +20,6 @@ import com.google.common.base.Strings;
 import ec.tss.tsproviders.sdmx.model.SdmxSource;
 import java.io.File;
 import java.io.IOException;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import org.w3c.dom.Document;
 
 /**
@@ -38,14 +36,11 @@ public class CunningPlanFactory implements ISdmxSourceFactory {
         return NAME;
     }
 
+    // the document is scanned (see StreamingFactory); the DOM-based
+    // strategies are only used through find
     @Override
     public SdmxSource create(File file) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        Document doc = builder.parse(file);
-        doc.getDocumentElement().normalize();
-        return find(doc).create(doc);
+        return new StreamingFactory().create(file);
     }
 
     public AbstractDocumentFactory find(Document doc) throws IOException {
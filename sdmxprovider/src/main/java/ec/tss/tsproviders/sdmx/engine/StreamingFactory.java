@@ -0,0 +1,402 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.sdmx.engine;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import ec.tss.tsproviders.sdmx.model.SdmxGroup;
+import ec.tss.tsproviders.sdmx.model.SdmxItem;
+import ec.tss.tsproviders.sdmx.model.SdmxSeries;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import ec.tss.tsproviders.utils.DataFormat;
+import ec.tss.tsproviders.utils.IParser;
+import ec.tss.tsproviders.utils.ObsGathering;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming (StAX) reader of the generic and of the compact SDMX messages.
+ * Contrary to the DOM-based factories (GenericDocFactory,
+ * GuessingCompactFactory), the document is never kept in memory: the series
+ * are built one by one while the document is scanned. The flavour of the
+ * message is detected as in CunningPlanFactory (a generic message contains a
+ * KeyFamilyRef). The results are identical to the ones of the DOM-based
+ * factories.
+ * <p>
+ * The series can be filtered on their keys (including the keys of their
+ * group); the observations of the rejected series are not parsed.
+ *
+ * @author agent
+ */
+public class StreamingFactory implements ISdmxSourceFactory {
+
+    public static final String NAME = "Streaming";
+
+    private final Predicate<? super Map<String, String>> keyFilter;
+
+    public StreamingFactory() {
+        this(o -> true);
+    }
+
+    /**
+     *
+     * @param keyFilter Filter on the complete keys (concept -> value) of the
+     * series
+     */
+    public StreamingFactory(@Nonnull Predicate<? super Map<String, String>> keyFilter) {
+        this.keyFilter = Objects.requireNonNull(keyFilter);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public SdmxSource create(File file) throws Exception {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            return create(stream);
+        }
+    }
+
+    public SdmxSource create(@Nonnull InputStream stream) throws IOException, XMLStreamException {
+        XMLStreamReader reader = XIF.createXMLStreamReader(stream);
+        try {
+            return new Scanner(reader, keyFilter).scan();
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static final class Scanner {
+
+        private final XMLStreamReader reader;
+        private final Predicate<? super Map<String, String>> keyFilter;
+        private final Calendar cal = new GregorianCalendar();
+        private final IParser<Number> toValue = DEFAULT_DATA_FORMAT.numberParser();
+        private final Map<TimeFormat, IParser<Date>> toPeriods = new HashMap<>();
+        private boolean generic;
+
+        private Scanner(XMLStreamReader reader, Predicate<? super Map<String, String>> keyFilter) {
+            this.reader = reader;
+            this.keyFilter = keyFilter;
+        }
+
+        private SdmxSource scan() throws IOException, XMLStreamException {
+            reader.nextTag();
+            while (nextChild()) {
+                if (DATASET.equals(reader.getLocalName())) {
+                    List<SdmxItem> items = dataSet();
+                    return new SdmxSource(generic ? SdmxSource.Type.GENERIC : SdmxSource.Type.COMPACT, ImmutableList.copyOf(items));
+                }
+                skip();
+            }
+            throw new IOException("Cannot find a suitable SDMX strategy");
+        }
+
+        private List<SdmxItem> dataSet() throws XMLStreamException {
+            List<SdmxItem> items = new ArrayList<>();
+            while (nextChild()) {
+                SdmxItem item = null;
+                switch (reader.getLocalName()) {
+                    case KEY_FAMILY_REF:
+                        generic = true;
+                        skip();
+                        break;
+                    case GROUP:
+                        if (generic) {
+                            item = genericGroup();
+                        } else {
+                            skip();
+                        }
+                        break;
+                    case SERIES:
+                        item = generic ? genericSeries(ImmutableList.of()) : compactSeries();
+                        break;
+                    default:
+                        skip();
+                }
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+            return items;
+        }
+
+        private SdmxGroup genericGroup() throws XMLStreamException {
+            List<Map.Entry<String, String>> key = new ArrayList<>(), attributes = new ArrayList<>();
+            List<SdmxSeries> series = new ArrayList<>();
+            boolean filtered = false;
+            while (nextChild()) {
+                switch (reader.getLocalName()) {
+                    case GROUP_KEY:
+                        concepts(key);
+                        break;
+                    case ATTRIBUTES:
+                        concepts(attributes);
+                        break;
+                    case SERIES:
+                        SdmxSeries cur = genericSeries(key);
+                        if (cur != null) {
+                            series.add(cur);
+                        } else {
+                            filtered = true;
+                        }
+                        break;
+                    default:
+                        skip();
+                }
+            }
+            if (filtered && series.isEmpty()) {
+                return null;
+            }
+            return new SdmxGroup(ImmutableList.copyOf(key), ImmutableList.copyOf(attributes), ImmutableList.copyOf(series));
+        }
+
+        // the concepts of the group are removed from the series
+        private SdmxSeries genericSeries(List<Map.Entry<String, String>> groupKey) throws XMLStreamException {
+            List<Map.Entry<String, String>> key = new ArrayList<>(), attributes = new ArrayList<>();
+            OptionalTsData.Builder2<Date> data = null;
+            TimeFormat timeFormat = TimeFormat.UNDEFINED;
+            IParser<Date> toPeriod = null;
+            while (nextChild()) {
+                switch (reader.getLocalName()) {
+                    case SERIES_KEY:
+                        concepts(key);
+                        if (!accept(groupKey, key)) {
+                            skip();
+                            return null;
+                        }
+                        break;
+                    case ATTRIBUTES:
+                        concepts(attributes);
+                        break;
+                    case OBS:
+                        if (data == null) {
+                            timeFormat = genericTimeFormat(key, attributes);
+                            toPeriod = toPeriod(timeFormat);
+                            data = builder(timeFormat);
+                        }
+                        genericObs(data, toPeriod);
+                        break;
+                    default:
+                        skip();
+                }
+            }
+            if (data == null) {
+                timeFormat = genericTimeFormat(key, attributes);
+                data = builder(timeFormat);
+            }
+            key.removeAll(groupKey);
+            attributes.removeAll(groupKey);
+            return new SdmxSeries(ImmutableList.copyOf(key), ImmutableList.copyOf(attributes), timeFormat, data.build());
+        }
+
+        private void genericObs(OptionalTsData.Builder2<Date> data, IParser<Date> toPeriod) throws XMLStreamException {
+            String period = null, value = null;
+            while (nextChild()) {
+                switch (reader.getLocalName()) {
+                    case TIME:
+                        period = reader.getElementText();
+                        break;
+                    case OBS_VALUE:
+                        value = reader.getAttributeValue(null, VALUE_ATTRIBUTE);
+                        skip();
+                        break;
+                    default:
+                        skip();
+                }
+            }
+            data.add(period != null ? toPeriod.parse(period) : null, value != null ? toValue.parse(value) : null);
+        }
+
+        private SdmxSeries compactSeries() throws XMLStreamException {
+            List<Map.Entry<String, String>> key = new ArrayList<>();
+            String timeFormatCode = null, freqCode = null;
+            for (int i = 0; i < reader.getAttributeCount(); ++i) {
+                String name = attributeName(i), value = reader.getAttributeValue(i);
+                if (TIME_FORMAT_ATTRIBUTE.equals(name)) {
+                    timeFormatCode = value;
+                } else {
+                    if (FREQ_ATTRIBUTE.equals(name)) {
+                        freqCode = value;
+                    }
+                    key.add(Maps.immutableEntry(name, value));
+                }
+            }
+            // same order as in the DOM
+            key.sort(Comparator.comparing(Map.Entry::getKey));
+            if (!accept(ImmutableList.of(), key)) {
+                skip();
+                return null;
+            }
+            TimeFormat timeFormat = timeFormatCode != null ? TimeFormat.parseByTimeFormat(timeFormatCode)
+                    : freqCode != null ? TimeFormat.parseByFrequencyCodeId(freqCode) : TimeFormat.UNDEFINED;
+            IParser<Date> toPeriod = toPeriod(timeFormat);
+            OptionalTsData.Builder2<Date> data = builder(timeFormat);
+            while (nextChild()) {
+                if (OBS.equals(reader.getLocalName())) {
+                    String period = reader.getAttributeValue(null, TIME_PERIOD_ATTRIBUTE), value = reader.getAttributeValue(null, OBS_VALUE_ATTRIBUTE);
+                    data.add(period != null ? toPeriod.parse(period) : null, value != null ? toValue.parse(value) : null);
+                }
+                skip();
+            }
+            return new SdmxSeries(ImmutableList.copyOf(key), ImmutableList.of(), timeFormat, data.build());
+        }
+
+        private String attributeName(int i) {
+            String prefix = reader.getAttributePrefix(i), name = reader.getAttributeLocalName(i);
+            return prefix == null || prefix.isEmpty() ? name : prefix + ":" + name;
+        }
+
+        private boolean accept(List<Map.Entry<String, String>> groupKey, List<Map.Entry<String, String>> key) {
+            Map<String, String> all = new LinkedHashMap<>();
+            for (Map.Entry<String, String> o : groupKey) {
+                all.put(o.getKey(), o.getValue());
+            }
+            for (Map.Entry<String, String> o : key) {
+                all.put(o.getKey(), o.getValue());
+            }
+            return keyFilter.test(all);
+        }
+
+        private void concepts(List<Map.Entry<String, String>> concepts) throws XMLStreamException {
+            while (nextChild()) {
+                if (VALUE.equals(reader.getLocalName())) {
+                    concepts.add(Maps.immutableEntry(reader.getAttributeValue(null, CONCEPT_ATTRIBUTE), reader.getAttributeValue(null, VALUE_ATTRIBUTE)));
+                }
+                skip();
+            }
+        }
+
+        private TimeFormat genericTimeFormat(List<Map.Entry<String, String>> key, List<Map.Entry<String, String>> attributes) {
+            String timeFormat = null, freq = null;
+            for (List<Map.Entry<String, String>> concepts : ImmutableList.of(key, attributes)) {
+                for (Map.Entry<String, String> o : concepts) {
+                    if (TIME_FORMAT_ATTRIBUTE.equals(o.getKey())) {
+                        timeFormat = o.getValue();
+                    } else if (FREQ_ATTRIBUTE.equals(o.getKey())) {
+                        freq = o.getValue();
+                    }
+                }
+            }
+            if (timeFormat != null) {
+                return TimeFormat.parseByTimeFormat(timeFormat);
+            }
+            if (freq != null) {
+                return TimeFormat.parseByFrequencyCodeId(freq);
+            }
+            return TimeFormat.UNDEFINED;
+        }
+
+        private IParser<Date> toPeriod(TimeFormat timeFormat) {
+            return toPeriods.computeIfAbsent(timeFormat, TimeFormat::getParser);
+        }
+
+        private OptionalTsData.Builder2<Date> builder(TimeFormat timeFormat) {
+            ObsGathering gathering = ObsGathering.includingMissingValues(timeFormat.getFrequency(), timeFormat.getAggregationType());
+            return OptionalTsData.builderByDate(cal, gathering);
+        }
+
+        /**
+         * Moves to the next child of the current element
+         *
+         * @return false if the end of the current element has been reached
+         */
+        private boolean nextChild() throws XMLStreamException {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamReader.START_ELEMENT:
+                        return true;
+                    case XMLStreamReader.END_ELEMENT:
+                        return false;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Moves to the end of the current element (or to the end of the
+         * parent element if the reader is positioned at the end of a child)
+         */
+        private void skip() throws XMLStreamException {
+            int depth = 1;
+            while (depth > 0 && reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamReader.START_ELEMENT:
+                        ++depth;
+                        break;
+                    case XMLStreamReader.END_ELEMENT:
+                        --depth;
+                        break;
+                }
+            }
+        }
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory result = XMLInputFactory.newInstance();
+        result.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        result.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return result;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Resources">
+    private static final XMLInputFactory XIF = newInputFactory();
+
+    private static final String DATASET = "DataSet";
+    private static final String KEY_FAMILY_REF = "KeyFamilyRef";
+    private static final String GROUP = "Group";
+    private static final String GROUP_KEY = "GroupKey";
+    private static final String SERIES = "Series";
+    private static final String SERIES_KEY = "SeriesKey";
+    private static final String ATTRIBUTES = "Attributes";
+    private static final String VALUE = "Value";
+    private static final String OBS = "Obs";
+    private static final String TIME = "Time";
+    private static final String OBS_VALUE = "ObsValue";
+
+    private static final String CONCEPT_ATTRIBUTE = "concept";
+    private static final String VALUE_ATTRIBUTE = "value";
+    private static final String TIME_FORMAT_ATTRIBUTE = "TIME_FORMAT";
+    private static final String FREQ_ATTRIBUTE = "FREQ";
+    private static final String TIME_PERIOD_ATTRIBUTE = "TIME_PERIOD";
+    private static final String OBS_VALUE_ATTRIBUTE = "OBS_VALUE";
+
+    private static final DataFormat DEFAULT_DATA_FORMAT = new DataFormat(Locale.ROOT, null, null);
+    //</editor-fold>
+}
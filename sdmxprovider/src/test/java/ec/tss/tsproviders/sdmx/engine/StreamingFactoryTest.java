@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.sdmx.engine;
+
+import com.google.common.collect.Maps;
+import static ec.tss.tsproviders.sdmx.engine.Utils.load;
+import ec.tss.tsproviders.sdmx.model.SdmxGroup;
+import ec.tss.tsproviders.sdmx.model.SdmxItem;
+import ec.tss.tsproviders.sdmx.model.SdmxSeries;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class StreamingFactoryTest {
+
+    private static SdmxSource stream(String name, Predicate<? super Map<String, String>> filter) throws Exception {
+        try (InputStream stream = StreamingFactoryTest.class.getResourceAsStream(name)) {
+            return new StreamingFactory(filter).create(stream);
+        }
+    }
+
+    private static List<Map.Entry<String, String>> entries(List<? extends Map.Entry<String, String>> list) {
+        return list.stream().map(o -> Maps.immutableEntry(o.getKey(), o.getValue())).collect(Collectors.toList());
+    }
+
+    private static void assertSameItems(List<? extends SdmxItem> expected, List<? extends SdmxItem> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            SdmxItem e = expected.get(i), a = actual.get(i);
+            assertEquals(e.id, a.id);
+            assertEquals(entries(e.key), entries(a.key));
+            assertEquals(entries(e.attributes), entries(a.attributes));
+            if (e instanceof SdmxGroup) {
+                assertSameItems(((SdmxGroup) e).series, ((SdmxGroup) a).series);
+            } else {
+                assertEquals(((SdmxSeries) e).timeFormat, ((SdmxSeries) a).timeFormat);
+                assertEquals(((SdmxSeries) e).data, ((SdmxSeries) a).data);
+            }
+        }
+    }
+
+    @Test
+    public void testGeneric() throws Exception {
+        for (String name : new String[]{"/sdmx-generic-sample.xml", "generic-P1Y.xml", "generic-P1M.xml"}) {
+            SdmxSource source = stream(name, o -> true);
+            assertEquals(SdmxSource.Type.GENERIC, source.type);
+            assertSameItems(new GenericDocFactory().create(load(name)).items, source.items);
+        }
+    }
+
+    @Test
+    public void testCompact() throws Exception {
+        SdmxSource source = stream("/sdmx-compact-sample.xml", o -> true);
+        assertEquals(SdmxSource.Type.COMPACT, source.type);
+        assertSameItems(new GuessingCompactFactory().create(load("/sdmx-compact-sample.xml")).items, source.items);
+    }
+
+    @Test
+    public void testKeyFilter() throws Exception {
+        SdmxSource source = stream("/sdmx-compact-sample.xml", o -> "A".equals(o.get("FREQ")));
+        assertEquals(2, source.items.size());
+        assertEquals("COLLECTION=B, FREQ=A, JD_CATEGORY=A, JD_TYPE=P, VIS_CTY=MX", source.items.get(0).id);
+
+        // the keys of the groups are included
+        source = stream("/sdmx-generic-sample.xml", o -> "MX".equals(o.get("VIS_CTY")) && "A".equals(o.get("FREQ")));
+        assertEquals(1, source.items.size());
+        SdmxGroup group = (SdmxGroup) source.items.get(0);
+        assertEquals(1, group.series.size());
+        assertEquals("FREQ=A", group.series.get(0).id);
+        assertEquals(TimeFormat.P1Y, group.series.get(0).timeFormat);
+
+        source = stream("/sdmx-generic-sample.xml", o -> false);
+        assertTrue(source.items.isEmpty());
+    }
+}